@@ -0,0 +1,165 @@
+package kr.ai_hub.AI_HUB_BE.application.chat.message;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.ai_hub.AI_HUB_BE.application.chat.message.dto.AiUsage;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEventHttpMessageReader;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.mock.http.client.reactive.MockClientHttpResponse;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AI 서버 SSE 응답 하나를 해석하는 비용 측정
+ * <p>
+ * 추론 모델 응답을 흉내 낸 스트림(response.created + delta N개 + response.completed)을
+ * 네트워크 수신 단위(8KB)로 잘라 두고 전체를 해석합니다.
+ * legacy: 변경 전 방식 - ServerSentEventHttpMessageReader로 data를 String으로 디코딩한 뒤 ObjectMapper로 SseEvent 전체 바인딩
+ * decoder: AiStreamFrameDecoder - DataBuffer 바이트에서 직접 프레임을 나누고 스트리밍 파서로 필요한 필드만 읽음
+ * -prof gc 옵션으로 실행하면 응답당 할당량(gc.alloc.rate.norm) 차이를 확인할 수 있습니다.
+ * </p>
+ * 실행: ./gradlew jmh --args='AiStreamDecodeBenchmark -prof gc'
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AiStreamDecodeBenchmark {
+
+    private static final int NETWORK_CHUNK_SIZE = 8 * 1024;
+    private static final String[] TOKENS = {"안녕하세요", "!", " 요청하신", " 내용을", " 정리하면", " 다음과", " 같습니다", ".", "\n", " The",
+            " result", " is", " `O(n log n)`", ","};
+
+    @Param({"500", "4000"})
+    public int deltaCount;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ServerSentEventHttpMessageReader sseReader =
+            new ServerSentEventHttpMessageReader(new Jackson2JsonDecoder(objectMapper));
+    private List<byte[]> chunks;
+
+    @Setup
+    public void setUp() {
+        StringBuilder stream = new StringBuilder();
+        stream.append("data: {\"type\":\"response.created\",\"sequence_number\":0,")
+                .append("\"response\":{\"id\":\"resp_0199b6d2\",\"model\":\"gpt-5-mini\",\"content\":null,\"usage\":null}}\n\n");
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < deltaCount; i++) {
+            String token = TOKENS[i % TOKENS.length];
+            content.append(token);
+            stream.append("data: {\"type\":\"response.output_text.delta\",\"delta\":")
+                    .append(quote(token))
+                    .append(",\"sequence_number\":").append(i + 1).append("}\n\n");
+        }
+        stream.append("data: {\"type\":\"response.completed\",\"sequence_number\":").append(deltaCount + 1)
+                .append(",\"response\":{\"id\":\"resp_0199b6d2\",\"model\":\"gpt-5-mini\",\"content\":")
+                .append(quote(content.toString()))
+                .append(",\"usage\":{\"input_tokens\":1200,\"output_tokens\":").append(deltaCount)
+                .append(",\"total_tokens\":").append(1200 + deltaCount).append("}}}\n\n");
+
+        byte[] bytes = stream.toString().getBytes(StandardCharsets.UTF_8);
+        chunks = new ArrayList<>();
+        for (int offset = 0; offset < bytes.length; offset += NETWORK_CHUNK_SIZE) {
+            chunks.add(Arrays.copyOfRange(bytes, offset, Math.min(bytes.length, offset + NETWORK_CHUNK_SIZE)));
+        }
+    }
+
+    @Benchmark
+    public int legacy() throws IOException {
+        MockClientHttpResponse response = new MockClientHttpResponse(HttpStatus.OK);
+        response.getHeaders().setContentType(MediaType.TEXT_EVENT_STREAM);
+        response.setBody(Flux.fromIterable(chunks).map(DefaultDataBufferFactory.sharedInstance::wrap));
+
+        List<Object> lines = sseReader.read(ResolvableType.forClass(String.class), response, Map.of())
+                .collectList()
+                .block();
+
+        StringBuilder fullContent = new StringBuilder();
+        AiUsage usage = null;
+        for (Object line : lines) {
+            SseEvent event = objectMapper.readValue((String) line, SseEvent.class);
+            switch (event.type()) {
+                case "response.output_text.delta" -> fullContent.append(event.delta());
+                case "response.completed" -> usage = event.response().usage();
+                default -> {
+                }
+            }
+        }
+        return fullContent.length() + usage.totalTokens();
+    }
+
+    @Benchmark
+    public int decoder() throws IOException {
+        CollectingHandler handler = new CollectingHandler();
+        AiStreamFrameDecoder decoder = new AiStreamFrameDecoder(objectMapper.getFactory(), handler);
+        for (byte[] chunk : chunks) {
+            decoder.decode(DefaultDataBufferFactory.sharedInstance.wrap(chunk));
+        }
+        decoder.finish();
+        return handler.fullContent.length() + handler.usage.totalTokens();
+    }
+
+    private String quote(String value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class CollectingHandler implements AiStreamEventHandler {
+
+        private final StringBuilder fullContent = new StringBuilder();
+        private AiUsage usage;
+
+        @Override
+        public void onCreated(String responseId) {
+        }
+
+        @Override
+        public void onDelta(String delta) {
+            fullContent.append(delta);
+        }
+
+        @Override
+        public void onCompleted(AiUsage completedUsage) {
+            usage = completedUsage;
+        }
+
+        @Override
+        public void onError(String code, String message) {
+        }
+    }
+
+    /**
+     * 변경 전 방식이 바인딩하던 AI 서버 이벤트 DTO (legacy 측정용 사본)
+     */
+    record SseEvent(
+            String type,
+            ResponseInfo response,
+            String delta,
+            @JsonProperty("sequence_number")
+            Integer sequenceNumber,
+            ErrorInfo error
+    ) {
+        record ResponseInfo(String id, String model, String content, AiUsage usage) {
+        }
+
+        record ErrorInfo(String code, String message) {
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package kr.ai_hub.AI_HUB_BE.application.chat.message;
+
+import org.apache.tika.config.TikaConfig;
+import org.apache.tika.io.TikaInputStream;
+import org.apache.tika.metadata.Metadata;
+import org.apache.tika.metadata.TikaCoreProperties;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 10MB 이미지 업로드 검증 처리량 측정
+ * <p>
+ * validate: 현재 FileValidationService (공유 Detector + 헤더만 읽기)
+ * legacy: 요청마다 new TikaConfig() + file.getBytes() 전체 복사 (변경 전 방식)
+ * -prof gc 옵션으로 실행하면 요청당 할당량(gc.alloc.rate.norm) 차이를 확인할 수 있습니다.
+ * </p>
+ * 실행: ./gradlew jmh --args='FileValidationBenchmark -prof gc'
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FileValidationBenchmark {
+
+    private static final int FILE_SIZE = 10 * 1024 * 1024;
+
+    @Param({"jpg", "png", "webp"})
+    public String format;
+
+    private FileValidationService fileValidationService;
+    private MockMultipartFile file;
+
+    @Setup
+    public void setUp() {
+        fileValidationService = new FileValidationService();
+
+        byte[] content = new byte[FILE_SIZE];
+        byte[] signature = switch (format) {
+            case "jpg" -> new byte[] {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0};
+            case "png" -> new byte[] {
+                    (byte) 0x89, 0x50, 0x4E, 0x47, 0x0D, 0x0A, 0x1A, 0x0A};
+            default -> webpSignature();
+        };
+        System.arraycopy(signature, 0, content, 0, signature.length);
+
+        String contentType = switch (format) {
+            case "jpg" -> "image/jpeg";
+            case "png" -> "image/png";
+            default -> "image/webp";
+        };
+        file = new MockMultipartFile("file", "image." + format, contentType, content);
+    }
+
+    @Benchmark
+    public void validate() {
+        fileValidationService.validateFile(file);
+    }
+
+    @Benchmark
+    public String legacy() throws Exception {
+        TikaConfig tikaConfig = new TikaConfig();
+        Metadata metadata = new Metadata();
+        metadata.set(TikaCoreProperties.RESOURCE_NAME_KEY, file.getOriginalFilename());
+        try (TikaInputStream tikaInputStream = TikaInputStream.get(file.getBytes(), metadata)) {
+            return tikaConfig.getDetector().detect(tikaInputStream, metadata).toString();
+        }
+    }
+
+    // RIFF <size> WEBP VP8
+    private static byte[] webpSignature() {
+        byte[] riff = "RIFF".getBytes(StandardCharsets.US_ASCII);
+        byte[] webp = "WEBPVP8 ".getBytes(StandardCharsets.US_ASCII);
+        byte[] signature = new byte[16];
+        System.arraycopy(riff, 0, signature, 0, 4);
+        int size = FILE_SIZE - 8;
+        signature[4] = (byte) size;
+        signature[5] = (byte) (size >> 8);
+        signature[6] = (byte) (size >> 16);
+        signature[7] = (byte) (size >> 24);
+        System.arraycopy(webp, 0, signature, 8, webp.length);
+        return signature;
+    }
+}
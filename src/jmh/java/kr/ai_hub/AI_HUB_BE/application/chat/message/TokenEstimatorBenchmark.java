@@ -0,0 +1,88 @@
+package kr.ai_hub.AI_HUB_BE.application.chat.message;
+
+import com.knuddels.jtokkit.Encodings;
+import com.knuddels.jtokkit.api.Encoding;
+import com.knuddels.jtokkit.api.EncodingType;
+import kr.ai_hub.AI_HUB_BE.application.chat.message.TokenEstimator.TokenizerFamily;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로컬 토큰 수 추정 비용과 정확도 측정
+ * <p>
+ * 채팅 입력을 흉내 낸 텍스트(영문, 한국어, 코드, 혼합, JSON, 마크다운, 러시아어)를 약 4KB로 반복해 두고 토큰 수를 계산합니다.
+ * estimator: TokenEstimator (OPENAI 계열 가중치, 할당 없는 1회 순회)
+ * o200k: jtokkit의 o200k_base 실제 BPE 인코딩 (gpt-4o/gpt-5 계열 토크나이저)
+ * 시작 시 o200k 대비 추정 오차를 한 번 출력합니다. 추정치는 상한도 하한도 아닌 근사치이므로 코퍼스별 오차의 부호와 크기를 봅니다.
+ * 과소 추정은 견적이 실제 과금보다 낮아지고, 과대 추정은 잔액이 충분한 요청을 사전 거절할 수 있습니다.
+ * </p>
+ * 실행: ./gradlew jmh --args='TokenEstimatorBenchmark -prof gc'
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TokenEstimatorBenchmark {
+
+    private static final int TEXT_LENGTH = 4 * 1024;
+
+    @Param({"english", "korean", "code", "mixed", "json", "markdown", "russian"})
+    public String corpus;
+
+    private final TokenEstimator tokenEstimator = new TokenEstimator();
+    private Encoding o200k;
+    private String text;
+
+    @Setup
+    public void setUp() {
+        o200k = Encodings.newDefaultEncodingRegistry().getEncoding(EncodingType.O200K_BASE);
+        String sample = switch (corpus) {
+            case "english" -> "Could you explain the time complexity of this algorithm? "
+                    + "I sorted the input first and then applied binary search for each query, "
+                    + "but the service still times out when there are 100000 requests per minute. ";
+            case "korean" -> "이 알고리즘의 시간 복잡도를 설명해 주세요. 입력을 먼저 정렬한 뒤 "
+                    + "각 질의마다 이진 탐색을 적용했는데, 분당 요청이 십만 건을 넘으면 여전히 시간 초과가 발생합니다. ";
+            case "code" -> "public int search(int[] values, int target) {\n"
+                    + "    int low = 0, high = values.length - 1;\n"
+                    + "    while (low <= high) {\n"
+                    + "        int mid = (low + high) >>> 1;\n"
+                    + "        if (values[mid] < target) low = mid + 1; else high = mid - 1;\n"
+                    + "    }\n"
+                    + "    return low;\n"
+                    + "}\n";
+            case "mixed" -> "아래 Java 코드에서 `binarySearch`가 O(log n)인지 확인해 주세요: "
+                    + "int mid = (low + high) >>> 1; 배열 크기는 약 1,000,000개입니다. ";
+            case "json" -> "{\"model\": \"gpt-5-mini\", \"messages\": [{\"role\": \"user\", \"content\": \"hi\"}], "
+                    + "\"params\": {\"temperature\": 0.2, \"max_tokens\": 1024, \"stop\": [\"\\n\\n\", \"###\"]}}\n";
+            case "markdown" -> "## 결과 요약\n\n"
+                    + "| 항목 | 값 |\n|------|-----|\n| p50 | 12ms |\n| p99 | 180ms |\n\n"
+                    + "- **원인**: `N+1` 조회\n- **조치**: `@EntityGraph` 적용\n\n---\n\n";
+            case "russian" -> "Объясните, пожалуйста, временную сложность этого алгоритма. "
+                    + "Я сначала отсортировал входные данные, а затем применил бинарный поиск для каждого запроса. ";
+            default -> throw new IllegalArgumentException(corpus);
+        };
+        StringBuilder builder = new StringBuilder(TEXT_LENGTH + sample.length());
+        while (builder.length() < TEXT_LENGTH) {
+            builder.append(sample);
+        }
+        text = builder.toString();
+
+        int estimated = tokenEstimator.estimate(TokenizerFamily.OPENAI, text);
+        int actual = o200k.countTokens(text);
+        System.out.printf("%n[%s] chars=%d, o200k=%d, estimator=%d (%+.1f%%)%n",
+                corpus, text.length(), actual, estimated, 100.0 * (estimated - actual) / actual);
+    }
+
+    @Benchmark
+    public int estimator() {
+        return tokenEstimator.estimate(TokenizerFamily.OPENAI, text);
+    }
+
+    @Benchmark
+    public int o200k() {
+        return o200k.countTokens(text);
+    }
+}
@@ -0,0 +1,143 @@
+package kr.ai_hub.AI_HUB_BE.global.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import kr.ai_hub.AI_HUB_BE.application.chat.chatroom.dto.ChatRoomListItemResponse;
+import kr.ai_hub.AI_HUB_BE.application.chat.message.dto.MessageListItemResponse;
+import kr.ai_hub.AI_HUB_BE.application.payment.dto.CoinTransactionResponse;
+import kr.ai_hub.AI_HUB_BE.global.common.response.ApiResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 페이지 응답의 JSON / CBOR 직렬화 비용과 크기 비교
+ * <p>
+ * 채팅방 진입 시 받는 메시지 50개 페이지, 거래 내역 50개 페이지, 채팅방 목록 기본 페이지(20개, 생성일 내림차순)를
+ * ApiResponse로 감싸 직렬화합니다.
+ * json: 현재 응답 (Boot 기본 Jackson 설정, PageImpl 전체 메타데이터, ISO-8601 시각)
+ * cbor: CborConfig의 ObjectMapper (PagedModel 형태의 페이지, epoch milliseconds 시각)
+ * 페이로드 크기는 시작 시 한 번 출력합니다.
+ * </p>
+ * 실행: ./gradlew jmh --args='PageEncodingBenchmark -prof gc'
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PageEncodingBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+    private static final int ROOM_PAGE_SIZE = 20;
+
+    @Param({"messages", "transactions", "rooms"})
+    public String dataset;
+
+    private ObjectMapper jsonMapper;
+    private ObjectMapper cborMapper;
+    private ApiResponse<?> response;
+
+    @Setup
+    public void setUp() throws Exception {
+        jsonMapper = new Jackson2ObjectMapperBuilder()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        cborMapper = CborConfig.cborObjectMapper(new Jackson2ObjectMapperBuilder()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS));
+
+        PageRequest pageable = PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.ASC, "createdAt"));
+        response = switch (dataset) {
+            case "messages" -> ApiResponse.ok(new PageImpl<>(messages(), pageable, 1_000));
+            case "transactions" -> ApiResponse.ok(new PageImpl<>(transactions(), pageable, 1_000));
+            case "rooms" -> ApiResponse.ok(new PageImpl<>(rooms(),
+                    PageRequest.of(0, ROOM_PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt")), 120));
+            default -> throw new IllegalArgumentException(dataset);
+        };
+
+        int jsonSize = jsonMapper.writeValueAsBytes(response).length;
+        int cborSize = cborMapper.writeValueAsBytes(response).length;
+        System.out.printf("%n[%s] json=%d bytes, cbor=%d bytes (%.1f%%)%n",
+                dataset, jsonSize, cborSize, 100.0 * cborSize / jsonSize);
+    }
+
+    private static List<MessageListItemResponse> messages() {
+        List<MessageListItemResponse> items = new ArrayList<>(PAGE_SIZE);
+        Instant base = Instant.parse("2025-01-01T00:00:00Z");
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            boolean assistant = i % 2 == 1;
+            items.add(MessageListItemResponse.builder()
+                    .messageId(UUID.randomUUID().toString())
+                    .role(assistant ? "assistant" : "user")
+                    .content(assistant
+                            ? "요청하신 내용을 정리하면 다음과 같습니다. 첫째, 입력을 정렬한 뒤 이진 탐색을 적용합니다. ".repeat(4)
+                            : "이 알고리즘의 시간 복잡도를 설명해 주세요.")
+                    .tokenCount(assistant ? new BigDecimal("412") : new BigDecimal("18"))
+                    .coinCount(assistant ? new BigDecimal("0.0824") : new BigDecimal("0.0018"))
+                    .modelId(3)
+                    .createdAt(base.plusSeconds(i * 7L))
+                    .build());
+        }
+        return items;
+    }
+
+    private static List<CoinTransactionResponse> transactions() {
+        List<CoinTransactionResponse> items = new ArrayList<>(PAGE_SIZE);
+        Instant base = Instant.parse("2025-01-01T00:00:00Z");
+        BigDecimal balance = new BigDecimal("1000.0000");
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            BigDecimal amount = new BigDecimal("-0.0842");
+            balance = balance.add(amount);
+            items.add(CoinTransactionResponse.builder()
+                    .transactionId(10_000L + i)
+                    .transactionType("USAGE")
+                    .amount(amount)
+                    .balanceAfter(balance)
+                    .description("AI 모델 사용")
+                    .modelId(3)
+                    .modelName("gpt-5-mini")
+                    .roomId(UUID.randomUUID().toString())
+                    .messageId(UUID.randomUUID().toString())
+                    .createdAt(base.plusSeconds(i * 60L))
+                    .build());
+        }
+        return items;
+    }
+
+    private static List<ChatRoomListItemResponse> rooms() {
+        List<ChatRoomListItemResponse> items = new ArrayList<>(ROOM_PAGE_SIZE);
+        Instant base = Instant.parse("2025-01-01T00:00:00Z");
+        for (int i = 0; i < ROOM_PAGE_SIZE; i++) {
+            Instant createdAt = base.minusSeconds(i * 3_600L);
+            items.add(ChatRoomListItemResponse.builder()
+                    .roomId(UUID.randomUUID().toString())
+                    .title("알고리즘 시간 복잡도 질문 " + (i + 1))
+                    .coinUsage(new BigDecimal("1.2345").add(BigDecimal.valueOf(i, 2)))
+                    // 메시지가 없는 빈 채팅방도 일부 포함 (lastMessageAt null)
+                    .lastMessageAt(i % 5 == 4 ? null : createdAt.plusSeconds(600))
+                    .createdAt(createdAt)
+                    .build());
+        }
+        return items;
+    }
+
+    @Benchmark
+    public byte[] json() throws Exception {
+        return jsonMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] cbor() throws Exception {
+        return cborMapper.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,85 @@
+package kr.ai_hub.AI_HUB_BE.global.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 속도 제한 필터가 요청 경로에 더하는 지연 측정
+ * <p>
+ * 50k rps는 요청당 20µs 예산에 해당합니다. 필터 전체(경로 매칭 + 키 생성 + CAS)의 평균 시간이
+ * 이 예산보다 수십 배 이상 작아야 합니다. 필터는 스레드마다 서로 다른 사용자로 측정하고,
+ * 제한기는 사용자 1만 명에게 요청이 흩어지는 경우와 한 키에 8개 스레드가 몰리는 경우(CAS 경합 최대)를 측정합니다.
+ * </p>
+ * 실행: ./gradlew jmh --args='RateLimitFilterBenchmark'
+ */
+@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class RateLimitFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    private RateLimitFilter filter;
+    private TokenBucketRateLimiter limiter;
+
+    @Setup
+    public void setUp() {
+        // 벤치마크 중 거부가 발생하지 않도록 충분히 큰 용량을 사용
+        RateLimitProperties properties = new RateLimitProperties(true, Duration.ofMinutes(10), List.of(
+                new RateLimitProperties.Route("token-refresh", "/api/v1/token/refresh", "POST",
+                        1_000_000_000L, Duration.ofSeconds(1)),
+                new RateLimitProperties.Route("chat-send", "/api/v1/messages/send/**", "POST",
+                        1_000_000_000L, Duration.ofSeconds(1))
+        ));
+        limiter = new TokenBucketRateLimiter(properties.idleTimeout());
+        filter = new RateLimitFilter(properties, limiter, new ObjectMapper(), new SimpleMeterRegistry());
+    }
+
+    @State(Scope.Thread)
+    public static class RequestState {
+        MockHttpServletRequest request;
+        MockHttpServletResponse response;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            request = new MockHttpServletRequest("POST", "/api/v1/messages/send/0199b6d2-7c1e-7000-8000-000000000000");
+            response = new MockHttpServletResponse();
+            String userId = String.valueOf(ThreadLocalRandom.current().nextInt(10_000));
+            SecurityContextHolder.getContext().setAuthentication(
+                    new UsernamePasswordAuthenticationToken(userId, null, AuthorityUtils.NO_AUTHORITIES));
+        }
+    }
+
+    @Benchmark
+    public MockHttpServletResponse filterAuthenticatedUser(RequestState state) throws Exception {
+        filter.doFilter(state.request, state.response, NO_OP_CHAIN);
+        return state.response;
+    }
+
+    @Benchmark
+    public long limiterSpreadUsers() {
+        return limiter.tryAcquire("chat-send:user:" + ThreadLocalRandom.current().nextInt(10_000),
+                1_000_000_000L, Duration.ofSeconds(1));
+    }
+
+    @Benchmark
+    public long limiterSingleHotKey() {
+        return limiter.tryAcquire("chat-send:user:1", 1_000_000_000L, Duration.ofSeconds(1));
+    }
+}
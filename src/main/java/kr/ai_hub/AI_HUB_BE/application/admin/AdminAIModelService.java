@@ -2,6 +2,7 @@ package kr.ai_hub.AI_HUB_BE.application.admin;
 
 import kr.ai_hub.AI_HUB_BE.application.admin.dto.CreateAIModelRequest;
 import kr.ai_hub.AI_HUB_BE.application.admin.dto.UpdateAIModelRequest;
+import kr.ai_hub.AI_HUB_BE.application.aimodel.AIModelChangedEvent;
 import kr.ai_hub.AI_HUB_BE.application.aimodel.dto.AIModelResponse;
 import kr.ai_hub.AI_HUB_BE.domain.aimodel.AIModel;
 import kr.ai_hub.AI_HUB_BE.domain.aimodel.AIModelRepository;
@@ -9,12 +10,15 @@ import kr.ai_hub.AI_HUB_BE.domain.user.User;
 import kr.ai_hub.AI_HUB_BE.domain.user.UserRole;
 import kr.ai_hub.AI_HUB_BE.domain.user.UserRepository;
 import kr.ai_hub.AI_HUB_BE.global.auth.SecurityContextHelper;
+import kr.ai_hub.AI_HUB_BE.global.datasource.DbWorkload;
+import kr.ai_hub.AI_HUB_BE.global.datasource.WorkloadClass;
 import kr.ai_hub.AI_HUB_BE.global.error.exception.ForbiddenException;
 import kr.ai_hub.AI_HUB_BE.global.error.exception.ModelNotFoundException;
 import kr.ai_hub.AI_HUB_BE.global.error.exception.UserNotFoundException;
 import kr.ai_hub.AI_HUB_BE.global.error.exception.ValidationException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,11 +27,13 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@DbWorkload(WorkloadClass.ADMIN)
 public class AdminAIModelService {
 
     private final AIModelRepository aiModelRepository;
     private final UserRepository userRepository;
     private final SecurityContextHelper securityContextHelper;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 새로운 AI 모델을 등록합니다 (관리자 전용).
@@ -54,6 +60,7 @@ public class AdminAIModelService {
 
         AIModel savedModel = aiModelRepository.save(model);
         log.info("모델 생성 완료: modelId={}, modelName={}", savedModel.getModelId(), savedModel.getModelName());
+        eventPublisher.publishEvent(new AIModelChangedEvent(savedModel.getModelId()));
 
         return AIModelResponse.from(savedModel);
     }
@@ -79,6 +86,7 @@ public class AdminAIModelService {
         );
 
         log.info("모델 수정 완료: modelId={}", modelId);
+        eventPublisher.publishEvent(new AIModelChangedEvent(modelId));
 
         return AIModelResponse.from(model);
     }
@@ -98,6 +106,7 @@ public class AdminAIModelService {
                 .deactivate();
 
         log.info("모델 삭제(deactivate) 완료: modelId={}", modelId);
+        eventPublisher.publishEvent(new AIModelChangedEvent(modelId));
     }
 
 }
@@ -2,6 +2,8 @@ package kr.ai_hub.AI_HUB_BE.application.admin;
 
 import kr.ai_hub.AI_HUB_BE.domain.user.UserWallet;
 import kr.ai_hub.AI_HUB_BE.domain.user.UserWalletRepository;
+import kr.ai_hub.AI_HUB_BE.global.datasource.DbWorkload;
+import kr.ai_hub.AI_HUB_BE.global.datasource.WorkloadClass;
 import kr.ai_hub.AI_HUB_BE.global.error.exception.WalletNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,6 +17,7 @@ import java.math.BigDecimal;
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@DbWorkload(WorkloadClass.ADMIN)
 public class AdminWalletModifyService {
     private final UserWalletRepository userWalletRepository;
 
@@ -0,0 +1,10 @@
+package kr.ai_hub.AI_HUB_BE.application.aimodel;
+
+/**
+ * AI 모델 생성/수정/삭제 이벤트
+ * 트랜잭션 커밋 후 {@link AIModelRegistry} 스냅샷을 갱신하는 데 사용됩니다.
+ *
+ * @param modelId 변경된 모델 ID
+ */
+public record AIModelChangedEvent(Integer modelId) {
+}
@@ -0,0 +1,163 @@
+package kr.ai_hub.AI_HUB_BE.application.aimodel;
+
+import kr.ai_hub.AI_HUB_BE.domain.aimodel.AIModel;
+import kr.ai_hub.AI_HUB_BE.domain.aimodel.AIModelRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * AI 모델 인메모리 레지스트리
+ * <p>
+ * ai_model 테이블은 관리자가 수정할 때만 바뀌므로, 전체 모델을 불변 스냅샷으로 메모리에 두고
+ * 조회를 맵 읽기로 대체합니다. 변경 시에는 새 스냅샷을 만들어 참조만 교체합니다 (copy-on-write).
+ * - 같은 노드의 변경: 관리자 서비스가 발행한 이벤트로 커밋 직후 갱신
+ * - 다른 노드의 변경: max(updated_at)/count 폴링으로 감지하여 갱신
+ * - 안전장치: 주기적으로 전체 재로딩
+ * 스냅샷의 엔티티는 여러 스레드가 공유하는 준영속(detached) 객체이므로 읽기 전용으로만 사용해야 합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AIModelRegistry {
+
+    private final AIModelRepository aiModelRepository;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 모델 ID로 조회합니다 (비활성 모델 포함).
+     */
+    public Optional<AIModel> findById(Integer modelId) {
+        return Optional.ofNullable(currentSnapshot().modelsById().get(modelId));
+    }
+
+    /**
+     * 활성화된 모델 목록을 생성일 내림차순으로 반환합니다.
+     */
+    public List<AIModel> getActiveModels() {
+        return currentSnapshot().activeModels();
+    }
+
+    /**
+     * 활성 모델 목록의 버전을 반환합니다.
+     * 활성 모델의 ID와 updated_at으로 계산되므로 목록이 바뀔 때만 달라집니다 (ETag 용도).
+     */
+    public String getActiveModelsVersion() {
+        return currentSnapshot().activeModelsVersion();
+    }
+
+    /**
+     * 모델 변경 트랜잭션이 커밋된 후 스냅샷을 다시 로딩합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onModelChanged(AIModelChangedEvent event) {
+        log.info("AI 모델 변경 감지, 레지스트리 갱신: modelId={}", event.modelId());
+        reload();
+    }
+
+    /**
+     * 다른 노드에서 변경된 모델을 감지합니다.
+     * 전체 행을 읽지 않고 max(updated_at)와 행 수만 비교합니다.
+     */
+    @Scheduled(fixedDelayString = "${ai-model.registry.poll-interval:PT30S}",
+            initialDelayString = "${ai-model.registry.poll-interval:PT30S}")
+    public void pollForChanges() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+
+        try {
+            LocalDateTime latestUpdatedAt = aiModelRepository.findLatestUpdatedAt().orElse(null);
+            long modelCount = aiModelRepository.count();
+            if (!Objects.equals(latestUpdatedAt, current.latestUpdatedAt()) || modelCount != current.modelCount()) {
+                log.info("다른 노드의 AI 모델 변경 감지, 레지스트리 갱신");
+                reload();
+            }
+        } catch (DataAccessException e) {
+            log.warn("AI 모델 변경 확인 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 이벤트 누락 등에 대비한 주기적 전체 재로딩
+     */
+    @Scheduled(fixedDelayString = "${ai-model.registry.full-reload-interval:PT10M}",
+            initialDelayString = "${ai-model.registry.full-reload-interval:PT10M}")
+    public void scheduledReload() {
+        try {
+            reload();
+        } catch (DataAccessException e) {
+            log.warn("AI 모델 레지스트리 재로딩 실패, 기존 스냅샷 유지: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * DB에서 전체 모델을 읽어 새 스냅샷으로 교체합니다.
+     */
+    public synchronized void reload() {
+        List<AIModel> models = aiModelRepository.findAll();
+
+        Map<Integer, AIModel> modelsById = models.stream()
+                .collect(Collectors.toUnmodifiableMap(AIModel::getModelId, Function.identity()));
+        List<AIModel> activeModels = models.stream()
+                .filter(AIModel::getIsActive)
+                .sorted(Comparator.comparing(AIModel::getCreatedAt,
+                        Comparator.nullsLast(Comparator.reverseOrder())))
+                .toList();
+        LocalDateTime latestUpdatedAt = models.stream()
+                .map(AIModel::getUpdatedAt)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+
+        snapshot = new Snapshot(modelsById, activeModels, versionOf(activeModels), latestUpdatedAt, models.size());
+        log.debug("AI 모델 레지스트리 로딩 완료: total={}, active={}", models.size(), activeModels.size());
+    }
+
+    private String versionOf(List<AIModel> activeModels) {
+        String fingerprint = activeModels.stream()
+                .map(model -> model.getModelId() + "@" + model.getUpdatedAt())
+                .collect(Collectors.joining("|"));
+        return UUID.nameUUIDFromBytes(fingerprint.getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    // 첫 조회 시 지연 로딩 (double-checked)
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    reload();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private record Snapshot(
+            Map<Integer, AIModel> modelsById,
+            List<AIModel> activeModels,
+            String activeModelsVersion,
+            LocalDateTime latestUpdatedAt,
+            long modelCount
+    ) {}
+}
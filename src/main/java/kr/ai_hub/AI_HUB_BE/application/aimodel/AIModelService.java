@@ -1,10 +1,10 @@
 package kr.ai_hub.AI_HUB_BE.application.aimodel;
 
 import kr.ai_hub.AI_HUB_BE.application.aimodel.dto.AIModelResponse;
-import kr.ai_hub.AI_HUB_BE.domain.aimodel.AIModelRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -16,7 +16,7 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class AIModelService {
 
-    private final AIModelRepository aiModelRepository;
+    private final AIModelRegistry aiModelRegistry;
 
     /**
      * 활성화된 AI 모델 목록을 조회합니다.
@@ -24,9 +24,17 @@ public class AIModelService {
     public List<AIModelResponse> getActiveModels() {
         log.debug("활성화된 AI 모델 목록 조회");
 
-        return aiModelRepository.findByIsActiveTrueOrderByCreatedAtDesc()
+        return aiModelRegistry.getActiveModels()
                 .stream()
                 .map(AIModelResponse::from)
                 .collect(Collectors.toList());
     }
+
+    /**
+     * 활성화된 AI 모델 목록의 버전을 조회합니다 (ETag 생성용, 트랜잭션/DB 조회 없음).
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String getActiveModelsVersion() {
+        return aiModelRegistry.getActiveModelsVersion();
+    }
 }
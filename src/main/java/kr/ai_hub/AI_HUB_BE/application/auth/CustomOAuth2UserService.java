@@ -6,6 +6,8 @@ import kr.ai_hub.AI_HUB_BE.domain.user.UserRepository;
 import kr.ai_hub.AI_HUB_BE.global.auth.CustomOauth2User;
 import kr.ai_hub.AI_HUB_BE.global.auth.userinfo.OAuth2UserInfo;
 import kr.ai_hub.AI_HUB_BE.global.auth.userinfo.OAuth2UserInfoFactory;
+import kr.ai_hub.AI_HUB_BE.global.datasource.DbWorkload;
+import kr.ai_hub.AI_HUB_BE.global.datasource.WorkloadClass;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -21,6 +23,7 @@ import java.util.Collections;
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@DbWorkload(WorkloadClass.AUTH)
 public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     private final UserRepository userRepository;
@@ -0,0 +1,104 @@
+package kr.ai_hub.AI_HUB_BE.application.auth;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.ai_hub.AI_HUB_BE.application.scheduler.SchedulerLockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.IntSupplier;
+
+/**
+ * 만료/폐기 토큰 정리 스케줄러
+ * - 배치 단위 일괄 DELETE로 긴 락과 대용량 트랜잭션을 피합니다.
+ * - 배치 사이에 pause 만큼 쉬어 운영 트래픽에 주는 부하를 제한합니다.
+ * - DB 임대 락으로 여러 인스턴스 중 한 노드에서만 실행됩니다.
+ * - 삭제는 ADMIN 작업 부류({@link TokenPurgeService})로 실행되어 인증 요청의 커넥션을 잠식하지 않습니다.
+ * - 액세스 토큰을 먼저 정리해야 참조가 끊긴 리프레시 토큰이 삭제 대상이 됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "token.purge", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class TokenPurgeScheduler {
+
+    private static final String LOCK_NAME = "token-purge";
+
+    private final TokenPurgeService tokenPurgeService;
+    private final SchedulerLockService schedulerLockService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${token.purge.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${token.purge.max-batches-per-run:500}")
+    private int maxBatchesPerRun;
+
+    @Value("${token.purge.pause:PT0.2S}")
+    private Duration pause;
+
+    @Value("${token.purge.revoked-retention:P7D}")
+    private Duration revokedRetention;
+
+    @Value("${token.purge.lock-lease:PT30M}")
+    private Duration lockLease;
+
+    @Scheduled(fixedDelayString = "${token.purge.interval:PT1H}",
+            initialDelayString = "${token.purge.initial-delay:PT5M}")
+    public void purge() {
+        if (!schedulerLockService.tryAcquire(LOCK_NAME, lockLease)) {
+            return;
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            LocalDateTime revokedBefore = LocalDateTime.now().minus(revokedRetention);
+            int accessDeleted = purgeInBatches("access",
+                    () -> tokenPurgeService.purgeAccessTokens(revokedBefore, batchSize));
+            int refreshDeleted = purgeInBatches("refresh",
+                    () -> tokenPurgeService.purgeRefreshTokens(revokedBefore, batchSize));
+            log.info("토큰 정리 완료: accessDeleted={}, refreshDeleted={}", accessDeleted, refreshDeleted);
+        } catch (RuntimeException e) {
+            log.error("토큰 정리 중 오류 발생: {}", e.getMessage(), e);
+        } finally {
+            sample.stop(meterRegistry.timer("token.purge.duration"));
+            schedulerLockService.release(LOCK_NAME);
+        }
+    }
+
+    // 더 이상 삭제할 토큰이 없거나 최대 배치 수에 도달할 때까지 배치 삭제를 반복한다.
+    private int purgeInBatches(String tokenType, IntSupplier batch) {
+        int total = 0;
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            int deleted = batch.getAsInt();
+            total += deleted;
+            meterRegistry.counter("token.purge.deleted", "type", tokenType).increment(deleted);
+
+            if (deleted < batchSize) {
+                return total;
+            }
+            if (!sleepBetweenBatches()) {
+                return total;
+            }
+        }
+        log.warn("토큰 정리 최대 배치 수 도달, 다음 실행에서 이어서 정리합니다: type={}, deleted={}", tokenType, total);
+        return total;
+    }
+
+    private boolean sleepBetweenBatches() {
+        try {
+            Thread.sleep(pause);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("토큰 정리 중단 요청 수신");
+            return false;
+        }
+    }
+}
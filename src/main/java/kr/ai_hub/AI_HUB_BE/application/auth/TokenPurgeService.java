@@ -0,0 +1,51 @@
+package kr.ai_hub.AI_HUB_BE.application.auth;
+
+import kr.ai_hub.AI_HUB_BE.domain.auth.AccessTokenRepository;
+import kr.ai_hub.AI_HUB_BE.domain.auth.RefreshTokenRepository;
+import kr.ai_hub.AI_HUB_BE.global.datasource.DbWorkload;
+import kr.ai_hub.AI_HUB_BE.global.datasource.WorkloadClass;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 만료/폐기 토큰 배치 삭제 서비스
+ * <p>
+ * 로그인/토큰 갱신과 같은 critical(AUTH) 부류로 실행되면 정리 작업이 동시 실행 제한 없이 커넥션을 점유하므로,
+ * 상한이 있는 ADMIN 부류로 분리해 운영 트래픽보다 뒤로 밀리도록 합니다.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+@DbWorkload(WorkloadClass.ADMIN)
+public class TokenPurgeService {
+
+    private final AccessTokenRepository accessTokenRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    // 만료되었거나 보존 기간이 지난 폐기 액세스 토큰을 한 배치만큼 일괄 삭제하고 삭제 건수를 반환한다.
+    public int purgeAccessTokens(LocalDateTime revokedBefore, int batchSize) {
+        List<Integer> tokenIds = accessTokenRepository.findPurgeableTokenIds(
+                LocalDateTime.now(), revokedBefore, PageRequest.of(0, batchSize));
+        if (tokenIds.isEmpty()) {
+            return 0;
+        }
+        return accessTokenRepository.deleteAllByTokenIds(tokenIds);
+    }
+
+    // 만료되었거나 보존 기간이 지난 폐기 리프레시 토큰을 한 배치만큼 일괄 삭제하고 삭제 건수를 반환한다.
+    // 연관 액세스 토큰이 남아 있는 토큰은 액세스 토큰 정리 이후에 삭제된다.
+    public int purgeRefreshTokens(LocalDateTime revokedBefore, int batchSize) {
+        List<Integer> tokenIds = refreshTokenRepository.findPurgeableTokenIds(
+                LocalDateTime.now(), revokedBefore, PageRequest.of(0, batchSize));
+        if (tokenIds.isEmpty()) {
+            return 0;
+        }
+        return refreshTokenRepository.deleteAllByTokenIds(tokenIds);
+    }
+}
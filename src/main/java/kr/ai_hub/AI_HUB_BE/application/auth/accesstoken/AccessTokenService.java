@@ -6,6 +6,8 @@ import kr.ai_hub.AI_HUB_BE.domain.auth.RefreshToken;
 import kr.ai_hub.AI_HUB_BE.domain.auth.TokenRevokeReason;
 import kr.ai_hub.AI_HUB_BE.domain.user.User;
 import kr.ai_hub.AI_HUB_BE.application.auth.TokenHashService;
+import kr.ai_hub.AI_HUB_BE.global.datasource.DbWorkload;
+import kr.ai_hub.AI_HUB_BE.global.datasource.WorkloadClass;
 import kr.ai_hub.AI_HUB_BE.global.error.exception.InvalidTokenException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,12 +17,12 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
+@DbWorkload(WorkloadClass.AUTH)
 public class AccessTokenService {
 
     private final AccessTokenRepository accessTokenRepository;
@@ -72,32 +74,24 @@ public class AccessTokenService {
         return accessTokenRepository.save(stored);
     }
 
-    // 특정 리프레시 토큰과 연계된 액세스 토큰을 폐기한다.
-    public void revokeByRefreshToken(RefreshToken refreshToken, TokenRevokeReason reason) {
-        if (refreshToken == null) {
-            return;
-        }
-        List<AccessToken> tokens = accessTokenRepository.findByRefreshToken(refreshToken);
-        tokens.forEach(token -> revokeIfNecessary(token, reason));
-    }
-
-    // 사용자의 모든 액세스 토큰을 주어진 사유로 폐기한다.
-    public void revokeByUser(User user, TokenRevokeReason reason) {
-        List<AccessToken> tokens = accessTokenRepository.findByUser(user);
-        tokens.forEach(token -> revokeIfNecessary(token, reason));
+    // 액세스 토큰이 만료/폐기되지 않았는지 확인한다. (핸드셰이크 이후 인증을 유지하는 WebSocket 연결의 재확인용)
+    @Transactional(readOnly = true)
+    public boolean isActive(Integer tokenId) {
+        return accessTokenRepository.findById(tokenId)
+                .map(AccessToken::isValid)
+                .orElse(false);
     }
 
-    // 만료된 액세스 토큰을 데이터베이스에서 정리한다.
-    public void deleteExpiredTokens() {
-        accessTokenRepository.deleteByExpiresAtBefore(LocalDateTime.now());
+    // 특정 리프레시 토큰과 연계된 액세스 토큰을 일괄 폐기하고 폐기 건수를 반환한다.
+    public int revokeByRefreshToken(RefreshToken refreshToken, TokenRevokeReason reason) {
+        if (refreshToken == null) {
+            return 0;
+        }
+        return accessTokenRepository.revokeAllByRefreshToken(refreshToken, reason, LocalDateTime.now());
     }
 
-    // 이미 폐기되지 않은 토큰만 사유와 함께 폐기한다.
-    private void revokeIfNecessary(AccessToken token, TokenRevokeReason reason) {
-        if (Boolean.TRUE.equals(token.getIsRevoked())) {
-            return;
-        }
-        token.revoke(reason);
-        accessTokenRepository.save(token);
+    // 사용자의 모든 액세스 토큰을 주어진 사유로 일괄 폐기하고 폐기 건수를 반환한다.
+    public int revokeByUser(User user, TokenRevokeReason reason) {
+        return accessTokenRepository.revokeAllByUser(user, reason, LocalDateTime.now());
     }
 }
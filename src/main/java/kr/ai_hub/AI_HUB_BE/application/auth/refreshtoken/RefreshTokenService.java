@@ -11,6 +11,8 @@ import kr.ai_hub.AI_HUB_BE.domain.user.User;
 import kr.ai_hub.AI_HUB_BE.domain.user.UserRepository;
 import kr.ai_hub.AI_HUB_BE.global.auth.jwt.JwtTokenProvider;
 import kr.ai_hub.AI_HUB_BE.application.auth.TokenHashService;
+import kr.ai_hub.AI_HUB_BE.global.datasource.DbWorkload;
+import kr.ai_hub.AI_HUB_BE.global.datasource.WorkloadClass;
 import kr.ai_hub.AI_HUB_BE.global.error.exception.AuthenticationFailedException;
 import kr.ai_hub.AI_HUB_BE.global.error.exception.RefreshTokenInvalidException;
 import lombok.RequiredArgsConstructor;
@@ -20,12 +22,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
+@DbWorkload(WorkloadClass.AUTH)
 public class RefreshTokenService {
 
     private final RefreshTokenRepository refreshTokenRepository;
@@ -67,16 +69,16 @@ public class RefreshTokenService {
         RefreshToken storedToken;
         try {
             storedToken = validateRefreshToken(user, rawRefreshToken);
-            // 마지막 사용 시간 업데이트
-            storedToken.updateLastUsedAt();
-            refreshTokenRepository.save(storedToken);
         } catch (RefreshTokenInvalidException e) {
             log.warn("사용자 {} 리프레시 토큰 검증 실패: {}", userId, e.getMessage());
             throw e;
         }
 
-        // 기존 토큰 폐기
-        revokeToken(storedToken, TokenRevokeReason.ROTATED);
+        // 기존 토큰 폐기 (마지막 사용 시간 갱신 포함) - 동시 회전 요청은 한 건만 성공
+        if (!revokeToken(storedToken, TokenRevokeReason.ROTATED)) {
+            log.warn("사용자 {} 리프레시 토큰이 이미 회전됨", userId);
+            throw new RefreshTokenInvalidException("Refresh token already revoked");
+        }
         log.debug("사용자 {} 이전 리프레시 토큰 폐기 완료", userId);
 
         // 새로운 토큰 생성
@@ -151,22 +153,22 @@ public class RefreshTokenService {
         return refreshTokenRepository.findByTokenHash(tokenHash);
     }
 
-    // Refresh Token 폐기 및 연관된 Access Token 폐기
-    public void revokeToken(RefreshToken refreshToken, TokenRevokeReason reason) {
-        refreshToken.revoke(reason);
-        refreshTokenRepository.save(refreshToken);
+    // Refresh Token 폐기 및 연관된 Access Token 일괄 폐기 - 이미 폐기된 토큰이면 false 반환
+    public boolean revokeToken(RefreshToken refreshToken, TokenRevokeReason reason) {
+        int revoked = refreshTokenRepository.revokeIfActive(refreshToken.getTokenId(), reason, LocalDateTime.now());
+        if (revoked == 0) {
+            return false;
+        }
         accessTokenService.revokeByRefreshToken(refreshToken, reason);
+        return true;
     }
 
-    // 사용자의 모든 Refresh Token과 연관된 Access Token을 삭제 - 사용자 로그아웃 시
+    // 사용자의 모든 Refresh Token과 Access Token을 일괄 폐기 - 사용자 로그아웃 시
     public void deleteAllByUser(User user) {
-        List<RefreshToken> tokens = refreshTokenRepository.findByUser(user);
-        tokens.forEach(token -> revokeToken(token, TokenRevokeReason.USER_LOGOUT));
-        accessTokenService.revokeByUser(user, TokenRevokeReason.USER_LOGOUT);
-    }
-
-    // 만료된 Refresh Token 삭제
-    public void deleteExpiredTokens() {
-        refreshTokenRepository.deleteByExpiresAtBefore(LocalDateTime.now());
+        int refreshRevoked = refreshTokenRepository.revokeAllByUser(
+                user, TokenRevokeReason.USER_LOGOUT, LocalDateTime.now());
+        int accessRevoked = accessTokenService.revokeByUser(user, TokenRevokeReason.USER_LOGOUT);
+        log.info("사용자 {} 로그아웃 토큰 폐기 완료: refreshRevoked={}, accessRevoked={}",
+                user.getUserId(), refreshRevoked, accessRevoked);
     }
 }
@@ -1,15 +1,14 @@
 package kr.ai_hub.AI_HUB_BE.application.chat.chatroom;
 
+import kr.ai_hub.AI_HUB_BE.application.aimodel.AIModelRegistry;
 import kr.ai_hub.AI_HUB_BE.application.chat.chatroom.dto.ChatRoomListItemResponse;
 import kr.ai_hub.AI_HUB_BE.application.chat.chatroom.dto.ChatRoomResponse;
 import kr.ai_hub.AI_HUB_BE.application.chat.chatroom.dto.CreateChatRoomRequest;
 import kr.ai_hub.AI_HUB_BE.application.chat.chatroom.dto.UpdateChatRoomRequest;
 import kr.ai_hub.AI_HUB_BE.domain.aimodel.AIModel;
-import kr.ai_hub.AI_HUB_BE.domain.aimodel.AIModelRepository;
 import kr.ai_hub.AI_HUB_BE.domain.chat.ChatRoom;
+import kr.ai_hub.AI_HUB_BE.domain.chat.ChatRoomListItem;
 import kr.ai_hub.AI_HUB_BE.domain.chat.ChatRoomRepository;
-import kr.ai_hub.AI_HUB_BE.domain.chat.Message;
-import kr.ai_hub.AI_HUB_BE.domain.chat.MessageRepository;
 import kr.ai_hub.AI_HUB_BE.domain.user.User;
 import kr.ai_hub.AI_HUB_BE.domain.user.UserRepository;
 import kr.ai_hub.AI_HUB_BE.global.auth.SecurityContextHelper;
@@ -24,7 +23,6 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.ZoneOffset;
 import java.util.UUID;
 
 @Slf4j
@@ -35,8 +33,7 @@ public class ChatRoomService {
 
     private final ChatRoomRepository chatRoomRepository;
     private final UserRepository userRepository;
-    private final AIModelRepository aiModelRepository;
-    private final MessageRepository messageRepository;
+    private final AIModelRegistry aiModelRegistry;
     private final SecurityContextHelper securityContextHelper;
 
     /**
@@ -51,7 +48,7 @@ public class ChatRoomService {
                 .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다: " + userId));
 
         // AI 모델 검증 (활성 상태인지 확인)
-        AIModel aiModel = aiModelRepository.findById(request.modelId())
+        AIModel aiModel = aiModelRegistry.findById(request.modelId())
                 .orElseThrow(() -> new ModelNotFoundException("AI 모델을 찾을 수 없습니다: " + request.modelId()));
 
         if (!aiModel.getIsActive()) {
@@ -80,21 +77,10 @@ public class ChatRoomService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다: " + userId));
 
-        Page<ChatRoom> chatRooms = chatRoomRepository.findByUser(user, pageable);
-
-        return chatRooms.map(chatRoom -> {
-            // 각 채팅방의 마지막 메시지 시각 조회
-            Message lastMessage = messageRepository.findTopByChatRoomOrderByCreatedAtDesc(chatRoom)
-                    .orElse(null);
-
-            return ChatRoomListItemResponse.builder()
-                    .roomId(chatRoom.getRoomId().toString())
-                    .title(chatRoom.getTitle())
-                    .coinUsage(chatRoom.getCoinUsage())
-                    .lastMessageAt(lastMessage != null ? lastMessage.getCreatedAt().toInstant(ZoneOffset.UTC) : null)
-                    .createdAt(chatRoom.getCreatedAt().toInstant(ZoneOffset.UTC))
-                    .build();
-        });
+        // 마지막 메시지 시각까지 한 번의 쿼리로 프로젝션 조회 (채팅방별 추가 쿼리 없음)
+        Page<ChatRoomListItem> chatRooms = chatRoomRepository.findListItemsByUser(user, pageable);
+
+        return chatRooms.map(ChatRoomListItemResponse::from);
     }
 
     /**
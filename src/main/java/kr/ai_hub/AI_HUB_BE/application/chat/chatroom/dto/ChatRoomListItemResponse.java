@@ -1,9 +1,11 @@
 package kr.ai_hub.AI_HUB_BE.application.chat.chatroom.dto;
 
+import kr.ai_hub.AI_HUB_BE.domain.chat.ChatRoomListItem;
 import lombok.Builder;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.time.ZoneOffset;
 
 /**
  * 채팅방 목록 항목 응답 DTO
@@ -15,4 +17,14 @@ public record ChatRoomListItemResponse(
         BigDecimal coinUsage,
         Instant lastMessageAt,
         Instant createdAt
-) {}
+) {
+    public static ChatRoomListItemResponse from(ChatRoomListItem chatRoom) {
+        return ChatRoomListItemResponse.builder()
+                .roomId(chatRoom.roomId().toString())
+                .title(chatRoom.title())
+                .coinUsage(chatRoom.coinUsage())
+                .lastMessageAt(chatRoom.lastMessageAt() != null ? chatRoom.lastMessageAt().toInstant(ZoneOffset.UTC) : null)
+                .createdAt(chatRoom.createdAt().toInstant(ZoneOffset.UTC))
+                .build();
+    }
+}
@@ -0,0 +1,123 @@
+package kr.ai_hub.AI_HUB_BE.application.chat.message;
+
+import kr.ai_hub.AI_HUB_BE.domain.aimodel.AIModel;
+import kr.ai_hub.AI_HUB_BE.domain.chat.AiFileCache;
+import kr.ai_hub.AI_HUB_BE.domain.chat.AiFileCacheRepository;
+import kr.ai_hub.AI_HUB_BE.domain.user.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * AI 서버 업로드 파일 중복 제거 캐시
+ * (사용자 ID, 모델 ID, SHA-256 해시) → AI 서버 파일 ID 매핑을 관리합니다.
+ * 다른 사용자가 올린 파일의 ID를 돌려주지 않도록 사용자별로 분리합니다.
+ * - 1차: 크기가 제한된 인메모리 LRU (인스턴스 로컬)
+ * - 2차: ai_file_cache 테이블 (인스턴스 간 공유, 재시작 후에도 유지)
+ * 캐시 TTL은 AI 서버 파일 보관 기간(ai-server.file-retention)에서 여유 시간을 뺀 값입니다.
+ */
+@Slf4j
+@Service
+public class AiFileCacheService {
+
+    // 만료 직전의 파일 ID를 재사용하다가 AI 서버에서 삭제되는 경우를 피하기 위한 여유 시간
+    private static final Duration EXPIRY_MARGIN = Duration.ofHours(1);
+
+    private final AiFileCacheRepository aiFileCacheRepository;
+    private final UserRepository userRepository;
+    private final Duration cacheTtl;
+    private final Map<String, CachedFile> memoryCache;
+
+    public AiFileCacheService(AiFileCacheRepository aiFileCacheRepository,
+                              UserRepository userRepository,
+                              @Value("${ai-server.file-retention:P7D}") Duration fileRetention,
+                              @Value("${ai-server.file-cache.max-entries:10000}") int maxEntries) {
+        this.aiFileCacheRepository = aiFileCacheRepository;
+        this.userRepository = userRepository;
+        this.cacheTtl = fileRetention.minus(EXPIRY_MARGIN);
+        this.memoryCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedFile> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    /**
+     * 캐시된 AI 서버 파일 ID를 조회합니다. 만료된 항목은 없는 것으로 처리합니다.
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> findFileId(Integer userId, Integer modelId, String contentHash) {
+        String key = cacheKey(userId, modelId, contentHash);
+        LocalDateTime now = LocalDateTime.now();
+
+        CachedFile cached = memoryCache.get(key);
+        if (cached != null && cached.expiresAt().isAfter(now)) {
+            return Optional.of(cached.fileId());
+        }
+
+        return aiFileCacheRepository.findByUserIdAndModelIdAndContentHash(userId, modelId, contentHash)
+                .filter(entry -> !entry.isExpired())
+                .map(entry -> {
+                    memoryCache.put(key, new CachedFile(entry.getFileId(), entry.getExpiresAt()));
+                    return entry.getFileId();
+                });
+    }
+
+    /**
+     * 업로드 결과를 캐시에 저장합니다. 이미 항목이 있으면 새 파일 ID로 갱신합니다.
+     * 업로드 흐름의 트랜잭션과 분리하기 위해 별도 트랜잭션에서 실행합니다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void put(Integer userId, AIModel aiModel, String contentHash, String fileId) {
+        LocalDateTime expiresAt = LocalDateTime.now().plus(cacheTtl);
+
+        aiFileCacheRepository.findByUserIdAndModelIdAndContentHash(userId, aiModel.getModelId(), contentHash)
+                .ifPresentOrElse(
+                        entry -> entry.refresh(fileId, expiresAt),
+                        () -> aiFileCacheRepository.save(AiFileCache.builder()
+                                .user(userRepository.getReferenceById(userId))
+                                .aiModel(aiModel)
+                                .contentHash(contentHash)
+                                .fileId(fileId)
+                                .expiresAt(expiresAt)
+                                .build()));
+
+        memoryCache.put(cacheKey(userId, aiModel.getModelId(), contentHash), new CachedFile(fileId, expiresAt));
+        log.debug("파일 캐시 저장: userId={}, modelId={}, contentHash={}, fileId={}",
+                userId, aiModel.getModelId(), contentHash, fileId);
+    }
+
+    /**
+     * 만료된 캐시 항목을 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${ai-server.file-cache.cleanup-interval:PT1H}", initialDelayString = "PT5M")
+    @Transactional
+    public void deleteExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int deleted = aiFileCacheRepository.deleteExpired(now);
+        synchronized (memoryCache) {
+            memoryCache.values().removeIf(cached -> !cached.expiresAt().isAfter(now));
+        }
+        if (deleted > 0) {
+            log.info("만료된 파일 캐시 정리: deleted={}", deleted);
+        }
+    }
+
+    private String cacheKey(Integer userId, Integer modelId, String contentHash) {
+        return userId + ":" + modelId + ":" + contentHash;
+    }
+
+    private record CachedFile(String fileId, LocalDateTime expiresAt) {
+    }
+}
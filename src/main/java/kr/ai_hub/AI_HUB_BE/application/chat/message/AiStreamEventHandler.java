@@ -0,0 +1,31 @@
+package kr.ai_hub.AI_HUB_BE.application.chat.message;
+
+import kr.ai_hub.AI_HUB_BE.application.chat.message.dto.AiUsage;
+
+import java.io.IOException;
+
+/**
+ * AiStreamFrameDecoder가 해석한 AI 서버 스트림 이벤트를 받는 콜백
+ */
+public interface AiStreamEventHandler {
+
+    /**
+     * response.created - 응답 ID 수신
+     */
+    void onCreated(String responseId);
+
+    /**
+     * response.output_text.delta - 증분 텍스트 수신
+     */
+    void onDelta(String delta) throws IOException;
+
+    /**
+     * response.completed - 토큰 사용량 수신 (usage가 없으면 null)
+     */
+    void onCompleted(AiUsage usage);
+
+    /**
+     * error - AI 서버 에러 수신
+     */
+    void onError(String code, String message);
+}
@@ -0,0 +1,275 @@
+package kr.ai_hub.AI_HUB_BE.application.chat.message;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import kr.ai_hub.AI_HUB_BE.application.chat.message.dto.AiUsage;
+import org.springframework.core.io.buffer.DataBuffer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * AI 서버 SSE 스트림 디코더
+ * <p>
+ * 응답 바디를 문자열로 디코딩하지 않고 DataBuffer의 바이트를 직접 읽어 SSE 프레임(data: 줄, 빈 줄로 구분)을 나누고,
+ * 프레임의 JSON은 Jackson 스트리밍 파서로 필요한 필드만 읽습니다. 이벤트 전체를 DTO로 바인딩하지 않으며,
+ * delta 이벤트는 type과 delta를 읽는 즉시 나머지 필드를 건너뜁니다.
+ * 줄/프레임 버퍼는 디코더마다 재사용하므로 이벤트당 할당은 delta 문자열과 파서 정도입니다.
+ * 스트림마다 새 인스턴스를 사용해야 합니다 (스레드 안전하지 않음).
+ * </p>
+ */
+public class AiStreamFrameDecoder {
+
+    static final String TYPE_CREATED = "response.created";
+    static final String TYPE_DELTA = "response.output_text.delta";
+    static final String TYPE_COMPLETED = "response.completed";
+    static final String TYPE_ERROR = "error";
+
+    private static final byte[] DATA_FIELD = {'d', 'a', 't', 'a', ':'};
+    private static final byte[] LINE_FEED = {'\n'};
+
+    private final JsonFactory jsonFactory;
+    private final AiStreamEventHandler handler;
+    private final Frame frame = new Frame();
+
+    private byte[] line = new byte[512];
+    private int lineLength;
+    private byte[] payload = new byte[1024];
+    private int payloadLength;
+    private boolean hasData;
+
+    public AiStreamFrameDecoder(JsonFactory jsonFactory, AiStreamEventHandler handler) {
+        this.jsonFactory = jsonFactory;
+        this.handler = handler;
+    }
+
+    /**
+     * 수신한 바이트를 처리합니다. 완성된 프레임은 즉시 핸들러로 전달하고, 끊긴 줄은 다음 버퍼와 이어 붙입니다.
+     * 버퍼의 읽기 위치는 변경하지 않으며 해제는 호출자가 합니다.
+     */
+    public void decode(DataBuffer buffer) throws IOException {
+        try (DataBuffer.ByteBufferIterator chunks = buffer.readableByteBuffers()) {
+            while (chunks.hasNext()) {
+                decode(chunks.next());
+            }
+        }
+    }
+
+    /**
+     * 스트림 종료 시 호출합니다. 마지막 빈 줄 없이 끝난 프레임도 전달합니다.
+     */
+    public void finish() throws IOException {
+        if (lineLength > 0) {
+            onLine();
+        }
+        dispatch();
+    }
+
+    private void decode(ByteBuffer chunk) throws IOException {
+        int start = chunk.position();
+        int limit = chunk.limit();
+        for (int i = start; i < limit; i++) {
+            if (chunk.get(i) == '\n') {
+                appendLine(chunk, start, i - start);
+                onLine();
+                start = i + 1;
+            }
+        }
+        appendLine(chunk, start, limit - start);
+    }
+
+    private void appendLine(ByteBuffer chunk, int offset, int length) {
+        if (length == 0) {
+            return;
+        }
+        if (lineLength + length > line.length) {
+            line = Arrays.copyOf(line, Math.max(line.length * 2, lineLength + length));
+        }
+        chunk.get(offset, line, lineLength, length);
+        lineLength += length;
+    }
+
+    private void onLine() throws IOException {
+        int length = lineLength;
+        lineLength = 0;
+        if (length > 0 && line[length - 1] == '\r') {
+            length--;
+        }
+        if (length == 0) {
+            dispatch();
+            return;
+        }
+        if (!isDataLine(length)) {
+            // event:, id:, retry: 필드와 주석(:)은 사용하지 않음
+            return;
+        }
+        int offset = DATA_FIELD.length;
+        if (length > offset && line[offset] == ' ') {
+            offset++;
+        }
+        if (hasData) {
+            appendPayload(LINE_FEED, 0, 1);
+        }
+        appendPayload(line, offset, length - offset);
+        hasData = true;
+    }
+
+    private boolean isDataLine(int length) {
+        return length >= DATA_FIELD.length
+                && Arrays.equals(line, 0, DATA_FIELD.length, DATA_FIELD, 0, DATA_FIELD.length);
+    }
+
+    private void appendPayload(byte[] source, int offset, int length) {
+        if (payloadLength + length > payload.length) {
+            payload = Arrays.copyOf(payload, Math.max(payload.length * 2, payloadLength + length));
+        }
+        System.arraycopy(source, offset, payload, payloadLength, length);
+        payloadLength += length;
+    }
+
+    private void dispatch() throws IOException {
+        if (!hasData) {
+            return;
+        }
+        int length = payloadLength;
+        payloadLength = 0;
+        hasData = false;
+
+        frame.reset();
+        parse(length);
+
+        if (frame.type == null) {
+            return;
+        }
+        switch (frame.type) {
+            case TYPE_CREATED -> handler.onCreated(frame.responseId);
+            case TYPE_DELTA -> {
+                if (frame.delta != null) {
+                    handler.onDelta(frame.delta);
+                }
+            }
+            case TYPE_COMPLETED -> handler.onCompleted(frame.usage);
+            case TYPE_ERROR -> handler.onError(frame.errorCode, frame.errorMessage);
+            default -> {
+                // 사용하지 않는 이벤트 타입은 무시
+            }
+        }
+    }
+
+    private void parse(int length) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(payload, 0, length)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "AI 서버 이벤트가 JSON 객체가 아닙니다");
+            }
+            fields:
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "type" -> {
+                        frame.type = parser.getText();
+                        if (TYPE_DELTA.equals(frame.type) && frame.delta != null) {
+                            break fields;
+                        }
+                    }
+                    case "delta" -> {
+                        frame.delta = parser.getValueAsString();
+                        if (TYPE_DELTA.equals(frame.type)) {
+                            break fields;
+                        }
+                    }
+                    case "response" -> {
+                        if (TYPE_DELTA.equals(frame.type)) {
+                            parser.skipChildren();
+                        } else {
+                            readResponse(parser);
+                        }
+                    }
+                    case "error" -> readError(parser);
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+    }
+
+    private void readResponse(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "id" -> frame.responseId = parser.getValueAsString();
+                case "usage" -> frame.usage = readUsage(parser);
+                default -> parser.skipChildren();
+            }
+        }
+    }
+
+    private AiUsage readUsage(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        Integer inputTokens = null;
+        Integer outputTokens = null;
+        Integer totalTokens = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "input_tokens" -> inputTokens = readInt(parser);
+                case "output_tokens" -> outputTokens = readInt(parser);
+                case "total_tokens" -> totalTokens = readInt(parser);
+                default -> parser.skipChildren();
+            }
+        }
+        return new AiUsage(inputTokens, outputTokens, totalTokens);
+    }
+
+    private void readError(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "code" -> frame.errorCode = parser.getValueAsString();
+                case "message" -> frame.errorMessage = parser.getValueAsString();
+                default -> parser.skipChildren();
+            }
+        }
+    }
+
+    private static Integer readInt(JsonParser parser) throws IOException {
+        return parser.currentToken() == JsonToken.VALUE_NUMBER_INT ? parser.getIntValue() : null;
+    }
+
+    /**
+     * 프레임 하나에서 읽은 필드 (디코더마다 재사용)
+     */
+    private static final class Frame {
+        private String type;
+        private String delta;
+        private String responseId;
+        private AiUsage usage;
+        private String errorCode;
+        private String errorMessage;
+
+        private void reset() {
+            type = null;
+            delta = null;
+            responseId = null;
+            usage = null;
+            errorCode = null;
+            errorMessage = null;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package kr.ai_hub.AI_HUB_BE.application.chat.message;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.ai_hub.AI_HUB_BE.global.error.exception.ServiceUnavailableException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 채팅 AI 응답 생성(SSE 스트리밍) 전용 가상 스레드 실행기
+ * <p>
+ * 생성 작업마다 이름 있는 가상 스레드(chat-generation-N)를 사용하고 진행 수, 대기 시간, 완료 시간을 메트릭으로 노출합니다.
+ * 종료 시에는 readiness를 REFUSING_TRAFFIC으로 바꾸고 새 전송을 503으로 거절한 뒤,
+ * 진행 중인 스트림이 유예 시간 안에 끝나기를 기다립니다. 유예 시간이 지나면 남은 작업을 인터럽트하여
+ * 기존 실패 처리(User 메시지 삭제, 과금 없음)로 정리합니다.
+ * 웹 서버 graceful shutdown보다 먼저 멈추므로 대기 중에도 진행 중인 SSE 응답은 계속 전송됩니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class ChatGenerationExecutor implements SmartLifecycle {
+
+    private static final Duration INTERRUPT_WAIT = Duration.ofSeconds(5);
+
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("chat-generation-", 0).factory());
+    private final AtomicInteger active = new AtomicInteger();
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration gracePeriod;
+    private final Timer queueTimer;
+    private final Timer durationTimer;
+    private final Counter rejectedCounter;
+
+    private volatile boolean accepting = true;
+    private volatile boolean running;
+
+    public ChatGenerationExecutor(ApplicationEventPublisher eventPublisher,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${chat.generation.shutdown-grace-period:PT50S}") Duration gracePeriod) {
+        this.eventPublisher = eventPublisher;
+        this.gracePeriod = gracePeriod;
+        this.queueTimer = Timer.builder("chat.generation.queue")
+                .description("응답 생성 작업이 제출된 뒤 시작되기까지의 대기 시간")
+                .register(meterRegistry);
+        this.durationTimer = Timer.builder("chat.generation.duration")
+                .description("완료된 응답 생성 작업의 실행 시간")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("chat.generation.rejected")
+                .description("종료 중이라 거절된 응답 생성 작업 수")
+                .register(meterRegistry);
+        meterRegistry.gauge("chat.generation.active", active);
+    }
+
+    /**
+     * 새 전송을 받을 수 있는지 확인합니다.
+     *
+     * @throws ServiceUnavailableException 종료 중인 경우
+     */
+    public void ensureAccepting() {
+        if (!accepting) {
+            rejectedCounter.increment();
+            throw new ServiceUnavailableException("서버가 종료 중입니다. 잠시 후 다시 시도해주세요");
+        }
+    }
+
+    /**
+     * 응답 생성 작업을 실행합니다.
+     *
+     * @throws ServiceUnavailableException 종료 중이라 작업을 받을 수 없는 경우
+     */
+    public void execute(Runnable task) {
+        ensureAccepting();
+        long submittedAt = System.nanoTime();
+        active.incrementAndGet();
+        try {
+            executor.execute(() -> {
+                long startedAt = System.nanoTime();
+                queueTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    task.run();
+                } finally {
+                    durationTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                    active.decrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            active.decrementAndGet();
+            rejectedCounter.increment();
+            throw new ServiceUnavailableException("서버가 종료 중입니다. 잠시 후 다시 시도해주세요");
+        }
+    }
+
+    public int getActiveCount() {
+        return active.get();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        drain();
+    }
+
+    @Override
+    public void stop(Runnable callback) {
+        accepting = false;
+        Thread.ofVirtual().name("chat-generation-drain").start(() -> {
+            try {
+                drain();
+            } finally {
+                callback.run();
+            }
+        });
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 새 작업을 막고 진행 중인 작업이 끝날 때까지 유예 시간만큼 기다립니다.
+     */
+    private void drain() {
+        accepting = false;
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+        log.info("채팅 응답 생성 종료 대기 시작: active={}, gracePeriod={}", active.get(), gracePeriod);
+
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(gracePeriod.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("유예 시간 초과로 진행 중인 응답 생성 중단: active={}", active.get());
+                executor.shutdownNow();
+                executor.awaitTermination(INTERRUPT_WAIT.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        } finally {
+            running = false;
+        }
+        log.info("채팅 응답 생성 종료 완료: remaining={}", active.get());
+    }
+}
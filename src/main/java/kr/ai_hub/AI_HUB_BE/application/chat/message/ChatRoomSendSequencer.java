@@ -0,0 +1,71 @@
+package kr.ai_hub.AI_HUB_BE.application.chat.message;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.ai_hub.AI_HUB_BE.global.error.exception.IllegalSystemStateException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 채팅방별 메시지 전송 순서 보장
+ * <p>
+ * 같은 채팅방에서 AI 응답 생성은 한 번에 하나만 진행합니다. 진행 중에 들어온 전송은
+ * 같은 previousResponseId로 중복 생성/과금되므로 대기시키지 않고 즉시 거절(409)합니다.
+ * 점유 상태는 채팅방 ID 키 단위로만 관리하므로 서로 다른 채팅방의 전송은 서로 막지 않습니다.
+ * 인스턴스 로컬 상태이므로 같은 채팅방의 요청이 다른 인스턴스로 분산되면 순서를 보장하지 않습니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class ChatRoomSendSequencer {
+
+    private final ConcurrentMap<UUID, Permit> inFlight = new ConcurrentHashMap<>();
+    private final Counter rejectedCounter;
+
+    public ChatRoomSendSequencer(MeterRegistry meterRegistry) {
+        this.rejectedCounter = Counter.builder("chat.send.rejected")
+                .description("같은 채팅방에서 응답 생성 중이라 거절된 메시지 전송 수")
+                .register(meterRegistry);
+        meterRegistry.gauge("chat.send.in_flight", inFlight, ConcurrentMap::size);
+    }
+
+    /**
+     * 채팅방의 전송 권한을 획득합니다. 응답 생성이 끝나면 반드시 close 해야 합니다.
+     *
+     * @throws IllegalSystemStateException 같은 채팅방에서 응답을 생성 중인 경우
+     */
+    public Permit acquire(UUID roomId) {
+        Permit permit = new Permit(roomId);
+        if (inFlight.putIfAbsent(roomId, permit) != null) {
+            rejectedCounter.increment();
+            log.warn("채팅방 응답 생성 중 중복 전송 거절: roomId={}", roomId);
+            throw new IllegalSystemStateException("이전 메시지의 응답을 생성 중입니다. 완료 후 다시 시도해주세요");
+        }
+        return permit;
+    }
+
+    boolean isInFlight(UUID roomId) {
+        return inFlight.containsKey(roomId);
+    }
+
+    /**
+     * 채팅방 전송 권한 (여러 번 close 해도 안전)
+     */
+    public final class Permit implements AutoCloseable {
+
+        private final UUID roomId;
+
+        private Permit(UUID roomId) {
+            this.roomId = roomId;
+        }
+
+        @Override
+        public void close() {
+            inFlight.remove(roomId, this);
+        }
+    }
+}
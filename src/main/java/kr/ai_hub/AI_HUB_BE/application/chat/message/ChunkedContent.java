@@ -0,0 +1,94 @@
+package kr.ai_hub.AI_HUB_BE.application.chat.message;
+
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 고정 크기 char 청크로 누적하는 응답 본문 버퍼
+ * <p>
+ * StringBuilder처럼 용량이 찰 때마다 전체 배열을 다시 할당/복사하지 않고, 마지막 청크가 차면 새 청크만 추가합니다.
+ * 저장 시에는 toString()으로 전체를 한 번 더 복사하지 않고 reader()로 청크를 순서대로 읽어 JDBC에 넘깁니다.
+ * 한 스트림의 생성 스레드에서만 사용합니다 (스레드 안전하지 않음).
+ * </p>
+ */
+public class ChunkedContent {
+
+    static final int CHUNK_SIZE = 8 * 1024;
+
+    private final List<char[]> chunks = new ArrayList<>();
+    private char[] current;
+    private int currentLength;
+    private int length;
+
+    public void append(String text) {
+        int offset = 0;
+        int remaining = text.length();
+        while (remaining > 0) {
+            if (current == null || currentLength == CHUNK_SIZE) {
+                current = new char[CHUNK_SIZE];
+                currentLength = 0;
+                chunks.add(current);
+            }
+            int count = Math.min(remaining, CHUNK_SIZE - currentLength);
+            text.getChars(offset, offset + count, current, currentLength);
+            currentLength += count;
+            offset += count;
+            remaining -= count;
+        }
+        length += text.length();
+    }
+
+    public int length() {
+        return length;
+    }
+
+    /**
+     * 누적된 본문을 처음부터 읽는 Reader를 반환합니다 (호출할 때마다 새 Reader).
+     */
+    public Reader reader() {
+        return new ChunkReader();
+    }
+
+    @Override
+    public String toString() {
+        char[] all = new char[length];
+        int position = 0;
+        for (char[] chunk : chunks) {
+            int count = Math.min(chunk.length, length - position);
+            System.arraycopy(chunk, 0, all, position, count);
+            position += count;
+        }
+        return new String(all);
+    }
+
+    private final class ChunkReader extends Reader {
+
+        private int position;
+
+        @Override
+        public int read(char[] buffer, int offset, int count) {
+            if (count == 0) {
+                return 0;
+            }
+            if (position >= length) {
+                return -1;
+            }
+            int read = 0;
+            while (read < count && position < length) {
+                char[] chunk = chunks.get(position / CHUNK_SIZE);
+                int chunkOffset = position % CHUNK_SIZE;
+                int n = Math.min(count - read, Math.min(CHUNK_SIZE - chunkOffset, length - position));
+                System.arraycopy(chunk, chunkOffset, buffer, offset + read, n);
+                read += n;
+                position += n;
+            }
+            return read;
+        }
+
+        @Override
+        public void close() {
+            position = length;
+        }
+    }
+}
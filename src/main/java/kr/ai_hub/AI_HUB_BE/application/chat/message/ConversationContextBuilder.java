@@ -0,0 +1,288 @@
+package kr.ai_hub.AI_HUB_BE.application.chat.message;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.ai_hub.AI_HUB_BE.domain.aimodel.AIModel;
+import kr.ai_hub.AI_HUB_BE.domain.chat.ChatRoom;
+import kr.ai_hub.AI_HUB_BE.domain.chat.ConversationMessage;
+import kr.ai_hub.AI_HUB_BE.domain.chat.MessageRepository;
+import kr.ai_hub.AI_HUB_BE.domain.chat.MessageRole;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 모델 전환 시 이전 대화 문맥 구성
+ * <p>
+ * previous_response_id는 그 응답을 만든 모델(제공자)에서만 이어갈 수 있습니다.
+ * 다른 모델로 바꿔 보내거나 응답 ID를 알 수 없으면, 채팅방의 이전 메시지를 최신순으로 모아
+ * 모델별 토큰 예산 안에서 문맥을 만들어 AI 서버에 전달합니다.
+ * </p>
+ * <p>
+ * 채팅방별 문맥 창(최근 메시지 + 마지막 응답 ID/모델)을 캐시에 두고, 응답이 완료될 때마다
+ * 새 턴만 덧붙여 매번 DB에서 다시 읽지 않습니다. 캐시는 인스턴스 로컬이므로 문맥 창의 마지막 응답 ID가
+ * 요청의 previous_response_id와 다르면(다른 인스턴스에서 대화가 진행된 경우 등) DB에서 다시 읽습니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class ConversationContextBuilder {
+
+    static final int LOAD_PAGE_SIZE = 50;
+
+    private final MessageRepository messageRepository;
+    private final ConversationContextProperties properties;
+    private final TokenEstimator tokenEstimator;
+    private final Cache<UUID, RoomWindow> windows;
+    private final Counter windowHits;
+    private final Counter windowLoads;
+
+    public ConversationContextBuilder(MessageRepository messageRepository,
+                                      ConversationContextProperties properties,
+                                      TokenEstimator tokenEstimator,
+                                      MeterRegistry meterRegistry) {
+        this.messageRepository = messageRepository;
+        this.properties = properties;
+        this.tokenEstimator = tokenEstimator;
+        this.windows = Caffeine.newBuilder()
+                .maximumSize(properties.maxRooms())
+                .expireAfterAccess(properties.idleTimeout())
+                .build();
+        this.windowHits = Counter.builder("chat.context.window")
+                .description("대화 문맥 구성 시 캐시된 문맥 창 사용 횟수")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.windowLoads = Counter.builder("chat.context.window")
+                .description("대화 문맥 구성 시 DB에서 문맥 창을 읽은 횟수")
+                .tag("result", "load")
+                .register(meterRegistry);
+    }
+
+    /**
+     * previous_response_id로 대화를 이어갈 수 없으면 이전 대화 문맥을 구성합니다.
+     * <p>
+     * previous_response_id가 없으면 새 대화로 보고 문맥을 만들지 않습니다.
+     * 문맥이 반환되면 호출자는 previous_response_id 대신 문맥을 전달해야 합니다.
+     * 이번 요청의 사용자 메시지를 저장하기 전에 호출합니다.
+     * </p>
+     *
+     * @param chatRoom           채팅방
+     * @param aiModel            이번 요청에 사용할 모델
+     * @param previousResponseId 요청의 previous_response_id (nullable)
+     * @return 오래된 순서의 문맥 메시지 (previous_response_id로 이어갈 수 있으면 빈 값)
+     */
+    public Optional<List<ContextMessage>> buildIfNeeded(ChatRoom chatRoom, AIModel aiModel,
+                                                        String previousResponseId) {
+        return build(chatRoom, aiModel, previousResponseId, true);
+    }
+
+    /**
+     * 예상 비용 조회용으로 buildIfNeeded와 같은 문맥을 구성하되, 캐시와 문맥 창 메트릭은 바꾸지 않습니다.
+     * <p>
+     * 조회는 읽기 전용 트랜잭션(복제본)에서 실행될 수 있어, 지연된 복제본에서 읽은 문맥 창을 실제 전송이 재사용하지 않도록
+     * 캐시에 넣지 않습니다. 캐시된 문맥 창이 있으면 그대로 사용합니다.
+     * </p>
+     */
+    public Optional<List<ContextMessage>> previewIfNeeded(ChatRoom chatRoom, AIModel aiModel,
+                                                          String previousResponseId) {
+        return build(chatRoom, aiModel, previousResponseId, false);
+    }
+
+    private Optional<List<ContextMessage>> build(ChatRoom chatRoom, AIModel aiModel, String previousResponseId,
+                                                 boolean cacheWindow) {
+        if (!properties.enabled() || previousResponseId == null) {
+            return Optional.empty();
+        }
+
+        UUID roomId = chatRoom.getRoomId();
+        RoomWindow window = windows.getIfPresent(roomId);
+        if (canContinue(chatRoom, window, aiModel, previousResponseId)) {
+            return Optional.empty();
+        }
+
+        if (window != null && window.isLoadedAt(previousResponseId)) {
+            if (cacheWindow) {
+                windowHits.increment();
+            }
+        } else {
+            window = loadWindow(chatRoom);
+            if (cacheWindow) {
+                windows.put(roomId, window);
+                windowLoads.increment();
+            }
+        }
+
+        int budget = properties.tokenBudgetFor(aiModel.getModelName());
+        List<ContextMessage> context = window.select(budget);
+        if (cacheWindow) {
+            log.info("previous_response_id로 이어갈 수 없어 문맥 구성: roomId={}, model={}, messages={}, budget={}",
+                    roomId, aiModel.getModelName(), context.size(), budget);
+        }
+        return Optional.of(context);
+    }
+
+    /**
+     * 완료된 턴을 문맥 창에 덧붙입니다.
+     * 캐시된 문맥 창이 없으면 아무것도 하지 않고, 이번 턴의 previous_response_id 시점이 아니면 메시지는 버리고
+     * 마지막 응답 정보만 갱신합니다. 응답 본문은 실제로 덧붙일 때만 문자열로 복사합니다.
+     */
+    public void appendTurn(UUID roomId, String previousResponseId, String userMessage,
+                           ChunkedContent assistantContent, String responseId, Integer modelId) {
+        if (!properties.enabled()) {
+            return;
+        }
+        RoomWindow window = windows.getIfPresent(roomId);
+        if (window == null) {
+            return;
+        }
+        window.append(previousResponseId,
+                () -> List.of(
+                        contextMessage(MessageRole.USER, userMessage),
+                        contextMessage(MessageRole.ASSISTANT, assistantContent.toString())),
+                responseId, modelId, properties.maxTokenBudget());
+    }
+
+    /**
+     * 같은 모델이 만든 응답이면 previous_response_id로 이어갈 수 있습니다.
+     */
+    private boolean canContinue(ChatRoom chatRoom, RoomWindow window, AIModel aiModel, String previousResponseId) {
+        if (window != null) {
+            Integer cachedModelId = window.modelIdOf(previousResponseId);
+            if (cachedModelId != null) {
+                return cachedModelId.equals(aiModel.getModelId());
+            }
+        }
+        return messageRepository.findResponseModelIds(chatRoom, previousResponseId)
+                .contains(aiModel.getModelId());
+    }
+
+    /**
+     * 이전 메시지를 최신순으로 읽어 가장 큰 모델 예산만큼 문맥 창을 채웁니다.
+     */
+    private RoomWindow loadWindow(ChatRoom chatRoom) {
+        int maxBudget = properties.maxTokenBudget();
+        List<ContextMessage> newestFirst = new ArrayList<>();
+        String lastResponseId = null;
+        Integer lastModelId = null;
+        int tokens = 0;
+
+        PageRequest page = PageRequest.of(0, LOAD_PAGE_SIZE);
+        Slice<ConversationMessage> slice;
+        do {
+            slice = messageRepository.findConversationByChatRoom(chatRoom, page);
+            for (ConversationMessage message : slice) {
+                if (lastResponseId == null && message.role() == MessageRole.ASSISTANT) {
+                    lastResponseId = message.responseId();
+                    lastModelId = message.modelId();
+                }
+                ContextMessage contextMessage = contextMessage(message.role(), message.content());
+                newestFirst.add(contextMessage);
+                tokens += contextMessage.tokens();
+                if (tokens >= maxBudget) {
+                    break;
+                }
+            }
+            page = page.next();
+        } while (tokens < maxBudget && slice.hasNext());
+
+        Collections.reverse(newestFirst);
+        return new RoomWindow(lastResponseId, lastModelId, newestFirst, tokens);
+    }
+
+    /**
+     * 문맥 창은 여러 모델이 함께 쓰므로 모든 계열보다 크게 추정하는 GENERIC 기준으로 토큰 수를 계산합니다.
+     */
+    private ContextMessage contextMessage(MessageRole role, String content) {
+        String text = content != null ? content : "";
+        return new ContextMessage(role.getValue(), text,
+                tokenEstimator.estimateMessage(TokenEstimator.TokenizerFamily.GENERIC, text));
+    }
+
+    /**
+     * AI 서버에 전달할 문맥 메시지
+     *
+     * @param role    "user" 또는 "assistant"
+     * @param content 메시지 본문
+     * @param tokens  추정 토큰 수
+     */
+    public record ContextMessage(String role, String content, int tokens) {
+    }
+
+    /**
+     * 채팅방별 문맥 창.
+     * 마지막 응답 ID/모델은 항상 유지하고, 메시지는 DB에서 한 번 읽은 뒤부터 턴마다 덧붙입니다.
+     */
+    static final class RoomWindow {
+
+        private String lastResponseId;
+        private Integer lastModelId;
+        private Deque<ContextMessage> messages;
+        private int tokens;
+
+        private RoomWindow(String lastResponseId, Integer lastModelId, List<ContextMessage> oldestFirst, int tokens) {
+            this.lastResponseId = lastResponseId;
+            this.lastModelId = lastModelId;
+            this.messages = new ArrayDeque<>(oldestFirst);
+            this.tokens = tokens;
+        }
+
+        synchronized Integer modelIdOf(String responseId) {
+            return Objects.equals(lastResponseId, responseId) ? lastModelId : null;
+        }
+
+        synchronized boolean isLoadedAt(String responseId) {
+            return messages != null && Objects.equals(lastResponseId, responseId);
+        }
+
+        synchronized List<ContextMessage> select(int budget) {
+            List<ContextMessage> selected = new ArrayList<>();
+            int used = 0;
+            Iterator<ContextMessage> newestFirst = messages.descendingIterator();
+            while (newestFirst.hasNext()) {
+                ContextMessage message = newestFirst.next();
+                if (used + message.tokens() > budget) {
+                    break;
+                }
+                selected.add(message);
+                used += message.tokens();
+            }
+            Collections.reverse(selected);
+            return selected;
+        }
+
+        synchronized void append(String previousResponseId, Supplier<List<ContextMessage>> turn,
+                                 String responseId, Integer modelId, int maxBudget) {
+            if (messages != null && Objects.equals(lastResponseId, previousResponseId)) {
+                turn.get().forEach(this::add);
+                // 가장 큰 예산을 넘는 오래된 메시지는 어떤 모델의 문맥에도 들어가지 않으므로 제거
+                while (tokens - messages.peekFirst().tokens() >= maxBudget) {
+                    tokens -= messages.pollFirst().tokens();
+                }
+            } else {
+                messages = null;
+                tokens = 0;
+            }
+            lastResponseId = responseId;
+            lastModelId = modelId;
+        }
+
+        private void add(ContextMessage message) {
+            messages.addLast(message);
+            tokens += message.tokens();
+        }
+    }
+}
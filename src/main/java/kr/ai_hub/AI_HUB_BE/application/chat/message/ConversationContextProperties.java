@@ -0,0 +1,39 @@
+package kr.ai_hub.AI_HUB_BE.application.chat.message;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 모델 전환 시 서버에서 구성하는 대화 문맥 설정
+ *
+ * @param enabled            문맥 구성 사용 여부 (기본 false: 기존처럼 previous_response_id만 전달, AI 서버가 context를 지원할 때만 활성화)
+ * @param defaultTokenBudget 모델별 설정이 없을 때 이전 대화에 사용할 최대 토큰 수
+ * @param modelTokenBudgets  모델명 → 이전 대화 최대 토큰 수
+ * @param maxRooms           문맥 창을 캐시할 최대 채팅방 수
+ * @param idleTimeout        마지막 사용 이후 채팅방 문맥 창을 보관할 시간
+ */
+@ConfigurationProperties(prefix = "chat.context")
+public record ConversationContextProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("8000") int defaultTokenBudget,
+        @DefaultValue Map<String, Integer> modelTokenBudgets,
+        @DefaultValue("1000") long maxRooms,
+        @DefaultValue("PT30M") Duration idleTimeout
+) {
+
+    public int tokenBudgetFor(String modelName) {
+        return modelTokenBudgets.getOrDefault(modelName, defaultTokenBudget);
+    }
+
+    /**
+     * 캐시에 보관할 문맥 창 크기 (모든 모델 예산 중 최댓값)
+     */
+    public int maxTokenBudget() {
+        return modelTokenBudgets.values().stream()
+                .mapToInt(Integer::intValue)
+                .reduce(defaultTokenBudget, Math::max);
+    }
+}
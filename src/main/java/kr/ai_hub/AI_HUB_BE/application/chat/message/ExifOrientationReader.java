@@ -0,0 +1,88 @@
+package kr.ai_hub.AI_HUB_BE.application.chat.message;
+
+/**
+ * JPEG 헤더에서 EXIF Orientation 값을 읽는 최소 파서
+ * 외부 메타데이터 라이브러리 없이 APP1(Exif) 세그먼트의 IFD0만 탐색합니다.
+ */
+final class ExifOrientationReader {
+
+    private static final int DEFAULT_ORIENTATION = 1;
+    private static final int ORIENTATION_TAG = 0x0112;
+
+    private ExifOrientationReader() {
+    }
+
+    static int read(byte[] jpeg) {
+        if (jpeg.length < 4 || u8(jpeg, 0) != 0xFF || u8(jpeg, 1) != 0xD8) {
+            return DEFAULT_ORIENTATION;
+        }
+
+        int pos = 2;
+        while (pos + 4 <= jpeg.length) {
+            if (u8(jpeg, pos) != 0xFF) {
+                return DEFAULT_ORIENTATION;
+            }
+            int marker = u8(jpeg, pos + 1);
+            int length = (u8(jpeg, pos + 2) << 8) | u8(jpeg, pos + 3);
+            // SOS 이후에는 메타데이터 세그먼트가 없다
+            if (marker == 0xDA || marker == 0xD9 || length < 2) {
+                return DEFAULT_ORIENTATION;
+            }
+
+            int segmentStart = pos + 4;
+            int segmentEnd = Math.min(jpeg.length, pos + 2 + length);
+            if (marker == 0xE1 && isExifHeader(jpeg, segmentStart, segmentEnd)) {
+                return readTiffOrientation(jpeg, segmentStart + 6, segmentEnd);
+            }
+            pos += 2 + length;
+        }
+        return DEFAULT_ORIENTATION;
+    }
+
+    private static boolean isExifHeader(byte[] b, int start, int end) {
+        return start + 6 <= end
+                && b[start] == 'E' && b[start + 1] == 'x' && b[start + 2] == 'i' && b[start + 3] == 'f'
+                && b[start + 4] == 0 && b[start + 5] == 0;
+    }
+
+    private static int readTiffOrientation(byte[] b, int tiffStart, int end) {
+        if (tiffStart + 8 > end) {
+            return DEFAULT_ORIENTATION;
+        }
+        boolean littleEndian = b[tiffStart] == 'I' && b[tiffStart + 1] == 'I';
+        long ifdOffset = u32(b, tiffStart + 4, littleEndian);
+        if (ifdOffset < 8 || tiffStart + ifdOffset + 2 > end) {
+            return DEFAULT_ORIENTATION;
+        }
+
+        int ifd = (int) (tiffStart + ifdOffset);
+        int entryCount = u16(b, ifd, littleEndian);
+        for (int i = 0; i < entryCount; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > end) {
+                return DEFAULT_ORIENTATION;
+            }
+            if (u16(b, entry, littleEndian) == ORIENTATION_TAG) {
+                int value = u16(b, entry + 8, littleEndian);
+                return value >= 1 && value <= 8 ? value : DEFAULT_ORIENTATION;
+            }
+        }
+        return DEFAULT_ORIENTATION;
+    }
+
+    private static int u8(byte[] b, int index) {
+        return b[index] & 0xFF;
+    }
+
+    private static int u16(byte[] b, int index, boolean littleEndian) {
+        return littleEndian
+                ? u8(b, index) | (u8(b, index + 1) << 8)
+                : (u8(b, index) << 8) | u8(b, index + 1);
+    }
+
+    private static long u32(byte[] b, int index, boolean littleEndian) {
+        return littleEndian
+                ? (u16(b, index, true) & 0xFFFFL) | ((long) u16(b, index + 2, true) << 16)
+                : ((long) u16(b, index, false) << 16) | (u16(b, index + 2, false) & 0xFFFFL);
+    }
+}
@@ -4,17 +4,23 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.tika.config.TikaConfig;
 import org.apache.tika.detect.Detector;
-import org.apache.tika.exception.TikaException;
 import org.apache.tika.io.TikaInputStream;
 import org.apache.tika.metadata.Metadata;
 import org.apache.tika.metadata.TikaCoreProperties;
 import org.apache.tika.mime.MediaType;
+import org.apache.tika.mime.MimeTypes;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import kr.ai_hub.AI_HUB_BE.application.chat.message.dto.ValidatedFile;
+import kr.ai_hub.AI_HUB_BE.global.error.exception.IllegalSystemStateException;
 import kr.ai_hub.AI_HUB_BE.global.error.exception.ValidationException;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.Map;
 import java.util.Set;
 
@@ -32,6 +38,20 @@ public class FileValidationService {
 
     private static final long MAX_FILE_SIZE = 10 * 1024 * 1024; // 10MB
 
+    /**
+     * MIME 레지스트리를 한 번만 로딩한 공유 Detector (thread-safe)
+     * TikaConfig 생성은 전체 MIME 레지스트리 XML을 파싱하므로 요청마다 생성하지 않습니다.
+     */
+    private static final Detector DETECTOR = TikaConfig.getDefaultConfig().getDetector();
+
+    /**
+     * Magic Number 감지에 필요한 최대 헤더 길이
+     * Tika가 감지 시 읽는 길이만큼만 읽어 파일 전체를 힙에 복사하지 않습니다.
+     */
+    private static final int MAGIC_HEADER_LENGTH = MimeTypes.getDefaultMimeTypes().getMinLength();
+
+    private static final int HASH_BUFFER_SIZE = 8 * 1024;
+
     /**
      * 지원되는 MIME Type 정의
      * 이미지: JPEG, PNG, WebP
@@ -54,11 +74,14 @@ public class FileValidationService {
      * 4. 확장자 검증
      * 5. MIME Type 검증
      * 6. Tika를 사용한 실제 파일 형식 검증 (Magic Number)
+     * 7. SHA-256 콘텐츠 해시 계산 (중복 업로드 캐시 키)
+     * 6~7단계는 파일 스트림을 한 번만 읽으며 처리합니다.
      *
      * @param file 검증할 파일
+     * @return 검증된 파일 정보 (콘텐츠 해시 포함)
      * @throws ValidationException 검증 실패 시 예외 발생
      */
-    public void validateFile(MultipartFile file) {
+    public ValidatedFile validateFile(MultipartFile file) {
         // 1. 파일 존재 여부 확인
         if (file == null || file.isEmpty()) {
             log.warn("파일이 제공되지 않았습니다");
@@ -69,7 +92,7 @@ public class FileValidationService {
                 file.getOriginalFilename(), file.getSize());
 
         // 2. 파일 크기 검증
-        validateFileSize(file);
+        validateFileSize(file.getSize());
 
         // 3. 파일명 유효성 검증
         String originalFilename = validateFilename(file.getOriginalFilename());
@@ -80,16 +103,67 @@ public class FileValidationService {
         // 5. MIME Type 검증
         validateContentType(file.getContentType(), extension);
 
-        // 6. 실제 파일 형식 검증 (Tika Magic Number)
-        try {
-            validateMagicNumber(file, extension);
+        // 6. 실제 파일 형식 검증 (Tika Magic Number) 및 7. 콘텐츠 해시 계산
+        try (InputStream inputStream = file.getInputStream()) {
+            byte[] header = inputStream.readNBytes(MAGIC_HEADER_LENGTH);
+            validateMagicNumber(header, originalFilename, file.getContentType(), extension);
+            String contentHash = computeContentHash(header, inputStream);
             log.info("파일 검증 성공: fileName={}, extension={}", originalFilename, extension);
+
+            return ValidatedFile.builder()
+                    .originalFilename(originalFilename)
+                    .extension(extension)
+                    .contentType(file.getContentType())
+                    .size(file.getSize())
+                    .contentHash(contentHash)
+                    .build();
+        } catch (IOException e) {
+            log.error("파일 읽기 실패: {}", e.getMessage(), e);
+            throw new ValidationException("파일 읽기 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 스트리밍 업로드 검증
+     * 파일명/확장자/Content-Type과 선언된 크기를 먼저 검증하고, 헤더만 읽어 Magic Number를 확인합니다.
+     * 나머지 본문은 반환된 스트림을 읽는 동안 크기 제한 검사가 이루어집니다.
+     *
+     * @param body             요청 본문 스트림
+     * @param originalFilename 원본 파일명
+     * @param contentType      요청 Content-Type
+     * @param declaredLength   Content-Length (chunked 요청이면 null)
+     * @return 헤더 검증을 마친 업로드 스트림
+     * @throws ValidationException 검증 실패 시 예외 발생
+     */
+    public ValidatingUploadStream validateStream(InputStream body, String originalFilename,
+                                                 String contentType, Long declaredLength) {
+        if (body == null || (declaredLength != null && declaredLength == 0)) {
+            log.warn("파일이 제공되지 않았습니다");
+            throw new ValidationException("파일이 제공되지 않았습니다");
+        }
+
+        // 선언된 크기가 있으면 본문을 읽기 전에 거부
+        if (declaredLength != null) {
+            validateFileSize(declaredLength);
+        }
+
+        String filename = validateFilename(originalFilename);
+        String extension = validateExtension(filename);
+        validateContentType(contentType, extension);
+
+        try {
+            byte[] header = body.readNBytes(MAGIC_HEADER_LENGTH);
+            if (header.length == 0) {
+                log.warn("파일이 제공되지 않았습니다");
+                throw new ValidationException("파일이 제공되지 않았습니다");
+            }
+            validateMagicNumber(header, filename, contentType, extension);
+            log.info("스트리밍 파일 헤더 검증 성공: fileName={}, extension={}", filename, extension);
+
+            return new ValidatingUploadStream(filename, extension, contentType, header, body, MAX_FILE_SIZE);
         } catch (IOException e) {
             log.error("파일 읽기 실패: {}", e.getMessage(), e);
             throw new ValidationException("파일 읽기 중 오류가 발생했습니다: " + e.getMessage());
-        } catch (TikaException e) {
-            log.error("Tika 설정 오류: {}", e.getMessage(), e);
-            throw new ValidationException("파일 형식 검증 중 오류가 발생했습니다: " + e.getMessage());
         }
     }
 
@@ -97,12 +171,12 @@ public class FileValidationService {
      * 파일 크기 검증
      * 최대 파일 크기: 10MB
      *
-     * @param file 검증할 파일
+     * @param size 검증할 파일 크기
      * @throws ValidationException 파일 크기 초과 시 예외 발생
      */
-    private void validateFileSize(MultipartFile file) {
-        if (file.getSize() > MAX_FILE_SIZE) {
-            log.warn("파일 크기 초과: size={}, maxSize={}", file.getSize(), MAX_FILE_SIZE);
+    private void validateFileSize(long size) {
+        if (size > MAX_FILE_SIZE) {
+            log.warn("파일 크기 초과: size={}, maxSize={}", size, MAX_FILE_SIZE);
             throw new ValidationException(
                     String.format("파일 크기가 너무 큽니다. 최대 크기: %dMB", MAX_FILE_SIZE / 1024 / 1024));
         }
@@ -182,29 +256,28 @@ public class FileValidationService {
      * Tika를 사용한 파일 형식 검증 (Magic Number 기반)
      * 실제 파일 헤더의 바이너리 패턴을 분석하여 파일 형식을 검증합니다.
      * 이를 통해 확장자를 위조한 파일을 감지할 수 있습니다.
+     * 파일 앞부분(MAGIC_HEADER_LENGTH)만 전달받아 감지합니다.
      *
-     * @param file      검증할 파일
-     * @param extension 파일 확장자
+     * @param header           파일 헤더 바이트
+     * @param originalFilename 원본 파일명
+     * @param contentType      파일의 Content-Type
+     * @param extension        파일 확장자
      * @throws IOException         파일 읽기 실패 시 예외 발생
-     * @throws TikaException       Tika 설정 오류 시 예외 발생
      * @throws ValidationException 파일 형식이 일치하지 않는 경우 예외 발생
      */
-    private void validateMagicNumber(MultipartFile file, String extension) throws IOException, TikaException {
-        TikaConfig tikaConfig = new TikaConfig();
+    private void validateMagicNumber(byte[] header, String originalFilename, String contentType, String extension)
+            throws IOException {
         Metadata metadata = new Metadata();
 
         // 메타데이터에 파일명 설정 (더 정확한 감지를 위해)
-        metadata.set(TikaCoreProperties.RESOURCE_NAME_KEY, file.getOriginalFilename());
+        metadata.set(TikaCoreProperties.RESOURCE_NAME_KEY, originalFilename);
 
-        // 파일을 byte[] 형태로 변환하여 Tika에 전달
-        byte[] fileBytes = file.getBytes();
-        try (TikaInputStream tikaInputStream = TikaInputStream.get(fileBytes, metadata)) {
+        try (TikaInputStream tikaInputStream = TikaInputStream.get(header, metadata)) {
 
-            Detector detector = tikaConfig.getDetector();
-            MediaType detectedType = detector.detect(tikaInputStream, metadata);
+            MediaType detectedType = DETECTOR.detect(tikaInputStream, metadata);
 
             log.debug("Tika 감지 결과: detectedType={}, extension={}, contentType={}",
-                    detectedType, extension, file.getContentType());
+                    detectedType, extension, contentType);
 
             // 감지된 MIME Type이 허용된 목록에 있는지 확인
             String expectedMimeType = ALLOWED_MIME_TYPES.get(extension);
@@ -219,6 +292,34 @@ public class FileValidationService {
         }
     }
 
+    /**
+     * SHA-256 콘텐츠 해시 계산
+     * 이미 읽은 헤더와 나머지 스트림을 고정 크기 버퍼로 이어서 해싱하여 파일 전체를 메모리에 올리지 않습니다.
+     *
+     * @param header      이미 읽은 파일 헤더
+     * @param remaining   헤더 이후의 파일 스트림
+     * @return 소문자 16진수 SHA-256 해시
+     * @throws IOException 파일 읽기 실패 시 예외 발생
+     */
+    private String computeContentHash(byte[] header, InputStream remaining) throws IOException {
+        MessageDigest digest = newSha256Digest();
+        digest.update(header);
+        byte[] buffer = new byte[HASH_BUFFER_SIZE];
+        int read;
+        while ((read = remaining.read(buffer)) != -1) {
+            digest.update(buffer, 0, read);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private MessageDigest newSha256Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalSystemStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+
     /**
      * 파일명에서 확장자 추출
      * 마지막 '.' 이후의 문자열을 소문자로 변환하여 반환합니다.
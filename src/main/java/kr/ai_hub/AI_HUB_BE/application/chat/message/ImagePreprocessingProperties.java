@@ -0,0 +1,31 @@
+package kr.ai_hub.AI_HUB_BE.application.chat.message;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+/**
+ * AI 서버 업로드 전 이미지 전처리 설정
+ *
+ * @param enabled             전처리 사용 여부
+ * @param defaultMaxDimension 모델별 설정이 없을 때 사용할 긴 변 최대 픽셀 수
+ * @param modelMaxDimensions  모델명 → 긴 변 최대 픽셀 수
+ * @param maxPixels           디코딩을 허용하는 최대 픽셀 수 (압축 폭탄 방지)
+ * @param jpegQuality         JPEG 재인코딩 품질 (0.0 ~ 1.0)
+ * @param maxConcurrent       동시에 디코딩할 수 있는 최대 이미지 수 (힙 사용량 제한)
+ */
+@ConfigurationProperties(prefix = "ai-server.image-preprocessing")
+public record ImagePreprocessingProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("2048") int defaultMaxDimension,
+        @DefaultValue Map<String, Integer> modelMaxDimensions,
+        @DefaultValue("40000000") long maxPixels,
+        @DefaultValue("0.85") float jpegQuality,
+        @DefaultValue("4") int maxConcurrent
+) {
+
+    public int maxDimensionFor(String modelName) {
+        return modelMaxDimensions.getOrDefault(modelName, defaultMaxDimension);
+    }
+}
@@ -0,0 +1,261 @@
+package kr.ai_hub.AI_HUB_BE.application.chat.message;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.ai_hub.AI_HUB_BE.application.chat.message.dto.ValidatedFile;
+import kr.ai_hub.AI_HUB_BE.domain.aimodel.AIModel;
+import kr.ai_hub.AI_HUB_BE.global.error.exception.ValidationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+
+/**
+ * AI 서버 업로드 전 이미지 전처리 서비스
+ * <p>
+ * 비전 모델은 일정 해상도 이상의 이미지를 어차피 축소하므로, 긴 변이 모델별 최대 크기를 넘는 이미지만
+ * 디코딩 → 축소 → 메타데이터 제거 → 재인코딩하여 업로드 크기와 이미지 토큰 비용을 줄입니다.
+ * - EXIF Orientation을 픽셀에 반영한 뒤 메타데이터 없이 인코딩합니다.
+ * - WebP는 JDK에 코덱이 없으므로 원본을 그대로 전달합니다.
+ * - 헤더의 해상도로 압축 폭탄을 먼저 거부하고, 서브샘플링 디코딩으로 힙 사용량을 줄입니다.
+ * - 전처리 중 오류가 나면 원본을 그대로 업로드합니다 (선택적 단계).
+ * </p>
+ */
+@Slf4j
+@Service
+public class ImagePreprocessingService {
+
+    private static final Set<String> PROCESSABLE_EXTENSIONS = Set.of("jpg", "jpeg", "png");
+    private static final int EXIF_SCAN_LENGTH = 64 * 1024;
+
+    private final ImagePreprocessingProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Semaphore decodePermits;
+
+    public ImagePreprocessingService(ImagePreprocessingProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.decodePermits = new Semaphore(properties.maxConcurrent());
+    }
+
+    /**
+     * 업로드할 파일을 모델에 맞게 전처리합니다.
+     *
+     * @param file          원본 업로드 파일
+     * @param validatedFile 검증된 파일 정보
+     * @param aiModel       업로드 대상 AI 모델
+     * @return AI 서버로 전송할 리소스 (전처리하지 않으면 원본)
+     * @throws ValidationException 이미지 해상도가 허용 범위를 넘는 경우
+     */
+    public Resource preprocess(MultipartFile file, ValidatedFile validatedFile, AIModel aiModel) {
+        if (!properties.enabled() || !PROCESSABLE_EXTENSIONS.contains(validatedFile.extension())) {
+            return file.getResource();
+        }
+
+        int maxDimension = properties.maxDimensionFor(aiModel.getModelName());
+        try {
+            decodePermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return file.getResource();
+        }
+
+        try {
+            byte[] processed = downscale(file, validatedFile.extension(), maxDimension);
+            if (processed == null || processed.length >= file.getSize()) {
+                return file.getResource();
+            }
+
+            long savedBytes = file.getSize() - processed.length;
+            meterRegistry.counter("ai_upload.image.bytes_saved", "format", validatedFile.extension())
+                    .increment(savedBytes);
+            log.info("이미지 전처리 완료: fileName={}, originalSize={}, processedSize={}, maxDimension={}",
+                    validatedFile.originalFilename(), file.getSize(), processed.length, maxDimension);
+
+            return new NamedByteArrayResource(processed, validatedFile.originalFilename());
+        } catch (ValidationException e) {
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            log.warn("이미지 전처리 실패, 원본 업로드: fileName={}, error={}",
+                    validatedFile.originalFilename(), e.getMessage());
+            return file.getResource();
+        } finally {
+            decodePermits.release();
+        }
+    }
+
+    /**
+     * 긴 변이 maxDimension을 넘으면 축소 후 재인코딩한 바이트를, 넘지 않으면 null을 반환합니다.
+     */
+    private byte[] downscale(MultipartFile file, String extension, int maxDimension) throws IOException {
+        int orientation = "png".equals(extension) ? 1 : readExifOrientation(file);
+
+        try (InputStream inputStream = file.getInputStream();
+             ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInputStream);
+            if (!readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInputStream, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+
+                // 압축 폭탄 방지: 디코딩 전에 헤더의 해상도로 검사
+                if ((long) width * height > properties.maxPixels()) {
+                    log.warn("이미지 해상도 초과: width={}, height={}, maxPixels={}", width, height, properties.maxPixels());
+                    throw new ValidationException("이미지 해상도가 너무 큽니다");
+                }
+
+                int longSide = Math.max(width, height);
+                if (longSide <= maxDimension) {
+                    return null;
+                }
+
+                // 목표 크기의 2배 이상을 유지하는 선에서 서브샘플링 디코딩 (힙 사용량 감소)
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, longSide / (maxDimension * 2));
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                BufferedImage decoded = reader.read(0, param);
+
+                double scale = (double) maxDimension / Math.max(decoded.getWidth(), decoded.getHeight());
+                int targetWidth = Math.max(1, (int) Math.round(decoded.getWidth() * scale));
+                int targetHeight = Math.max(1, (int) Math.round(decoded.getHeight() * scale));
+                boolean keepAlpha = "png".equals(extension) && decoded.getColorModel().hasAlpha();
+
+                BufferedImage resized = resize(decoded, targetWidth, targetHeight, keepAlpha);
+                BufferedImage oriented = applyOrientation(resized, orientation, keepAlpha);
+                return encode(oriented, extension);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 절반씩 단계적으로 축소하여 단일 바이리니어 축소의 계단 현상을 줄인다.
+    private BufferedImage resize(BufferedImage source, int targetWidth, int targetHeight, boolean keepAlpha) {
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            current = draw(current, width, height, keepAlpha, null);
+        } while (width != targetWidth || height != targetHeight);
+
+        return current;
+    }
+
+    private BufferedImage applyOrientation(BufferedImage image, int orientation, boolean keepAlpha) {
+        if (orientation <= 1 || orientation > 8) {
+            return image;
+        }
+
+        int w = image.getWidth();
+        int h = image.getHeight();
+        AffineTransform transform = new AffineTransform();
+        switch (orientation) {
+            case 2 -> { transform.scale(-1, 1); transform.translate(-w, 0); }
+            case 3 -> { transform.translate(w, h); transform.rotate(Math.PI); }
+            case 4 -> { transform.scale(1, -1); transform.translate(0, -h); }
+            case 5 -> { transform.rotate(-Math.PI / 2); transform.scale(-1, 1); }
+            case 6 -> { transform.translate(h, 0); transform.rotate(Math.PI / 2); }
+            case 7 -> { transform.translate(h, w); transform.rotate(Math.PI / 2); transform.scale(-1, 1); }
+            case 8 -> { transform.translate(0, w); transform.rotate(3 * Math.PI / 2); }
+            default -> { }
+        }
+
+        boolean swapsAxes = orientation >= 5;
+        return draw(image, swapsAxes ? h : w, swapsAxes ? w : h, keepAlpha, transform);
+    }
+
+    private BufferedImage draw(BufferedImage source, int width, int height, boolean keepAlpha, AffineTransform transform) {
+        BufferedImage target = new BufferedImage(width, height,
+                keepAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            if (transform != null) {
+                graphics.drawImage(source, transform, null);
+            } else {
+                graphics.drawImage(source, 0, 0, width, height, null);
+            }
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    // 메타데이터를 넘기지 않고 인코딩하므로 EXIF/ICC 등 부가 정보는 제거된다.
+    private byte[] encode(BufferedImage image, String extension) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        if ("png".equals(extension)) {
+            ImageIO.write(image, "png", outputStream);
+            return outputStream.toByteArray();
+        }
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+            writer.setOutput(imageOutputStream);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(properties.jpegQuality());
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * JPEG APP1(Exif) 세그먼트에서 Orientation(0x0112) 값을 읽습니다. 없으면 1(정방향)을 반환합니다.
+     */
+    private int readExifOrientation(MultipartFile file) throws IOException {
+        byte[] header;
+        try (InputStream inputStream = file.getInputStream()) {
+            header = inputStream.readNBytes(EXIF_SCAN_LENGTH);
+        }
+        return ExifOrientationReader.read(header);
+    }
+
+    /**
+     * 파일명을 유지하는 ByteArrayResource (multipart 파트의 filename으로 사용)
+     */
+    private static class NamedByteArrayResource extends ByteArrayResource {
+
+        private final String filename;
+
+        NamedByteArrayResource(byte[] byteArray, String filename) {
+            super(byteArray);
+            this.filename = filename;
+        }
+
+        @Override
+        public String getFilename() {
+            return filename;
+        }
+    }
+}
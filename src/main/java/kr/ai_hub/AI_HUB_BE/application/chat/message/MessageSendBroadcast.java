@@ -0,0 +1,238 @@
+package kr.ai_hub.AI_HUB_BE.application.chat.message;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 하나의 AI 응답 생성을 여러 SSE 연결로 전달하는 emitter
+ * <p>
+ * 응답 생성 스레드가 일반 SseEmitter처럼 사용하며, MVC 핸들러에 직접 반환되지 않습니다.
+ * 보낸 이벤트를 기록해 두었다가 나중에 연결된 재시도 요청에 순서대로 재생한 뒤 이후 이벤트를 함께 전달합니다.
+ * 연속된 delta 이벤트는 하나로 합쳐 기록하고 heartbeat 같은 주석 이벤트는 기록하지 않으므로,
+ * 생성이 끝난 뒤의 재생 기록은 started, 최종 본문 delta 하나, 종료 이벤트로만 구성됩니다.
+ * 합쳐진 delta는 응답 생성이 저장에 쓰는 본문 버퍼({@link #content()})를 그대로 재생하므로 본문을 따로 복제하지 않습니다.
+ * 특정 연결의 전송 실패는 그 연결만 분리하므로 원래 연결이 끊겨도 응답 생성은 끝까지 진행됩니다.
+ * </p>
+ * <p>
+ * 기록과 구독자 목록은 이 객체의 모니터로 보호하고, 구독자 쓰기는 모니터 밖에서 구독자별 잠금으로 수행합니다.
+ * 느린 연결 하나가 다른 재시도의 연결이나 기록을 막지 않으며, 구독자마다 재생 뒤에 이후 이벤트가 오는 순서는 유지됩니다.
+ * </p>
+ */
+@Slf4j
+public class MessageSendBroadcast extends SseEmitter {
+
+    private static final String DELTA_EVENT_PREFIX = "event:delta\ndata:";
+    private static final String EVENT_TERMINATOR = "\n\n";
+    private static final String DATA_LINE_BREAK = "\ndata:";
+
+    private final List<Supplier<Set<DataWithMediaType>>> history = new ArrayList<>();
+    private final ChunkedContent content = new ChunkedContent();
+    private final List<Subscriber> subscribers = new ArrayList<>();
+    private final Runnable onFailure;
+
+    private boolean deltaRecorded;
+    private boolean completed;
+    private Throwable failure;
+
+    MessageSendBroadcast(Runnable onFailure) {
+        this.onFailure = onFailure;
+    }
+
+    /**
+     * 지금까지의 이벤트를 재생하고, 생성이 진행 중이면 이후 이벤트도 전달하도록 연결합니다.
+     */
+    public void attach(SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(emitter);
+        List<Set<DataWithMediaType>> replay;
+        Throwable terminalFailure;
+        boolean terminalCompleted;
+        synchronized (this) {
+            replay = history.stream().map(Supplier::get).toList();
+            terminalFailure = failure;
+            terminalCompleted = completed;
+            if (terminalFailure == null && !terminalCompleted) {
+                subscribers.add(subscriber);
+            }
+            // 모니터를 놓기 전에 잠가 두어 이후 이벤트가 재생보다 먼저 전달되지 않도록 함
+            subscriber.lock.lock();
+        }
+        try {
+            for (Set<DataWithMediaType> event : replay) {
+                if (!subscriber.deliver(event)) {
+                    detach(subscriber);
+                    return;
+                }
+            }
+            if (terminalFailure != null) {
+                subscriber.completeWithError(terminalFailure);
+            } else if (terminalCompleted) {
+                subscriber.complete();
+            } else {
+                emitter.onCompletion(() -> detach(subscriber));
+            }
+        } finally {
+            subscriber.lock.unlock();
+        }
+    }
+
+    public synchronized boolean isFinished() {
+        return completed || failure != null;
+    }
+
+    /**
+     * 지금까지 전달한 delta 본문을 누적한 버퍼
+     * <p>
+     * 응답 생성 스레드가 send로만 채우며, 생성이 끝난 뒤(더 이상 delta를 보내지 않을 때) 저장용으로 읽습니다.
+     * </p>
+     */
+    ChunkedContent content() {
+        return content;
+    }
+
+    @Override
+    public void send(SseEventBuilder builder) throws IOException {
+        Set<DataWithMediaType> event = builder.build();
+        List<Subscriber> targets;
+        synchronized (this) {
+            record(event);
+            targets = List.copyOf(subscribers);
+        }
+        for (Subscriber subscriber : targets) {
+            if (!subscriber.deliver(event)) {
+                detach(subscriber);
+            }
+        }
+    }
+
+    @Override
+    public void complete() {
+        List<Subscriber> targets;
+        synchronized (this) {
+            completed = true;
+            targets = List.copyOf(subscribers);
+            subscribers.clear();
+        }
+        targets.forEach(Subscriber::complete);
+    }
+
+    @Override
+    public void completeWithError(Throwable ex) {
+        List<Subscriber> targets;
+        synchronized (this) {
+            failure = ex;
+            // 실패한 키는 제거되어 재생될 일이 없으므로 기록을 바로 해제
+            history.clear();
+            targets = List.copyOf(subscribers);
+            subscribers.clear();
+        }
+        onFailure.run();
+        targets.forEach(subscriber -> subscriber.completeWithError(ex));
+    }
+
+    private void record(Set<DataWithMediaType> event) {
+        if (isComment(event)) {
+            return;
+        }
+        String delta = deltaText(event);
+        if (delta == null) {
+            history.add(() -> event);
+            return;
+        }
+        // 첫 delta 위치에 누적 본문을 재생하는 항목 하나만 둠
+        if (!deltaRecorded) {
+            deltaRecorded = true;
+            history.add(() -> SseEmitter.event().name("delta").data(content.toString()).build());
+        }
+        content.append(delta);
+    }
+
+    private synchronized void detach(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+    }
+
+    private static boolean isComment(Set<DataWithMediaType> event) {
+        return event.size() == 1
+                && event.iterator().next().getData() instanceof String text
+                && text.startsWith(":");
+    }
+
+    /**
+     * 문자열 데이터 하나만 담은 delta 이벤트면 그 본문을, 아니면 null을 반환합니다.
+     */
+    private static String deltaText(Set<DataWithMediaType> event) {
+        if (event.size() != 3) {
+            return null;
+        }
+        List<DataWithMediaType> parts = List.copyOf(event);
+        if (DELTA_EVENT_PREFIX.equals(parts.get(0).getData())
+                && parts.get(1).getData() instanceof String delta
+                && EVENT_TERMINATOR.equals(parts.get(2).getData())) {
+            // 여러 줄 데이터는 빌더가 줄마다 data: 를 붙여 두므로 원문으로 되돌려 합침
+            return delta.replace(DATA_LINE_BREAK, "\n");
+        }
+        return null;
+    }
+
+    /**
+     * 구독 연결 하나. 쓰기와 종료를 순서대로 수행하고, 전송에 실패하면 이후 쓰기와 종료를 건너뜁니다.
+     */
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final ReentrantLock lock = new ReentrantLock();
+        private boolean closed;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private boolean deliver(Set<DataWithMediaType> event) {
+            lock.lock();
+            try {
+                if (closed) {
+                    return false;
+                }
+                emitter.send(event);
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트 연결이 끊긴 경우 해당 연결만 분리하고 생성은 계속 진행
+                log.debug("SSE 구독 연결 분리: {}", e.getMessage());
+                closed = true;
+                return false;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void complete() {
+            lock.lock();
+            try {
+                if (!closed) {
+                    closed = true;
+                    emitter.complete();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void completeWithError(Throwable ex) {
+            lock.lock();
+            try {
+                if (!closed) {
+                    closed = true;
+                    emitter.completeWithError(ex);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package kr.ai_hub.AI_HUB_BE.application.chat.message;
+
+import kr.ai_hub.AI_HUB_BE.application.chat.message.dto.SendMessageRequest;
+import kr.ai_hub.AI_HUB_BE.global.error.exception.ValidationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 메시지 전송 Idempotency-Key 저장소
+ * <p>
+ * (사용자 ID, 키) 단위로 응답 생성 브로드캐스트를 TTL 동안 보관합니다.
+ * 같은 키로 재시도하면 진행 중인 생성에 연결되거나 완료된 결과가 재생되어 AI 서버를 다시 호출하지 않습니다.
+ * 생성이 실패하면(보상 트랜잭션으로 과금 없음) 키를 제거해 재시도가 새로 실행되도록 합니다.
+ * 인스턴스 로컬 저장소이므로 다른 인스턴스로 간 재시도에는 적용되지 않습니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class MessageSendIdempotencyRegistry {
+
+    static final int MAX_KEY_LENGTH = 255;
+
+    private final ConcurrentMap<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+
+    @Autowired
+    public MessageSendIdempotencyRegistry(@Value("${chat.idempotency.ttl:PT10M}") Duration ttl) {
+        this(ttl, System::nanoTime);
+    }
+
+    MessageSendIdempotencyRegistry(Duration ttl, LongSupplier nanoClock) {
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 키를 등록합니다. 유효한 기존 등록이 있으면 그 등록을 반환합니다 (created=false).
+     *
+     * @throws ValidationException 키 형식이 잘못되었거나 같은 키로 다른 요청을 보낸 경우
+     */
+    public Registration register(Integer userId, String idempotencyKey, UUID roomId, SendMessageRequest request) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new ValidationException("Idempotency-Key는 1~" + MAX_KEY_LENGTH + "자여야 합니다");
+        }
+
+        Key key = new Key(userId, idempotencyKey);
+        long now = nanoClock.getAsLong();
+        Entry candidate = new Entry(key, roomId, request, now + ttlNanos);
+        Entry entry = entries.compute(key, (ignored, existing) ->
+                existing != null && !existing.isExpired(now) ? existing : candidate);
+
+        if (entry != candidate && !entry.matches(roomId, request)) {
+            log.warn("Idempotency-Key 재사용 요청 불일치: userId={}, roomId={}", userId, roomId);
+            throw new ValidationException("같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다");
+        }
+        return new Registration(entry, entry == candidate);
+    }
+
+    @Scheduled(fixedDelayString = "${chat.idempotency.eviction-interval:PT1M}")
+    public void evictExpired() {
+        long now = nanoClock.getAsLong();
+        int before = entries.size();
+        // 진행 중인 생성은 완료될 때까지 유지 (재시도가 중복 생성하지 않도록)
+        entries.values().removeIf(entry -> entry.isExpired(now) && entry.broadcast.isFinished());
+        int evicted = before - entries.size();
+        if (evicted > 0) {
+            log.debug("만료된 Idempotency-Key 정리: evicted={}, remaining={}", evicted, entries.size());
+        }
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * 등록 결과
+     *
+     * @param created 새로 등록되어 호출자가 응답 생성을 시작해야 하면 true
+     */
+    public record Registration(Entry entry, boolean created) {
+
+        public MessageSendBroadcast broadcast() {
+            return entry.broadcast;
+        }
+
+        /**
+         * 응답 생성을 시작하지 못한 등록을 제거합니다.
+         */
+        public void discard() {
+            entry.remove();
+        }
+    }
+
+    private record Key(Integer userId, String idempotencyKey) {
+    }
+
+    public final class Entry {
+
+        private final Key key;
+        private final UUID roomId;
+        private final SendMessageRequest request;
+        private final long expiresAtNanos;
+        private final MessageSendBroadcast broadcast;
+
+        private Entry(Key key, UUID roomId, SendMessageRequest request, long expiresAtNanos) {
+            this.key = key;
+            this.roomId = roomId;
+            this.request = request;
+            this.expiresAtNanos = expiresAtNanos;
+            this.broadcast = new MessageSendBroadcast(this::remove);
+        }
+
+        private boolean matches(UUID roomId, SendMessageRequest request) {
+            return this.roomId.equals(roomId) && this.request.equals(request);
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+
+        private void remove() {
+            entries.remove(key, this);
+        }
+    }
+}
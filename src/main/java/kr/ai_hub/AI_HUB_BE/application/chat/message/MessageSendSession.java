@@ -0,0 +1,15 @@
+package kr.ai_hub.AI_HUB_BE.application.chat.message;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 새로 시작할 응답 생성 작업
+ *
+ * @param permit 채팅방 전송 권한 (생성이 끝나면 close)
+ * @param target 응답 생성 스레드가 이벤트를 보낼 emitter
+ */
+public record MessageSendSession(
+        ChatRoomSendSequencer.Permit permit,
+        SseEmitter target
+) {
+}
@@ -2,12 +2,14 @@ package kr.ai_hub.AI_HUB_BE.application.chat.message;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.ai_hub.AI_HUB_BE.application.aimodel.AIModelRegistry;
+import kr.ai_hub.AI_HUB_BE.application.chat.message.ConversationContextBuilder.ContextMessage;
 import kr.ai_hub.AI_HUB_BE.application.chat.message.dto.*;
 import kr.ai_hub.AI_HUB_BE.domain.aimodel.AIModel;
-import kr.ai_hub.AI_HUB_BE.domain.aimodel.AIModelRepository;
 import kr.ai_hub.AI_HUB_BE.domain.chat.ChatRoom;
 import kr.ai_hub.AI_HUB_BE.domain.chat.ChatRoomRepository;
 import kr.ai_hub.AI_HUB_BE.domain.chat.Message;
+import kr.ai_hub.AI_HUB_BE.domain.chat.MessageListItem;
 import kr.ai_hub.AI_HUB_BE.domain.chat.MessageRepository;
 import kr.ai_hub.AI_HUB_BE.domain.user.User;
 import kr.ai_hub.AI_HUB_BE.domain.user.UserRepository;
@@ -17,25 +19,38 @@ import kr.ai_hub.AI_HUB_BE.global.auth.SecurityContextHelper;
 import kr.ai_hub.AI_HUB_BE.global.error.exception.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.http.client.MultipartBodyBuilder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -46,13 +61,24 @@ public class MessageService {
     private final MessageRepository messageRepository;
     private final ChatRoomRepository chatRoomRepository;
     private final UserRepository userRepository;
-    private final AIModelRepository aiModelRepository;
+    private final AIModelRegistry aiModelRegistry;
     private final UserWalletRepository userWalletRepository;
     private final MessageTransactionService messageTransactionService;
     private final SecurityContextHelper securityContextHelper;
     private final WebClient aiServerWebClient;
     private final ObjectMapper objectMapper;
     private final FileValidationService fileValidationService;
+    private final AiFileCacheService aiFileCacheService;
+    private final ImagePreprocessingService imagePreprocessingService;
+    private final ChatRoomSendSequencer chatRoomSendSequencer;
+    private final MessageSendIdempotencyRegistry messageSendIdempotencyRegistry;
+    private final ConversationContextBuilder conversationContextBuilder;
+    private final TokenEstimator tokenEstimator;
+
+    private static final int STREAM_UPLOAD_BUFFER_SIZE = 64 * 1024;
+
+    @Value("${ai-server.stream-upload.timeout:PT2M}")
+    private Duration streamUploadTimeout;
 
     /**
      * 특정 채팅방의 메시지 목록을 페이지네이션하여 조회합니다.
@@ -71,7 +97,8 @@ public class MessageService {
             throw new ForbiddenException("해당 채팅방의 메시지에 접근할 권한이 없습니다");
         }
 
-        Page<Message> messages = messageRepository.findByChatRoom(chatRoom, pageable);
+        // 긴 content를 포함한 목록을 엔티티 스냅샷 없이 조회하기 위해 프로젝션 사용
+        Page<MessageListItem> messages = messageRepository.findListItemsByChatRoom(chatRoom, pageable);
 
         return messages.map(MessageListItemResponse::from);
     }
@@ -83,7 +110,7 @@ public class MessageService {
         Integer userId = securityContextHelper.getCurrentUserId();
         log.debug("메시지 {} 상세 조회 by 사용자 {}", messageId, userId);
 
-        Message message = messageRepository.findById(messageId)
+        Message message = messageRepository.findWithChatRoomByMessageId(messageId)
                 .orElseThrow(() -> new MessageNotFoundException("메시지를 찾을 수 없습니다: " + messageId));
 
         // 권한 확인: 메시지가 속한 채팅방의 소유자만 조회 가능
@@ -95,14 +122,73 @@ public class MessageService {
         return MessageResponse.from(message);
     }
 
+    /**
+     * 채팅방의 메시지 전송 권한을 획득합니다.
+     * 같은 채팅방에서 응답을 생성 중이면 IllegalSystemStateException(409)을 던집니다.
+     * 다른 사용자의 채팅방 ID로 잠금을 점유할 수 없도록 채팅방 소유자를 먼저 확인합니다.
+     * 반환된 권한은 sendMessage가 끝난 뒤 close 해야 합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ChatRoomSendSequencer.Permit acquireSendPermit(UUID roomId) {
+        verifyRoomOwner(roomId, securityContextHelper.getCurrentUserId());
+        return chatRoomSendSequencer.acquire(roomId);
+    }
+
+    /**
+     * Idempotency-Key가 있는 메시지 전송을 등록합니다.
+     * 같은 키의 전송이 이미 있으면 emitter를 그 전송에 연결(진행 중이면 이어받기, 완료되었으면 재생)하고
+     * 빈 값을 반환합니다. 이 경우 AI 서버를 다시 호출하지 않습니다.
+     * 새 키이면 채팅방 전송 권한을 획득하고 응답 생성 스레드가 사용할 작업을 반환합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<MessageSendSession> registerIdempotentSend(UUID roomId, SendMessageRequest request,
+                                                               String idempotencyKey, SseEmitter emitter) {
+        Integer userId = securityContextHelper.getCurrentUserId();
+        MessageSendIdempotencyRegistry.Registration registration =
+                messageSendIdempotencyRegistry.register(userId, idempotencyKey, roomId, request);
+
+        if (!registration.created()) {
+            log.info("Idempotency-Key 재시도를 기존 전송에 연결: userId={}, roomId={}", userId, roomId);
+            registration.broadcast().attach(emitter);
+            return Optional.empty();
+        }
+
+        ChatRoomSendSequencer.Permit permit;
+        try {
+            verifyRoomOwner(roomId, userId);
+            permit = chatRoomSendSequencer.acquire(roomId);
+        } catch (RuntimeException e) {
+            registration.discard();
+            throw e;
+        }
+        registration.broadcast().attach(emitter);
+        return Optional.of(new MessageSendSession(permit, registration.broadcast()));
+    }
+
+    /**
+     * 채팅방이 존재하고 요청한 사용자의 것인지 확인합니다.
+     */
+    private void verifyRoomOwner(UUID roomId, Integer userId) {
+        ChatRoom chatRoom = chatRoomRepository.findById(roomId)
+                .orElseThrow(() -> new RoomNotFoundException("채팅방을 찾을 수 없습니다: " + roomId));
+
+        if (!chatRoom.getUser().getUserId().equals(userId)) {
+            log.warn("채팅방 전송 권한 없음: roomId={}, userId={}", roomId, userId);
+            throw new ForbiddenException("해당 채팅방에 접근할 권한이 없습니다");
+        }
+    }
+
     /**
      * 메시지를 전송하고 AI 응답을 SSE로 스트리밍합니다.
      * 리팩토링된 오케스트레이션 메서드 - 각 단계별 책임을 분리된 메서드에 위임합니다.
+     * AI 응답 스트리밍 동안 DB 커넥션을 점유하지 않도록 트랜잭션 없이 실행하며,
+     * DB 쓰기는 MessageTransactionService의 짧은 트랜잭션에서 처리합니다.
      *
      * @param roomId  채팅방 ID
      * @param request 메시지 전송 요청
      * @param emitter SSE Emitter
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void sendMessage(UUID roomId, SendMessageRequest request, SseEmitter emitter) {
         Message userMessage = null;
 
@@ -119,8 +205,8 @@ public class MessageService {
             // SSE 시작 알림
             emitter.send(SseEmitter.event().name("started").data("Message sending started"));
 
-            // 3. 요청 바디 구성
-            Map<String, Object> requestBody = buildRequestBody(request, context.aiModel());
+            // 3. 요청 바디 구성 (previous_response_id로 이어갈 수 없으면 이전 대화 문맥 포함)
+            Map<String, Object> requestBody = buildRequestBody(request, context.aiModel(), context.conversationContext());
 
             // 4. AI 서버로부터 SSE 스트리밍
             AiStreamingResult streamResult = streamAiResponse(requestBody, emitter);
@@ -131,6 +217,8 @@ public class MessageService {
                     userMessage, streamResult.aiResponseId(), streamResult.fullContent(),
                     streamResult.usage()
             );
+            conversationContextBuilder.appendTurn(roomId, request.previousResponseId(), request.message(),
+                    streamResult.fullContent(), streamResult.aiResponseId(), context.aiModel().getModelId());
 
             // 6. 완료 이벤트 전달
             sendCompletionEvent(emitter, userMessage, streamResult);
@@ -194,78 +282,103 @@ public class MessageService {
 
     /**
      * AI 서버로부터 SSE 스트리밍 응답을 처리합니다.
+     * 응답 바디를 문자열로 변환하지 않고 DataBuffer 단위로 AiStreamFrameDecoder에 넘겨 필요한 필드만 읽습니다.
      */
     private AiStreamingResult streamAiResponse(Map<String, Object> requestBody, SseEmitter emitter)
             throws JsonProcessingException, IOException, IllegalStateException {
-        String aiResponseId = null;
-        StringBuilder fullContent = new StringBuilder();
-        AiUsage usage = null;
+        StreamingResponseCollector collector = new StreamingResponseCollector(emitter);
+        AiStreamFrameDecoder decoder = new AiStreamFrameDecoder(objectMapper.getFactory(), collector);
 
-        var stream = aiServerWebClient.post()
+        Flux<DataBuffer> body = aiServerWebClient.post()
                 .uri("/ai/chat")
                 .contentType(MediaType.APPLICATION_JSON)
                 .accept(MediaType.TEXT_EVENT_STREAM)
                 .bodyValue(requestBody)
                 .retrieve()
-                .bodyToFlux(String.class)
-                .toStream();
+                .bodyToFlux(DataBuffer.class)
+                // 중간에 실패해 구독이 취소되면 미리 받아둔 버퍼도 해제
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+
+        try (Stream<DataBuffer> buffers = body.toStream()) {
+            for (DataBuffer buffer : (Iterable<DataBuffer>) buffers::iterator) {
+                try {
+                    decoder.decode(buffer);
+                } finally {
+                    DataBufferUtils.release(buffer);
+                }
+            }
+        }
+        decoder.finish();
 
-        for (String line : (Iterable<String>) stream::iterator) {
-            if (line == null || line.isBlank()) {
-                continue;
+        return new AiStreamingResult(collector.aiResponseId, collector.fullContent, collector.usage);
+    }
+
+    /**
+     * AI 서버 스트림 이벤트를 모아 클라이언트에 delta를 전달합니다.
+     */
+    private static final class StreamingResponseCollector implements AiStreamEventHandler {
+
+        private final SseEmitter emitter;
+        private final ChunkedContent fullContent;
+        // 멱등 전송이면 broadcast가 delta를 보내면서 재생용으로 누적하는 버퍼를 그대로 저장에 사용
+        private final boolean contentSharedWithEmitter;
+        private String aiResponseId;
+        private AiUsage usage;
+
+        private StreamingResponseCollector(SseEmitter emitter) {
+            this.emitter = emitter;
+            if (emitter instanceof MessageSendBroadcast broadcast) {
+                this.fullContent = broadcast.content();
+                this.contentSharedWithEmitter = true;
+            } else {
+                this.fullContent = new ChunkedContent();
+                this.contentSharedWithEmitter = false;
             }
-            SseEvent event = objectMapper.readValue(line, SseEvent.class);
-
-            switch (event.type()) {
-                case "response.created":
-                    log.info("AI 서버 response.created 이벤트 수신");
-                    if (event.response() != null) {
-                        aiResponseId = event.response().id();
-                        log.debug("AI 응답 생성: id={}", aiResponseId);
-                    }
-                    break;
-
-                case "response.output_text.delta":
-                    if (event.delta() != null) {
-                        fullContent.append(event.delta());
-                        // 클라이언트에게 delta 전달
-                        emitter.send(SseEmitter.event()
-                                .name("delta")
-                                .data(event.delta()));
-                    }
-                    break;
-
-                case "response.completed":
-                    log.info("AI 서버 response.completed 이벤트 수신");
-                    if (event.response() != null) {
-                        usage = event.response().usage();
-                        if (usage != null) {
-                            log.info("AI 응답 완료: tokens={}", usage.totalTokens());
-                        } else {
-                            log.error("usage가 null입니다! response={}", event.response());
-                        }
-                    } else {
-                        log.error("response 객체가 null입니다!");
-                    }
-                    break;
-
-                case "error":
-                    log.info("AI 서버 error 이벤트 수신");
-                    if (event.error() != null) {
-                        log.error("AI 서버 에러: {}", event.error().message());
-                        throw new AIServerException(event.error().message());
-                    }
-                    break;
+        }
+
+        @Override
+        public void onCreated(String responseId) {
+            log.info("AI 서버 response.created 이벤트 수신");
+            aiResponseId = responseId;
+            log.debug("AI 응답 생성: id={}", aiResponseId);
+        }
+
+        @Override
+        public void onDelta(String delta) throws IOException {
+            if (!contentSharedWithEmitter) {
+                fullContent.append(delta);
             }
+            // 클라이언트에게 delta 전달
+            emitter.send(SseEmitter.event()
+                    .name("delta")
+                    .data(delta));
         }
 
-        return new AiStreamingResult(aiResponseId, fullContent.toString(), usage);
+        @Override
+        public void onCompleted(AiUsage completedUsage) {
+            log.info("AI 서버 response.completed 이벤트 수신");
+            usage = completedUsage;
+            if (usage != null) {
+                log.info("AI 응답 완료: tokens={}", usage.totalTokens());
+            } else {
+                log.error("usage가 null입니다! responseId={}", aiResponseId);
+            }
+        }
+
+        @Override
+        public void onError(String code, String message) {
+            log.info("AI 서버 error 이벤트 수신");
+            log.error("AI 서버 에러: code={}, message={}", code, message);
+            throw new AIServerException(message);
+        }
     }
 
     /**
      * AI 서버로 전송할 요청 바디를 구성합니다.
+     * 문맥이 있으면 previous_response_id 대신 context(이전 메시지 목록)를 전달합니다.
      */
-    private Map<String, Object> buildRequestBody(SendMessageRequest request, AIModel aiModel) {
+    private Map<String, Object> buildRequestBody(SendMessageRequest request, AIModel aiModel,
+                                                 Optional<List<ContextMessage>> conversationContext) {
         Map<String, Object> requestBody = new HashMap<>();
         requestBody.put("message", request.message());
         requestBody.put("model", aiModel.getModelName());
@@ -273,17 +386,67 @@ public class MessageService {
         if (request.fileId() != null) {
             requestBody.put("file_id", request.fileId());
         }
-        if (request.previousResponseId() != null) {
+        if (conversationContext.isPresent()) {
+            requestBody.put("context", conversationContext.get().stream()
+                    .map(message -> Map.of("role", message.role(), "content", message.content()))
+                    .toList());
+        } else if (request.previousResponseId() != null) {
             requestBody.put("previous_response_id", request.previousResponseId());
         }
 
         return requestBody;
     }
 
+    /**
+     * 메시지 전송 전 예상 비용을 조회합니다.
+     * 입력 토큰 수를 로컬에서 추정하므로 AI 서버를 호출하지 않습니다.
+     * 출력 토큰과 previous_response_id로 이어지는 이전 대화의 비용은 알 수 없어 포함하지 않으며,
+     * 입력 토큰 수도 TokenEstimator의 근사치라 실제 입력 비용보다 적거나 많을 수 있습니다.
+     * 클래스 기본 읽기 전용 트랜잭션(복제본 라우팅)에서 실행되므로, 모델 전환 문맥은 캐시와 문맥 창 메트릭을 바꾸지 않고 구성합니다.
+     */
+    public MessageQuoteResponse quoteMessage(UUID roomId, SendMessageRequest request) {
+        ValidatedMessageContext context = loadMessageContext(roomId, request, true);
+        BigDecimal balance = context.wallet().getBalance();
+
+        return MessageQuoteResponse.builder()
+                .modelId(context.aiModel().getModelId())
+                .estimatedInputTokens(context.estimatedInputTokens())
+                .estimatedInputCoin(context.estimatedInputCoin())
+                .balance(balance)
+                .affordable(balance.compareTo(BigDecimal.ZERO) > 0
+                        && context.estimatedInputCoin().compareTo(balance) <= 0)
+                .build();
+    }
+
     /**
      * 메시지 전송 요청을 검증하고 필요한 리소스를 조회합니다.
      */
     private ValidatedMessageContext validateMessageRequest(UUID roomId, SendMessageRequest request) {
+        ValidatedMessageContext context = loadMessageContext(roomId, request, false);
+        UserWallet wallet = context.wallet();
+
+        if (wallet.getBalance().compareTo(BigDecimal.ZERO) <= 0) {
+            log.warn("코인 잔액이 0 이하 입니다: userId={}, balance={}", context.user().getUserId(), wallet.getBalance());
+            throw new InsufficientBalanceException("코인 잔액이 부족합니다");
+        }
+
+        // 입력 비용만으로 잔액을 넘으면 응답을 받아도 과금할 수 없으므로 AI 서버 호출 전에 거절
+        if (context.estimatedInputCoin().compareTo(wallet.getBalance()) > 0) {
+            log.warn("예상 입력 비용이 잔액 초과: userId={}, estimatedTokens={}, estimatedCoin={}, balance={}",
+                    context.user().getUserId(), context.estimatedInputTokens(),
+                    context.estimatedInputCoin(), wallet.getBalance());
+            throw new InsufficientBalanceException("예상 입력 비용이 코인 잔액을 초과합니다");
+        }
+
+        return context;
+    }
+
+    /**
+     * 전송에 필요한 리소스를 조회하고 입력 토큰/코인을 추정합니다 (잔액 검증 제외).
+     *
+     * @param preview 예상 비용 조회면 true (문맥 창 캐시/메트릭에 반영하지 않음)
+     */
+    private ValidatedMessageContext loadMessageContext(UUID roomId, SendMessageRequest request, boolean preview) {
         Integer userId = securityContextHelper.getCurrentUserId();
 
         // 사용자 조회
@@ -301,19 +464,30 @@ public class MessageService {
         }
 
         // AI 모델 조회
-        AIModel aiModel = aiModelRepository.findById(request.modelId())
+        AIModel aiModel = aiModelRegistry.findById(request.modelId())
                 .orElseThrow(() -> new ModelNotFoundException("AI 모델을 찾을 수 없습니다: " + request.modelId()));
 
-        // 지갑 조회 및 잔고 검증
+        // 지갑 조회
         UserWallet wallet = userWalletRepository.findByUser(user)
                 .orElseThrow(() -> new WalletNotFoundException("지갑을 찾을 수 없습니다"));
 
-        if (wallet.getBalance().compareTo(BigDecimal.ZERO) <= 0) {
-            log.warn("코인 잔액이 0 이하 입니다: userId={}, balance={}", userId, wallet.getBalance());
-            throw new InsufficientBalanceException("코인 잔액이 부족합니다");
-        }
-
-        return new ValidatedMessageContext(user, chatRoom, aiModel, wallet);
+        // previous_response_id로 이어갈 수 없으면 이전 대화 문맥 구성 (입력 토큰에 포함)
+        Optional<List<ContextMessage>> conversationContext = preview
+                ? conversationContextBuilder.previewIfNeeded(chatRoom, aiModel, request.previousResponseId())
+                : conversationContextBuilder.buildIfNeeded(chatRoom, aiModel, request.previousResponseId());
+
+        // 문맥 메시지의 tokens는 예산 자르기용 GENERIC(과대) 추정이므로 비용은 이번 모델 계열 기준으로 다시 계산
+        TokenEstimator.TokenizerFamily family = TokenEstimator.TokenizerFamily.of(aiModel.getModelName());
+        int estimatedInputTokens = tokenEstimator.estimate(family, request.message())
+                + conversationContext.map(messages -> messages.stream()
+                        .mapToInt(message -> tokenEstimator.estimateMessage(family, message.content()))
+                        .sum())
+                .orElse(0);
+        BigDecimal estimatedInputCoin =
+                MessageTransactionService.calculateCoin(estimatedInputTokens, aiModel.getInputPricePer1m());
+
+        return new ValidatedMessageContext(user, chatRoom, aiModel, wallet,
+                conversationContext, estimatedInputTokens, estimatedInputCoin);
     }
 
     /**
@@ -323,57 +497,41 @@ public class MessageService {
      * @param modelId AI 모델 ID
      * @return 파일 업로드 응답 (file ID)
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public FileUploadResponse uploadFile(MultipartFile file, Integer modelId) {
         log.info("파일 업로드 시작: fileName={}, size={}, modelId={}",
                 file.getOriginalFilename(), file.getSize(), modelId);
 
-        // 파일 검증
-        fileValidationService.validateFile(file);
+        // 파일 검증 (콘텐츠 해시 계산 포함)
+        ValidatedFile validatedFile = fileValidationService.validateFile(file);
 
         // AI 모델 조회
-        AIModel aiModel = aiModelRepository.findById(modelId)
+        AIModel aiModel = aiModelRegistry.findById(modelId)
                 .orElseThrow(() -> new ModelNotFoundException("AI 모델을 찾을 수 없습니다: " + modelId));
         log.debug("AI 모델 조회 성공: modelName={}", aiModel.getModelName());
 
+        // 같은 사용자가 같은 모델에 같은 파일을 업로드한 적이 있으면 AI 서버 업로드 생략
+        Integer userId = securityContextHelper.getCurrentUserId();
+        Optional<String> cachedFileId = aiFileCacheService.findFileId(userId, modelId, validatedFile.contentHash());
+        if (cachedFileId.isPresent()) {
+            log.info("파일 캐시 적중, 업로드 생략: fileId={}, contentHash={}",
+                    cachedFileId.get(), validatedFile.contentHash());
+            return FileUploadResponse.of(cachedFileId.get());
+        }
+
+        // 모델 최대 해상도를 넘는 이미지는 축소 후 재인코딩
+        Resource uploadResource = imagePreprocessingService.preprocess(file, validatedFile, aiModel);
+
         // AI 서버에 파일 업로드
         try {
             // MultipartBodyBuilder를 사용하여 multipart/form-data 요청 생성
             MultipartBodyBuilder builder = new MultipartBodyBuilder();
-            builder.part("file", file.getResource());
-
-            // AI 서버에 POST 요청
-            AiServerResponse<AiUploadData> response = aiServerWebClient.post()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/ai/upload")
-                            .queryParam("model", aiModel.getModelName())
-                            .build())
-                    .contentType(MediaType.MULTIPART_FORM_DATA)
-                    .body(BodyInserters.fromMultipartData(builder.build()))
-                    .retrieve()
-                    .onStatus(
-                            status -> status.is4xxClientError() || status.is5xxServerError(),
-                            clientResponse -> clientResponse.bodyToMono(
-                                    new ParameterizedTypeReference<AiServerResponse<AiUploadData>>() {})
-                                    .flatMap(errorResponse -> {
-                                        String errorMessage = errorResponse.error() != null
-                                                ? errorResponse.error().message()
-                                                : "AI 서버 응답 에러";
-                                        log.error("AI 서버 파일 업로드 실패: {}", errorMessage);
-                                        return Mono.error(new AIServerException(errorMessage));
-                                    })
-                    )
-                    .bodyToMono(new ParameterizedTypeReference<AiServerResponse<AiUploadData>>() {})
-                    .block(Duration.ofSeconds(30));  // 30초 타임아웃 명시
-
-            if (response == null || !response.success() || response.data() == null) {
-                log.error("AI 서버 응답 없음 또는 실패");
-                throw new AIServerException("AI 서버로부터 응답을 받지 못했습니다");
-            }
+            builder.part("file", uploadResource);
 
-            AiUploadData uploadData = response.data();
-            String fileId = uploadData.fileId();
+            String fileId = requestAiUpload(builder, aiModel.getModelName(), Duration.ofSeconds(30));
             log.info("파일 업로드 성공: fileId={}", fileId);
 
+            cacheUploadedFile(userId, aiModel, validatedFile.contentHash(), fileId);
             return FileUploadResponse.of(fileId);
 
         } catch (Exception e) {
@@ -385,6 +543,111 @@ public class MessageService {
         }
     }
 
+    /**
+     * 요청 본문을 버퍼링 없이 AI 서버로 스트리밍 업로드합니다.
+     * <p>
+     * 헤더(Magic Number)는 먼저 읽어 검증하고, 나머지는 고정 크기 버퍼 단위로 읽으면서
+     * 크기 제한 검사와 콘텐츠 해시 계산을 함께 수행합니다. AI 서버로는 chunked 전송되므로
+     * 동시 업로드 수가 늘어도 메모리 사용량은 파일 크기가 아닌 버퍼 크기에 비례합니다.
+     * 이미지 전처리를 적용하지 않으므로 중복 제거 캐시는 조회도 저장도 하지 않습니다.
+     * (캐시는 원본 해시 → 전처리된 파일 ID 매핑이므로, 여기서 저장하면 이후 일반 업로드가 전처리를 건너뛰게 됩니다)
+     * </p>
+     *
+     * @param body          요청 본문 스트림
+     * @param fileName      원본 파일명
+     * @param contentType   요청 Content-Type
+     * @param contentLength 요청 Content-Length (chunked 요청이면 null)
+     * @param modelId       AI 모델 ID
+     * @return 파일 업로드 응답 (file ID)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public FileUploadResponse uploadFileStream(InputStream body, String fileName, String contentType,
+                                               Long contentLength, Integer modelId) {
+        log.info("스트리밍 파일 업로드 시작: fileName={}, contentLength={}, modelId={}",
+                fileName, contentLength, modelId);
+
+        // 파일명/확장자/Content-Type/선언된 크기 및 Magic Number 검증
+        ValidatingUploadStream uploadStream =
+                fileValidationService.validateStream(body, fileName, contentType, contentLength);
+
+        AIModel aiModel = aiModelRegistry.findById(modelId)
+                .orElseThrow(() -> new ModelNotFoundException("AI 모델을 찾을 수 없습니다: " + modelId));
+
+        try {
+            Flux<DataBuffer> content = DataBufferUtils.readInputStream(
+                            () -> uploadStream, DefaultDataBufferFactory.sharedInstance, STREAM_UPLOAD_BUFFER_SIZE)
+                    // 서블릿 입력 스트림의 블로킹 읽기가 Netty 이벤트 루프에서 실행되지 않도록 분리
+                    .subscribeOn(Schedulers.boundedElastic());
+
+            MultipartBodyBuilder builder = new MultipartBodyBuilder();
+            builder.asyncPart("file", content, DataBuffer.class)
+                    .filename(uploadStream.getOriginalFilename())
+                    .contentType(MediaType.parseMediaType(uploadStream.getContentType()));
+
+            String fileId = requestAiUpload(builder, aiModel.getModelName(), streamUploadTimeout);
+            log.info("스트리밍 파일 업로드 성공: fileId={}, size={}", fileId, uploadStream.getBytesRead());
+            return FileUploadResponse.of(fileId);
+
+        } catch (Exception e) {
+            // 크기 제한 초과는 본문 전송 도중 감지되므로 WebClient 예외로 감싸져 전달될 수 있음
+            if (uploadStream.isLimitExceeded()) {
+                throw new ValidationException(String.format("파일 크기가 너무 큽니다. 최대 크기: %dMB",
+                        fileValidationService.getMaxFileSizeMB()));
+            }
+            log.error("스트리밍 파일 업로드 중 에러 발생: {}", e.getMessage(), e);
+            if (e instanceof AIServerException || e instanceof ValidationException) {
+                throw e;
+            }
+            throw new AIServerException("파일 업로드 중 에러가 발생했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * AI 서버 업로드 API를 호출하고 file ID를 반환합니다.
+     */
+    private String requestAiUpload(MultipartBodyBuilder builder, String modelName, Duration timeout) {
+        AiServerResponse<AiUploadData> response = aiServerWebClient.post()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/ai/upload")
+                        .queryParam("model", modelName)
+                        .build())
+                .contentType(MediaType.MULTIPART_FORM_DATA)
+                .body(BodyInserters.fromMultipartData(builder.build()))
+                .retrieve()
+                .onStatus(
+                        status -> status.is4xxClientError() || status.is5xxServerError(),
+                        clientResponse -> clientResponse.bodyToMono(
+                                new ParameterizedTypeReference<AiServerResponse<AiUploadData>>() {})
+                                .flatMap(errorResponse -> {
+                                    String errorMessage = errorResponse.error() != null
+                                            ? errorResponse.error().message()
+                                            : "AI 서버 응답 에러";
+                                    log.error("AI 서버 파일 업로드 실패: {}", errorMessage);
+                                    return Mono.error(new AIServerException(errorMessage));
+                                })
+                )
+                .bodyToMono(new ParameterizedTypeReference<AiServerResponse<AiUploadData>>() {})
+                .block(timeout);
+
+        if (response == null || !response.success() || response.data() == null) {
+            log.error("AI 서버 응답 없음 또는 실패");
+            throw new AIServerException("AI 서버로부터 응답을 받지 못했습니다");
+        }
+
+        return response.data().fileId();
+    }
+
+    /**
+     * 업로드 결과를 중복 제거 캐시에 저장합니다.
+     * 캐시 저장 실패(동시 업로드로 인한 유니크 제약 충돌 등)는 업로드 결과에 영향을 주지 않습니다.
+     */
+    private void cacheUploadedFile(Integer userId, AIModel aiModel, String contentHash, String fileId) {
+        try {
+            aiFileCacheService.put(userId, aiModel, contentHash, fileId);
+        } catch (DataAccessException e) {
+            log.warn("파일 캐시 저장 실패 (무시): contentHash={}, error={}", contentHash, e.getMessage());
+        }
+    }
 
     /**
      * 메시지 요청 검증 결과를 담는 DTO
@@ -393,7 +656,10 @@ public class MessageService {
             User user,
             ChatRoom chatRoom,
             AIModel aiModel,
-            UserWallet wallet
+            UserWallet wallet,
+            Optional<List<ContextMessage>> conversationContext,
+            int estimatedInputTokens,
+            BigDecimal estimatedInputCoin
     ) {}
 
     /**
@@ -401,7 +667,7 @@ public class MessageService {
      */
     private record AiStreamingResult(
             String aiResponseId,
-            String fullContent,
+            ChunkedContent fullContent,
             AiUsage usage
     ) {}
 }
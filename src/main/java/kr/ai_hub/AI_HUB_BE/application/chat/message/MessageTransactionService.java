@@ -6,6 +6,7 @@ import kr.ai_hub.AI_HUB_BE.domain.aimodel.AIModel;
 import kr.ai_hub.AI_HUB_BE.domain.chat.ChatRoom;
 import kr.ai_hub.AI_HUB_BE.domain.chat.ChatRoomRepository;
 import kr.ai_hub.AI_HUB_BE.domain.chat.Message;
+import kr.ai_hub.AI_HUB_BE.domain.chat.MessageContentWriter;
 import kr.ai_hub.AI_HUB_BE.domain.chat.MessageRepository;
 import kr.ai_hub.AI_HUB_BE.domain.chat.MessageRole;
 import kr.ai_hub.AI_HUB_BE.domain.payment.CoinTransaction;
@@ -13,6 +14,9 @@ import kr.ai_hub.AI_HUB_BE.domain.payment.CoinTransactionRepository;
 import kr.ai_hub.AI_HUB_BE.domain.user.User;
 import kr.ai_hub.AI_HUB_BE.domain.user.UserWallet;
 import kr.ai_hub.AI_HUB_BE.domain.user.UserWalletRepository;
+import kr.ai_hub.AI_HUB_BE.global.datasource.DbWorkload;
+import kr.ai_hub.AI_HUB_BE.global.datasource.WorkloadClass;
+import kr.ai_hub.AI_HUB_BE.global.error.exception.IllegalSystemStateException;
 import kr.ai_hub.AI_HUB_BE.global.error.exception.WalletNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,12 +30,14 @@ import java.math.RoundingMode;
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@DbWorkload(WorkloadClass.CHAT_WRITE)
 public class MessageTransactionService {
 
     private final MessageRepository messageRepository;
     private final UserWalletRepository userWalletRepository;
     private final CoinTransactionRepository coinTransactionRepository;
     private final ChatRoomRepository chatRoomRepository;
+    private final MessageContentWriter messageContentWriter;
 
     /**
      * User 메시지를 저장합니다 (별도 트랜잭션).
@@ -51,11 +57,12 @@ public class MessageTransactionService {
 
     /**
      * AI 응답 완료 후 코인 차감 및 메시지 저장을 처리합니다.
+     * 응답 본문은 String으로 합치지 않고 청크에서 바로 문자 스트림으로 저장합니다.
      */
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void processCompletedResponse(
             ChatRoom chatRoom, AIModel aiModel, User user,
-            Message userMessage, String aiResponseId, String fullContent, AiUsage usage) {
+            Message userMessage, String aiResponseId, ChunkedContent fullContent, AiUsage usage) {
 
         // 코인 계산
         BigDecimal inputCoin = calculateCoin(usage.inputTokens(), aiModel.getInputPricePer1m());
@@ -71,17 +78,25 @@ public class MessageTransactionService {
         // 코인 차감
         wallet.deductBalance(totalCoin);
 
-        // Assistant 메시지 저장
+        // Assistant 메시지 저장: 빈 본문으로 INSERT를 flush한 뒤 본문은 문자 스트림으로 UPDATE
+        // (content 컬럼은 updatable = false라 이후 flush의 UPDATE가 스트림으로 쓴 본문을 덮어쓰지 않음)
         Message assistantMessage = Message.builder()
                 .chatRoom(chatRoom)
                 .role(MessageRole.ASSISTANT)
-                .content(fullContent)
+                .content("")
                 .aiModel(aiModel)
                 .tokenCount(BigDecimal.valueOf(usage.outputTokens()))
                 .coinCount(outputCoin)
                 .responseId(aiResponseId)
                 .build();
-        messageRepository.save(assistantMessage);
+        messageRepository.saveAndFlush(assistantMessage);
+        int updated = messageContentWriter.writeContent(
+                assistantMessage.getMessageId(), fullContent.reader(), fullContent.length());
+        if (updated != 1) {
+            // 본문 없이 과금만 커밋되지 않도록 트랜잭션 전체를 롤백
+            log.error("Assistant 메시지 본문 저장 실패: messageId={}, updated={}", assistantMessage.getMessageId(), updated);
+            throw new IllegalSystemStateException("AI 응답 저장에 실패했습니다");
+        }
 
         // User 메시지 업데이트
         userMessage.updateResponseId(aiResponseId);
@@ -128,9 +143,9 @@ public class MessageTransactionService {
     }
 
     /**
-     * 토큰량으로부터 코인을 계산합니다.
+     * 토큰량으로부터 코인을 계산합니다. (전송 전 견적도 같은 계산을 사용)
      */
-    private BigDecimal calculateCoin(Integer tokens, BigDecimal pricePer1M) {
+    static BigDecimal calculateCoin(Integer tokens, BigDecimal pricePer1M) {
         if (tokens == null || tokens == 0) {
             return BigDecimal.ZERO;
         }
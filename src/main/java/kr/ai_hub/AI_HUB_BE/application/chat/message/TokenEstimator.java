@@ -0,0 +1,171 @@
+package kr.ai_hub.AI_HUB_BE.application.chat.message;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * 모델 계열별 토큰 수 추정기
+ * <p>
+ * 토크나이저 어휘를 불러오지 않고 문자 종류별 가중치로 토큰 수를 근사합니다.
+ * 단어는 길이에 따라 여러 토큰으로 나뉘고(라틴 외 문자는 어휘에서 덜 병합되므로 1자를 2자로 셈), 숫자는 3자리씩 묶이며,
+ * 문장부호와 공백은 같은 문자가 이어지면 8자까지 1토큰(들여쓰기, 구분선, 빈 줄), 한글/한자/가나는 계열별 문자당 토큰 비율을 적용합니다.
+ * 단어 앞 공백은 단어 토큰에 포함된 것으로 봅니다. 문자열을 한 번 순회하며 객체를 할당하지 않습니다.
+ * 상한이나 하한이 아닌 근사치이므로 실제 토큰 수보다 적거나 많을 수 있습니다.
+ * </p>
+ * <p>
+ * 과금은 AI 서버가 돌려주는 usage로만 하며, 이 값은 전송 전 견적과 명백한 잔액 초과 거절,
+ * 대화 문맥 예산 계산에만 사용합니다. o200k_base 대비 오차와 처리량은 TokenEstimatorBenchmark(src/jmh)로 확인합니다.
+ * </p>
+ */
+@Component
+public class TokenEstimator {
+
+    /**
+     * 메시지 1개당 역할/구분자 토큰
+     */
+    static final int MESSAGE_OVERHEAD_TOKENS = 4;
+
+    private static final int DIGITS_PER_TOKEN = 3;
+    private static final int SYMBOLS_PER_TOKEN = 8;
+    private static final int NON_LATIN_LETTER_WEIGHT = 2;
+
+    /**
+     * 토크나이저 계열별 가중치
+     * <p>
+     * wordChars: 영문 단어를 이 길이마다 1토큰으로 계산,
+     * hangulMilli/cjkMilli: 한글 음절, 한자/가나 1자당 토큰 수 (1/1000 단위)
+     * </p>
+     */
+    public enum TokenizerFamily {
+        OPENAI(6, 800, 1000),
+        ANTHROPIC(5, 1200, 1300),
+        GOOGLE(6, 700, 900),
+        /**
+         * 알 수 없는 모델 및 모델 간 공유하는 값: 모든 계열보다 크게 추정
+         */
+        GENERIC(4, 1300, 1400);
+
+        private final int wordChars;
+        private final int hangulMilli;
+        private final int cjkMilli;
+
+        TokenizerFamily(int wordChars, int hangulMilli, int cjkMilli) {
+            this.wordChars = wordChars;
+            this.hangulMilli = hangulMilli;
+            this.cjkMilli = cjkMilli;
+        }
+
+        /**
+         * 모델명으로 토크나이저 계열을 찾습니다.
+         */
+        public static TokenizerFamily of(String modelName) {
+            if (modelName == null) {
+                return GENERIC;
+            }
+            String name = modelName.toLowerCase(Locale.ROOT);
+            if (name.startsWith("gpt") || name.startsWith("chatgpt") || isOpenAiReasoningModel(name)) {
+                return OPENAI;
+            }
+            if (name.contains("claude")) {
+                return ANTHROPIC;
+            }
+            if (name.contains("gemini") || name.contains("gemma")) {
+                return GOOGLE;
+            }
+            return GENERIC;
+        }
+
+        private static boolean isOpenAiReasoningModel(String name) {
+            return name.length() > 1 && name.charAt(0) == 'o' && Character.isDigit(name.charAt(1));
+        }
+    }
+
+    /**
+     * 모델에 보낼 텍스트의 토큰 수를 추정합니다.
+     */
+    public int estimate(String modelName, CharSequence text) {
+        return estimate(TokenizerFamily.of(modelName), text);
+    }
+
+    /**
+     * 메시지 1개(역할 구분 토큰 포함)의 토큰 수를 추정합니다.
+     */
+    public int estimateMessage(TokenizerFamily family, CharSequence text) {
+        return MESSAGE_OVERHEAD_TOKENS + estimate(family, text);
+    }
+
+    public int estimate(TokenizerFamily family, CharSequence text) {
+        if (text == null) {
+            return 0;
+        }
+        long milli = 0;
+        int word = 0;
+        int digits = 0;
+        char symbol = 0;
+        int symbols = 0;
+
+        for (int i = 0, length = text.length(); i < length; i++) {
+            char c = text.charAt(i);
+            if (symbols > 0 && c != symbol) {
+                milli += symbolRunMilli(symbol, symbols);
+                symbols = 0;
+            }
+
+            if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+                milli += runMilli(digits, DIGITS_PER_TOKEN);
+                digits = 0;
+                word++;
+                continue;
+            }
+            if (c >= '0' && c <= '9') {
+                milli += runMilli(word, family.wordChars);
+                word = 0;
+                digits++;
+                continue;
+            }
+            if (c >= 0x80 && !isHangul(c) && !isCjk(c) && Character.isLetter(c)) {
+                // 키릴/그리스/악센트 문자 등은 단어로 묶되 영문보다 잘게 나뉨
+                milli += runMilli(digits, DIGITS_PER_TOKEN);
+                digits = 0;
+                word += NON_LATIN_LETTER_WEIGHT;
+                continue;
+            }
+            milli += runMilli(word, family.wordChars) + runMilli(digits, DIGITS_PER_TOKEN);
+            word = 0;
+            digits = 0;
+
+            if (isHangul(c)) {
+                milli += family.hangulMilli;
+            } else if (isCjk(c)) {
+                milli += family.cjkMilli;
+            } else {
+                // 문장부호, 공백, 줄바꿈, 기타 문자: 같은 문자가 이어지면 묶음 (이모지는 서로게이트 쌍이라 2토큰)
+                symbol = c;
+                symbols++;
+            }
+        }
+        milli += runMilli(word, family.wordChars) + runMilli(digits, DIGITS_PER_TOKEN);
+        if (symbols > 0) {
+            milli += symbolRunMilli(symbol, symbols);
+        }
+        return (int) ((milli + 999) / 1000);
+    }
+
+    private static boolean isHangul(char c) {
+        return c >= 0xAC00 && c <= 0xD7A3 || c >= 0x1100 && c <= 0x11FF || c >= 0x3130 && c <= 0x318F;
+    }
+
+    private static boolean isCjk(char c) {
+        return c >= 0x4E00 && c <= 0x9FFF || c >= 0x3040 && c <= 0x30FF;
+    }
+
+    private static long symbolRunMilli(char symbol, int run) {
+        // 단어 앞 공백 1개는 다음 토큰에 붙음
+        return runMilli(symbol == ' ' ? run - 1 : run, SYMBOLS_PER_TOKEN);
+    }
+
+    private static long runMilli(int run, int charsPerToken) {
+        return (long) ((run + charsPerToken - 1) / charsPerToken) * 1000;
+    }
+}
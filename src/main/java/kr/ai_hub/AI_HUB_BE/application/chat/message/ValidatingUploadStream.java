@@ -0,0 +1,84 @@
+package kr.ai_hub.AI_HUB_BE.application.chat.message;
+
+import kr.ai_hub.AI_HUB_BE.global.error.exception.ValidationException;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 스트리밍 업로드용 검증 입력 스트림
+ * <p>
+ * 이미 검증한 헤더 바이트를 먼저 내보낸 뒤 원본 스트림을 이어서 읽습니다.
+ * 읽는 동안 누적 크기를 검사하여 최대 크기를 넘으면 즉시 실패합니다.
+ * 전처리되지 않은 원본이 그대로 전송되므로 중복 제거 캐시 키(콘텐츠 해시)는 계산하지 않습니다.
+ * </p>
+ */
+public class ValidatingUploadStream extends InputStream {
+
+    @Getter
+    private final String originalFilename;
+    @Getter
+    private final String extension;
+    @Getter
+    private final String contentType;
+
+    private final byte[] header;
+    private final InputStream delegate;
+    private final long maxSize;
+
+    private int headerPosition;
+    @Getter
+    private long bytesRead;
+    @Getter
+    private volatile boolean limitExceeded;
+
+    ValidatingUploadStream(String originalFilename, String extension, String contentType,
+                           byte[] header, InputStream delegate, long maxSize) {
+        this.originalFilename = originalFilename;
+        this.extension = extension;
+        this.contentType = contentType;
+        this.header = header;
+        this.delegate = delegate;
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] single = new byte[1];
+        int read = read(single, 0, 1);
+        return read == -1 ? -1 : single[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+
+        int read;
+        if (headerPosition < header.length) {
+            read = Math.min(length, header.length - headerPosition);
+            System.arraycopy(header, headerPosition, buffer, offset, read);
+            headerPosition += read;
+        } else {
+            read = delegate.read(buffer, offset, length);
+            if (read == -1) {
+                return -1;
+            }
+        }
+
+        bytesRead += read;
+        if (bytesRead > maxSize) {
+            limitExceeded = true;
+            throw new ValidationException(
+                    String.format("파일 크기가 너무 큽니다. 최대 크기: %dMB", maxSize / 1024 / 1024));
+        }
+        return read;
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+}
@@ -1,6 +1,6 @@
 package kr.ai_hub.AI_HUB_BE.application.chat.message.dto;
 
-import kr.ai_hub.AI_HUB_BE.domain.chat.Message;
+import kr.ai_hub.AI_HUB_BE.domain.chat.MessageListItem;
 import lombok.Builder;
 
 import java.math.BigDecimal;
@@ -20,15 +20,15 @@ public record MessageListItemResponse(
         Integer modelId,
         Instant createdAt
 ) {
-    public static MessageListItemResponse from(Message message) {
+    public static MessageListItemResponse from(MessageListItem message) {
         return MessageListItemResponse.builder()
-                .messageId(message.getMessageId().toString())
-                .role(message.getRole().getValue())
-                .content(message.getContent())
-                .tokenCount(message.getTokenCount())
-                .coinCount(message.getCoinCount())
-                .modelId(message.getAiModel() != null ? message.getAiModel().getModelId() : null)
-                .createdAt(message.getCreatedAt().toInstant(ZoneOffset.UTC))
+                .messageId(message.messageId().toString())
+                .role(message.role().getValue())
+                .content(message.content())
+                .tokenCount(message.tokenCount())
+                .coinCount(message.coinCount())
+                .modelId(message.modelId())
+                .createdAt(message.createdAt().toInstant(ZoneOffset.UTC))
                 .build();
     }
 }
@@ -0,0 +1,28 @@
+package kr.ai_hub.AI_HUB_BE.application.chat.message.dto;
+
+import lombok.Builder;
+
+import java.math.BigDecimal;
+
+/**
+ * 메시지 전송 예상 비용 응답 DTO
+ * <p>
+ * 입력 토큰은 로컬 추정치이며, 출력 토큰과 previous_response_id로 이어지는 이전 대화 비용은 포함하지 않습니다.
+ * 실제 과금은 AI 서버가 반환한 usage 기준입니다.
+ * </p>
+ *
+ * @param modelId              AI 모델 ID
+ * @param estimatedInputTokens 예상 입력 토큰 수 (메시지 + 서버가 구성한 이전 대화 문맥)
+ * @param estimatedInputCoin   예상 입력 코인
+ * @param balance              현재 코인 잔액
+ * @param affordable           잔액으로 전송 가능한지 여부 (false면 전송 시 INSUFFICIENT_BALANCE로 거절)
+ */
+@Builder
+public record MessageQuoteResponse(
+        Integer modelId,
+        Integer estimatedInputTokens,
+        BigDecimal estimatedInputCoin,
+        BigDecimal balance,
+        Boolean affordable
+) {
+}
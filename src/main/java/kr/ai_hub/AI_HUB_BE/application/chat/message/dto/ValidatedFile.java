@@ -0,0 +1,22 @@
+package kr.ai_hub.AI_HUB_BE.application.chat.message.dto;
+
+import lombok.Builder;
+
+/**
+ * 검증을 통과한 업로드 파일 정보
+ *
+ * @param originalFilename 원본 파일명
+ * @param extension        소문자 확장자
+ * @param contentType      Content-Type
+ * @param size             파일 크기 (bytes)
+ * @param contentHash      SHA-256 콘텐츠 해시 (소문자 16진수)
+ */
+@Builder
+public record ValidatedFile(
+        String originalFilename,
+        String extension,
+        String contentType,
+        long size,
+        String contentHash
+) {
+}
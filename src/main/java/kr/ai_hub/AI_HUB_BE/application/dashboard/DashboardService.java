@@ -1,8 +1,8 @@
 package kr.ai_hub.AI_HUB_BE.application.dashboard;
 
+import kr.ai_hub.AI_HUB_BE.application.aimodel.AIModelRegistry;
 import kr.ai_hub.AI_HUB_BE.application.dashboard.dto.*;
 import kr.ai_hub.AI_HUB_BE.domain.aimodel.AIModel;
-import kr.ai_hub.AI_HUB_BE.domain.aimodel.AIModelRepository;
 import kr.ai_hub.AI_HUB_BE.domain.chat.ChatRoomRepository;
 import kr.ai_hub.AI_HUB_BE.domain.payment.CoinTransaction;
 import kr.ai_hub.AI_HUB_BE.domain.payment.CoinTransactionRepository;
@@ -12,11 +12,14 @@ import kr.ai_hub.AI_HUB_BE.domain.user.UserRepository;
 import kr.ai_hub.AI_HUB_BE.domain.user.UserWallet;
 import kr.ai_hub.AI_HUB_BE.domain.user.UserWalletRepository;
 import kr.ai_hub.AI_HUB_BE.global.auth.SecurityContextHelper;
+import kr.ai_hub.AI_HUB_BE.global.datasource.DbWorkload;
+import kr.ai_hub.AI_HUB_BE.global.datasource.WorkloadClass;
 import kr.ai_hub.AI_HUB_BE.global.error.exception.UserNotFoundException;
 import kr.ai_hub.AI_HUB_BE.global.error.exception.WalletNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
@@ -34,7 +37,7 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class DashboardService {
 
-    private final AIModelRepository aiModelRepository;
+    private final AIModelRegistry aiModelRegistry;
     private final CoinTransactionRepository coinTransactionRepository;
     private final ChatRoomRepository chatRoomRepository;
     private final MessageRepository messageRepository;
@@ -48,15 +51,24 @@ public class DashboardService {
     public List<ModelPricingResponse> getModelPricing() {
         log.debug("모델 가격 대시보드 조회");
 
-        return aiModelRepository.findByIsActiveTrueOrderByCreatedAtDesc()
+        return aiModelRegistry.getActiveModels()
                 .stream()
                 .map(ModelPricingResponse::from)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 모델 가격 정보의 버전을 조회합니다 (ETag 생성용, 트랜잭션/DB 조회 없음).
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String getModelPricingVersion() {
+        return aiModelRegistry.getActiveModelsVersion();
+    }
+
     /**
      * 현재 사용자의 월별 모델별 코인 사용량 통계를 조회합니다.
      */
+    @DbWorkload(WorkloadClass.ANALYTICS)
     public MonthlyUsageResponse getMonthlyUsage(Integer year, Integer month) {
         Integer userId = securityContextHelper.getCurrentUserId();
         log.debug("사용자 {} 월별 사용량 조회: {}/{}", userId, year, month);
@@ -163,6 +175,7 @@ public class DashboardService {
     /**
      * 현재 사용자의 코인 및 활동 통계를 요약합니다.
      */
+    @DbWorkload(WorkloadClass.ANALYTICS)
     public UserStatsResponse getUserStats() {
         Integer userId = securityContextHelper.getCurrentUserId();
         log.debug("사용자 {} 통계 요약 조회", userId);
@@ -1,7 +1,7 @@
 package kr.ai_hub.AI_HUB_BE.application.payment;
 
 import kr.ai_hub.AI_HUB_BE.application.payment.dto.CoinTransactionResponse;
-import kr.ai_hub.AI_HUB_BE.domain.payment.CoinTransaction;
+import kr.ai_hub.AI_HUB_BE.domain.payment.CoinTransactionListItem;
 import kr.ai_hub.AI_HUB_BE.domain.payment.CoinTransactionRepository;
 import kr.ai_hub.AI_HUB_BE.domain.user.User;
 import kr.ai_hub.AI_HUB_BE.domain.user.UserRepository;
@@ -43,7 +43,8 @@ public class CoinTransactionService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다: " + userId));
 
-        Page<CoinTransaction> transactions;
+        // 목록은 엔티티 대신 필요한 컬럼만 프로젝션으로 조회
+        Page<CoinTransactionListItem> transactions;
 
         // 날짜 범위를 LocalDateTime으로 변환 (시작일 00:00:00 ~ 종료일 23:59:59)
         LocalDateTime startDateTime = startDate != null ? startDate.atStartOfDay() : null;
@@ -52,18 +53,18 @@ public class CoinTransactionService {
         // 필터 조합에 따라 적절한 쿼리 메서드 호출
         if (transactionType != null && !transactionType.isBlank() && startDateTime != null && endDateTime != null) {
             // 타입 + 날짜 필터
-            transactions = coinTransactionRepository.findByUserAndTransactionTypeAndCreatedAtBetween(
+            transactions = coinTransactionRepository.findListItemsByUserAndTransactionTypeAndCreatedAtBetween(
                     user, transactionType, startDateTime, endDateTime, pageable);
         } else if (transactionType != null && !transactionType.isBlank()) {
             // 타입 필터만
-            transactions = coinTransactionRepository.findByUserAndTransactionType(user, transactionType, pageable);
+            transactions = coinTransactionRepository.findListItemsByUserAndTransactionType(user, transactionType, pageable);
         } else if (startDateTime != null && endDateTime != null) {
             // 날짜 필터만
-            transactions = coinTransactionRepository.findByUserAndCreatedAtBetween(
+            transactions = coinTransactionRepository.findListItemsByUserAndCreatedAtBetween(
                     user, startDateTime, endDateTime, pageable);
         } else {
             // 필터 없음
-            transactions = coinTransactionRepository.findByUser(user, pageable);
+            transactions = coinTransactionRepository.findListItemsByUser(user, pageable);
         }
 
         return transactions.map(CoinTransactionResponse::from);
@@ -2,6 +2,7 @@ package kr.ai_hub.AI_HUB_BE.application.payment;
 
 import kr.ai_hub.AI_HUB_BE.application.payment.dto.PaymentResponse;
 import kr.ai_hub.AI_HUB_BE.domain.payment.PaymentHistory;
+import kr.ai_hub.AI_HUB_BE.domain.payment.PaymentHistoryListItem;
 import kr.ai_hub.AI_HUB_BE.domain.payment.PaymentHistoryRepository;
 import kr.ai_hub.AI_HUB_BE.domain.user.User;
 import kr.ai_hub.AI_HUB_BE.domain.user.UserRepository;
@@ -37,11 +38,12 @@ public class PaymentHistoryService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다: " + userId));
 
-        Page<PaymentHistory> payments;
+        // 목록은 엔티티 대신 필요한 컬럼만 프로젝션으로 조회
+        Page<PaymentHistoryListItem> payments;
         if (status != null && !status.isBlank()) {
-            payments = paymentHistoryRepository.findByUserAndStatus(user, status, pageable);
+            payments = paymentHistoryRepository.findListItemsByUserAndStatus(user, status, pageable);
         } else {
-            payments = paymentHistoryRepository.findByUser(user, pageable);
+            payments = paymentHistoryRepository.findListItemsByUser(user, pageable);
         }
 
         return payments.map(PaymentResponse::from);
@@ -1,6 +1,6 @@
 package kr.ai_hub.AI_HUB_BE.application.payment.dto;
 
-import kr.ai_hub.AI_HUB_BE.domain.payment.CoinTransaction;
+import kr.ai_hub.AI_HUB_BE.domain.payment.CoinTransactionListItem;
 import lombok.Builder;
 
 import java.math.BigDecimal;
@@ -23,18 +23,18 @@ public record CoinTransactionResponse(
         String messageId,
         Instant createdAt
 ) {
-    public static CoinTransactionResponse from(CoinTransaction transaction) {
+    public static CoinTransactionResponse from(CoinTransactionListItem transaction) {
         return CoinTransactionResponse.builder()
-                .transactionId(transaction.getTransactionId())
-                .transactionType(transaction.getTransactionType())
-                .amount(transaction.getAmount())
-                .balanceAfter(transaction.getBalanceAfter())
-                .description(transaction.getDescription())
-                .modelId(transaction.getAiModel() != null ? transaction.getAiModel().getModelId() : null)
-                .modelName(transaction.getAiModel() != null ? transaction.getAiModel().getModelName() : null)
-                .roomId(transaction.getChatRoom() != null ? transaction.getChatRoom().getRoomId().toString() : null)
-                .messageId(transaction.getMessage() != null ? transaction.getMessage().getMessageId().toString() : null)
-                .createdAt(transaction.getCreatedAt().toInstant(ZoneOffset.UTC))
+                .transactionId(transaction.transactionId())
+                .transactionType(transaction.transactionType())
+                .amount(transaction.amount())
+                .balanceAfter(transaction.balanceAfter())
+                .description(transaction.description())
+                .modelId(transaction.modelId())
+                .modelName(transaction.modelName())
+                .roomId(transaction.roomId() != null ? transaction.roomId().toString() : null)
+                .messageId(transaction.messageId() != null ? transaction.messageId().toString() : null)
+                .createdAt(transaction.createdAt().toInstant(ZoneOffset.UTC))
                 .build();
     }
 }
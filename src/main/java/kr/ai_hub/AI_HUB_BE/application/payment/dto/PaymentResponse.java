@@ -1,6 +1,7 @@
 package kr.ai_hub.AI_HUB_BE.application.payment.dto;
 
 import kr.ai_hub.AI_HUB_BE.domain.payment.PaymentHistory;
+import kr.ai_hub.AI_HUB_BE.domain.payment.PaymentHistoryListItem;
 import lombok.Builder;
 
 import java.math.BigDecimal;
@@ -43,4 +44,22 @@ public record PaymentResponse(
                         payment.getCompletedAt().toInstant(ZoneOffset.UTC) : null)
                 .build();
     }
+
+    public static PaymentResponse from(PaymentHistoryListItem payment) {
+        return PaymentResponse.builder()
+                .paymentId(payment.paymentId())
+                .transactionId(payment.transactionId())
+                .paymentMethod(payment.paymentMethod())
+                .amountKrw(payment.amountKrw())
+                .amountUsd(payment.amountUsd())
+                .coinAmount(payment.coinAmount())
+                .bonusCoin(payment.bonusCoin())
+                .status(payment.status())
+                .paymentGateway(payment.paymentGateway())
+                .metadata(payment.metadata())
+                .createdAt(payment.createdAt().toInstant(ZoneOffset.UTC))
+                .completedAt(payment.completedAt() != null ?
+                        payment.completedAt().toInstant(ZoneOffset.UTC) : null)
+                .build();
+    }
 }
@@ -0,0 +1,42 @@
+package kr.ai_hub.AI_HUB_BE.application.scheduler;
+
+import kr.ai_hub.AI_HUB_BE.domain.scheduler.SchedulerLockRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 여러 인스턴스에서 같은 스케줄 작업이 동시에 실행되지 않도록 DB 임대 락을 관리합니다.
+ * 각 쿼리는 독립 트랜잭션으로 즉시 커밋되어, 작업 본문의 트랜잭션과 분리됩니다.
+ */
+@Slf4j
+@Service
+public class SchedulerLockService {
+
+    private final SchedulerLockRepository schedulerLockRepository;
+    private final String nodeId;
+
+    public SchedulerLockService(SchedulerLockRepository schedulerLockRepository) {
+        this.schedulerLockRepository = schedulerLockRepository;
+        this.nodeId = ProcessHandle.current().pid() + "-" + UUID.randomUUID();
+    }
+
+    // 락을 임대 기간만큼 획득한다. 다른 노드가 보유 중이면 false를 반환한다.
+    public boolean tryAcquire(String lockName, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        schedulerLockRepository.insertIfAbsent(lockName, nodeId, now);
+        boolean acquired = schedulerLockRepository.acquire(lockName, nodeId, now, now.plus(lease)) > 0;
+        if (!acquired) {
+            log.debug("스케줄 락 획득 실패 (다른 노드에서 실행 중): lockName={}", lockName);
+        }
+        return acquired;
+    }
+
+    // 현재 노드가 보유한 락을 반납한다.
+    public void release(String lockName) {
+        schedulerLockRepository.release(lockName, nodeId, LocalDateTime.now());
+    }
+}
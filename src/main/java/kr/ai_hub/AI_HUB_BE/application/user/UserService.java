@@ -5,6 +5,7 @@ import kr.ai_hub.AI_HUB_BE.application.user.dto.UserResponse;
 import kr.ai_hub.AI_HUB_BE.domain.user.User;
 import kr.ai_hub.AI_HUB_BE.domain.user.UserRepository;
 import kr.ai_hub.AI_HUB_BE.global.auth.SecurityContextHelper;
+import kr.ai_hub.AI_HUB_BE.global.cache.SecondLevelCacheEvictor;
 import kr.ai_hub.AI_HUB_BE.global.error.exception.UserNotFoundException;
 import kr.ai_hub.AI_HUB_BE.global.error.exception.ValidationException;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +21,7 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final SecurityContextHelper securityContextHelper;
+    private final SecondLevelCacheEvictor secondLevelCacheEvictor;
 
     /**
      * 현재 인증된 사용자의 정보를 조회합니다.
@@ -79,6 +81,8 @@ public class UserService {
                 .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다: " + userId));
 
         user.softDelete();
+        // 캐시 조회는 @SQLRestriction을 거치지 않으므로 탈퇴 사용자를 2차 캐시에서 제거
+        secondLevelCacheEvictor.evictAfterCommit(User.class, userId);
         log.info("사용자 {} 탈퇴 완료", userId);
     }
 }
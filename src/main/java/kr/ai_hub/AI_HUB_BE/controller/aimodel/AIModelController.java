@@ -5,13 +5,19 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import kr.ai_hub.AI_HUB_BE.application.aimodel.AIModelService;
 import kr.ai_hub.AI_HUB_BE.application.aimodel.dto.AIModelResponse;
 import kr.ai_hub.AI_HUB_BE.global.common.response.ApiResponse;
+import kr.ai_hub.AI_HUB_BE.global.common.response.ETagSupport;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Duration;
 import java.util.List;
 
 @Tag(name = "AI 모델", description = "AI 모델 정보 조회")
@@ -21,6 +27,11 @@ import java.util.List;
 @RequiredArgsConstructor
 public class AIModelController {
 
+    /**
+     * 공개 데이터이며 관리자 수정 시에만 바뀌므로 CDN/브라우저 캐시를 허용하고 이후에는 ETag로 재검증
+     */
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(Duration.ofMinutes(1)).cachePublic();
+
     private final AIModelService aiModelService;
 
     /**
@@ -29,9 +40,17 @@ public class AIModelController {
      */
     @Operation(summary = "활성화된 AI 모델 목록 조회")
     @GetMapping
-    public ResponseEntity<ApiResponse<List<AIModelResponse>>> getActiveModels() {
+    public ResponseEntity<ApiResponse<List<AIModelResponse>>> getActiveModels(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("활성화된 AI 모델 목록 조회 API 호출");
+
+        // 모델 목록이 바뀌지 않았으면 목록 조회 없이 304 반환
+        String eTag = ETagSupport.strong("models", aiModelService.getActiveModelsVersion());
+        if (ETagSupport.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(CACHE_CONTROL).build();
+        }
+
         List<AIModelResponse> models = aiModelService.getActiveModels();
-        return ResponseEntity.ok(ApiResponse.ok(models));
+        return ResponseEntity.ok().eTag(eTag).cacheControl(CACHE_CONTROL).body(ApiResponse.ok(models));
     }
 }
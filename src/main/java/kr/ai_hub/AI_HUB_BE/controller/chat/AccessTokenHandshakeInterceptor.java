@@ -0,0 +1,44 @@
+package kr.ai_hub.AI_HUB_BE.controller.chat;
+
+import jakarta.servlet.http.HttpServletRequest;
+import kr.ai_hub.AI_HUB_BE.global.auth.jwt.JwtAuthenticationFilter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+import java.util.Map;
+
+/**
+ * 핸드셰이크 요청에서 JWT 필터가 확인한 액세스 토큰 정보(ID, 만료 시각)를 WebSocket 세션 속성으로 옮기는 인터셉터
+ * <p>
+ * 연결 이후에는 HTTP 요청이 없으므로 ChatWebSocketHandler는 이 정보로 토큰 만료 시 연결을 종료하고
+ * send 프레임마다 토큰 폐기 여부를 확인합니다. 인증 여부 판단은 핸들러가 하므로 핸드셰이크는 거부하지 않습니다.
+ * </p>
+ */
+public class AccessTokenHandshakeInterceptor implements HandshakeInterceptor {
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        if (request instanceof ServletServerHttpRequest servletRequest) {
+            HttpServletRequest httpRequest = servletRequest.getServletRequest();
+            copyAttribute(httpRequest, attributes, JwtAuthenticationFilter.ACCESS_TOKEN_ID_ATTRIBUTE);
+            copyAttribute(httpRequest, attributes, JwtAuthenticationFilter.ACCESS_TOKEN_EXPIRES_AT_ATTRIBUTE);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, Exception exception) {
+    }
+
+    private static void copyAttribute(HttpServletRequest request, Map<String, Object> attributes, String name) {
+        Object value = request.getAttribute(name);
+        if (value != null) {
+            attributes.put(name, value);
+        }
+    }
+}
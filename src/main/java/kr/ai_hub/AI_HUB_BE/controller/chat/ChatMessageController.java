@@ -2,19 +2,29 @@ package kr.ai_hub.AI_HUB_BE.controller.chat;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import kr.ai_hub.AI_HUB_BE.application.chat.message.ChatGenerationExecutor;
+import kr.ai_hub.AI_HUB_BE.application.chat.message.ChatRoomSendSequencer;
+import kr.ai_hub.AI_HUB_BE.application.chat.message.MessageSendSession;
 import kr.ai_hub.AI_HUB_BE.application.chat.message.MessageService;
 import kr.ai_hub.AI_HUB_BE.application.chat.message.dto.FileUploadResponse;
 import kr.ai_hub.AI_HUB_BE.application.chat.message.dto.MessageListItemResponse;
+import kr.ai_hub.AI_HUB_BE.application.chat.message.dto.MessageQuoteResponse;
 import kr.ai_hub.AI_HUB_BE.application.chat.message.dto.MessageResponse;
 import kr.ai_hub.AI_HUB_BE.application.chat.message.dto.SendMessageRequest;
 import kr.ai_hub.AI_HUB_BE.global.common.response.ApiResponse;
+import kr.ai_hub.AI_HUB_BE.global.common.response.ETagSupport;
+import kr.ai_hub.AI_HUB_BE.global.error.exception.ServiceUnavailableException;
+import kr.ai_hub.AI_HUB_BE.global.sse.SseHeartbeatScheduler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -24,6 +34,8 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.time.Duration;
 import java.util.UUID;
 
 @Tag(name = "메시지", description = "메시지 전송 및 AI 응답 수신")
@@ -33,7 +45,17 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class ChatMessageController {
 
+    /**
+     * 과금이 끝난 메시지는 더 이상 바뀌지 않으므로 사용자 브라우저에서만 장기 캐시
+     */
+    private static final CacheControl BILLED_MESSAGE_CACHE_CONTROL =
+            CacheControl.maxAge(Duration.ofDays(30)).cachePrivate().immutable();
+
+    private static final Duration SEND_TIMEOUT = Duration.ofMinutes(5);
+
     private final MessageService messageService;
+    private final ChatGenerationExecutor chatGenerationExecutor;
+    private final SseHeartbeatScheduler sseHeartbeatScheduler;
 
     /**
      * 메시지 전송 및 SSE 스트리밍 API
@@ -43,23 +65,73 @@ public class ChatMessageController {
      * - AI 서버와 SSE 통신
      * - 실시간 증분 텍스트 전달
      * - 코인 차감 및 Assistant 메시지 저장
+     * Idempotency-Key 헤더로 재시도하면 AI 서버를 다시 호출하지 않고 기존 응답 스트림에 연결됩니다.
      * </p>
      */
     @Operation(summary = "메시지 전송 (SSE 스트리밍)")
     @PostMapping(value = "/send/{roomId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public SseEmitter sendMessage(
             @PathVariable UUID roomId,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @Valid @RequestBody SendMessageRequest request) {
-        log.info("메시지 전송 API 호출: roomId={}, modelId={}", roomId, request.modelId());
+        log.info("메시지 전송 API 호출: roomId={}, modelId={}, idempotent={}",
+                roomId, request.modelId(), idempotencyKey != null);
+
+        // 종료 중이면 채팅방 권한/키를 점유하기 전에 503으로 거절
+        chatGenerationExecutor.ensureAccepting();
 
-        SseEmitter emitter = new SseEmitter(5 * 60 * 1000L); // 5분 타임아웃
+        // 5분 타임아웃, 응답 지연 중에도 프록시가 연결을 끊지 않도록 유휴 시 heartbeat 전송
+        SseEmitter emitter = sseHeartbeatScheduler.createEmitter(SEND_TIMEOUT);
+
+        if (idempotencyKey == null) {
+            // 같은 채팅방에서 응답 생성 중이면 스트림을 열기 전에 409로 거절
+            ChatRoomSendSequencer.Permit permit = messageService.acquireSendPermit(roomId);
+            startSend(roomId, request, new MessageSendSession(permit, emitter));
+        } else {
+            // 같은 키의 재시도는 기존 전송에 연결되고 새 생성을 시작하지 않음
+            messageService.registerIdempotentSend(roomId, request, idempotencyKey, emitter)
+                    .ifPresent(session -> startSend(roomId, request, session));
+        }
+
+        return emitter;
+    }
 
+    private void startSend(UUID roomId, SendMessageRequest request, MessageSendSession session) {
         // SecurityContext를 명시적으로 비동기 작업에 전파
-        Runnable task = () -> messageService.sendMessage(roomId, request, emitter);
+        Runnable task = () -> {
+            try (ChatRoomSendSequencer.Permit permit = session.permit()) {
+                messageService.sendMessage(roomId, request, session.target());
+            }
+        };
         Runnable securityContextTask = new DelegatingSecurityContextRunnable(task, SecurityContextHolder.getContext());
-        Thread.ofVirtual().start(securityContextTask);
+        try {
+            chatGenerationExecutor.execute(securityContextTask);
+        } catch (ServiceUnavailableException e) {
+            // 확인 직후 종료가 시작된 경우: 점유한 권한을 반납하고 스트림을 에러로 종료 (Idempotency-Key도 폐기)
+            if (session.permit() != null) {
+                session.permit().close();
+            }
+            session.target().completeWithError(e);
+        }
+    }
 
-        return emitter;
+    /**
+     * 메시지 전송 예상 비용 조회 API
+     * <p>
+     * 전송할 요청과 같은 본문으로 예상 입력 토큰/코인과 잔액으로 전송 가능한지를 반환합니다.
+     * 토큰 수는 로컬에서 추정하므로 AI 서버를 호출하지 않습니다.
+     * </p>
+     */
+    @Operation(summary = "메시지 전송 예상 비용 조회")
+    @PostMapping("/quote/{roomId}")
+    public ResponseEntity<ApiResponse<MessageQuoteResponse>> quoteMessage(
+            @PathVariable UUID roomId,
+            @Valid @RequestBody SendMessageRequest request) {
+        log.info("메시지 예상 비용 조회 API 호출: roomId={}, modelId={}", roomId, request.modelId());
+
+        MessageQuoteResponse response = messageService.quoteMessage(roomId, request);
+
+        return ResponseEntity.ok(ApiResponse.ok(response));
     }
 
     /**
@@ -84,6 +156,36 @@ public class ChatMessageController {
                 .body(ApiResponse.ok(response));
     }
 
+    /**
+     * 스트리밍 파일 업로드 API
+     * <p>
+     * 파일 바이트를 요청 본문 그대로(raw body) 받아 버퍼링 없이 AI 서버로 전달합니다.
+     * multipart 파싱과 임시 파일 저장을 거치지 않으므로 큰 파일의 동시 업로드에도 메모리 사용량이 일정합니다.
+     * </p>
+     */
+    @Operation(summary = "파일 스트리밍 업로드")
+    @PostMapping(value = "/files/stream",
+            consumes = {MediaType.IMAGE_JPEG_VALUE, MediaType.IMAGE_PNG_VALUE, "image/webp"})
+    public ResponseEntity<ApiResponse<FileUploadResponse>> uploadFileStream(
+            HttpServletRequest request,
+            @RequestParam("fileName") String fileName,
+            @RequestParam("modelId") Integer modelId) throws IOException {
+        long contentLength = request.getContentLengthLong();
+        log.info("스트리밍 파일 업로드 API 호출: fileName={}, contentLength={}, modelId={}",
+                fileName, contentLength, modelId);
+
+        FileUploadResponse response = messageService.uploadFileStream(
+                request.getInputStream(),
+                fileName,
+                request.getContentType(),
+                contentLength >= 0 ? contentLength : null,
+                modelId);
+
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(ApiResponse.ok(response));
+    }
+
     /**
      * 특정 채팅방의 메시지 목록을 페이지네이션하여 조회합니다.
      */
@@ -114,11 +216,29 @@ public class ChatMessageController {
      */
     @Operation(summary = "메시지 상세 조회")
     @GetMapping("/{messageId}")
-    public ResponseEntity<ApiResponse<MessageResponse>> getMessage(@PathVariable UUID messageId) {
+    public ResponseEntity<ApiResponse<MessageResponse>> getMessage(
+            @PathVariable UUID messageId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("메시지 상세 조회 API 호출: messageId={}", messageId);
 
+        // ETag는 과금이 끝난(불변) 메시지에만 발급되므로, 일치하면 조회 없이 304 반환
+        // 소유자 확인 없이 304를 반환해도 되는 이유: ETag가 "msg-{messageId}"뿐이라 본문/소유 정보가 드러나지 않고,
+        // 클라이언트가 이미 가진 ETag(= 이전에 권한 확인 후 받은 응답)를 되돌려 보낸 경우에만 일치함.
+        // ETag에 메시지 내용에서 파생한 값을 넣게 되면 이 검사 전에 소유자 확인을 해야 함
+        String eTag = ETagSupport.strong("msg", messageId);
+        if (ETagSupport.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(BILLED_MESSAGE_CACHE_CONTROL).build();
+        }
+
         MessageResponse response = messageService.getMessage(messageId);
 
-        return ResponseEntity.ok(ApiResponse.ok(response));
+        // 과금 전 메시지는 토큰/코인 정보가 아직 바뀔 수 있으므로 캐시하지 않음
+        if (response.coinCount() == null) {
+            return ResponseEntity.ok(ApiResponse.ok(response));
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(BILLED_MESSAGE_CACHE_CONTROL)
+                .body(ApiResponse.ok(response));
     }
 }
@@ -0,0 +1,405 @@
+package kr.ai_hub.AI_HUB_BE.controller.chat;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import kr.ai_hub.AI_HUB_BE.application.auth.accesstoken.AccessTokenService;
+import kr.ai_hub.AI_HUB_BE.application.chat.message.ChatGenerationExecutor;
+import kr.ai_hub.AI_HUB_BE.application.chat.message.ChatRoomSendSequencer;
+import kr.ai_hub.AI_HUB_BE.application.chat.message.MessageSendSession;
+import kr.ai_hub.AI_HUB_BE.application.chat.message.MessageService;
+import kr.ai_hub.AI_HUB_BE.application.chat.message.dto.SendMessageRequest;
+import kr.ai_hub.AI_HUB_BE.global.auth.jwt.JwtAuthenticationFilter;
+import kr.ai_hub.AI_HUB_BE.global.error.ErrorCode;
+import kr.ai_hub.AI_HUB_BE.global.error.exception.BaseException;
+import kr.ai_hub.AI_HUB_BE.global.error.exception.ServiceUnavailableException;
+import kr.ai_hub.AI_HUB_BE.global.error.exception.ValidationException;
+import kr.ai_hub.AI_HUB_BE.global.ratelimit.RateLimitProperties;
+import kr.ai_hub.AI_HUB_BE.global.ratelimit.TokenBucketRateLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 채팅 응답 생성을 다중화하는 WebSocket 핸들러 ({@code /ws/chat})
+ * <p>
+ * 인증된 연결 1개에서 streamId로 구분되는 여러 응답 생성을 동시에 진행합니다.
+ * 검증, 채팅방별 중복 전송 제한(409), Idempotency-Key, 과금은 SSE 전송과 같은 MessageService 경로를 그대로 사용합니다.
+ * <ul>
+ *     <li>클라이언트 → 서버: {@code send} (streamId, roomId, request, idempotencyKey?), {@code cancel} (streamId)</li>
+ *     <li>서버 → 클라이언트: {@code event} (event, data), {@code end}, {@code cancelled}, {@code error} (code, message)</li>
+ * </ul>
+ * 취소: idempotencyKey 없는 스트림의 {@code cancel}은 응답 생성을 중단합니다 (사용자 메시지 삭제, 과금 없음).
+ * idempotencyKey가 있는 스트림은 생성이 같은 키의 재시도들과 공유되므로 {@code cancel}은 이 스트림의 구독만 해제하며,
+ * 생성은 끝까지 진행되어 과금되고 같은 키로 다시 연결하면 재생됩니다.
+ * 인증: 핸드셰이크의 액세스 토큰이 만료되면 {@code POLICY_VIOLATION}(1008)으로 연결을 종료하고,
+ * send 프레임마다 토큰이 폐기(로그아웃 등)되지 않았는지 다시 확인하여 폐기되었으면 같은 방식으로 종료합니다.
+ * 흐름 제어: send 프레임은 HTTP 전송과 같은 {@code chat-send} 사용자 버킷으로 속도를 제한하고, 연결당 동시 스트림 수를 제한하며, 송신 버퍼가 한도를 넘거나 전송이 지연되는 느린 클라이언트는 연결을 종료합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class ChatWebSocketHandler extends TextWebSocketHandler {
+
+    static final int MAX_STREAM_ID_LENGTH = 64;
+    static final String SEND_RATE_LIMIT_ROUTE = "chat-send";
+
+    private final MessageService messageService;
+    private final AccessTokenService accessTokenService;
+    private final ChatGenerationExecutor chatGenerationExecutor;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final RateLimitProperties.Route sendRateLimit;
+    private final MeterRegistry meterRegistry;
+    private final int maxStreamsPerConnection;
+    private final int sendTimeLimitMillis;
+    private final int sendBufferSizeLimit;
+    private final int textMessageSizeLimit;
+
+    private final Map<String, Connection> connections = new ConcurrentHashMap<>();
+
+    public ChatWebSocketHandler(MessageService messageService,
+                                AccessTokenService accessTokenService,
+                                ChatGenerationExecutor chatGenerationExecutor,
+                                ObjectMapper objectMapper,
+                                Validator validator,
+                                TokenBucketRateLimiter rateLimiter,
+                                RateLimitProperties rateLimitProperties,
+                                MeterRegistry meterRegistry,
+                                @Value("${chat.websocket.max-streams-per-connection:8}") int maxStreamsPerConnection,
+                                @Value("${chat.websocket.send-time-limit:PT10S}") Duration sendTimeLimit,
+                                @Value("${chat.websocket.send-buffer-size-limit:512KB}") DataSize sendBufferSizeLimit,
+                                @Value("${chat.websocket.max-text-message-size:64KB}") DataSize maxTextMessageSize) {
+        this.messageService = messageService;
+        this.accessTokenService = accessTokenService;
+        this.chatGenerationExecutor = chatGenerationExecutor;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.rateLimiter = rateLimiter;
+        // 속도 제한이 꺼져 있거나 chat-send 경로가 없으면 HTTP 전송과 마찬가지로 제한하지 않음
+        this.sendRateLimit = rateLimitProperties.enabled()
+                ? rateLimitProperties.routes().stream()
+                        .filter(route -> SEND_RATE_LIMIT_ROUTE.equals(route.name()))
+                        .findFirst()
+                        .orElse(null)
+                : null;
+        this.meterRegistry = meterRegistry;
+        this.maxStreamsPerConnection = maxStreamsPerConnection;
+        this.sendTimeLimitMillis = Math.toIntExact(sendTimeLimit.toMillis());
+        this.sendBufferSizeLimit = Math.toIntExact(sendBufferSizeLimit.toBytes());
+        this.textMessageSizeLimit = Math.toIntExact(maxTextMessageSize.toBytes());
+
+        Gauge.builder("chat.ws.connections", connections, Map::size)
+                .description("채팅 WebSocket 연결 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.ws.streams", connections,
+                        map -> map.values().stream().mapToInt(connection -> connection.streams.size()).sum())
+                .description("WebSocket으로 진행 중인 응답 생성 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        // 핸드셰이크 요청이 JWT 필터를 통과한 경우에만 Authentication과 토큰 정보가 존재
+        Map<String, Object> attributes = session.getAttributes();
+        if (!(session.getPrincipal() instanceof Authentication authentication) || !authentication.isAuthenticated()
+                || !(attributes.get(JwtAuthenticationFilter.ACCESS_TOKEN_ID_ATTRIBUTE) instanceof Integer accessTokenId)
+                || !(attributes.get(JwtAuthenticationFilter.ACCESS_TOKEN_EXPIRES_AT_ATTRIBUTE) instanceof Instant expiresAt)
+                || !expiresAt.isAfter(Instant.now())) {
+            log.warn("인증되지 않은 WebSocket 연결 종료: sessionId={}", session.getId());
+            session.close(CloseStatus.POLICY_VIOLATION);
+            return;
+        }
+        session.setTextMessageSizeLimit(textMessageSizeLimit);
+
+        WebSocketSession concurrentSession =
+                new ConcurrentWebSocketSessionDecorator(session, sendTimeLimitMillis, sendBufferSizeLimit);
+        connections.put(session.getId(), new Connection(
+                concurrentSession, new SecurityContextImpl(authentication), accessTokenId, expiresAt));
+        log.info("채팅 WebSocket 연결: sessionId={}, userId={}", session.getId(), authentication.getName());
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+        Connection connection = connections.get(session.getId());
+        if (connection == null) {
+            return;
+        }
+
+        InboundFrame frame;
+        try {
+            frame = objectMapper.readValue(message.getPayload(), InboundFrame.class);
+        } catch (JsonProcessingException e) {
+            log.warn("WebSocket 프레임 파싱 실패: sessionId={}, error={}", session.getId(), e.getOriginalMessage());
+            connection.sendError(null, new ValidationException("프레임 형식이 유효하지 않습니다"));
+            return;
+        }
+
+        switch (frame.type() == null ? "" : frame.type()) {
+            case "send" -> {
+                if (isAuthenticationActive(connection)) {
+                    startStream(connection, frame);
+                }
+            }
+            case "cancel" -> cancelStream(connection, frame.streamId());
+            default -> connection.sendError(frame.streamId(), new ValidationException("지원하지 않는 프레임 유형입니다: " + frame.type()));
+        }
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        Connection connection = connections.remove(session.getId());
+        if (connection == null) {
+            return;
+        }
+        // 진행 중인 생성은 다음 전송에서 중단되고 SSE 연결 끊김과 같은 보상 처리를 거침
+        connection.streams.values().forEach(WebSocketStreamEmitter::abort);
+        log.info("채팅 WebSocket 종료: sessionId={}, status={}", session.getId(), status);
+    }
+
+    /**
+     * 액세스 토큰이 만료된 연결을 종료합니다. 종료된 연결의 진행 중인 생성은 afterConnectionClosed에서 중단됩니다.
+     */
+    @Scheduled(fixedDelayString = "${chat.websocket.auth-check-interval:PT30S}")
+    public void closeExpiredConnections() {
+        closeExpiredConnections(Instant.now());
+    }
+
+    void closeExpiredConnections(Instant now) {
+        for (Connection connection : connections.values()) {
+            if (!connection.accessTokenExpiresAt.isAfter(now)) {
+                closeUnauthenticated(connection, "액세스 토큰 만료");
+            }
+        }
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) {
+        log.debug("WebSocket 전송 오류: sessionId={}, error={}", session.getId(), exception.getMessage());
+    }
+
+    /**
+     * 핸드셰이크 이후 토큰이 만료되거나 폐기되었으면 새 전송을 받지 않고 연결을 종료합니다.
+     */
+    private boolean isAuthenticationActive(Connection connection) {
+        if (!connection.accessTokenExpiresAt.isAfter(Instant.now())) {
+            closeUnauthenticated(connection, "액세스 토큰 만료");
+            return false;
+        }
+        if (!accessTokenService.isActive(connection.accessTokenId)) {
+            closeUnauthenticated(connection, "액세스 토큰 폐기");
+            return false;
+        }
+        return true;
+    }
+
+    private void closeUnauthenticated(Connection connection, String reason) {
+        log.info("WebSocket 인증 만료로 연결 종료: sessionId={}, reason={}", connection.session.getId(), reason);
+        try {
+            connection.session.close(CloseStatus.POLICY_VIOLATION);
+        } catch (IOException e) {
+            log.debug("WebSocket 연결 종료 실패: sessionId={}, error={}", connection.session.getId(), e.getMessage());
+        }
+    }
+
+    private void startStream(Connection connection, InboundFrame frame) {
+        String streamId = frame.streamId();
+        try {
+            validate(frame);
+        } catch (ValidationException e) {
+            connection.sendError(streamId, e);
+            return;
+        }
+
+        if (isRateLimited(connection)) {
+            connection.sendError(streamId, ErrorCode.TOO_MANY_REQUESTS, ErrorCode.TOO_MANY_REQUESTS.getMessage());
+            return;
+        }
+
+        if (connection.streams.size() >= maxStreamsPerConnection) {
+            connection.sendError(streamId, ErrorCode.TOO_MANY_REQUESTS,
+                    "연결당 동시 응답 생성은 최대 " + maxStreamsPerConnection + "개입니다");
+            return;
+        }
+
+        WebSocketStreamEmitter emitter = new WebSocketStreamEmitter(
+                streamId, connection::send, objectMapper,
+                finished -> connection.streams.remove(finished.getStreamId(), finished));
+        if (connection.streams.putIfAbsent(streamId, emitter) != null) {
+            connection.sendError(streamId, new ValidationException("이미 사용 중인 streamId입니다: " + streamId));
+            return;
+        }
+
+        // 권한/키 점유와 생성은 HTTP 전송과 같은 순서로 진행하며, 사용자 식별을 위해 연결의 인증 정보를 사용
+        SecurityContextHolder.setContext(connection.securityContext);
+        try {
+            chatGenerationExecutor.ensureAccepting();
+            if (frame.idempotencyKey() == null) {
+                ChatRoomSendSequencer.Permit permit = messageService.acquireSendPermit(frame.roomId());
+                startSend(connection, frame, new MessageSendSession(permit, emitter));
+            } else {
+                messageService.registerIdempotentSend(frame.roomId(), frame.request(), frame.idempotencyKey(), emitter)
+                        .ifPresent(session -> startSend(connection, frame, session));
+            }
+        } catch (BaseException e) {
+            emitter.completeWithError(e);
+        } catch (RuntimeException e) {
+            // 예상하지 못한 예외도 스트림을 정리해야 streamId와 동시 스트림 한도가 반환됨 (에러 프레임은 일반 메시지로 전송)
+            log.error("WebSocket 스트림 시작 실패: streamId={}, error={}", streamId, e.getMessage(), e);
+            emitter.completeWithError(e);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    /**
+     * HTTP 전송의 RateLimitFilter와 같은 키(chat-send:user:{userId})로 토큰을 소비하므로 두 경로의 전송을 합쳐 제한합니다.
+     */
+    private boolean isRateLimited(Connection connection) {
+        if (sendRateLimit == null) {
+            return false;
+        }
+        String clientKey = "user:" + connection.securityContext.getAuthentication().getName();
+        long waitNanos = rateLimiter.tryAcquire(
+                sendRateLimit.name() + ":" + clientKey, sendRateLimit.capacity(), sendRateLimit.refillPeriod());
+        if (waitNanos <= 0) {
+            return false;
+        }
+        log.warn("WebSocket 전송 속도 제한 초과: route={}, client={}", sendRateLimit.name(), clientKey);
+        meterRegistry.counter("rate_limit.rejected", "route", sendRateLimit.name()).increment();
+        return true;
+    }
+
+    private void startSend(Connection connection, InboundFrame frame, MessageSendSession session) {
+        Runnable task = () -> {
+            try (ChatRoomSendSequencer.Permit permit = session.permit()) {
+                messageService.sendMessage(frame.roomId(), frame.request(), session.target());
+            }
+        };
+        try {
+            chatGenerationExecutor.execute(new DelegatingSecurityContextRunnable(task, connection.securityContext));
+        } catch (ServiceUnavailableException e) {
+            if (session.permit() != null) {
+                session.permit().close();
+            }
+            session.target().completeWithError(e);
+        }
+    }
+
+    private void cancelStream(Connection connection, String streamId) {
+        WebSocketStreamEmitter emitter = streamId == null ? null : connection.streams.get(streamId);
+        if (emitter == null) {
+            // 이미 끝난 스트림의 취소는 무시
+            log.debug("취소할 스트림 없음: streamId={}", streamId);
+            return;
+        }
+        log.info("WebSocket 스트림 취소: streamId={}", streamId);
+        // Idempotency-Key 전송이면 공유 생성에서 이 스트림만 분리됨 (생성 중단 아님)
+        emitter.cancel();
+    }
+
+    private void validate(InboundFrame frame) {
+        if (frame.streamId() == null || frame.streamId().isBlank() || frame.streamId().length() > MAX_STREAM_ID_LENGTH) {
+            throw new ValidationException("streamId는 1~" + MAX_STREAM_ID_LENGTH + "자여야 합니다");
+        }
+        if (frame.roomId() == null) {
+            throw new ValidationException("roomId는 필수입니다");
+        }
+        if (frame.request() == null) {
+            throw new ValidationException("request는 필수입니다");
+        }
+        Set<ConstraintViolation<SendMessageRequest>> violations = validator.validate(frame.request());
+        if (!violations.isEmpty()) {
+            throw new ValidationException(violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        }
+    }
+
+    int connectionCount() {
+        return connections.size();
+    }
+
+    /**
+     * 클라이언트 프레임
+     */
+    record InboundFrame(String type, String streamId, UUID roomId, String idempotencyKey, SendMessageRequest request) {
+    }
+
+    /**
+     * 연결 1개의 상태 (직렬화된 송신 세션, 인증 정보, 핸드셰이크 액세스 토큰, 진행 중인 스트림)
+     */
+    private final class Connection {
+
+        private final WebSocketSession session;
+        private final SecurityContext securityContext;
+        private final Integer accessTokenId;
+        private final Instant accessTokenExpiresAt;
+        private final Map<String, WebSocketStreamEmitter> streams = new ConcurrentHashMap<>();
+
+        private Connection(WebSocketSession session, SecurityContext securityContext,
+                           Integer accessTokenId, Instant accessTokenExpiresAt) {
+            this.session = session;
+            this.securityContext = securityContext;
+            this.accessTokenId = accessTokenId;
+            this.accessTokenExpiresAt = accessTokenExpiresAt;
+        }
+
+        private void send(Map<String, Object> frame) throws IOException {
+            if (!session.isOpen()) {
+                throw new IOException("WebSocket 연결이 닫혔습니다");
+            }
+            try {
+                session.sendMessage(new TextMessage(objectMapper.writeValueAsString(frame)));
+            } catch (SessionLimitExceededException e) {
+                // 느린 클라이언트: 데코레이터가 연결을 종료하며, 생성 스레드에는 연결 끊김으로 전달
+                throw new IOException("WebSocket 송신 한도 초과: " + e.getMessage(), e);
+            }
+        }
+
+        private void sendError(String streamId, BaseException error) {
+            sendError(streamId, error.getErrorCode(), error.getMessage());
+        }
+
+        private void sendError(String streamId, ErrorCode errorCode, String message) {
+            Map<String, Object> frame = new LinkedHashMap<>();
+            frame.put("type", "error");
+            frame.put("streamId", streamId);
+            frame.put("code", errorCode.getCode());
+            frame.put("message", message);
+            try {
+                send(frame);
+            } catch (IOException e) {
+                log.debug("WebSocket 에러 프레임 전송 실패: streamId={}, error={}", streamId, e.getMessage());
+            }
+        }
+    }
+}
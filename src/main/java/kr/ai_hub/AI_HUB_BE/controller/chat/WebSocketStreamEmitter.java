@@ -0,0 +1,169 @@
+package kr.ai_hub.AI_HUB_BE.controller.chat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.ai_hub.AI_HUB_BE.global.error.ErrorCode;
+import kr.ai_hub.AI_HUB_BE.global.error.exception.BaseException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * WebSocket 연결 위의 스트림 1개를 SseEmitter처럼 사용하게 하는 어댑터
+ * <p>
+ * MessageService는 SSE와 동일하게 이벤트를 보내고, 각 이벤트는 streamId가 붙은 JSON 프레임으로 변환됩니다.
+ * MVC 핸들러에 반환되지 않으므로 부모의 응답 처리 로직은 사용하지 않습니다.
+ * 취소되었거나 종료된 스트림에 보내면 IOException을 던져 응답 생성을 중단시킵니다 (클라이언트 연결 끊김과 동일한 처리).
+ * </p>
+ */
+@Slf4j
+class WebSocketStreamEmitter extends SseEmitter {
+
+    /**
+     * 프레임 전송 (연결 단위로 직렬화되며 송신 버퍼 한도를 넘으면 IOException)
+     */
+    @FunctionalInterface
+    interface FrameSender {
+        void send(Map<String, Object> frame) throws IOException;
+    }
+
+    private static final String EVENT_FIELD = "event:";
+    private static final String DATA_FIELD = "data:";
+    private static final String DATA_LINE_BREAK = "\ndata:";
+
+    private final String streamId;
+    private final FrameSender sender;
+    private final ObjectMapper objectMapper;
+    private final Consumer<WebSocketStreamEmitter> onFinish;
+
+    private boolean finished;
+
+    WebSocketStreamEmitter(String streamId, FrameSender sender, ObjectMapper objectMapper,
+                           Consumer<WebSocketStreamEmitter> onFinish) {
+        this.streamId = streamId;
+        this.sender = sender;
+        this.objectMapper = objectMapper;
+        this.onFinish = onFinish;
+    }
+
+    String getStreamId() {
+        return streamId;
+    }
+
+    @Override
+    public void send(SseEventBuilder builder) throws IOException {
+        send(builder.build());
+    }
+
+    @Override
+    public synchronized void send(Set<DataWithMediaType> items) throws IOException {
+        if (finished) {
+            throw new IOException("종료된 WebSocket 스트림입니다: " + streamId);
+        }
+        Map<String, Object> frame = toEventFrame(items);
+        if (frame != null) {
+            sender.send(frame);
+        }
+    }
+
+    @Override
+    public void complete() {
+        finish(frame("end"));
+    }
+
+    @Override
+    public void completeWithError(Throwable ex) {
+        ErrorCode errorCode = ex instanceof BaseException baseException
+                ? baseException.getErrorCode()
+                : ErrorCode.INTERNAL_SERVER_ERROR;
+        Map<String, Object> frame = frame("error");
+        frame.put("code", errorCode.getCode());
+        // BaseException 외의 예외 메시지는 내부 정보일 수 있으므로 노출하지 않음
+        frame.put("message", ex instanceof BaseException ? ex.getMessage() : errorCode.getMessage());
+        finish(frame);
+    }
+
+    /**
+     * 클라이언트 요청으로 스트림을 취소합니다. 이후 전송은 실패하므로 생성 스레드가 다음 이벤트에서 중단합니다.
+     */
+    void cancel() {
+        finish(frame("cancelled"));
+    }
+
+    /**
+     * 연결이 이미 닫혀 프레임을 보낼 수 없는 경우 스트림만 종료합니다.
+     */
+    void abort() {
+        finish(null);
+    }
+
+    private void finish(Map<String, Object> lastFrame) {
+        synchronized (this) {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            if (lastFrame != null) {
+                try {
+                    sender.send(lastFrame);
+                } catch (IOException | RuntimeException e) {
+                    log.debug("WebSocket 종료 프레임 전송 실패: streamId={}, error={}", streamId, e.getMessage());
+                }
+            }
+        }
+        onFinish.accept(this);
+    }
+
+    private Map<String, Object> frame(String type) {
+        Map<String, Object> frame = new LinkedHashMap<>();
+        frame.put("type", type);
+        frame.put("streamId", streamId);
+        return frame;
+    }
+
+    /**
+     * SSE 이벤트 항목에서 event/data 필드만 추출합니다 (주석만 있는 이벤트는 null).
+     * <p>
+     * 빌더는 "event:이름\ndata:" 같은 구조 텍스트와 데이터 값을 별도 항목으로 두므로,
+     * 전체를 텍스트로 조립해 다시 나누지 않고 "data:"로 끝나는 항목 바로 뒤의 값을 그대로 데이터로 사용합니다.
+     * 데이터가 공백으로 시작해도(예: " world" delta) 그대로 전달됩니다.
+     * </p>
+     */
+    private Map<String, Object> toEventFrame(Set<DataWithMediaType> items) throws IOException {
+        String event = null;
+        StringBuilder data = null;
+        boolean payloadNext = false;
+        for (DataWithMediaType item : items) {
+            Object value = item.getData();
+            if (payloadNext) {
+                // 여러 줄 문자열은 빌더가 줄마다 data: 를 붙여 두므로 원문으로 되돌림
+                String payload = value instanceof CharSequence text
+                        ? text.toString().replace(DATA_LINE_BREAK, "\n")
+                        : objectMapper.writeValueAsString(value);
+                data = data == null ? new StringBuilder(payload) : data.append('\n').append(payload);
+                payloadNext = false;
+                continue;
+            }
+
+            String text = String.valueOf(value);
+            for (String line : text.split("\n")) {
+                if (line.startsWith(EVENT_FIELD)) {
+                    event = line.substring(EVENT_FIELD.length());
+                }
+            }
+            payloadNext = text.endsWith(DATA_FIELD);
+        }
+        if (event == null && data == null) {
+            return null;
+        }
+
+        Map<String, Object> frame = frame("event");
+        frame.put("event", event != null ? event : "message");
+        frame.put("data", data != null ? data.toString() : "");
+        return frame;
+    }
+}
@@ -9,15 +9,21 @@ import kr.ai_hub.AI_HUB_BE.application.dashboard.dto.ModelPricingResponse;
 import kr.ai_hub.AI_HUB_BE.application.dashboard.dto.MonthlyUsageResponse;
 import kr.ai_hub.AI_HUB_BE.application.dashboard.dto.UserStatsResponse;
 import kr.ai_hub.AI_HUB_BE.global.common.response.ApiResponse;
+import kr.ai_hub.AI_HUB_BE.global.common.response.ETagSupport;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -29,6 +35,11 @@ import java.util.List;
 @Validated
 public class DashboardController {
 
+    /**
+     * 공개 데이터이며 관리자 수정 시에만 바뀌므로 CDN/브라우저 캐시를 허용하고 이후에는 ETag로 재검증
+     */
+    private static final CacheControl PRICING_CACHE_CONTROL = CacheControl.maxAge(Duration.ofMinutes(1)).cachePublic();
+
     private final DashboardService dashboardService;
 
     /**
@@ -36,12 +47,19 @@ public class DashboardController {
      */
     @Operation(summary = "모델 가격 조회")
     @GetMapping("/models/pricing")
-    public ResponseEntity<ApiResponse<List<ModelPricingResponse>>> getModelPricing() {
+    public ResponseEntity<ApiResponse<List<ModelPricingResponse>>> getModelPricing(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("모델 가격 대시보드 API 호출");
 
+        // 가격 정보가 바뀌지 않았으면 조회 없이 304 반환
+        String eTag = ETagSupport.strong("pricing", dashboardService.getModelPricingVersion());
+        if (ETagSupport.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(PRICING_CACHE_CONTROL).build();
+        }
+
         List<ModelPricingResponse> response = dashboardService.getModelPricing();
 
-        return ResponseEntity.ok(ApiResponse.ok(response));
+        return ResponseEntity.ok().eTag(eTag).cacheControl(PRICING_CACHE_CONTROL).body(ApiResponse.ok(response));
     }
 
     /**
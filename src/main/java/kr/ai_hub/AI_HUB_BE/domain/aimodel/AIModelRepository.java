@@ -1,8 +1,10 @@
 package kr.ai_hub.AI_HUB_BE.domain.aimodel;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,4 +16,7 @@ public interface AIModelRepository extends JpaRepository<AIModel, Integer> {
     List<AIModel> findByIsActive(Boolean isActive);
 
     List<AIModel> findByIsActiveTrueOrderByCreatedAtDesc();
+
+    @Query("SELECT MAX(m.updatedAt) FROM AIModel m")
+    Optional<LocalDateTime> findLatestUpdatedAt();
 }
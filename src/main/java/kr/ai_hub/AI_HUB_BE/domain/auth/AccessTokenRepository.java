@@ -1,7 +1,11 @@
 package kr.ai_hub.AI_HUB_BE.domain.auth;
 
 import kr.ai_hub.AI_HUB_BE.domain.user.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -19,9 +23,47 @@ public interface AccessTokenRepository extends JpaRepository<AccessToken, Intege
 
     List<AccessToken> findByRefreshToken(RefreshToken refreshToken);
 
-    void deleteByExpiresAtBefore(LocalDateTime dateTime);
-
     void deleteByUser(User user);
 
     void deleteByRefreshToken(RefreshToken refreshToken);
+
+    /**
+     * 사용자의 폐기되지 않은 액세스 토큰을 단일 UPDATE 문으로 폐기하고 폐기 건수를 반환합니다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE AccessToken a SET a.isRevoked = true, a.revokedAt = :now, a.revokedReason = :reason " +
+            "WHERE a.user = :user AND a.isRevoked = false")
+    int revokeAllByUser(@Param("user") User user,
+                        @Param("reason") TokenRevokeReason reason,
+                        @Param("now") LocalDateTime now);
+
+    /**
+     * 리프레시 토큰으로 발급된 폐기되지 않은 액세스 토큰을 단일 UPDATE 문으로 폐기하고 폐기 건수를 반환합니다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE AccessToken a SET a.isRevoked = true, a.revokedAt = :now, a.revokedReason = :reason " +
+            "WHERE a.refreshToken = :refreshToken AND a.isRevoked = false")
+    int revokeAllByRefreshToken(@Param("refreshToken") RefreshToken refreshToken,
+                                @Param("reason") TokenRevokeReason reason,
+                                @Param("now") LocalDateTime now);
+
+    /**
+     * 정리 대상 액세스 토큰 ID를 배치 크기만큼 조회합니다.
+     * 만료되었거나, 폐기된 뒤 보존 기간이 지난 토큰이 대상입니다.
+     */
+    @Query("SELECT a.tokenId FROM AccessToken a " +
+            "WHERE a.expiresAt < :now " +
+            "OR (a.isRevoked = true AND a.revokedAt < :revokedBefore) " +
+            "ORDER BY a.tokenId")
+    List<Integer> findPurgeableTokenIds(@Param("now") LocalDateTime now,
+                                        @Param("revokedBefore") LocalDateTime revokedBefore,
+                                        Pageable pageable);
+
+    /**
+     * 주어진 ID의 액세스 토큰을 단일 DELETE 문으로 일괄 삭제합니다.
+     * 엔티티를 로딩하지 않으므로 영속성 컨텍스트를 비웁니다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM AccessToken a WHERE a.tokenId IN :tokenIds")
+    int deleteAllByTokenIds(@Param("tokenIds") List<Integer> tokenIds);
 }
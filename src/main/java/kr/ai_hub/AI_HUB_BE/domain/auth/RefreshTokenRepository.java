@@ -1,7 +1,11 @@
 package kr.ai_hub.AI_HUB_BE.domain.auth;
 
 import kr.ai_hub.AI_HUB_BE.domain.user.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -17,7 +21,46 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Inte
 
     List<RefreshToken> findByUserAndIsRevokedFalse(User user);
 
-    void deleteByExpiresAtBefore(LocalDateTime dateTime);
-
     void deleteByUser(User user);
+
+    /**
+     * 사용자의 폐기되지 않은 리프레시 토큰을 단일 UPDATE 문으로 폐기하고 폐기 건수를 반환합니다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE RefreshToken r SET r.isRevoked = true, r.revokedAt = :now, r.revokedReason = :reason " +
+            "WHERE r.user = :user AND r.isRevoked = false")
+    int revokeAllByUser(@Param("user") User user,
+                        @Param("reason") TokenRevokeReason reason,
+                        @Param("now") LocalDateTime now);
+
+    /**
+     * 아직 폐기되지 않은 리프레시 토큰만 조건부로 폐기하고 마지막 사용 시간을 함께 갱신합니다.
+     * 동시에 같은 토큰으로 회전을 시도하면 한 요청만 1을 반환받습니다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE RefreshToken r SET r.isRevoked = true, r.revokedAt = :now, r.revokedReason = :reason, " +
+            "r.lastUsedAt = :now WHERE r.tokenId = :tokenId AND r.isRevoked = false")
+    int revokeIfActive(@Param("tokenId") Integer tokenId,
+                       @Param("reason") TokenRevokeReason reason,
+                       @Param("now") LocalDateTime now);
+
+    /**
+     * 정리 대상 리프레시 토큰 ID를 배치 크기만큼 조회합니다.
+     * 만료되었거나 보존 기간이 지난 폐기 토큰 중, 아직 액세스 토큰이 참조하지 않는 토큰만 대상입니다.
+     */
+    @Query("SELECT r.tokenId FROM RefreshToken r " +
+            "WHERE (r.expiresAt < :now " +
+            "OR (r.isRevoked = true AND r.revokedAt < :revokedBefore)) " +
+            "AND NOT EXISTS (SELECT a.tokenId FROM AccessToken a WHERE a.refreshToken = r) " +
+            "ORDER BY r.tokenId")
+    List<Integer> findPurgeableTokenIds(@Param("now") LocalDateTime now,
+                                        @Param("revokedBefore") LocalDateTime revokedBefore,
+                                        Pageable pageable);
+
+    /**
+     * 주어진 ID의 리프레시 토큰을 단일 DELETE 문으로 일괄 삭제합니다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM RefreshToken r WHERE r.tokenId IN :tokenIds")
+    int deleteAllByTokenIds(@Param("tokenIds") List<Integer> tokenIds);
 }
@@ -0,0 +1,67 @@
+package kr.ai_hub.AI_HUB_BE.domain.chat;
+
+import jakarta.persistence.*;
+import kr.ai_hub.AI_HUB_BE.domain.aimodel.AIModel;
+import kr.ai_hub.AI_HUB_BE.domain.user.User;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * AI 서버 업로드 파일 캐시
+ * 같은 사용자가 같은 모델에 같은 내용의 파일을 다시 업로드하지 않도록 (사용자, 모델, SHA-256 해시) → AI 서버 파일 ID를 보관합니다.
+ * 사용자 간에는 공유하지 않습니다. 공유하면 다른 사용자의 파일 ID가 노출되고, 캐시 적중 여부로 특정 파일의 업로드 사실을 알아낼 수 있습니다.
+ * AI 서버의 파일 보관 기간이 지나면 파일 ID가 무효가 되므로 expires_at 이후에는 사용하지 않습니다.
+ */
+@Entity
+@Table(name = "ai_file_cache",
+        uniqueConstraints = @UniqueConstraint(name = "uk_ai_file_cache_user_model_hash",
+                columnNames = {"user_id", "model_id", "content_hash"}),
+        indexes = @Index(name = "idx_ai_file_cache_expires_at", columnList = "expires_at"))
+@EntityListeners(AuditingEntityListener.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class AiFileCache {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "cache_id")
+    private Long cacheId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false, foreignKey = @ForeignKey(name = "fk_ai_file_cache_user"))
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "model_id", nullable = false, foreignKey = @ForeignKey(name = "fk_ai_file_cache_ai_model"))
+    private AIModel aiModel;
+
+    @Column(name = "content_hash", length = 64, nullable = false)
+    private String contentHash;
+
+    @Column(name = "file_id", length = 100, nullable = false)
+    private String fileId;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    /**
+     * 같은 파일을 다시 업로드한 경우 새 파일 ID와 만료 시간으로 갱신합니다.
+     */
+    public void refresh(String fileId, LocalDateTime expiresAt) {
+        this.fileId = fileId;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isExpired() {
+        return LocalDateTime.now().isAfter(expiresAt);
+    }
+}
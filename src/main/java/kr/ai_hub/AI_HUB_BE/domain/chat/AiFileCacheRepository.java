@@ -0,0 +1,27 @@
+package kr.ai_hub.AI_HUB_BE.domain.chat;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface AiFileCacheRepository extends JpaRepository<AiFileCache, Long> {
+
+    @Query("SELECT c FROM AiFileCache c " +
+            "WHERE c.user.userId = :userId AND c.aiModel.modelId = :modelId AND c.contentHash = :contentHash")
+    Optional<AiFileCache> findByUserIdAndModelIdAndContentHash(@Param("userId") Integer userId,
+                                                               @Param("modelId") Integer modelId,
+                                                               @Param("contentHash") String contentHash);
+
+    /**
+     * 만료된 캐시 항목을 단일 DELETE 문으로 삭제합니다.
+     */
+    @Modifying
+    @Query("DELETE FROM AiFileCache c WHERE c.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
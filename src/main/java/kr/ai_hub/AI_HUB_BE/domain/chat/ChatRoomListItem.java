@@ -0,0 +1,17 @@
+package kr.ai_hub.AI_HUB_BE.domain.chat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 채팅방 목록 조회용 프로젝션.
+ * 마지막 메시지 시각을 서브쿼리로 함께 조회하여 채팅방별 추가 쿼리를 없앱니다.
+ */
+public record ChatRoomListItem(
+        UUID roomId,
+        String title,
+        BigDecimal coinUsage,
+        LocalDateTime lastMessageAt,
+        LocalDateTime createdAt
+) {}
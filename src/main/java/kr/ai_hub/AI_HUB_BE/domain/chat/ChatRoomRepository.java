@@ -4,6 +4,8 @@ import kr.ai_hub.AI_HUB_BE.domain.user.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -16,7 +18,20 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, UUID> {
 
     List<ChatRoom> findByUserOrderByCreatedAtDesc(User user);
 
-    Page<ChatRoom> findByUser(User user, Pageable pageable);
+    /**
+     * 채팅방 목록을 마지막 메시지 시각과 함께 한 번의 쿼리로 조회합니다 (엔티티 미적재).
+     * 마지막 메시지 시각은 idx_message_room_created 인덱스를 사용하는 서브쿼리로 계산합니다.
+     */
+    @Query(value = """
+            SELECT new kr.ai_hub.AI_HUB_BE.domain.chat.ChatRoomListItem(
+                c.roomId, c.title, c.coinUsage,
+                (SELECT MAX(m.createdAt) FROM Message m WHERE m.chatRoom = c),
+                c.createdAt)
+            FROM ChatRoom c
+            WHERE c.user = :user
+            """,
+            countQuery = "SELECT COUNT(c) FROM ChatRoom c WHERE c.user = :user")
+    Page<ChatRoomListItem> findListItemsByUser(@Param("user") User user, Pageable pageable);
 
     /**
      * 특정 사용자의 전체 채팅방 수를 조회합니다 (최적화된 COUNT 쿼리).
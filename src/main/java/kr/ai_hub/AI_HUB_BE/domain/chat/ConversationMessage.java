@@ -0,0 +1,15 @@
+package kr.ai_hub.AI_HUB_BE.domain.chat;
+
+import java.util.UUID;
+
+/**
+ * 대화 문맥 구성용 프로젝션.
+ * 문맥에 필요한 역할/본문과 이어가기 판단에 필요한 응답 ID/모델만 조회합니다.
+ */
+public record ConversationMessage(
+        UUID messageId,
+        MessageRole role,
+        String content,
+        String responseId,
+        Integer modelId
+) {}
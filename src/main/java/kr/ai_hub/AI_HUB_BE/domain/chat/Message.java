@@ -35,7 +35,8 @@ public class Message {
     @Column(name = "role", length = 10, nullable = false)
     private MessageRole role;
 
-    @Column(name = "content", columnDefinition = "TEXT", nullable = false)
+    // 본문은 INSERT 이후 MessageContentWriter로만 바꾸므로, 다른 필드 변경 시 dirty checking UPDATE가 본문을 덮어쓰지 않도록 제외
+    @Column(name = "content", columnDefinition = "TEXT", nullable = false, updatable = false)
     private String content;
 
     @Column(name = "file_url", length = 500)
@@ -0,0 +1,34 @@
+package kr.ai_hub.AI_HUB_BE.domain.chat;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.Reader;
+import java.util.UUID;
+
+/**
+ * 메시지 본문을 문자 스트림으로 저장합니다.
+ * <p>
+ * 긴 AI 응답을 String으로 합치지 않고 Reader 그대로 PreparedStatement에 바인딩합니다.
+ * JPA와 같은 트랜잭션(커넥션)에서 실행되므로, 호출 전에 대상 메시지 INSERT가 flush되어 있어야 합니다.
+ * </p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class MessageContentWriter {
+
+    private static final String UPDATE_CONTENT_SQL = "UPDATE message SET content = ? WHERE message_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 변경된 행 수
+     */
+    public int writeContent(UUID messageId, Reader content, int length) {
+        return jdbcTemplate.update(UPDATE_CONTENT_SQL, ps -> {
+            ps.setCharacterStream(1, content, length);
+            ps.setObject(2, messageId);
+        });
+    }
+}
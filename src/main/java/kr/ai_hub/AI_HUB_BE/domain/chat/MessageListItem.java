@@ -0,0 +1,19 @@
+package kr.ai_hub.AI_HUB_BE.domain.chat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 메시지 목록 조회용 프로젝션.
+ * 엔티티를 영속성 컨텍스트에 올리지 않고 목록 응답에 필요한 컬럼만 조회합니다.
+ */
+public record MessageListItem(
+        UUID messageId,
+        MessageRole role,
+        String content,
+        BigDecimal tokenCount,
+        BigDecimal coinCount,
+        Integer modelId,
+        LocalDateTime createdAt
+) {}
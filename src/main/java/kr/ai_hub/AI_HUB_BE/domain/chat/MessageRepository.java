@@ -3,6 +3,8 @@ package kr.ai_hub.AI_HUB_BE.domain.chat;
 import kr.ai_hub.AI_HUB_BE.domain.user.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -15,15 +17,51 @@ import java.util.UUID;
 @Repository
 public interface MessageRepository extends JpaRepository<Message, UUID> {
 
-    List<Message> findByChatRoom(ChatRoom chatRoom);
-
     List<Message> findByChatRoomOrderByCreatedAtAsc(ChatRoom chatRoom);
 
     List<Message> findByChatRoomRoomId(UUID roomId);
 
-    Optional<Message> findTopByChatRoomOrderByCreatedAtDesc(ChatRoom chatRoom);
+    /**
+     * 권한 확인(채팅방 소유자)을 위해 채팅방을 함께 조회합니다.
+     */
+    @EntityGraph(attributePaths = "chatRoom")
+    Optional<Message> findWithChatRoomByMessageId(UUID messageId);
+
+    /**
+     * 채팅방 메시지 목록을 응답에 필요한 컬럼만 조회합니다 (엔티티 미적재).
+     */
+    @Query(value = """
+            SELECT new kr.ai_hub.AI_HUB_BE.domain.chat.MessageListItem(
+                m.messageId, m.role, m.content, m.tokenCount, m.coinCount, m.aiModel.modelId, m.createdAt)
+            FROM Message m
+            WHERE m.chatRoom = :chatRoom
+            """,
+            countQuery = "SELECT COUNT(m) FROM Message m WHERE m.chatRoom = :chatRoom")
+    Page<MessageListItem> findListItemsByChatRoom(@Param("chatRoom") ChatRoom chatRoom, Pageable pageable);
 
-    Page<Message> findByChatRoom(ChatRoom chatRoom, Pageable pageable);
+    /**
+     * 대화 문맥 구성을 위해 채팅방 메시지를 최신순으로 조회합니다 (COUNT 쿼리 없음).
+     */
+    @Query("""
+            SELECT new kr.ai_hub.AI_HUB_BE.domain.chat.ConversationMessage(
+                m.messageId, m.role, m.content, m.responseId, m.aiModel.modelId)
+            FROM Message m
+            WHERE m.chatRoom = :chatRoom
+            ORDER BY m.createdAt DESC, m.messageId DESC
+            """)
+    Slice<ConversationMessage> findConversationByChatRoom(@Param("chatRoom") ChatRoom chatRoom, Pageable pageable);
+
+    /**
+     * 채팅방에서 해당 AI 응답을 생성한 모델 ID를 조회합니다.
+     */
+    @Query("""
+            SELECT m.aiModel.modelId
+            FROM Message m
+            WHERE m.chatRoom = :chatRoom
+              AND m.responseId = :responseId
+              AND m.role = kr.ai_hub.AI_HUB_BE.domain.chat.MessageRole.ASSISTANT
+            """)
+    List<Integer> findResponseModelIds(@Param("chatRoom") ChatRoom chatRoom, @Param("responseId") String responseId);
 
     List<Message> findByChatRoomUser(User user);
 
@@ -0,0 +1,22 @@
+package kr.ai_hub.AI_HUB_BE.domain.payment;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 코인 거래 내역 목록 조회용 프로젝션.
+ * 연관 엔티티는 식별자와 모델명만 조회합니다.
+ */
+public record CoinTransactionListItem(
+        Long transactionId,
+        String transactionType,
+        BigDecimal amount,
+        BigDecimal balanceAfter,
+        String description,
+        Integer modelId,
+        String modelName,
+        UUID roomId,
+        UUID messageId,
+        LocalDateTime createdAt
+) {}
@@ -4,7 +4,10 @@ import kr.ai_hub.AI_HUB_BE.domain.chat.ChatRoom;
 import kr.ai_hub.AI_HUB_BE.domain.user.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -21,17 +24,47 @@ public interface CoinTransactionRepository extends JpaRepository<CoinTransaction
 
     List<CoinTransaction> findByTransactionType(String transactionType);
 
-    List<CoinTransaction> findByUserAndTransactionType(User user, String transactionType);
-
     List<CoinTransaction> findByCreatedAtBetween(LocalDateTime startDate, LocalDateTime endDate);
 
+    // 대시보드 집계에서 모델명을 사용하므로 AI 모델을 함께 조회
+    @EntityGraph(attributePaths = "aiModel")
+    List<CoinTransaction> findByUserAndTransactionType(User user, String transactionType);
+
+    @EntityGraph(attributePaths = "aiModel")
     List<CoinTransaction> findByUserAndCreatedAtBetween(User user, LocalDateTime startDate, LocalDateTime endDate);
 
-    Page<CoinTransaction> findByUser(User user, Pageable pageable);
+    // 모델명을 위해 AI 모델만 LEFT JOIN하며, 채팅방/메시지는 외래키 값만 조회
+    String LIST_ITEM_SELECT = """
+            SELECT new kr.ai_hub.AI_HUB_BE.domain.payment.CoinTransactionListItem(
+                t.transactionId, t.transactionType, t.amount, t.balanceAfter, t.description,
+                a.modelId, a.modelName, t.chatRoom.roomId, t.message.messageId, t.createdAt)
+            FROM CoinTransaction t
+            LEFT JOIN t.aiModel a
+            """;
+
+    /**
+     * 코인 거래 내역 목록을 응답에 필요한 컬럼만 조회합니다 (엔티티 미적재).
+     */
+    @Query(value = LIST_ITEM_SELECT + "WHERE t.user = :user",
+            countQuery = "SELECT COUNT(t) FROM CoinTransaction t WHERE t.user = :user")
+    Page<CoinTransactionListItem> findListItemsByUser(@Param("user") User user, Pageable pageable);
 
-    Page<CoinTransaction> findByUserAndTransactionType(User user, String transactionType, Pageable pageable);
+    @Query(value = LIST_ITEM_SELECT + "WHERE t.user = :user AND t.transactionType = :transactionType",
+            countQuery = "SELECT COUNT(t) FROM CoinTransaction t WHERE t.user = :user AND t.transactionType = :transactionType")
+    Page<CoinTransactionListItem> findListItemsByUserAndTransactionType(
+            @Param("user") User user, @Param("transactionType") String transactionType, Pageable pageable);
 
-    Page<CoinTransaction> findByUserAndCreatedAtBetween(User user, LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
+    @Query(value = LIST_ITEM_SELECT + "WHERE t.user = :user AND t.createdAt BETWEEN :startDate AND :endDate",
+            countQuery = "SELECT COUNT(t) FROM CoinTransaction t WHERE t.user = :user AND t.createdAt BETWEEN :startDate AND :endDate")
+    Page<CoinTransactionListItem> findListItemsByUserAndCreatedAtBetween(
+            @Param("user") User user, @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate, Pageable pageable);
 
-    Page<CoinTransaction> findByUserAndTransactionTypeAndCreatedAtBetween(User user, String transactionType, LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
+    @Query(value = LIST_ITEM_SELECT
+            + "WHERE t.user = :user AND t.transactionType = :transactionType AND t.createdAt BETWEEN :startDate AND :endDate",
+            countQuery = "SELECT COUNT(t) FROM CoinTransaction t WHERE t.user = :user AND t.transactionType = :transactionType "
+                    + "AND t.createdAt BETWEEN :startDate AND :endDate")
+    Page<CoinTransactionListItem> findListItemsByUserAndTransactionTypeAndCreatedAtBetween(
+            @Param("user") User user, @Param("transactionType") String transactionType,
+            @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate, Pageable pageable);
 }
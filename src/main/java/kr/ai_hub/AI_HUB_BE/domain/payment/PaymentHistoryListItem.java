@@ -0,0 +1,23 @@
+package kr.ai_hub.AI_HUB_BE.domain.payment;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 결제 내역 목록 조회용 프로젝션.
+ */
+public record PaymentHistoryListItem(
+        Long paymentId,
+        String transactionId,
+        String paymentMethod,
+        BigDecimal amountKrw,
+        BigDecimal amountUsd,
+        BigDecimal coinAmount,
+        BigDecimal bonusCoin,
+        String status,
+        String paymentGateway,
+        Map<String, Object> metadata,
+        LocalDateTime createdAt,
+        LocalDateTime completedAt
+) {}
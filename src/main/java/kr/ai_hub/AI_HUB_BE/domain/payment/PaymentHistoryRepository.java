@@ -4,6 +4,8 @@ import kr.ai_hub.AI_HUB_BE.domain.user.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -25,7 +27,22 @@ public interface PaymentHistoryRepository extends JpaRepository<PaymentHistory,
 
     List<PaymentHistory> findByCreatedAtBetween(LocalDateTime startDate, LocalDateTime endDate);
 
-    Page<PaymentHistory> findByUser(User user, Pageable pageable);
-
-    Page<PaymentHistory> findByUserAndStatus(User user, String status, Pageable pageable);
+    String LIST_ITEM_SELECT = """
+            SELECT new kr.ai_hub.AI_HUB_BE.domain.payment.PaymentHistoryListItem(
+                p.paymentId, p.transactionId, p.paymentMethod, p.amountKrw, p.amountUsd, p.coinAmount,
+                p.bonusCoin, p.status, p.paymentGateway, p.metadata, p.createdAt, p.completedAt)
+            FROM PaymentHistory p
+            """;
+
+    /**
+     * 결제 내역 목록을 응답에 필요한 컬럼만 조회합니다 (엔티티 미적재).
+     */
+    @Query(value = LIST_ITEM_SELECT + "WHERE p.user = :user",
+            countQuery = "SELECT COUNT(p) FROM PaymentHistory p WHERE p.user = :user")
+    Page<PaymentHistoryListItem> findListItemsByUser(@Param("user") User user, Pageable pageable);
+
+    @Query(value = LIST_ITEM_SELECT + "WHERE p.user = :user AND p.status = :status",
+            countQuery = "SELECT COUNT(p) FROM PaymentHistory p WHERE p.user = :user AND p.status = :status")
+    Page<PaymentHistoryListItem> findListItemsByUserAndStatus(
+            @Param("user") User user, @Param("status") String status, Pageable pageable);
 }
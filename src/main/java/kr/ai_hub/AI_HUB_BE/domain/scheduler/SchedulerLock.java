@@ -0,0 +1,32 @@
+package kr.ai_hub.AI_HUB_BE.domain.scheduler;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄 작업의 단일 노드 실행을 보장하기 위한 임대(lease) 락.
+ * locked_until 이 지나면 다른 노드가 락을 가져갈 수 있습니다.
+ */
+@Entity
+@Table(name = "scheduler_lock")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class SchedulerLock {
+
+    @Id
+    @Column(name = "lock_name", length = 64)
+    private String lockName;
+
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "locked_at", nullable = false)
+    private LocalDateTime lockedAt;
+
+    @Column(name = "locked_by", length = 100, nullable = false)
+    private String lockedBy;
+}
@@ -0,0 +1,48 @@
+package kr.ai_hub.AI_HUB_BE.domain.scheduler;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+
+    /**
+     * 락 레코드가 없으면 만료된 상태로 생성합니다. 이미 있으면 아무 것도 하지 않습니다.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO scheduler_lock (lock_name, locked_until, locked_at, locked_by) " +
+            "VALUES (:lockName, :now, :now, :lockedBy) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("lockName") String lockName,
+                       @Param("lockedBy") String lockedBy,
+                       @Param("now") LocalDateTime now);
+
+    /**
+     * 임대 기간이 지난 락만 조건부 UPDATE로 획득합니다. 획득 성공 시 1을 반환합니다.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE SchedulerLock l SET l.lockedUntil = :lockedUntil, l.lockedAt = :now, l.lockedBy = :lockedBy " +
+            "WHERE l.lockName = :lockName AND l.lockedUntil <= :now")
+    int acquire(@Param("lockName") String lockName,
+                @Param("lockedBy") String lockedBy,
+                @Param("now") LocalDateTime now,
+                @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    /**
+     * 자신이 보유한 락만 즉시 만료시켜 반납합니다.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE SchedulerLock l SET l.lockedUntil = :now " +
+            "WHERE l.lockName = :lockName AND l.lockedBy = :lockedBy")
+    int release(@Param("lockName") String lockName,
+                @Param("lockedBy") String lockedBy,
+                @Param("now") LocalDateTime now);
+}
@@ -7,6 +7,7 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import kr.ai_hub.AI_HUB_BE.application.auth.accesstoken.AccessTokenService;
+import kr.ai_hub.AI_HUB_BE.domain.auth.AccessToken;
 import kr.ai_hub.AI_HUB_BE.global.application.CookieService;
 import kr.ai_hub.AI_HUB_BE.global.error.exception.InvalidTokenException;
 import lombok.RequiredArgsConstructor;
@@ -25,6 +26,10 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    // 요청 이후에도 인증을 유지하는 연결(WebSocket)이 토큰 만료/폐기를 다시 확인할 수 있도록 요청 속성으로 전달
+    public static final String ACCESS_TOKEN_ID_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".ACCESS_TOKEN_ID";
+    public static final String ACCESS_TOKEN_EXPIRES_AT_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".ACCESS_TOKEN_EXPIRES_AT";
+
     private final JwtTokenProvider jwtTokenProvider;
     private final AccessTokenService accessTokenService;
     private final CookieService cookieService;
@@ -41,10 +46,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 return;
             }
 
-            accessTokenService.validateAndUseToken(token);
+            AccessToken accessToken = accessTokenService.validateAndUseToken(token);
             Claims claims = jwtTokenProvider.parseClaims(token);
             Authentication authentication = jwtTokenProvider.getAuthentication(claims);
             SecurityContextHolder.getContext().setAuthentication(authentication);
+            request.setAttribute(ACCESS_TOKEN_ID_ATTRIBUTE, accessToken.getTokenId());
+            request.setAttribute(ACCESS_TOKEN_EXPIRES_AT_ATTRIBUTE, claims.getExpiration().toInstant());
         } catch (InvalidTokenException | JwtException e) {
             log.debug("토큰 검증 실패: {}", e.getMessage());
             SecurityContextHolder.clearContext();
@@ -0,0 +1,38 @@
+package kr.ai_hub.AI_HUB_BE.global.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 2차 캐시에서 엔티티를 명시적으로 제거합니다.
+ * <p>
+ * READ_WRITE 리전은 엔티티 수정 시 커밋과 함께 캐시가 갱신되지만,
+ * 캐시 조회(findById)는 @SQLRestriction 조건을 적용하지 않으므로 소프트 삭제된 엔티티는 커밋 후 제거해야 합니다.
+ * 2차 캐시가 비활성이면 아무 동작도 하지 않습니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class SecondLevelCacheEvictor {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 엔티티를 캐시에서 제거합니다 (트랜잭션이 없으면 즉시 제거).
+     */
+    public void evictAfterCommit(Class<?> entityClass, Object id) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            entityManagerFactory.getCache().evict(entityClass, id);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                entityManagerFactory.getCache().evict(entityClass, id);
+            }
+        });
+    }
+}
@@ -0,0 +1,30 @@
+package kr.ai_hub.AI_HUB_BE.global.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Hibernate 2차 캐시 설정
+ *
+ * @param enabled 2차 캐시 사용 여부
+ * @param regions 캐시 리전별 설정 (엔티티의 @Cache region 이름과 일치해야 함)
+ */
+@ConfigurationProperties(prefix = "jpa.second-level-cache")
+public record SecondLevelCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue Map<String, Region> regions
+) {
+
+    /**
+     * @param maxEntries 리전에 보관할 최대 엔티티 수
+     * @param timeToLive 저장 후 만료 시간 (다른 노드의 변경이 반영되기까지의 최대 지연)
+     */
+    public record Region(
+            long maxEntries,
+            Duration timeToLive
+    ) {
+    }
+}
@@ -0,0 +1,72 @@
+package kr.ai_hub.AI_HUB_BE.global.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Hibernate 2차 캐시 리전을 JCache(Caffeine) 캐시로 생성합니다.
+ * <p>
+ * 리전마다 최대 크기와 TTL을 적용하고 통계를 켜서 cache.gets(hit/miss) 등 Micrometer 메트릭으로 노출합니다.
+ * 기본 CacheManager는 같은 클래스로더 안에서 공유되므로, 컨텍스트마다 고유한 리전 접두사를 사용하고
+ * 종료 시 자신이 만든 캐시만 제거합니다.
+ * </p>
+ */
+@Slf4j
+public class SecondLevelCacheRegions implements AutoCloseable {
+
+    private final CacheManager cacheManager;
+    private final String regionPrefix;
+    private final List<String> cacheNames = new ArrayList<>();
+
+    public SecondLevelCacheRegions(SecondLevelCacheProperties properties, MeterRegistry meterRegistry) {
+        this.cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+        this.regionPrefix = "l2-" + UUID.randomUUID().toString().substring(0, 8);
+
+        properties.regions().forEach((region, limits) -> {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(limits.maxEntries()));
+            configuration.setExpireAfterWrite(OptionalLong.of(limits.timeToLive().toNanos()));
+            // Hibernate 캐시 엔트리는 분해된 불변 상태이므로 참조로 저장 (직렬화 복사 생략)
+            configuration.setStoreByValue(false);
+            configuration.setStatisticsEnabled(true);
+
+            String cacheName = cacheName(region);
+            Cache<Object, Object> cache = cacheManager.createCache(cacheName, configuration);
+            cacheNames.add(cacheName);
+            JCacheMetrics.monitor(meterRegistry, cache, Tags.of("region", region));
+            log.info("2차 캐시 리전 생성: region={}, maxEntries={}, ttl={}", region, limits.maxEntries(), limits.timeToLive());
+        });
+    }
+
+    public CacheManager getCacheManager() {
+        return cacheManager;
+    }
+
+    /**
+     * Hibernate의 hibernate.cache.region_prefix 값 (캐시 이름은 "접두사.리전")
+     */
+    public String getRegionPrefix() {
+        return regionPrefix;
+    }
+
+    @Override
+    public void close() {
+        cacheNames.forEach(cacheManager::destroyCache);
+    }
+
+    private String cacheName(String region) {
+        return regionPrefix + "." + region;
+    }
+}
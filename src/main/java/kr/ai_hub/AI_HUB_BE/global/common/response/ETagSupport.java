@@ -0,0 +1,53 @@
+package kr.ai_hub.AI_HUB_BE.global.common.response;
+
+/**
+ * ETag 생성 및 조건부 요청(If-None-Match) 판정 유틸리티
+ * <p>
+ * 컨트롤러가 서비스/DB 작업 전에 메모리의 버전 정보만으로 304 응답 여부를 결정할 수 있도록 합니다.
+ * </p>
+ */
+public final class ETagSupport {
+
+    private static final String WEAK_PREFIX = "W/";
+
+    private ETagSupport() {
+    }
+
+    /**
+     * 리소스 종류와 버전으로 강한(strong) ETag를 생성합니다.
+     *
+     * @param resource 리소스 종류 (예: models, pricing, msg)
+     * @param version  리소스 버전
+     * @return 따옴표로 감싼 ETag 값
+     */
+    public static String strong(String resource, Object version) {
+        return "\"" + resource + "-" + version + "\"";
+    }
+
+    /**
+     * If-None-Match 헤더가 현재 ETag와 일치하는지 확인합니다.
+     * RFC 9110에 따라 If-None-Match는 약한 비교를 사용하므로 W/ 접두사는 무시합니다.
+     * {@code *}는 "리소스가 존재하면" 일치하는 조건인데, 이 판정은 조회 전에 ID/버전만으로 하므로
+     * 존재 여부를 알 수 없어 일치로 보지 않습니다 (일반 응답으로 처리).
+     *
+     * @param ifNoneMatch If-None-Match 헤더 값 (없으면 null)
+     * @param eTag        현재 리소스의 ETag
+     * @return 일치하면 true (304 응답 대상)
+     */
+    public static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank() || eTag == null) {
+            return false;
+        }
+
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith(WEAK_PREFIX)) {
+                tag = tag.substring(WEAK_PREFIX.length());
+            }
+            if (tag.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,75 @@
+package kr.ai_hub.AI_HUB_BE.global.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Page;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * application/cbor 응답 지원
+ * <p>
+ * 메시지/거래/채팅방 목록처럼 큰 페이지 응답을 모바일 앱이 바이너리로 받을 수 있도록 CBOR 변환기를 추가합니다.
+ * Accept: application/cbor 요청에만 적용되며, 그 외 요청은 기존 JSON 응답 그대로입니다.
+ * CBOR 응답은 크기를 줄이기 위해 Page를 {content, page: {size, number, totalElements, totalPages}}로,
+ * 시각을 epoch milliseconds 정수로 직렬화합니다.
+ * </p>
+ */
+@Configuration
+@RequiredArgsConstructor
+public class CborConfig implements WebMvcConfigurer {
+
+    private final Jackson2ObjectMapperBuilder objectMapperBuilder;
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // 클래스패스 감지로 등록된 기본 CBOR 변환기(애플리케이션 Jackson 설정 미적용)를 교체하고,
+        // JSON 변환기 뒤에 두어 Accept가 없거나 */*인 요청이 CBOR로 협상되지 않게 함
+        converters.removeIf(MappingJackson2CborHttpMessageConverter.class::isInstance);
+        converters.add(new MappingJackson2CborHttpMessageConverter(cborObjectMapper(objectMapperBuilder)));
+    }
+
+    /**
+     * 애플리케이션 Jackson 설정(모듈, 기능)을 그대로 사용하는 CBOR ObjectMapper를 만듭니다.
+     */
+    public static ObjectMapper cborObjectMapper(Jackson2ObjectMapperBuilder builder) {
+        ObjectMapper objectMapper = builder
+                .factory(new CBORFactory())
+                .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .featuresToDisable(SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS)
+                .build();
+        SimpleModule compactPageModule = new SimpleModule("CompactPageModule");
+        compactPageModule.addSerializer(new CompactPageSerializer());
+        objectMapper.registerModule(compactPageModule);
+        return objectMapper;
+    }
+
+    /**
+     * PageImpl의 pageable/sort/first/last 등 중복 메타데이터 대신 Spring Data PagedModel 형태로 직렬화
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static final class CompactPageSerializer extends StdSerializer<Page> {
+
+        private CompactPageSerializer() {
+            super(Page.class);
+        }
+
+        @Override
+        public void serialize(Page page, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            provider.defaultSerializeValue(new PagedModel<>(page), generator);
+        }
+    }
+}
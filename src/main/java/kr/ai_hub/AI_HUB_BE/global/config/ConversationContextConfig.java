@@ -0,0 +1,13 @@
+package kr.ai_hub.AI_HUB_BE.global.config;
+
+import kr.ai_hub.AI_HUB_BE.application.chat.message.ConversationContextProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 모델 전환 시 대화 문맥 구성 설정 바인딩
+ */
+@Configuration
+@EnableConfigurationProperties(ConversationContextProperties.class)
+public class ConversationContextConfig {
+}
@@ -0,0 +1,97 @@
+package kr.ai_hub.AI_HUB_BE.global.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.ai_hub.AI_HUB_BE.global.datasource.DataSourceRoutingProperties;
+import kr.ai_hub.AI_HUB_BE.global.datasource.ReadYourWritesTracker;
+import kr.ai_hub.AI_HUB_BE.global.datasource.ReplicaLagMonitor;
+import kr.ai_hub.AI_HUB_BE.global.datasource.ReplicaRoutingDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션을 레플리카로 보내는 라우팅 DataSource 구성
+ * <p>
+ * datasource.routing.enabled=true일 때만 활성화되며, 비활성 시에는 Spring Boot 기본 DataSource를 사용합니다.
+ * 프라이머리는 spring.datasource.* (hikari 포함) 설정을 그대로 사용하고, 레플리카마다 별도 Hikari 풀을 생성합니다.
+ * 모든 풀은 풀 이름(pool 태그)으로 구분되는 hikaricp.* 메트릭을 기록합니다.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+public class DataSourceRoutingConfig {
+
+    private static final String PRIMARY_POOL_NAME = "primary";
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(DataSourceRoutingProperties properties) {
+        return new ReadYourWritesTracker(properties.readYourWritesWindow());
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties dataSourceProperties,
+                                                             DataSourceRoutingProperties properties,
+                                                             ReadYourWritesTracker readYourWritesTracker,
+                                                             Environment environment,
+                                                             MeterRegistry meterRegistry) {
+        MicrometerMetricsTrackerFactory metricsTrackerFactory = new MicrometerMetricsTrackerFactory(meterRegistry);
+
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        if (primary.getPoolName() == null) {
+            primary.setPoolName(PRIMARY_POOL_NAME);
+        }
+        primary.setMetricsTrackerFactory(metricsTrackerFactory);
+
+        Map<String, HikariDataSource> replicas = new LinkedHashMap<>();
+        for (DataSourceRoutingProperties.Replica replica : properties.replicas()) {
+            HikariDataSource replicaDataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(dataSourceProperties.determineDriverClassName())
+                    .url(replica.url())
+                    .username(replica.username() != null ? replica.username() : dataSourceProperties.determineUsername())
+                    .password(replica.password() != null ? replica.password() : dataSourceProperties.determinePassword())
+                    .build();
+            replicaDataSource.setPoolName(replica.name());
+            replicaDataSource.setMaximumPoolSize(replica.maximumPoolSize());
+            replicaDataSource.setReadOnly(true);
+            replicaDataSource.setMetricsTrackerFactory(metricsTrackerFactory);
+            replicas.put(replica.name(), replicaDataSource);
+        }
+
+        return new ReplicaRoutingDataSource(primary, replicas, readYourWritesTracker, meterRegistry);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ReplicaRoutingDataSource replicaRoutingDataSource,
+                                               DataSourceRoutingProperties properties,
+                                               MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(replicaRoutingDataSource, properties.maxLag(), properties.lagQuery(), meterRegistry);
+    }
+
+    /**
+     * 트랜잭션의 readOnly 플래그가 설정된 뒤(첫 쿼리 시점)에 라우팅 대상이 결정되도록 지연 프록시로 감쌉니다.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
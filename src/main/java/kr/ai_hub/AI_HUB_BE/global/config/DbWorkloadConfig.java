@@ -0,0 +1,29 @@
+package kr.ai_hub.AI_HUB_BE.global.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.ai_hub.AI_HUB_BE.global.datasource.DbWorkloadAspect;
+import kr.ai_hub.AI_HUB_BE.global.datasource.DbWorkloadGovernor;
+import kr.ai_hub.AI_HUB_BE.global.datasource.DbWorkloadProperties;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.workload", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(DbWorkloadProperties.class)
+public class DbWorkloadConfig {
+
+    @Bean
+    public DbWorkloadGovernor dbWorkloadGovernor(DbWorkloadProperties properties,
+                                                 @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+                                                 MeterRegistry meterRegistry) {
+        return new DbWorkloadGovernor(properties, poolSize, meterRegistry);
+    }
+
+    @Bean
+    public DbWorkloadAspect dbWorkloadAspect(DbWorkloadGovernor dbWorkloadGovernor) {
+        return new DbWorkloadAspect(dbWorkloadGovernor);
+    }
+}
@@ -0,0 +1,37 @@
+package kr.ai_hub.AI_HUB_BE.global.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.ai_hub.AI_HUB_BE.global.ratelimit.RateLimitFilter;
+import kr.ai_hub.AI_HUB_BE.global.ratelimit.RateLimitProperties;
+import kr.ai_hub.AI_HUB_BE.global.ratelimit.TokenBucketRateLimiter;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig {
+
+    @Bean
+    public TokenBucketRateLimiter tokenBucketRateLimiter(RateLimitProperties properties) {
+        return new TokenBucketRateLimiter(properties.idleTimeout());
+    }
+
+    @Bean
+    public RateLimitFilter rateLimitFilter(RateLimitProperties properties,
+                                           TokenBucketRateLimiter tokenBucketRateLimiter,
+                                           ObjectMapper objectMapper,
+                                           MeterRegistry meterRegistry) {
+        return new RateLimitFilter(properties, tokenBucketRateLimiter, objectMapper, meterRegistry);
+    }
+
+    // Security 필터 체인에서만 실행되도록 서블릿 컨테이너 자동 등록을 막는다.
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter rateLimitFilter) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(rateLimitFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+}
@@ -0,0 +1,42 @@
+package kr.ai_hub.AI_HUB_BE.global.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.ai_hub.AI_HUB_BE.global.cache.SecondLevelCacheProperties;
+import kr.ai_hub.AI_HUB_BE.global.cache.SecondLevelCacheRegions;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate 2차 캐시(JCache + Caffeine) 구성
+ * <p>
+ * @Cache가 선언된 엔티티(User, AIModel)의 PK 조회를 캐시합니다. 쿼리 캐시는 사용하지 않습니다.
+ * 설정되지 않은 리전은 생성하지 않고 기동을 실패시켜 크기/TTL 제한 없는 캐시가 생기지 않도록 합니다.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "jpa.second-level-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(SecondLevelCacheProperties.class)
+public class SecondLevelCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public SecondLevelCacheRegions secondLevelCacheRegions(SecondLevelCacheProperties properties,
+                                                           MeterRegistry meterRegistry) {
+        return new SecondLevelCacheRegions(properties, meterRegistry);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheHibernatePropertiesCustomizer(SecondLevelCacheRegions regions) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_PREFIX, regions.getRegionPrefix());
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, regions.getCacheManager());
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+}
@@ -3,6 +3,7 @@ package kr.ai_hub.AI_HUB_BE.global.config;
 import kr.ai_hub.AI_HUB_BE.application.auth.CustomOAuth2UserService;
 import kr.ai_hub.AI_HUB_BE.global.auth.jwt.JwtAuthenticationEntryPoint;
 import kr.ai_hub.AI_HUB_BE.global.auth.jwt.JwtAuthenticationFilter;
+import kr.ai_hub.AI_HUB_BE.global.ratelimit.RateLimitFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -26,6 +27,7 @@ public class SecurityConfig {
     private final AuthenticationSuccessHandler oAuth2SuccessHandler;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
+    private final RateLimitFilter rateLimitFilter;
 
     @Value("${deployment.address}")
     private String deploymentAddress;
@@ -55,6 +57,8 @@ public class SecurityConfig {
                 )
                 // ↓ JWT 검증 필터 등록
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                // ↓ 요청 속도 제한 필터 (인증 정보를 사용하므로 JWT 필터 뒤에 등록)
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class)
                 // ↓ (선택) 인증 실패 핸들러
                 .exceptionHandling(ex ->
                         ex.authenticationEntryPoint(jwtAuthenticationEntryPoint));
@@ -0,0 +1,32 @@
+package kr.ai_hub.AI_HUB_BE.global.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import kr.ai_hub.AI_HUB_BE.global.sse.SseCompressionFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * SSE 응답 압축 필터 등록 (sse.compression.enabled=true 일 때만)
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "sse.compression", name = "enabled", havingValue = "true")
+public class SseCompressionConfig {
+
+    @Bean
+    public FilterRegistrationBean<SseCompressionFilter> sseCompressionFilterRegistration(
+            MeterRegistry meterRegistry,
+            @Value("${sse.compression.level:6}") int level) {
+        FilterRegistrationBean<SseCompressionFilter> registration =
+                new FilterRegistrationBean<>(new SseCompressionFilter(level, meterRegistry));
+        // 인증 실패 등 다른 필터가 쓰는 응답도 감쌀 수 있도록 Security 필터 체인보다 바깥에 등록
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        registration.setDispatcherTypes(DispatcherType.REQUEST, DispatcherType.ASYNC);
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
@@ -1,7 +1,9 @@
 package kr.ai_hub.AI_HUB_BE.global.config;
 
+import kr.ai_hub.AI_HUB_BE.application.chat.message.ImagePreprocessingProperties;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
@@ -21,6 +23,7 @@ import java.time.Duration;
  */
 @Slf4j
 @Configuration
+@EnableConfigurationProperties(ImagePreprocessingProperties.class)
 public class WebClientConfig {
 
     @Value("${ai-server.url}")
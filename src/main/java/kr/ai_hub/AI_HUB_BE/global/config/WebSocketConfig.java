@@ -0,0 +1,40 @@
+package kr.ai_hub.AI_HUB_BE.global.config;
+
+import kr.ai_hub.AI_HUB_BE.controller.chat.AccessTokenHandshakeInterceptor;
+import kr.ai_hub.AI_HUB_BE.controller.chat.ChatWebSocketHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+import java.util.Arrays;
+
+/**
+ * 채팅 WebSocket 엔드포인트 설정
+ * <p>
+ * 핸드셰이크는 일반 HTTP 요청과 같은 Security 필터 체인(JWT 쿠키/헤더 인증)을 거치며,
+ * 허용 Origin은 CORS 설정과 동일하게 사용합니다.
+ * 인증에 사용한 액세스 토큰 정보는 연결 중 만료/폐기 확인을 위해 세션 속성으로 옮깁니다.
+ * </p>
+ */
+@Configuration
+@EnableWebSocket
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final ChatWebSocketHandler chatWebSocketHandler;
+    private final String[] allowedOrigins;
+
+    public WebSocketConfig(ChatWebSocketHandler chatWebSocketHandler,
+                           @Value("${cors.allowed-origins}") String[] allowedOrigins) {
+        this.chatWebSocketHandler = chatWebSocketHandler;
+        this.allowedOrigins = allowedOrigins;
+    }
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(chatWebSocketHandler, "/ws/chat")
+                .addInterceptors(new AccessTokenHandshakeInterceptor())
+                .setAllowedOrigins(Arrays.stream(allowedOrigins).map(String::trim).toArray(String[]::new));
+    }
+}
@@ -0,0 +1,46 @@
+package kr.ai_hub.AI_HUB_BE.global.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 읽기 전용 트랜잭션의 레플리카 라우팅 설정
+ *
+ * @param enabled              레플리카 라우팅 사용 여부 (false면 기본 단일 DataSource 사용)
+ * @param replicas             레플리카 목록 (라운드로빈으로 분산)
+ * @param maxLag               허용 복제 지연 (초과한 레플리카는 라우팅 대상에서 제외)
+ * @param readYourWritesWindow 사용자의 쓰기 커밋 이후 해당 사용자의 읽기를 프라이머리로 고정할 시간
+ * @param lagQuery             복제 지연(밀리초)을 조회하는 쿼리
+ */
+@ConfigurationProperties(prefix = "datasource.routing")
+public record DataSourceRoutingProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue List<Replica> replicas,
+        @DefaultValue("PT5S") Duration maxLag,
+        @DefaultValue("PT5S") Duration readYourWritesWindow,
+        @DefaultValue(DataSourceRoutingProperties.POSTGRES_LAG_QUERY) String lagQuery
+) {
+
+    // 수신한 WAL을 모두 재생했으면 0, 아니면 마지막 재생 트랜잭션 이후 경과 시간
+    public static final String POSTGRES_LAG_QUERY = "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0) END";
+
+    /**
+     * @param name            레플리카 이름 (커넥션 풀 이름 및 메트릭 태그로 사용)
+     * @param url             JDBC URL
+     * @param username        접속 계정 (비어 있으면 프라이머리 계정 사용)
+     * @param password        접속 비밀번호 (비어 있으면 프라이머리 비밀번호 사용)
+     * @param maximumPoolSize 레플리카 커넥션 풀 최대 크기
+     */
+    public record Replica(
+            String name,
+            String url,
+            String username,
+            String password,
+            @DefaultValue("10") int maximumPoolSize
+    ) {
+    }
+}
@@ -0,0 +1,19 @@
+package kr.ai_hub.AI_HUB_BE.global.datasource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 서비스 메서드(또는 클래스 전체)의 DB 작업 부류를 지정합니다.
+ * 메서드에 선언된 값이 클래스에 선언된 값보다 우선합니다.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface DbWorkload {
+
+    WorkloadClass value();
+}
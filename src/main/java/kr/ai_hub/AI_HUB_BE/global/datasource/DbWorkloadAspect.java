@@ -0,0 +1,78 @@
+package kr.ai_hub.AI_HUB_BE.global.datasource;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.MethodClassKey;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서비스 호출을 작업 부류별 동시 실행 제한으로 감쌉니다.
+ * 트랜잭션(커넥션 획득)보다 먼저 허가를 받도록 트랜잭션 어드바이스(LOWEST_PRECEDENCE) 바로 바깥에서 실행되며,
+ * 메서드 보안 검사보다는 안쪽에서 실행되어 권한 없는 호출이 허가를 점유하지 않습니다.
+ * <p>
+ * {@link DbWorkload}가 선언되어 있으면 그 부류를 따르고, 없으면 application 패키지의 {@link Transactional} 호출을
+ * {@link WorkloadClass#DEFAULT}로 제한합니다. NOT_SUPPORTED/NEVER 트랜잭션은 커넥션을 잡지 않으므로 제한하지 않습니다.
+ * </p>
+ */
+@Aspect
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+@RequiredArgsConstructor
+public class DbWorkloadAspect {
+
+    private final DbWorkloadGovernor governor;
+    private final Map<MethodClassKey, Optional<WorkloadClass>> resolved = new ConcurrentHashMap<>();
+
+    @Around("@within(kr.ai_hub.AI_HUB_BE.global.datasource.DbWorkload) "
+            + "|| @annotation(kr.ai_hub.AI_HUB_BE.global.datasource.DbWorkload) "
+            + "|| (within(kr.ai_hub.AI_HUB_BE.application..) "
+            + "&& (@within(org.springframework.transaction.annotation.Transactional) "
+            + "|| @annotation(org.springframework.transaction.annotation.Transactional)))")
+    public Object govern(ProceedingJoinPoint joinPoint) throws Throwable {
+        Optional<WorkloadClass> workloadClass = resolveWorkloadClass(joinPoint);
+        if (workloadClass.isEmpty()) {
+            return joinPoint.proceed();
+        }
+        return governor.execute(workloadClass.get(), joinPoint::proceed);
+    }
+
+    private Optional<WorkloadClass> resolveWorkloadClass(ProceedingJoinPoint joinPoint) {
+        Class<?> targetClass = AopUtils.getTargetClass(joinPoint.getTarget());
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        return resolved.computeIfAbsent(new MethodClassKey(method, targetClass),
+                key -> resolve(AopUtils.getMostSpecificMethod(method, targetClass), targetClass));
+    }
+
+    private static Optional<WorkloadClass> resolve(Method method, Class<?> targetClass) {
+        DbWorkload workload = AnnotatedElementUtils.findMergedAnnotation(method, DbWorkload.class);
+        if (workload == null) {
+            workload = AnnotatedElementUtils.findMergedAnnotation(targetClass, DbWorkload.class);
+        }
+        if (workload != null) {
+            return Optional.of(workload.value());
+        }
+
+        Transactional transactional = AnnotatedElementUtils.findMergedAnnotation(method, Transactional.class);
+        if (transactional == null) {
+            transactional = AnnotatedElementUtils.findMergedAnnotation(targetClass, Transactional.class);
+        }
+        if (transactional == null
+                || transactional.propagation() == Propagation.NOT_SUPPORTED
+                || transactional.propagation() == Propagation.NEVER) {
+            return Optional.empty();
+        }
+        return Optional.of(WorkloadClass.DEFAULT);
+    }
+}
@@ -0,0 +1,137 @@
+package kr.ai_hub.AI_HUB_BE.global.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.ai_hub.AI_HUB_BE.global.error.exception.ServiceUnavailableException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 작업 부류별로 DB 작업의 동시 실행 수를 제한합니다.
+ * <p>
+ * 가상 스레드 환경에서는 요청 스레드 수가 커넥션 풀 크기보다 훨씬 크므로,
+ * 대시보드 집계 같은 무거운 조회가 몰리면 과금 쓰기와 인증이 커넥션 대기열 뒤로 밀립니다.
+ * 비핵심 부류에 공정(fair) 세마포어 상한을 두어 나머지 커넥션을 핵심 부류 몫으로 남겨둡니다.
+ * 허가는 트랜잭션 시작 전에 획득하며, 이미 허가를 받은 호출 안의 중첩 호출은 다시 획득하지 않습니다.
+ * </p>
+ */
+@Slf4j
+public class DbWorkloadGovernor {
+
+    private final Map<WorkloadClass, Gate> gates = new EnumMap<>(WorkloadClass.class);
+    private final ThreadLocal<WorkloadClass> current = new ThreadLocal<>();
+
+    public DbWorkloadGovernor(DbWorkloadProperties properties, int poolSize, MeterRegistry meterRegistry) {
+        int reservedByLimits = 0;
+        for (WorkloadClass workloadClass : WorkloadClass.values()) {
+            DbWorkloadProperties.Limit limit = properties.limits().get(workloadClass);
+            Gate gate = new Gate(workloadClass, limit, meterRegistry);
+            gates.put(workloadClass, gate);
+            if (limit != null && !workloadClass.isCritical()) {
+                reservedByLimits += limit.maxConcurrent();
+            }
+        }
+
+        if (reservedByLimits >= poolSize) {
+            log.warn("비핵심 작업 부류의 동시 실행 상한 합계({})가 커넥션 풀 크기({}) 이상입니다. 핵심 작업이 대기할 수 있습니다",
+                    reservedByLimits, poolSize);
+        }
+    }
+
+    /**
+     * 작업 부류의 실행 허가를 받은 뒤 작업을 실행합니다.
+     *
+     * @throws ServiceUnavailableException 대기 시간 안에 허가를 받지 못한 경우
+     */
+    public Object execute(WorkloadClass workloadClass, Invocation invocation) throws Throwable {
+        if (current.get() != null) {
+            return invocation.proceed();
+        }
+
+        Gate gate = gates.get(workloadClass);
+        gate.acquire();
+        current.set(workloadClass);
+        try {
+            return invocation.proceed();
+        } finally {
+            current.remove();
+            gate.release();
+        }
+    }
+
+    @FunctionalInterface
+    public interface Invocation {
+        Object proceed() throws Throwable;
+    }
+
+    private static final class Gate {
+
+        private final WorkloadClass workloadClass;
+        private final Semaphore permits;
+        private final long acquireTimeoutNanos;
+        private final AtomicInteger active = new AtomicInteger();
+        private final Timer acquireTimer;
+        private final Counter rejectedCounter;
+
+        private Gate(WorkloadClass workloadClass, DbWorkloadProperties.Limit limit, MeterRegistry meterRegistry) {
+            this.workloadClass = workloadClass;
+            this.permits = limit != null ? new Semaphore(limit.maxConcurrent(), true) : null;
+            this.acquireTimeoutNanos = limit != null ? limit.acquireTimeout().toNanos() : 0L;
+
+            String tag = workloadClass.getTag();
+            Gauge.builder("db.workload.active", active, AtomicInteger::get)
+                    .description("실행 중인 DB 작업 수")
+                    .tag("workload", tag)
+                    .register(meterRegistry);
+            if (permits != null) {
+                Gauge.builder("db.workload.waiting", permits, Semaphore::getQueueLength)
+                        .description("실행 허가를 기다리는 DB 작업 수")
+                        .tag("workload", tag)
+                        .register(meterRegistry);
+            }
+            this.acquireTimer = Timer.builder("db.workload.acquire")
+                    .description("실행 허가 대기 시간")
+                    .tag("workload", tag)
+                    .register(meterRegistry);
+            this.rejectedCounter = Counter.builder("db.workload.rejected")
+                    .description("대기 시간 초과로 거부된 DB 작업 수")
+                    .tag("workload", tag)
+                    .register(meterRegistry);
+        }
+
+        private void acquire() {
+            if (permits != null) {
+                long start = System.nanoTime();
+                boolean acquired;
+                try {
+                    acquired = permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new ServiceUnavailableException("요청 처리 중 인터럽트가 발생했습니다");
+                } finally {
+                    acquireTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+                if (!acquired) {
+                    rejectedCounter.increment();
+                    log.warn("DB 작업 실행 허가 대기 시간 초과: workload={}", workloadClass.getTag());
+                    throw new ServiceUnavailableException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요");
+                }
+            }
+            active.incrementAndGet();
+        }
+
+        private void release() {
+            active.decrementAndGet();
+            if (permits != null) {
+                permits.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package kr.ai_hub.AI_HUB_BE.global.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 작업 부류별 DB 동시 실행 제한 설정
+ *
+ * @param enabled 제한 사용 여부
+ * @param limits  부류별 제한 (설정하지 않은 부류는 제한 없음)
+ */
+@ConfigurationProperties(prefix = "datasource.workload")
+public record DbWorkloadProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue Map<WorkloadClass, Limit> limits
+) {
+
+    /**
+     * @param maxConcurrent  동시에 실행할 수 있는 최대 작업 수
+     * @param acquireTimeout 실행 허가를 기다리는 최대 시간 (초과 시 503)
+     */
+    public record Limit(
+            int maxConcurrent,
+            @DefaultValue("PT3S") Duration acquireTimeout
+    ) {
+    }
+}
@@ -0,0 +1,57 @@
+package kr.ai_hub.AI_HUB_BE.global.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 사용자별 마지막 쓰기 커밋 시각을 기록하여 read-your-writes 일관성을 보장합니다.
+ * <p>
+ * 쓰기 직후 레플리카에 아직 반영되지 않은 데이터를 읽지 않도록,
+ * 윈도우 동안 해당 사용자의 읽기 전용 트랜잭션은 프라이머리로 라우팅됩니다.
+ * 기록은 노드 로컬이므로 다른 노드로 간 요청에는 적용되지 않으며, 이 경우 maxLag가 상한이 됩니다.
+ * </p>
+ */
+@Slf4j
+public class ReadYourWritesTracker {
+
+    private final Map<Integer, Long> lastWriteNanos = new ConcurrentHashMap<>();
+    private final LongSupplier nanoClock;
+    private final long windowNanos;
+
+    public ReadYourWritesTracker(Duration window) {
+        this(window, System::nanoTime);
+    }
+
+    ReadYourWritesTracker(Duration window, LongSupplier nanoClock) {
+        this.windowNanos = window.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    public void recordWrite(Integer userId) {
+        lastWriteNanos.put(userId, nanoClock.getAsLong());
+    }
+
+    /**
+     * 사용자의 마지막 쓰기 이후 윈도우가 지나지 않았으면 true를 반환합니다.
+     */
+    public boolean isWithinWindow(Integer userId) {
+        Long writtenAt = lastWriteNanos.get(userId);
+        return writtenAt != null && nanoClock.getAsLong() - writtenAt < windowNanos;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.routing.read-your-writes-eviction-interval:PT1M}")
+    public void evictExpired() {
+        long threshold = nanoClock.getAsLong() - windowNanos;
+        int before = lastWriteNanos.size();
+        lastWriteNanos.values().removeIf(writtenAt -> writtenAt - threshold < 0);
+        int evicted = before - lastWriteNanos.size();
+        if (evicted > 0) {
+            log.debug("만료된 read-your-writes 기록 정리: evicted={}, remaining={}", evicted, lastWriteNanos.size());
+        }
+    }
+}
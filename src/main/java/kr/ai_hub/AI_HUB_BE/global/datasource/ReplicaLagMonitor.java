@@ -0,0 +1,79 @@
+package kr.ai_hub.AI_HUB_BE.global.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 레플리카 복제 지연을 주기적으로 측정하여 라우팅 대상을 갱신합니다.
+ * 지연이 maxLag를 넘거나 조회에 실패한 레플리카는 다음 측정까지 라우팅에서 제외됩니다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final int LAG_QUERY_TIMEOUT_SECONDS = 2;
+    private static final long UNREACHABLE = -1L;
+
+    private final ReplicaRoutingDataSource routingDataSource;
+    private final long maxLagMillis;
+    private final String lagQuery;
+    private final Map<String, AtomicLong> lagMillis = new ConcurrentHashMap<>();
+
+    public ReplicaLagMonitor(ReplicaRoutingDataSource routingDataSource,
+                             Duration maxLag,
+                             String lagQuery,
+                             MeterRegistry meterRegistry) {
+        this.routingDataSource = routingDataSource;
+        this.maxLagMillis = maxLag.toMillis();
+        this.lagQuery = lagQuery;
+
+        routingDataSource.getReplicas().keySet().forEach(name -> {
+            AtomicLong lag = lagMillis.computeIfAbsent(name, k -> new AtomicLong(UNREACHABLE));
+            Gauge.builder("db.replica.lag", lag, AtomicLong::get)
+                    .description("레플리카 복제 지연 (밀리초, -1은 측정 실패)")
+                    .baseUnit("milliseconds")
+                    .tag("replica", name)
+                    .register(meterRegistry);
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.routing.lag-check-interval:PT5S}")
+    public void checkReplicas() {
+        List<String> healthy = new ArrayList<>();
+        routingDataSource.getReplicas().forEach((name, dataSource) -> {
+            long lag = measureLag(name, dataSource);
+            lagMillis.get(name).set(lag);
+            if (lag != UNREACHABLE && lag <= maxLagMillis) {
+                healthy.add(name);
+            } else if (lag != UNREACHABLE) {
+                log.warn("레플리카 복제 지연 초과로 라우팅 제외: replica={}, lagMs={}, maxLagMs={}", name, lag, maxLagMillis);
+            }
+        });
+        routingDataSource.updateHealthyReplicas(healthy);
+    }
+
+    private long measureLag(String name, HikariDataSource dataSource) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(LAG_QUERY_TIMEOUT_SECONDS);
+            try (ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                return resultSet.next() ? Math.max(0L, Math.round(resultSet.getDouble(1))) : UNREACHABLE;
+            }
+        } catch (Exception e) {
+            log.warn("레플리카 복제 지연 측정 실패로 라우팅 제외: replica={}, error={}", name, e.getMessage());
+            return UNREACHABLE;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package kr.ai_hub.AI_HUB_BE.global.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션을 레플리카로, 그 외 커넥션을 프라이머리로 라우팅하는 DataSource
+ * <p>
+ * 트랜잭션 시작 시점에는 readOnly 여부가 아직 동기화되지 않으므로,
+ * 반드시 LazyConnectionDataSourceProxy로 감싸 첫 쿼리 시점에 대상이 결정되도록 사용해야 합니다.
+ * </p>
+ * <ul>
+ *     <li>쓰기 트랜잭션: 프라이머리 (커밋 후 사용자 쓰기 시각 기록)</li>
+ *     <li>읽기 전용 트랜잭션 + 최근 쓰기가 있는 사용자: 프라이머리 (read-your-writes)</li>
+ *     <li>읽기 전용 트랜잭션: 복제 지연이 허용 범위인 레플리카 (라운드로빈), 없으면 프라이머리</li>
+ * </ul>
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    static final String PRIMARY = "primary";
+
+    private final HikariDataSource primary;
+    private final Map<String, HikariDataSource> replicas;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final AtomicInteger cursor = new AtomicInteger();
+    private volatile List<String> healthyReplicas = List.of();
+
+    private final Counter writeCounter;
+    private final Counter stickyCounter;
+    private final Counter fallbackCounter;
+    private final Map<String, Counter> replicaCounters = new HashMap<>();
+
+    public ReplicaRoutingDataSource(HikariDataSource primary,
+                                    Map<String, HikariDataSource> replicas,
+                                    ReadYourWritesTracker readYourWritesTracker,
+                                    MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.readYourWritesTracker = readYourWritesTracker;
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+
+        this.writeCounter = routingCounter(meterRegistry, PRIMARY, "read_write");
+        this.stickyCounter = routingCounter(meterRegistry, PRIMARY, "read_your_writes");
+        this.fallbackCounter = routingCounter(meterRegistry, PRIMARY, "replica_unavailable");
+        replicas.keySet().forEach(name -> replicaCounters.put(name, routingCounter(meterRegistry, name, "read_only")));
+    }
+
+    public Map<String, HikariDataSource> getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * 라우팅 대상 레플리카 목록을 갱신합니다 (ReplicaLagMonitor가 주기적으로 호출).
+     */
+    public void updateHealthyReplicas(Collection<String> names) {
+        List<String> updated = List.copyOf(names);
+        if (!updated.equals(healthyReplicas)) {
+            log.info("레플리카 라우팅 대상 변경: {} -> {}", healthyReplicas, updated);
+        }
+        this.healthyReplicas = updated;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Integer userId = currentUserId();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            trackWriteCommit(userId);
+            writeCounter.increment();
+            return PRIMARY;
+        }
+
+        if (userId != null && readYourWritesTracker.isWithinWindow(userId)) {
+            stickyCounter.increment();
+            return PRIMARY;
+        }
+
+        List<String> candidates = healthyReplicas;
+        if (candidates.isEmpty()) {
+            fallbackCounter.increment();
+            return PRIMARY;
+        }
+
+        String replica = candidates.get(Math.floorMod(cursor.getAndIncrement(), candidates.size()));
+        replicaCounters.get(replica).increment();
+        return replica;
+    }
+
+    @Override
+    public void close() {
+        replicas.values().forEach(HikariDataSource::close);
+        primary.close();
+    }
+
+    // 쓰기 트랜잭션이 커밋되면 해당 사용자의 이후 읽기를 잠시 프라이머리로 고정
+    private void trackWriteCommit(Integer userId) {
+        if (userId == null
+                || !TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWritesTracker.recordWrite(userId);
+            }
+        });
+    }
+
+    private static Integer currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(authentication.getName());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Counter routingCounter(MeterRegistry meterRegistry, String target, String reason) {
+        return Counter.builder("db.routing.connections")
+                .description("DataSource 라우팅 결정 수")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,27 @@
+package kr.ai_hub.AI_HUB_BE.global.datasource;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * DB 커넥션을 사용하는 작업 부류
+ * <p>
+ * critical 부류(인증, 채팅 과금 쓰기)는 동시 실행 수를 제한하지 않고,
+ * 나머지 부류는 상한을 두어 커넥션 풀을 독점하지 못하도록 합니다.
+ * {@link DbWorkload}가 없는 트랜잭션 서비스 호출은 DEFAULT 부류로 제한됩니다.
+ * </p>
+ */
+@Getter
+@RequiredArgsConstructor
+public enum WorkloadClass {
+
+    AUTH("auth", true),
+    CHAT_WRITE("chat-write", true),
+    ANALYTICS("analytics", false),
+    ADMIN("admin", false),
+    DEFAULT("default", false);
+
+    // 메트릭 태그 값
+    private final String tag;
+    private final boolean critical;
+}
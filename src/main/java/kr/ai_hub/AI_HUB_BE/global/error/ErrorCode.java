@@ -32,6 +32,7 @@ public enum ErrorCode {
     FORBIDDEN("접근 권한이 없습니다"),
     TRANSACTION_NOT_FOUND("거래 내역을 찾을 수 없습니다"),
     SYSTEM_ILLEGAL_STATE("시스템 상태가 유효하지 않습니다"),
+    TOO_MANY_REQUESTS("요청이 너무 많습니다. 잠시 후 다시 시도해주세요"),
 
     // 외부 서비스 오류
     AI_SERVER_ERROR("AI 서버와의 통신에 실패했습니다"),
@@ -47,6 +47,9 @@ public class GlobalExceptionHandler {
             // 409 CONFLICT
             case SYSTEM_ILLEGAL_STATE -> HttpStatus.CONFLICT;
 
+            // 429 TOO_MANY_REQUESTS
+            case TOO_MANY_REQUESTS -> HttpStatus.TOO_MANY_REQUESTS;
+
             // 502 BAD_GATEWAY
             case AI_SERVER_ERROR -> HttpStatus.BAD_GATEWAY;
 
@@ -0,0 +1,14 @@
+package kr.ai_hub.AI_HUB_BE.global.error.exception;
+
+import kr.ai_hub.AI_HUB_BE.global.error.ErrorCode;
+
+public class ServiceUnavailableException extends BaseException {
+
+    public ServiceUnavailableException() {
+        super(ErrorCode.SERVICE_UNAVAILABLE);
+    }
+
+    public ServiceUnavailableException(String message) {
+        super(ErrorCode.SERVICE_UNAVAILABLE, message);
+    }
+}
@@ -0,0 +1,123 @@
+package kr.ai_hub.AI_HUB_BE.global.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import kr.ai_hub.AI_HUB_BE.global.common.response.ApiResponse;
+import kr.ai_hub.AI_HUB_BE.global.error.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 경로별 요청 속도 제한 필터
+ * JWT 인증 필터 뒤에 위치하여 인증된 요청은 사용자 ID, 그 외에는 클라이언트 IP 기준으로 제한합니다.
+ * 제한 초과 시 429 Too Many Requests와 Retry-After 헤더를 반환합니다.
+ */
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final TokenBucketRateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final List<MatchedRoute> routes;
+
+    public RateLimitFilter(RateLimitProperties properties,
+                           TokenBucketRateLimiter rateLimiter,
+                           ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.enabled = properties.enabled();
+        this.routes = properties.routes().stream()
+                .map(route -> new MatchedRoute(route, PathPatternParser.defaultInstance.parse(route.pattern())))
+                .toList();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !enabled || routes.isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+        MatchedRoute matched = findRoute(request);
+        if (matched == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        RateLimitProperties.Route route = matched.route();
+        String clientKey = resolveClientKey(request);
+        long waitNanos = rateLimiter.tryAcquire(
+                route.name() + ":" + clientKey, route.capacity(), route.refillPeriod());
+
+        if (waitNanos > 0) {
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+            log.warn("요청 속도 제한 초과: route={}, client={}, retryAfter={}s", route.name(), clientKey, retryAfterSeconds);
+            meterRegistry.counter("rate_limit.rejected", "route", route.name()).increment();
+            writeTooManyRequests(response, retryAfterSeconds);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private MatchedRoute findRoute(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        for (MatchedRoute matched : routes) {
+            String method = matched.route().method();
+            if (StringUtils.hasText(method) && !method.equalsIgnoreCase(request.getMethod())) {
+                continue;
+            }
+            if (matched.pattern().matches(path)) {
+                return matched;
+            }
+        }
+        return null;
+    }
+
+    // 인증된 사용자는 사용자 ID, 그렇지 않으면 클라이언트 IP를 키로 사용한다.
+    // 로드 밸런서 뒤에서는 RemoteIpValve(server.forward-headers-strategy: native)가 remoteAddr를 실제 클라이언트 IP로 바꿔둔다.
+    private String resolveClientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void writeTooManyRequests(HttpServletResponse response, long retryAfterSeconds) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setContentType("application/json;charset=UTF-8");
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+
+        ApiResponse<?> apiResponse = ApiResponse.error(ErrorCode.TOO_MANY_REQUESTS);
+        response.getWriter().write(objectMapper.writeValueAsString(apiResponse));
+    }
+
+    private record MatchedRoute(RateLimitProperties.Route route, PathPattern pattern) {
+    }
+}
@@ -0,0 +1,38 @@
+package kr.ai_hub.AI_HUB_BE.global.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 경로별 요청 속도 제한 설정
+ *
+ * @param enabled     속도 제한 사용 여부
+ * @param idleTimeout 마지막 요청 이후 버킷 상태를 보관할 시간
+ * @param routes      제한을 적용할 경로 목록 (먼저 일치하는 경로가 적용됨)
+ */
+@ConfigurationProperties(prefix = "rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("PT10M") Duration idleTimeout,
+        @DefaultValue List<Route> routes
+) {
+
+    /**
+     * @param name         경로 이름 (버킷 키 및 메트릭 태그로 사용)
+     * @param pattern      요청 경로 패턴 (예: /api/v1/messages/send/**)
+     * @param method       HTTP 메서드 (비어 있으면 모든 메서드)
+     * @param capacity     순간적으로 허용되는 최대 요청 수 (버킷 크기)
+     * @param refillPeriod 버킷이 비어 있는 상태에서 가득 찰 때까지 걸리는 시간
+     */
+    public record Route(
+            String name,
+            String pattern,
+            String method,
+            long capacity,
+            Duration refillPeriod
+    ) {
+    }
+}
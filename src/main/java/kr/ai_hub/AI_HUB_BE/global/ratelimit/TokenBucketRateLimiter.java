@@ -0,0 +1,85 @@
+package kr.ai_hub.AI_HUB_BE.global.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 락 없는 토큰 버킷 속도 제한기 (GCRA 방식)
+ * <p>
+ * 버킷마다 "이론적 도착 시간(TAT)" 하나만 AtomicLong으로 보관하고 CAS로 갱신합니다.
+ * 토큰 수와 마지막 충전 시각을 따로 관리하지 않으므로 요청당 연산은 읽기 1회와 CAS 1회입니다.
+ * ConcurrentHashMap 자체가 해시 버킷 단위로 분할(striped)되어 있어 키가 다르면 경합하지 않습니다.
+ * </p>
+ */
+@Slf4j
+public class TokenBucketRateLimiter {
+
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final LongSupplier nanoClock;
+    private final long idleTimeoutNanos;
+
+    public TokenBucketRateLimiter(Duration idleTimeout) {
+        this(idleTimeout, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(Duration idleTimeout, LongSupplier nanoClock) {
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 토큰 하나를 소비합니다.
+     *
+     * @param key          버킷 키
+     * @param capacity     버킷 크기
+     * @param refillPeriod 빈 버킷이 가득 차는 데 걸리는 시간
+     * @return 허용되면 0, 거부되면 다음 토큰까지 기다려야 하는 시간(나노초)
+     */
+    public long tryAcquire(String key, long capacity, Duration refillPeriod) {
+        long burstNanos = refillPeriod.toNanos();
+        long intervalNanos = Math.max(1, burstNanos / capacity);
+        long now = nanoClock.getAsLong();
+
+        AtomicLong tat = buckets.get(key);
+        if (tat == null) {
+            tat = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        }
+
+        while (true) {
+            long current = tat.get();
+            long next = Math.max(current, now) + intervalNanos;
+            long waitNanos = next - now - burstNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (tat.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 유휴 시간이 지난 버킷을 제거합니다.
+     * TAT가 현재 시각보다 과거이면 버킷이 이미 가득 찬 상태이므로, 제거해도 동작에 차이가 없습니다.
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.eviction-interval:PT1M}")
+    public void evictIdleBuckets() {
+        long threshold = nanoClock.getAsLong() - idleTimeoutNanos;
+        int before = buckets.size();
+        buckets.values().removeIf(tat -> tat.get() - threshold < 0);
+        int evicted = before - buckets.size();
+        if (evicted > 0) {
+            log.debug("유휴 속도 제한 버킷 정리: evicted={}, remaining={}", evicted, buckets.size());
+        }
+    }
+
+    int size() {
+        return buckets.size();
+    }
+}
@@ -0,0 +1,77 @@
+package kr.ai_hub.AI_HUB_BE.global.sse;
+
+import io.netty.util.Timeout;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 마지막 전송 시각을 기록하는 SseEmitter
+ * <p>
+ * SseHeartbeatScheduler가 마지막 전송 이후 유휴 시간이 임계값을 넘은 경우에만 heartbeat 주석을 보냅니다.
+ * </p>
+ */
+public class HeartbeatSseEmitter extends SseEmitter {
+
+    private final Runnable onClose;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private volatile long lastSentNanos = System.nanoTime();
+    private volatile Timeout heartbeat;
+
+    HeartbeatSseEmitter(long timeoutMillis, Runnable onClose) {
+        super(timeoutMillis);
+        this.onClose = onClose;
+    }
+
+    @Override
+    public void send(SseEventBuilder builder) throws IOException {
+        super.send(builder);
+        lastSentNanos = System.nanoTime();
+    }
+
+    @Override
+    public void send(Set<DataWithMediaType> items) throws IOException {
+        super.send(items);
+        lastSentNanos = System.nanoTime();
+    }
+
+    @Override
+    public void complete() {
+        close();
+        super.complete();
+    }
+
+    @Override
+    public void completeWithError(Throwable ex) {
+        close();
+        super.completeWithError(ex);
+    }
+
+    long getLastSentNanos() {
+        return lastSentNanos;
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+
+    void setHeartbeat(Timeout heartbeat) {
+        this.heartbeat = heartbeat;
+    }
+
+    /**
+     * heartbeat를 중단합니다 (완료되었거나 클라이언트 연결이 끊긴 경우, 여러 번 호출해도 안전).
+     */
+    void close() {
+        if (closed.compareAndSet(false, true)) {
+            Timeout current = heartbeat;
+            if (current != null) {
+                current.cancel();
+            }
+            onClose.run();
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package kr.ai_hub.AI_HUB_BE.global.sse;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * text/event-stream 응답 본문만 압축하는 응답 래퍼
+ * <p>
+ * 본문을 처음 쓸 때 Content-Type을 확인해 SSE인 경우에만 압축 스트림을 사용합니다.
+ * SseEmitter는 이벤트마다 flushBuffer()를 호출하므로, 그때 SYNC_FLUSH로 압축기에 남은 데이터를 내보내
+ * 클라이언트가 이벤트를 지연 없이 풀 수 있게 합니다.
+ * </p>
+ */
+class SseCompressingResponse extends HttpServletResponseWrapper {
+
+    private final SseCompressionFilter.Encoding encoding;
+    private final int level;
+    private final SseCompressionFilter.CompressionRecorder recorder;
+
+    private CompressingOutputStream compressingStream;
+    private PrintWriter writer;
+    private boolean decided;
+
+    SseCompressingResponse(HttpServletResponse response, SseCompressionFilter.Encoding encoding, int level,
+                           SseCompressionFilter.CompressionRecorder recorder) {
+        super(response);
+        this.encoding = encoding;
+        this.level = level;
+        this.recorder = recorder;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        decide();
+        return compressingStream != null ? compressingStream : super.getOutputStream();
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        decide();
+        if (compressingStream == null) {
+            return super.getWriter();
+        }
+        if (writer == null) {
+            Charset charset = getCharacterEncoding() != null
+                    ? Charset.forName(getCharacterEncoding())
+                    : StandardCharsets.UTF_8;
+            writer = new PrintWriter(new OutputStreamWriter(compressingStream, charset));
+        }
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        if (compressingStream != null) {
+            compressingStream.syncFlush();
+        }
+        super.flushBuffer();
+    }
+
+    @Override
+    public void setContentLength(int len) {
+        if (compressingStream == null) {
+            super.setContentLength(len);
+        }
+    }
+
+    @Override
+    public void setContentLengthLong(long len) {
+        if (compressingStream == null) {
+            super.setContentLengthLong(len);
+        }
+    }
+
+    boolean isCompressing() {
+        return compressingStream != null;
+    }
+
+    /**
+     * 압축 스트림의 trailer를 쓰고 절감량을 기록합니다 (응답 완료 시 한 번, 여러 번 호출해도 안전).
+     */
+    void finish() throws IOException {
+        if (compressingStream == null) {
+            return;
+        }
+        if (writer != null) {
+            writer.flush();
+        }
+        compressingStream.finish();
+        super.flushBuffer();
+    }
+
+    private void decide() throws IOException {
+        if (decided) {
+            return;
+        }
+        decided = true;
+        if (!isEventStream(getContentType()) || getHeader(HttpHeaders.CONTENT_ENCODING) != null) {
+            return;
+        }
+        setHeader(HttpHeaders.CONTENT_ENCODING, encoding.headerValue());
+        addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        compressingStream = new CompressingOutputStream(super.getOutputStream());
+    }
+
+    private static boolean isEventStream(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        try {
+            return MediaType.TEXT_EVENT_STREAM.isCompatibleWith(MediaType.parseMediaType(contentType));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 압축 후 원본 출력 스트림으로 쓰인 바이트 수를 센다.
+     */
+    private static final class CountingOutputStream extends OutputStream {
+
+        private final OutputStream delegate;
+        private long count;
+
+        private CountingOutputStream(OutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            count += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+    }
+
+    private final class CompressingOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream target;
+        private final CountingOutputStream counter;
+        private final Deflater deflater;
+        private final DeflaterOutputStream compressor;
+        private long uncompressedBytes;
+        private boolean finished;
+
+        private CompressingOutputStream(ServletOutputStream target) throws IOException {
+            this.target = target;
+            this.counter = new CountingOutputStream(target);
+            if (encoding == SseCompressionFilter.Encoding.GZIP) {
+                SyncFlushGzipOutputStream gzip = new SyncFlushGzipOutputStream(counter, level);
+                this.deflater = gzip.deflater();
+                this.compressor = gzip;
+            } else {
+                // HTTP deflate는 zlib 형식
+                this.deflater = new Deflater(level);
+                this.compressor = new DeflaterOutputStream(counter, deflater, true);
+            }
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            compressor.write(b);
+            uncompressedBytes++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            compressor.write(b, off, len);
+            uncompressedBytes += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            syncFlush();
+        }
+
+        private void syncFlush() throws IOException {
+            if (!finished) {
+                // syncFlush=true로 생성했으므로 flush()가 Deflater SYNC_FLUSH를 수행
+                compressor.flush();
+            }
+        }
+
+        private void finish() throws IOException {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            try {
+                compressor.finish();
+                counter.flush();
+            } finally {
+                deflater.end();
+                recorder.record(uncompressedBytes, counter.count);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            finish();
+            target.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return target.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            target.setWriteListener(writeListener);
+        }
+    }
+
+    /**
+     * 압축 레벨을 지정할 수 있는 sync flush GZIP 스트림
+     */
+    private static final class SyncFlushGzipOutputStream extends GZIPOutputStream {
+
+        private SyncFlushGzipOutputStream(OutputStream out, int level) throws IOException {
+            super(out, true);
+            def.setLevel(level);
+        }
+
+        private Deflater deflater() {
+            return def;
+        }
+    }
+}
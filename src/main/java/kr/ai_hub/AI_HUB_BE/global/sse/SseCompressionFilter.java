@@ -0,0 +1,175 @@
+package kr.ai_hub.AI_HUB_BE.global.sse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.NonNull;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * SSE(text/event-stream) 응답 스트리밍 압축 필터
+ * <p>
+ * Accept-Encoding으로 gzip(우선) 또는 deflate를 협상하고, 이벤트마다 sync flush하여 지연 없이 압축합니다.
+ * SseEmitter 응답은 비동기로 끝나므로 완료 시의 ASYNC 디스패치에서 압축 스트림을 마무리합니다.
+ * 절감 바이트는 sse.compression.* 메트릭으로 기록합니다.
+ * </p>
+ */
+@Slf4j
+public class SseCompressionFilter extends OncePerRequestFilter {
+
+    private static final String RESPONSE_ATTRIBUTE = SseCompressionFilter.class.getName() + ".RESPONSE";
+
+    enum Encoding {
+        GZIP("gzip"),
+        DEFLATE("deflate");
+
+        private final String headerValue;
+
+        Encoding(String headerValue) {
+            this.headerValue = headerValue;
+        }
+
+        String headerValue() {
+            return headerValue;
+        }
+    }
+
+    /**
+     * 압축이 끝난 응답 1건의 원본/압축 바이트 수 기록
+     */
+    @FunctionalInterface
+    interface CompressionRecorder {
+        void record(long uncompressedBytes, long compressedBytes);
+    }
+
+    private final int level;
+    private final Counter uncompressedCounter;
+    private final Counter compressedCounter;
+    private final Counter savedCounter;
+
+    public SseCompressionFilter(int level, MeterRegistry meterRegistry) {
+        this.level = level;
+        this.uncompressedCounter = Counter.builder("sse.compression.bytes")
+                .tag("stage", "uncompressed")
+                .baseUnit("bytes")
+                .description("압축한 SSE 응답의 원본 바이트 수")
+                .register(meterRegistry);
+        this.compressedCounter = Counter.builder("sse.compression.bytes")
+                .tag("stage", "compressed")
+                .baseUnit("bytes")
+                .description("압축한 SSE 응답의 전송 바이트 수")
+                .register(meterRegistry);
+        this.savedCounter = Counter.builder("sse.compression.saved")
+                .baseUnit("bytes")
+                .description("SSE 압축으로 절감한 바이트 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        // 응답 완료 시의 ASYNC 디스패치에서 압축 스트림을 마무리해야 함
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+        if (isAsyncDispatch(request)) {
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                finishIfCompleted(request);
+            }
+            return;
+        }
+
+        Encoding encoding = negotiate(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        if (encoding == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        SseCompressingResponse compressingResponse = new SseCompressingResponse(response, encoding, level, this::record);
+        request.setAttribute(RESPONSE_ATTRIBUTE, compressingResponse);
+        try {
+            filterChain.doFilter(request, compressingResponse);
+        } finally {
+            finishIfCompleted(request);
+        }
+    }
+
+    /**
+     * 비동기 처리가 끝난 경우에만 압축 trailer를 씁니다 (스트리밍 중에는 다음 디스패치까지 유지).
+     */
+    private void finishIfCompleted(HttpServletRequest request) {
+        if (request.isAsyncStarted()) {
+            return;
+        }
+        Object attribute = request.getAttribute(RESPONSE_ATTRIBUTE);
+        if (!(attribute instanceof SseCompressingResponse compressingResponse)) {
+            return;
+        }
+        request.removeAttribute(RESPONSE_ATTRIBUTE);
+        try {
+            compressingResponse.finish();
+        } catch (IOException e) {
+            // 클라이언트 연결이 이미 끊긴 경우
+            log.debug("SSE 압축 스트림 마무리 실패: {}", e.getMessage());
+        }
+    }
+
+    private void record(long uncompressedBytes, long compressedBytes) {
+        uncompressedCounter.increment(uncompressedBytes);
+        compressedCounter.increment(compressedBytes);
+        savedCounter.increment(Math.max(0, uncompressedBytes - compressedBytes));
+    }
+
+    /**
+     * Accept-Encoding에서 gzip, deflate 순으로 허용된(q > 0) 인코딩을 고릅니다.
+     */
+    static Encoding negotiate(String acceptEncoding) {
+        if (!StringUtils.hasText(acceptEncoding)) {
+            return null;
+        }
+        boolean gzip = false;
+        boolean deflate = false;
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            String coding = parts[0].trim().toLowerCase();
+            if (isRejected(parts)) {
+                continue;
+            }
+            switch (coding) {
+                case "gzip", "*" -> gzip = true;
+                case "deflate" -> deflate = true;
+                default -> {
+                }
+            }
+        }
+        return gzip ? Encoding.GZIP : deflate ? Encoding.DEFLATE : null;
+    }
+
+    private static boolean isRejected(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2)) <= 0;
+                } catch (NumberFormatException e) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
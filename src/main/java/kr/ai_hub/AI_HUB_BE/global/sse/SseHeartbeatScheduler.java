@@ -0,0 +1,93 @@
+package kr.ai_hub.AI_HUB_BE.global.sse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 장시간 SSE 스트림의 공유 heartbeat 스케줄러
+ * <p>
+ * 하나의 해시 타이머 휠(HashedWheelTimer)에 스트림별 유휴 검사를 등록하므로 스트림 수가 늘어도 스레드나
+ * 스케줄러가 늘지 않습니다. 검사 시점에 마지막 전송 후 idle-threshold가 지난 스트림에만 SSE 주석(": keepalive")을 보내
+ * 프록시의 유휴 연결 종료를 막습니다. 느린 클라이언트가 타이머 스레드를 막지 않도록 전송은 가상 스레드에서 합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class SseHeartbeatScheduler implements DisposableBean {
+
+    private static final String HEARTBEAT_COMMENT = "keepalive";
+
+    private final Timer timer;
+    private final long idleThresholdNanos;
+    private final AtomicInteger openStreams = new AtomicInteger();
+    private final Counter heartbeatCounter;
+
+    public SseHeartbeatScheduler(@Value("${sse.heartbeat.idle-threshold:PT15S}") Duration idleThreshold,
+                                 @Value("${sse.heartbeat.tick-duration:PT1S}") Duration tickDuration,
+                                 MeterRegistry meterRegistry) {
+        this.idleThresholdNanos = idleThreshold.toNanos();
+        this.timer = new HashedWheelTimer(
+                Thread.ofPlatform().name("sse-heartbeat").daemon(true).factory(),
+                tickDuration.toMillis(), TimeUnit.MILLISECONDS, 512);
+        this.heartbeatCounter = Counter.builder("sse.heartbeat.sent")
+                .description("유휴 SSE 스트림에 보낸 heartbeat 수")
+                .register(meterRegistry);
+        meterRegistry.gauge("sse.heartbeat.streams", openStreams);
+    }
+
+    /**
+     * heartbeat가 적용된 SseEmitter를 생성합니다.
+     */
+    public SseEmitter createEmitter(Duration timeout) {
+        HeartbeatSseEmitter emitter = new HeartbeatSseEmitter(timeout.toMillis(), openStreams::decrementAndGet);
+        openStreams.incrementAndGet();
+        schedule(emitter, idleThresholdNanos);
+        return emitter;
+    }
+
+    @Override
+    public void destroy() {
+        timer.stop();
+    }
+
+    private void schedule(HeartbeatSseEmitter emitter, long delayNanos) {
+        emitter.setHeartbeat(timer.newTimeout(timeout -> check(emitter), delayNanos, TimeUnit.NANOSECONDS));
+    }
+
+    private void check(HeartbeatSseEmitter emitter) {
+        if (emitter.isClosed()) {
+            return;
+        }
+        long idleNanos = System.nanoTime() - emitter.getLastSentNanos();
+        if (idleNanos < idleThresholdNanos) {
+            // 최근에 전송이 있었으면 남은 시간만큼 뒤에 다시 검사
+            schedule(emitter, idleThresholdNanos - idleNanos);
+            return;
+        }
+        Thread.ofVirtual().start(() -> sendHeartbeat(emitter));
+    }
+
+    private void sendHeartbeat(HeartbeatSseEmitter emitter) {
+        try {
+            emitter.send(SseEmitter.event().comment(HEARTBEAT_COMMENT));
+            heartbeatCounter.increment();
+            schedule(emitter, idleThresholdNanos);
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결 종료 또는 타임아웃으로 이미 완료된 스트림
+            log.debug("SSE heartbeat 중단: {}", e.getMessage());
+            emitter.close();
+        }
+    }
+}
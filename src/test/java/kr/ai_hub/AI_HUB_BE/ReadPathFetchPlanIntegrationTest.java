@@ -0,0 +1,206 @@
+package kr.ai_hub.AI_HUB_BE;
+
+import jakarta.persistence.EntityManagerFactory;
+import kr.ai_hub.AI_HUB_BE.application.chat.message.MessageService;
+import kr.ai_hub.AI_HUB_BE.application.chat.message.dto.MessageResponse;
+import kr.ai_hub.AI_HUB_BE.application.dashboard.DashboardService;
+import kr.ai_hub.AI_HUB_BE.application.dashboard.dto.UserStatsResponse;
+import kr.ai_hub.AI_HUB_BE.application.payment.CoinTransactionService;
+import kr.ai_hub.AI_HUB_BE.application.payment.dto.CoinTransactionResponse;
+import kr.ai_hub.AI_HUB_BE.domain.aimodel.AIModel;
+import kr.ai_hub.AI_HUB_BE.domain.aimodel.AIModelRepository;
+import kr.ai_hub.AI_HUB_BE.domain.chat.ChatRoom;
+import kr.ai_hub.AI_HUB_BE.domain.chat.ChatRoomRepository;
+import kr.ai_hub.AI_HUB_BE.domain.chat.Message;
+import kr.ai_hub.AI_HUB_BE.domain.chat.MessageRepository;
+import kr.ai_hub.AI_HUB_BE.domain.chat.MessageRole;
+import kr.ai_hub.AI_HUB_BE.domain.payment.CoinTransaction;
+import kr.ai_hub.AI_HUB_BE.domain.payment.CoinTransactionRepository;
+import kr.ai_hub.AI_HUB_BE.domain.user.User;
+import kr.ai_hub.AI_HUB_BE.domain.user.UserRepository;
+import kr.ai_hub.AI_HUB_BE.domain.user.UserRole;
+import kr.ai_hub.AI_HUB_BE.global.auth.SecurityContextHelper;
+import org.hibernate.LazyInitializationException;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * OSIV 비활성화 상태에서 조회 경로가 트랜잭션 안에서 필요한 연관관계를 모두 가져오는지 검증합니다.
+ * 테스트 메서드는 트랜잭션 밖에서 실행되므로 서비스 밖에서 지연 로딩이 일어나면 LazyInitializationException으로 실패합니다.
+ */
+@SpringBootTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ReadPathFetchPlanIntegrationTest {
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AIModelRepository aiModelRepository;
+
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private CoinTransactionRepository coinTransactionRepository;
+
+    @Autowired
+    private MessageService messageService;
+
+    @Autowired
+    private CoinTransactionService coinTransactionService;
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @MockitoBean
+    private SecurityContextHelper securityContextHelper;
+
+    private User user;
+    private ChatRoom chatRoom;
+    private Message message;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .username("fetch-plan-user")
+                .email("fetch-plan@test.com")
+                .role(UserRole.ROLE_USER)
+                .build());
+        chatRoom = chatRoomRepository.save(ChatRoom.builder()
+                .user(user)
+                .title("fetch plan")
+                .build());
+
+        AIModel gpt4 = aiModelRepository.save(model("gpt-4"));
+        AIModel gpt35 = aiModelRepository.save(model("gpt-3.5-turbo"));
+        message = messageRepository.save(Message.builder()
+                .chatRoom(chatRoom)
+                .role(MessageRole.ASSISTANT)
+                .content("Hi there")
+                .aiModel(gpt4)
+                .build());
+
+        for (AIModel model : List.of(gpt4, gpt35, gpt4)) {
+            coinTransactionRepository.save(CoinTransaction.builder()
+                    .user(user)
+                    .chatRoom(chatRoom)
+                    .transactionType("usage")
+                    .amount(BigDecimal.ONE.negate())
+                    .balanceAfter(BigDecimal.TEN)
+                    .aiModel(model)
+                    .build());
+        }
+
+        given(securityContextHelper.getCurrentUserId()).willReturn(user.getUserId());
+
+        // 2차 캐시 적중 여부에 따라 사용자 조회 쿼리 수가 달라지지 않도록 비움
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        coinTransactionRepository.deleteAllInBatch();
+        messageRepository.deleteAllInBatch();
+        chatRoomRepository.deleteAllInBatch();
+        aiModelRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Open Session In View 비활성화")
+    void openSessionInView_Disabled() {
+        assertThat(applicationContext.getBeanNamesForType(OpenEntityManagerInViewInterceptor.class)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 지연 로딩 시 예외 발생")
+    void lazyLoadingOutsideTransaction_Fails() {
+        // given
+        Message detached = messageRepository.findById(message.getMessageId()).orElseThrow();
+
+        // when & then
+        assertThatThrownBy(() -> detached.getChatRoom().getTitle())
+                .isInstanceOf(LazyInitializationException.class);
+    }
+
+    @Test
+    @DisplayName("메시지 상세 조회 - 채팅방을 한 번의 쿼리로 함께 조회")
+    void getMessage_FetchesChatRoom() {
+        // when
+        MessageResponse response = messageService.getMessage(message.getMessageId());
+
+        // then
+        assertThat(response.roomId()).isEqualTo(chatRoom.getRoomId().toString());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("코인 거래 내역 조회 - AI 모델을 거래 조회 쿼리에서 함께 조회")
+    void getTransactions_FetchesAiModel() {
+        // when
+        Page<CoinTransactionResponse> result = coinTransactionService.getTransactions(
+                null, null, null, PageRequest.of(0, 10));
+
+        // then
+        assertThat(result.getContent())
+                .extracting(CoinTransactionResponse::modelName)
+                .containsExactlyInAnyOrder("gpt-4", "gpt-3.5-turbo", "gpt-4");
+        // 사용자, 사용자 지갑(역방향 1:1은 프록시를 만들 수 없어 즉시 조회), 거래 목록 (마지막 페이지이므로 COUNT 없음)
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("사용자 통계 요약 - 가장 많이 사용한 모델을 거래 조회 쿼리에서 함께 조회")
+    void getUserStats_FetchesAiModel() {
+        // when
+        UserStatsResponse response = dashboardService.getUserStats();
+
+        // then
+        assertThat(response.mostUsedModel().modelName()).isEqualTo("gpt-4");
+        assertThat(statistics.getEntityStatistics(AIModel.class.getName()).getFetchCount()).isZero();
+        // 사용자, 사용자 지갑, 지갑 조회, 메시지 수, 채팅방 수, 사용 거래 전체, 최근 30일 거래
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(7);
+    }
+
+    private AIModel model(String name) {
+        return AIModel.builder()
+                .modelName(name)
+                .displayName(name)
+                .inputPricePer1m(BigDecimal.ONE)
+                .outputPricePer1m(BigDecimal.TEN)
+                .isActive(true)
+                .build();
+    }
+}
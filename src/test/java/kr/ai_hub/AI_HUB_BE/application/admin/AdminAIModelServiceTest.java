@@ -2,6 +2,7 @@ package kr.ai_hub.AI_HUB_BE.application.admin;
 
 import kr.ai_hub.AI_HUB_BE.application.admin.dto.CreateAIModelRequest;
 import kr.ai_hub.AI_HUB_BE.application.admin.dto.UpdateAIModelRequest;
+import kr.ai_hub.AI_HUB_BE.application.aimodel.AIModelChangedEvent;
 import kr.ai_hub.AI_HUB_BE.application.aimodel.dto.AIModelResponse;
 import kr.ai_hub.AI_HUB_BE.domain.aimodel.AIModel;
 import kr.ai_hub.AI_HUB_BE.domain.aimodel.AIModelRepository;
@@ -15,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -41,6 +43,9 @@ class AdminAIModelServiceTest {
     @Mock
     private SecurityContextHelper securityContextHelper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Test
     @DisplayName("AI 모델 생성 - 성공")
     void createModel_Success() {
@@ -198,6 +203,7 @@ class AdminAIModelServiceTest {
 
         // then
         assertThat(existingModel.getIsActive()).isFalse();
+        verify(eventPublisher).publishEvent(new AIModelChangedEvent(modelId));
     }
 
     @Test
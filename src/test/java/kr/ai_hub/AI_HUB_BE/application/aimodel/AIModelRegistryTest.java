@@ -0,0 +1,153 @@
+package kr.ai_hub.AI_HUB_BE.application.aimodel;
+
+import kr.ai_hub.AI_HUB_BE.domain.aimodel.AIModel;
+import kr.ai_hub.AI_HUB_BE.domain.aimodel.AIModelRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AIModelRegistryTest {
+
+    @InjectMocks
+    private AIModelRegistry aiModelRegistry;
+
+    @Mock
+    private AIModelRepository aiModelRepository;
+
+    private final LocalDateTime baseTime = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Test
+    @DisplayName("첫 조회 시 한 번만 로딩하고 이후에는 메모리에서 조회")
+    void findById_LoadsOnce() {
+        // given
+        AIModel model = model(1, "gpt-4", true, baseTime);
+        given(aiModelRepository.findAll()).willReturn(List.of(model));
+
+        // when
+        Optional<AIModel> first = aiModelRegistry.findById(1);
+        Optional<AIModel> second = aiModelRegistry.findById(1);
+        Optional<AIModel> missing = aiModelRegistry.findById(99);
+
+        // then
+        assertThat(first).containsSame(model);
+        assertThat(second).containsSame(model);
+        assertThat(missing).isEmpty();
+        verify(aiModelRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("활성 모델만 생성일 내림차순으로 반환")
+    void getActiveModels_FiltersAndSorts() {
+        // given
+        AIModel older = model(1, "gpt-3.5", true, baseTime);
+        AIModel inactive = model(2, "legacy", false, baseTime.plusDays(1));
+        AIModel newer = model(3, "gpt-4", true, baseTime.plusDays(2));
+        given(aiModelRepository.findAll()).willReturn(List.of(older, inactive, newer));
+
+        // when
+        List<AIModel> result = aiModelRegistry.getActiveModels();
+
+        // then
+        assertThat(result).containsExactly(newer, older);
+    }
+
+    @Test
+    @DisplayName("모델 변경 이벤트 수신 시 스냅샷 교체")
+    void onModelChanged_Reloads() {
+        // given
+        AIModel before = model(1, "gpt-4", true, baseTime);
+        AIModel after = model(1, "gpt-4", false, baseTime.plusHours(1));
+        given(aiModelRepository.findAll()).willReturn(List.of(before), List.of(after));
+        aiModelRegistry.findById(1);
+
+        // when
+        aiModelRegistry.onModelChanged(new AIModelChangedEvent(1));
+
+        // then
+        assertThat(aiModelRegistry.findById(1)).containsSame(after);
+        assertThat(aiModelRegistry.getActiveModels()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("활성 모델이 수정되면 목록 버전이 바뀜")
+    void getActiveModelsVersion_ChangesOnUpdate() {
+        // given
+        AIModel before = model(1, "gpt-4", true, baseTime);
+        AIModel after = model(1, "gpt-4", true, baseTime.plusHours(1));
+        given(aiModelRepository.findAll()).willReturn(List.of(before), List.of(before), List.of(after));
+
+        // when
+        String initial = aiModelRegistry.getActiveModelsVersion();
+        aiModelRegistry.reload();
+        String unchanged = aiModelRegistry.getActiveModelsVersion();
+        aiModelRegistry.reload();
+        String changed = aiModelRegistry.getActiveModelsVersion();
+
+        // then
+        assertThat(unchanged).isEqualTo(initial);
+        assertThat(changed).isNotEqualTo(initial);
+    }
+
+    @Test
+    @DisplayName("폴링 시 변경이 없으면 재로딩하지 않음")
+    void pollForChanges_NoChange() {
+        // given
+        AIModel model = model(1, "gpt-4", true, baseTime);
+        given(aiModelRepository.findAll()).willReturn(List.of(model));
+        aiModelRegistry.findById(1);
+        given(aiModelRepository.findLatestUpdatedAt()).willReturn(Optional.of(baseTime));
+        given(aiModelRepository.count()).willReturn(1L);
+
+        // when
+        aiModelRegistry.pollForChanges();
+
+        // then
+        verify(aiModelRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("폴링 시 다른 노드의 변경(updated_at 증가)을 감지하면 재로딩")
+    void pollForChanges_DetectsChange() {
+        // given
+        AIModel model = model(1, "gpt-4", true, baseTime);
+        given(aiModelRepository.findAll()).willReturn(List.of(model));
+        aiModelRegistry.findById(1);
+        given(aiModelRepository.findLatestUpdatedAt()).willReturn(Optional.of(baseTime.plusMinutes(5)));
+        given(aiModelRepository.count()).willReturn(1L);
+
+        // when
+        aiModelRegistry.pollForChanges();
+
+        // then
+        verify(aiModelRepository, times(2)).findAll();
+    }
+
+    private AIModel model(Integer id, String name, boolean active, LocalDateTime timestamp) {
+        AIModel model = AIModel.builder()
+                .modelId(id)
+                .modelName(name)
+                .displayName(name)
+                .inputPricePer1m(BigDecimal.ONE)
+                .outputPricePer1m(BigDecimal.TEN)
+                .isActive(active)
+                .build();
+        ReflectionTestUtils.setField(model, "createdAt", timestamp);
+        ReflectionTestUtils.setField(model, "updatedAt", timestamp);
+        return model;
+    }
+}
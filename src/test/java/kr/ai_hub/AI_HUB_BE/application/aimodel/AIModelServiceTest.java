@@ -2,7 +2,6 @@ package kr.ai_hub.AI_HUB_BE.application.aimodel;
 
 import kr.ai_hub.AI_HUB_BE.application.aimodel.dto.AIModelResponse;
 import kr.ai_hub.AI_HUB_BE.domain.aimodel.AIModel;
-import kr.ai_hub.AI_HUB_BE.domain.aimodel.AIModelRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -24,7 +23,7 @@ class AIModelServiceTest {
     private AIModelService aiModelService;
 
     @Mock
-    private AIModelRepository aiModelRepository;
+    private AIModelRegistry aiModelRegistry;
 
     @Test
     @DisplayName("활성화된 AI 모델 목록 조회")
@@ -75,7 +74,7 @@ class AIModelServiceTest {
             throw new RuntimeException(e);
         }
 
-        given(aiModelRepository.findByIsActiveTrueOrderByCreatedAtDesc())
+        given(aiModelRegistry.getActiveModels())
                 .willReturn(List.of(model1, model2));
 
         // when
@@ -91,7 +90,7 @@ class AIModelServiceTest {
     @DisplayName("활성화된 AI 모델 목록 조회 - 빈 목록")
     void getActiveModels_Empty() {
         // given
-        given(aiModelRepository.findByIsActiveTrueOrderByCreatedAtDesc())
+        given(aiModelRegistry.getActiveModels())
                 .willReturn(List.of());
 
         // when
@@ -0,0 +1,80 @@
+package kr.ai_hub.AI_HUB_BE.application.auth;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.ai_hub.AI_HUB_BE.application.scheduler.SchedulerLockService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TokenPurgeSchedulerTest {
+
+    @Mock
+    private TokenPurgeService tokenPurgeService;
+
+    @Mock
+    private SchedulerLockService schedulerLockService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TokenPurgeScheduler tokenPurgeScheduler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        tokenPurgeScheduler = new TokenPurgeScheduler(
+                tokenPurgeService, schedulerLockService, meterRegistry);
+        ReflectionTestUtils.setField(tokenPurgeScheduler, "batchSize", 2);
+        ReflectionTestUtils.setField(tokenPurgeScheduler, "maxBatchesPerRun", 10);
+        ReflectionTestUtils.setField(tokenPurgeScheduler, "pause", Duration.ZERO);
+        ReflectionTestUtils.setField(tokenPurgeScheduler, "revokedRetention", Duration.ofDays(7));
+        ReflectionTestUtils.setField(tokenPurgeScheduler, "lockLease", Duration.ofMinutes(30));
+    }
+
+    @Test
+    @DisplayName("락 획득 시 삭제 건수가 배치 크기보다 작아질 때까지 반복 삭제")
+    void purge_RepeatsUntilLastBatch() {
+        // given
+        given(schedulerLockService.tryAcquire(eq("token-purge"), any(Duration.class))).willReturn(true);
+        given(tokenPurgeService.purgeAccessTokens(any(LocalDateTime.class), eq(2))).willReturn(2, 2, 1);
+        given(tokenPurgeService.purgeRefreshTokens(any(LocalDateTime.class), eq(2))).willReturn(0);
+
+        // when
+        tokenPurgeScheduler.purge();
+
+        // then
+        verify(tokenPurgeService, times(3)).purgeAccessTokens(any(LocalDateTime.class), eq(2));
+        verify(tokenPurgeService, times(1)).purgeRefreshTokens(any(LocalDateTime.class), eq(2));
+        verify(schedulerLockService).release("token-purge");
+        assertThat(meterRegistry.counter("token.purge.deleted", "type", "access").count()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 락을 보유 중이면 정리를 건너뜀")
+    void purge_SkipsWhenLockNotAcquired() {
+        // given
+        given(schedulerLockService.tryAcquire(eq("token-purge"), any(Duration.class))).willReturn(false);
+
+        // when
+        tokenPurgeScheduler.purge();
+
+        // then
+        verify(tokenPurgeService, never()).purgeAccessTokens(any(LocalDateTime.class), anyInt());
+        verify(schedulerLockService, never()).release(any());
+    }
+}
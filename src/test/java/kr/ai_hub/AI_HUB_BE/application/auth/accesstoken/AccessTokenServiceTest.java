@@ -16,14 +16,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
-import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -156,23 +157,60 @@ class AccessTokenServiceTest {
     }
 
     @Test
-    @DisplayName("리프레시 토큰으로 액세스 토큰 폐기")
-    void revokeByRefreshToken() {
+    @DisplayName("토큰 유효 여부 확인 - 폐기되었거나 없는 토큰은 유효하지 않음")
+    void isActive() {
         // given
-        RefreshToken refreshToken = RefreshToken.builder().build();
-        AccessToken accessToken = AccessToken.builder()
-                .refreshToken(refreshToken)
+        AccessToken active = AccessToken.builder()
+                .expiresAt(LocalDateTime.now().plusHours(1))
                 .isRevoked(false)
                 .build();
+        AccessToken revoked = AccessToken.builder()
+                .expiresAt(LocalDateTime.now().plusHours(1))
+                .isRevoked(true)
+                .build();
+
+        given(accessTokenRepository.findById(1)).willReturn(Optional.of(active));
+        given(accessTokenRepository.findById(2)).willReturn(Optional.of(revoked));
+        given(accessTokenRepository.findById(3)).willReturn(Optional.empty());
+
+        // when & then
+        assertThat(accessTokenService.isActive(1)).isTrue();
+        assertThat(accessTokenService.isActive(2)).isFalse();
+        assertThat(accessTokenService.isActive(3)).isFalse();
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰으로 액세스 토큰 일괄 폐기")
+    void revokeByRefreshToken() {
+        // given
+        RefreshToken refreshToken = RefreshToken.builder().build();
+
+        given(accessTokenRepository.revokeAllByRefreshToken(
+                eq(refreshToken), eq(TokenRevokeReason.USER_LOGOUT), any(LocalDateTime.class)))
+                .willReturn(2);
+
+        // when
+        int revoked = accessTokenService.revokeByRefreshToken(refreshToken, TokenRevokeReason.USER_LOGOUT);
+
+        // then
+        assertThat(revoked).isEqualTo(2);
+        verify(accessTokenRepository, never()).save(any(AccessToken.class));
+    }
+
+    @Test
+    @DisplayName("사용자의 액세스 토큰 일괄 폐기")
+    void revokeByUser() {
+        // given
+        User user = User.builder().email("test@example.com").build();
 
-        given(accessTokenRepository.findByRefreshToken(refreshToken)).willReturn(List.of(accessToken));
+        given(accessTokenRepository.revokeAllByUser(
+                eq(user), eq(TokenRevokeReason.USER_LOGOUT), any(LocalDateTime.class)))
+                .willReturn(4);
 
         // when
-        accessTokenService.revokeByRefreshToken(refreshToken, TokenRevokeReason.USER_LOGOUT);
+        int revoked = accessTokenService.revokeByUser(user, TokenRevokeReason.USER_LOGOUT);
 
         // then
-        assertThat(accessToken.getIsRevoked()).isTrue();
-        assertThat(accessToken.getRevokedReason()).isEqualTo(TokenRevokeReason.USER_LOGOUT);
-        verify(accessTokenRepository).save(accessToken);
+        assertThat(revoked).isEqualTo(4);
     }
 }
@@ -32,6 +32,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -96,6 +97,8 @@ class RefreshTokenServiceTest {
         given(jwtTokenProvider.createAccessToken(user)).willReturn("new-access-token");
         given(jwtTokenProvider.createRefreshToken(user)).willReturn("new-refresh-token");
         given(tokenHashService.hashToken("new-refresh-token")).willReturn("new-hashed-token");
+        given(refreshTokenRepository.revokeIfActive(eq(1), eq(TokenRevokeReason.ROTATED), any(LocalDateTime.class)))
+                .willReturn(1);
         given(refreshTokenRepository.save(any(RefreshToken.class))).willAnswer(invocation -> invocation.getArgument(0));
 
         // when
@@ -104,8 +107,46 @@ class RefreshTokenServiceTest {
         // then
         assertThat(result.getAccessToken()).isEqualTo("new-access-token");
         assertThat(result.getRefreshToken()).isEqualTo("new-refresh-token");
+        verify(accessTokenService).revokeByRefreshToken(refreshToken, TokenRevokeReason.ROTATED);
         verify(accessTokenService).issueAccessToken(eq(user), eq("new-access-token"), any(RefreshToken.class));
-        verify(refreshTokenRepository, org.mockito.Mockito.times(3)).save(any(RefreshToken.class));
+        verify(refreshTokenRepository, org.mockito.Mockito.times(1)).save(any(RefreshToken.class));
+    }
+
+    @Test
+    @DisplayName("토큰 갱신 실패 - 동시 요청으로 이미 회전된 토큰")
+    void refreshAccessToken_AlreadyRotated() {
+        // given
+        given(jwtTokenProvider.parseClaims(rawRefreshToken)).willReturn(claims);
+        given(claims.getSubject()).willReturn("1");
+        given(userRepository.findById(1)).willReturn(Optional.of(user));
+        given(tokenHashService.hashToken(rawRefreshToken)).willReturn(tokenHash);
+        given(refreshTokenRepository.findByTokenHash(tokenHash)).willReturn(Optional.of(refreshToken));
+        given(refreshTokenRepository.revokeIfActive(eq(1), eq(TokenRevokeReason.ROTATED), any(LocalDateTime.class)))
+                .willReturn(0);
+
+        // when & then
+        assertThatThrownBy(() -> refreshTokenService.refreshAccessToken(rawRefreshToken))
+                .isInstanceOf(RefreshTokenInvalidException.class)
+                .hasMessage("Refresh token already revoked");
+
+        verify(accessTokenService, never()).issueAccessToken(any(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("로그아웃 시 사용자 토큰 일괄 폐기")
+    void deleteAllByUser() {
+        // given
+        given(refreshTokenRepository.revokeAllByUser(eq(user), eq(TokenRevokeReason.USER_LOGOUT), any(LocalDateTime.class)))
+                .willReturn(3);
+        given(accessTokenService.revokeByUser(user, TokenRevokeReason.USER_LOGOUT)).willReturn(5);
+
+        // when
+        refreshTokenService.deleteAllByUser(user);
+
+        // then
+        verify(refreshTokenRepository).revokeAllByUser(eq(user), eq(TokenRevokeReason.USER_LOGOUT), any(LocalDateTime.class));
+        verify(accessTokenService).revokeByUser(user, TokenRevokeReason.USER_LOGOUT);
+        verify(refreshTokenRepository, never()).findByUser(any());
     }
 
     @Test
@@ -1,15 +1,14 @@
 package kr.ai_hub.AI_HUB_BE.application.chat.chatroom;
 
+import kr.ai_hub.AI_HUB_BE.application.aimodel.AIModelRegistry;
 import kr.ai_hub.AI_HUB_BE.application.chat.chatroom.dto.ChatRoomListItemResponse;
 import kr.ai_hub.AI_HUB_BE.application.chat.chatroom.dto.ChatRoomResponse;
 import kr.ai_hub.AI_HUB_BE.application.chat.chatroom.dto.CreateChatRoomRequest;
 import kr.ai_hub.AI_HUB_BE.application.chat.chatroom.dto.UpdateChatRoomRequest;
 import kr.ai_hub.AI_HUB_BE.domain.aimodel.AIModel;
-import kr.ai_hub.AI_HUB_BE.domain.aimodel.AIModelRepository;
 import kr.ai_hub.AI_HUB_BE.domain.chat.ChatRoom;
+import kr.ai_hub.AI_HUB_BE.domain.chat.ChatRoomListItem;
 import kr.ai_hub.AI_HUB_BE.domain.chat.ChatRoomRepository;
-import kr.ai_hub.AI_HUB_BE.domain.chat.Message;
-import kr.ai_hub.AI_HUB_BE.domain.chat.MessageRepository;
 import kr.ai_hub.AI_HUB_BE.domain.user.User;
 import kr.ai_hub.AI_HUB_BE.domain.user.UserRole;
 import kr.ai_hub.AI_HUB_BE.domain.user.UserRepository;
@@ -30,7 +29,9 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -51,10 +52,7 @@ class ChatRoomServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private AIModelRepository aiModelRepository;
-
-    @Mock
-    private MessageRepository messageRepository;
+    private AIModelRegistry aiModelRegistry;
 
     @Mock
     private SecurityContextHelper securityContextHelper;
@@ -98,7 +96,7 @@ class ChatRoomServiceTest {
         CreateChatRoomRequest request = new CreateChatRoomRequest("New Room", 1);
         given(securityContextHelper.getCurrentUserId()).willReturn(1);
         given(userRepository.findById(1)).willReturn(Optional.of(user));
-        given(aiModelRepository.findById(1)).willReturn(Optional.of(aiModel));
+        given(aiModelRegistry.findById(1)).willReturn(Optional.of(aiModel));
         given(chatRoomRepository.save(any(ChatRoom.class))).willReturn(chatRoom);
 
         // when
@@ -129,7 +127,7 @@ class ChatRoomServiceTest {
         CreateChatRoomRequest request = new CreateChatRoomRequest("New Room", 1);
         given(securityContextHelper.getCurrentUserId()).willReturn(1);
         given(userRepository.findById(1)).willReturn(Optional.of(user));
-        given(aiModelRepository.findById(1)).willReturn(Optional.empty());
+        given(aiModelRegistry.findById(1)).willReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> chatRoomService.createChatRoom(request))
@@ -144,7 +142,7 @@ class ChatRoomServiceTest {
         CreateChatRoomRequest request = new CreateChatRoomRequest("New Room", 1);
         given(securityContextHelper.getCurrentUserId()).willReturn(1);
         given(userRepository.findById(1)).willReturn(Optional.of(user));
-        given(aiModelRepository.findById(1)).willReturn(Optional.of(inactiveModel));
+        given(aiModelRegistry.findById(1)).willReturn(Optional.of(inactiveModel));
 
         // when & then
         assertThatThrownBy(() -> chatRoomService.createChatRoom(request))
@@ -157,12 +155,14 @@ class ChatRoomServiceTest {
     void getChatRooms_Success() {
         // given
         Pageable pageable = PageRequest.of(0, 10);
-        Page<ChatRoom> chatRoomPage = new PageImpl<>(List.of(chatRoom));
+        LocalDateTime lastMessageAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+        ChatRoomListItem listItem = new ChatRoomListItem(
+                chatRoom.getRoomId(), "Test Room", BigDecimal.ZERO, lastMessageAt, LocalDateTime.now());
+        Page<ChatRoomListItem> chatRoomPage = new PageImpl<>(List.of(listItem));
 
         given(securityContextHelper.getCurrentUserId()).willReturn(1);
         given(userRepository.findById(1)).willReturn(Optional.of(user));
-        given(chatRoomRepository.findByUser(user, pageable)).willReturn(chatRoomPage);
-        given(messageRepository.findTopByChatRoomOrderByCreatedAtDesc(chatRoom)).willReturn(Optional.empty());
+        given(chatRoomRepository.findListItemsByUser(user, pageable)).willReturn(chatRoomPage);
 
         // when
         Page<ChatRoomListItemResponse> result = chatRoomService.getChatRooms(pageable);
@@ -170,6 +170,8 @@ class ChatRoomServiceTest {
         // then
         assertThat(result).hasSize(1);
         assertThat(result.getContent().get(0).title()).isEqualTo("Test Room");
+        assertThat(result.getContent().get(0).lastMessageAt())
+                .isEqualTo(lastMessageAt.toInstant(ZoneOffset.UTC));
     }
 
     @Test
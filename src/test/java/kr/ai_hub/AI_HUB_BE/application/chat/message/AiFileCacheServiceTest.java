@@ -0,0 +1,115 @@
+package kr.ai_hub.AI_HUB_BE.application.chat.message;
+
+import kr.ai_hub.AI_HUB_BE.domain.aimodel.AIModel;
+import kr.ai_hub.AI_HUB_BE.domain.chat.AiFileCache;
+import kr.ai_hub.AI_HUB_BE.domain.chat.AiFileCacheRepository;
+import kr.ai_hub.AI_HUB_BE.domain.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AiFileCacheServiceTest {
+
+    @Mock
+    private AiFileCacheRepository aiFileCacheRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private AiFileCacheService aiFileCacheService;
+    private AIModel aiModel;
+
+    @BeforeEach
+    void setUp() {
+        aiFileCacheService = new AiFileCacheService(aiFileCacheRepository, userRepository, Duration.ofDays(7), 100);
+        aiModel = AIModel.builder()
+                .modelId(1)
+                .modelName("gpt-4o")
+                .build();
+    }
+
+    @Test
+    @DisplayName("저장한 파일 ID는 DB 조회 없이 메모리에서 반환")
+    void findFileId_MemoryHit() {
+        // given
+        given(aiFileCacheRepository.findByUserIdAndModelIdAndContentHash(10, 1, "hash")).willReturn(Optional.empty());
+        aiFileCacheService.put(10, aiModel, "hash", "file-1");
+
+        // when
+        Optional<String> fileId = aiFileCacheService.findFileId(10, 1, "hash");
+
+        // then
+        assertThat(fileId).contains("file-1");
+        verify(aiFileCacheRepository).save(any(AiFileCache.class));
+        verify(aiFileCacheRepository, times(1)).findByUserIdAndModelIdAndContentHash(10, 1, "hash");
+    }
+
+    @Test
+    @DisplayName("같은 파일이라도 다른 사용자의 캐시 항목은 반환하지 않음")
+    void findFileId_SeparatesUsers() {
+        // given
+        given(aiFileCacheRepository.findByUserIdAndModelIdAndContentHash(10, 1, "hash")).willReturn(Optional.empty());
+        given(aiFileCacheRepository.findByUserIdAndModelIdAndContentHash(20, 1, "hash")).willReturn(Optional.empty());
+        aiFileCacheService.put(10, aiModel, "hash", "file-1");
+
+        // when
+        Optional<String> fileId = aiFileCacheService.findFileId(20, 1, "hash");
+
+        // then
+        assertThat(fileId).isEmpty();
+        verify(aiFileCacheRepository).findByUserIdAndModelIdAndContentHash(20, 1, "hash");
+    }
+
+    @Test
+    @DisplayName("만료된 DB 캐시 항목은 사용하지 않음")
+    void findFileId_ExpiredEntry() {
+        // given
+        AiFileCache expired = AiFileCache.builder()
+                .aiModel(aiModel)
+                .contentHash("hash")
+                .fileId("file-old")
+                .expiresAt(LocalDateTime.now().minusMinutes(1))
+                .build();
+        given(aiFileCacheRepository.findByUserIdAndModelIdAndContentHash(10, 1, "hash")).willReturn(Optional.of(expired));
+
+        // when
+        Optional<String> fileId = aiFileCacheService.findFileId(10, 1, "hash");
+
+        // then
+        assertThat(fileId).isEmpty();
+    }
+
+    @Test
+    @DisplayName("기존 항목이 있으면 새 파일 ID로 갱신")
+    void put_RefreshesExistingEntry() {
+        // given
+        AiFileCache existing = AiFileCache.builder()
+                .aiModel(aiModel)
+                .contentHash("hash")
+                .fileId("file-old")
+                .expiresAt(LocalDateTime.now().minusMinutes(1))
+                .build();
+        given(aiFileCacheRepository.findByUserIdAndModelIdAndContentHash(10, 1, "hash")).willReturn(Optional.of(existing));
+
+        // when
+        aiFileCacheService.put(10, aiModel, "hash", "file-new");
+
+        // then
+        assertThat(existing.getFileId()).isEqualTo("file-new");
+        assertThat(existing.isExpired()).isFalse();
+    }
+}
@@ -0,0 +1,220 @@
+package kr.ai_hub.AI_HUB_BE.application.chat.message;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import kr.ai_hub.AI_HUB_BE.application.chat.message.dto.AiUsage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AiStreamFrameDecoderTest {
+
+    private static final String STREAM = """
+            data: {"type":"response.created","response":{"id":"resp_abc123","model":"gpt-5-mini"}}
+
+            data: {"type":"response.output_text.delta","delta":"안녕하세요","sequence_number":1}
+
+            data: {"type":"response.output_text.delta","delta":"!","sequence_number":2}
+
+            data: {"type":"response.completed","sequence_number":3,"response":{"id":"resp_abc123","content":"안녕하세요!","usage":{"input_tokens":10,"output_tokens":5,"total_tokens":15}}}
+
+            """;
+
+    private RecordingHandler handler;
+    private AiStreamFrameDecoder decoder;
+
+    @BeforeEach
+    void setUp() {
+        handler = new RecordingHandler();
+        decoder = new AiStreamFrameDecoder(new JsonFactory(), handler);
+    }
+
+    @Test
+    @DisplayName("응답 ID, delta, 사용량을 순서대로 전달")
+    void decode_FullStream() throws IOException {
+        // when
+        feed(STREAM.getBytes(StandardCharsets.UTF_8), Integer.MAX_VALUE);
+
+        // then
+        assertThat(handler.events).containsExactly(
+                "created:resp_abc123", "delta:안녕하세요", "delta:!", "completed:10/5/15");
+    }
+
+    @Test
+    @DisplayName("버퍼 경계가 UTF-8 문자나 줄 중간에 걸려도 동일하게 해석")
+    void decode_ArbitraryChunkBoundaries() throws IOException {
+        // given
+        byte[] bytes = STREAM.getBytes(StandardCharsets.UTF_8);
+
+        for (int chunkSize = 1; chunkSize <= 17; chunkSize++) {
+            handler.events.clear();
+            decoder = new AiStreamFrameDecoder(new JsonFactory(), handler);
+
+            // when
+            feed(bytes, chunkSize);
+
+            // then
+            assertThat(handler.events).as("chunkSize=%d", chunkSize).containsExactly(
+                    "created:resp_abc123", "delta:안녕하세요", "delta:!", "completed:10/5/15");
+        }
+    }
+
+    @Test
+    @DisplayName("CRLF 줄바꿈, 주석, event/id 필드, 필드 순서가 달라도 해석")
+    void decode_LenientFraming() throws IOException {
+        // given
+        String stream = ": keepalive\r\n\r\n"
+                + "event: message\r\nid: 7\r\n"
+                + "data: {\"sequence_number\":1,\"delta\":\"a\\nb\",\"type\":\"response.output_text.delta\"}\r\n\r\n"
+                + "data:{\"type\":\"response.output_text.delta\",\r\n"
+                + "data: \"delta\":\"c\"}\r\n\r\n";
+
+        // when
+        feed(stream.getBytes(StandardCharsets.UTF_8), 5);
+
+        // then
+        assertThat(handler.events).containsExactly("delta:a\nb", "delta:c");
+    }
+
+    @Test
+    @DisplayName("에러 이벤트와 마지막 빈 줄 없이 끝난 프레임 처리")
+    void decode_ErrorWithoutTrailingBlankLine() throws IOException {
+        // given
+        String stream = "data: {\"type\":\"error\",\"error\":{\"code\":\"rate_limit\",\"message\":\"Too many requests\"}}";
+
+        // when
+        feed(stream.getBytes(StandardCharsets.UTF_8), Integer.MAX_VALUE);
+
+        // then
+        assertThat(handler.events).containsExactly("error:rate_limit/Too many requests");
+    }
+
+    @Test
+    @DisplayName("여러 data 줄로 나뉜 completed 이벤트를 하나의 JSON으로 합쳐 사용량을 해석")
+    void decode_MultiDataLineCompleted() throws IOException {
+        // given
+        String json = """
+                {
+                  "type":"response.completed",
+                  "sequence_number":30,
+                  "response":{
+                    "id":"resp_00158610383aa76800691dc86323b08195864c68c6110879f4",
+                    "model":"gpt-5-mini-2025-08-07",
+                    "content":"안녕하세요! 무엇을 도와드릴까요? 한국어로 도와드릴게요.",
+                    "usage":{
+                      "input_tokens":8,
+                      "output_tokens":91,
+                      "total_tokens":99
+                    }
+                  }
+                }""";
+        String stream = "data: " + json.replace("\n", "\ndata: ") + "\n\n";
+
+        // when
+        feed(stream.getBytes(StandardCharsets.UTF_8), 7);
+
+        // then
+        assertThat(handler.events).containsExactly("completed:8/91/99");
+    }
+
+    @Test
+    @DisplayName("type이 없거나 알 수 없는 이벤트, delta가 없는 delta 이벤트는 무시")
+    void decode_IgnoresUnusableFrames() throws IOException {
+        // given
+        String stream = "data: {\"delta\":\"no-type\"}\n\n"
+                + "data: {\"type\":\"response.in_progress\",\"response\":{\"id\":\"resp_1\"}}\n\n"
+                + "data: {\"type\":\"response.output_text.delta\",\"sequence_number\":1}\n\n"
+                + "event: ping\n\n"
+                + "data: {\"type\":\"response.output_text.delta\",\"delta\":\"ok\"}\n\n";
+
+        // when
+        feed(stream.getBytes(StandardCharsets.UTF_8), Integer.MAX_VALUE);
+
+        // then
+        assertThat(handler.events).containsExactly("delta:ok");
+    }
+
+    @Test
+    @DisplayName("사용량 필드가 숫자가 아니면 해당 값만 비움")
+    void decode_NonNumericUsage() throws IOException {
+        // given
+        String stream = "data: {\"type\":\"response.completed\",\"response\":{\"id\":\"resp_1\","
+                + "\"usage\":{\"input_tokens\":\"8\",\"output_tokens\":91,\"total_tokens\":null,"
+                + "\"output_tokens_details\":{\"reasoning_tokens\":64}}}}\n\n";
+
+        // when
+        feed(stream.getBytes(StandardCharsets.UTF_8), Integer.MAX_VALUE);
+
+        // then
+        assertThat(handler.events).containsExactly("completed:null/91/null");
+    }
+
+    @Test
+    @DisplayName("앞선 프레임은 전달하고, 스트림이 JSON 중간에서 끊기면 종료 시 파싱 예외")
+    void decode_TruncatedFrame() throws IOException {
+        // given
+        byte[] stream = ("data: {\"type\":\"response.output_text.delta\",\"delta\":\"안녕\"}\n\n"
+                + "data: {\"type\":\"response.output_text.delta\",\"delta\":\"하세").getBytes(StandardCharsets.UTF_8);
+        decoder.decode(DefaultDataBufferFactory.sharedInstance.wrap(stream));
+
+        // when & then
+        assertThat(handler.events).containsExactly("delta:안녕");
+        assertThatThrownBy(() -> decoder.finish())
+                .isInstanceOf(JsonProcessingException.class);
+    }
+
+    @Test
+    @DisplayName("JSON 객체가 아닌 데이터는 파싱 예외")
+    void decode_InvalidJson() {
+        // given
+        byte[] stream = "data: not-json\n\n".getBytes(StandardCharsets.UTF_8);
+
+        // when & then
+        assertThatThrownBy(() -> feed(stream, Integer.MAX_VALUE))
+                .isInstanceOf(JsonProcessingException.class);
+    }
+
+    private void feed(byte[] bytes, int chunkSize) throws IOException {
+        for (int offset = 0; offset < bytes.length; offset += chunkSize) {
+            int length = Math.min(chunkSize, bytes.length - offset);
+            byte[] chunk = new byte[length];
+            System.arraycopy(bytes, offset, chunk, 0, length);
+            decoder.decode(DefaultDataBufferFactory.sharedInstance.wrap(chunk));
+        }
+        decoder.finish();
+    }
+
+    private static final class RecordingHandler implements AiStreamEventHandler {
+
+        private final List<String> events = new ArrayList<>();
+
+        @Override
+        public void onCreated(String responseId) {
+            events.add("created:" + responseId);
+        }
+
+        @Override
+        public void onDelta(String delta) {
+            events.add("delta:" + delta);
+        }
+
+        @Override
+        public void onCompleted(AiUsage usage) {
+            events.add("completed:" + usage.inputTokens() + "/" + usage.outputTokens() + "/" + usage.totalTokens());
+        }
+
+        @Override
+        public void onError(String code, String message) {
+            events.add("error:" + code + "/" + message);
+        }
+    }
+}
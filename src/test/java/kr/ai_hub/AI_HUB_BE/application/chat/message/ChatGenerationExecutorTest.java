@@ -0,0 +1,120 @@
+package kr.ai_hub.AI_HUB_BE.application.chat.message;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.ai_hub.AI_HUB_BE.global.error.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+class ChatGenerationExecutorTest {
+
+    private ApplicationEventPublisher eventPublisher;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("이름 있는 가상 스레드에서 실행하고 대기/완료 메트릭 기록")
+    void execute_RecordsMetrics() throws InterruptedException {
+        // given
+        ChatGenerationExecutor executor = new ChatGenerationExecutor(eventPublisher, meterRegistry, Duration.ofSeconds(1));
+        CountDownLatch done = new CountDownLatch(1);
+        StringBuilder threadName = new StringBuilder();
+
+        // when
+        executor.execute(() -> {
+            threadName.append(Thread.currentThread().getName());
+            done.countDown();
+        });
+        executor.stop();
+
+        // then
+        assertThat(done.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(threadName.toString()).startsWith("chat-generation-");
+        assertThat(meterRegistry.get("chat.generation.queue").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("chat.generation.duration").timer().count()).isEqualTo(1);
+        assertThat(executor.getActiveCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("종료 시 readiness를 내리고 새 작업을 거절하며 진행 중인 작업은 완료까지 대기")
+    void stop_DrainsInFlight() throws InterruptedException {
+        // given
+        ChatGenerationExecutor executor = new ChatGenerationExecutor(eventPublisher, meterRegistry, Duration.ofSeconds(5));
+        executor.start();
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicBoolean finished = new AtomicBoolean();
+        executor.execute(() -> {
+            started.countDown();
+            sleep(200);
+            finished.set(true);
+        });
+        started.await(1, TimeUnit.SECONDS);
+
+        // when
+        CountDownLatch stopped = new CountDownLatch(1);
+        executor.stop(stopped::countDown);
+
+        // then
+        assertThatThrownBy(() -> executor.execute(() -> { }))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(stopped.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(finished).isTrue();
+        assertThat(executor.isRunning()).isFalse();
+        assertThat(meterRegistry.counter("chat.generation.rejected").count()).isEqualTo(1);
+        then(eventPublisher).should().publishEvent(argThat((ApplicationEvent event) -> event instanceof AvailabilityChangeEvent<?> change
+                && change.getState() == ReadinessState.REFUSING_TRAFFIC));
+    }
+
+    @Test
+    @DisplayName("유예 시간이 지나면 남은 작업을 인터럽트")
+    void stop_InterruptsAfterGracePeriod() throws InterruptedException {
+        // given
+        ChatGenerationExecutor executor = new ChatGenerationExecutor(eventPublisher, meterRegistry, Duration.ofMillis(100));
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        executor.execute(() -> {
+            started.countDown();
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+            }
+        });
+        started.await(1, TimeUnit.SECONDS);
+
+        // when
+        executor.stop();
+
+        // then
+        assertThat(interrupted).isTrue();
+        assertThat(executor.getActiveCount()).isZero();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package kr.ai_hub.AI_HUB_BE.application.chat.message;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.ai_hub.AI_HUB_BE.global.error.exception.IllegalSystemStateException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ChatRoomSendSequencerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ChatRoomSendSequencer sequencer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sequencer = new ChatRoomSendSequencer(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("같은 채팅방에서 응답 생성 중이면 다음 전송 거절")
+    void acquire_RejectsSameRoom() {
+        // given
+        UUID roomId = UUID.randomUUID();
+        sequencer.acquire(roomId);
+
+        // when & then
+        assertThatThrownBy(() -> sequencer.acquire(roomId))
+                .isInstanceOf(IllegalSystemStateException.class);
+        assertThat(meterRegistry.counter("chat.send.rejected").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 채팅방의 전송은 서로 막지 않음")
+    void acquire_AllowsOtherRooms() {
+        // given
+        UUID roomId = UUID.randomUUID();
+        UUID otherRoomId = UUID.randomUUID();
+        sequencer.acquire(roomId);
+
+        // when
+        ChatRoomSendSequencer.Permit permit = sequencer.acquire(otherRoomId);
+
+        // then
+        assertThat(permit).isNotNull();
+        assertThat(meterRegistry.get("chat.send.in_flight").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("권한 반납 후 같은 채팅방 전송 가능")
+    void close_ReleasesRoom() {
+        // given
+        UUID roomId = UUID.randomUUID();
+        ChatRoomSendSequencer.Permit permit = sequencer.acquire(roomId);
+
+        // when
+        permit.close();
+
+        // then
+        assertThat(sequencer.isInFlight(roomId)).isFalse();
+        assertThat(sequencer.acquire(roomId)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("이미 반납한 권한을 다시 닫아도 새 권한은 유지")
+    void close_Idempotent() {
+        // given
+        UUID roomId = UUID.randomUUID();
+        ChatRoomSendSequencer.Permit stale = sequencer.acquire(roomId);
+        stale.close();
+        sequencer.acquire(roomId);
+
+        // when
+        stale.close();
+
+        // then
+        assertThat(sequencer.isInFlight(roomId)).isTrue();
+    }
+}
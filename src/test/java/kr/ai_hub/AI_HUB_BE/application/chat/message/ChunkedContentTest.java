@@ -0,0 +1,64 @@
+package kr.ai_hub.AI_HUB_BE.application.chat.message;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChunkedContentTest {
+
+    @Test
+    @DisplayName("청크 경계를 넘는 append도 순서대로 누적")
+    void appendAcrossChunks() {
+        // given
+        ChunkedContent content = new ChunkedContent();
+        String first = "가".repeat(ChunkedContent.CHUNK_SIZE - 3);
+        String second = "hello world";
+
+        // when
+        content.append(first);
+        content.append(second);
+        content.append("");
+
+        // then
+        assertThat(content.length()).isEqualTo(first.length() + second.length());
+        assertThat(content.toString()).isEqualTo(first + second);
+    }
+
+    @Test
+    @DisplayName("reader는 작은 버퍼로 읽어도 전체 본문을 반환")
+    void readerReturnsWholeContent() throws IOException {
+        // given
+        ChunkedContent content = new ChunkedContent();
+        String expected = "abc".repeat(ChunkedContent.CHUNK_SIZE);
+        content.append(expected);
+
+        // when
+        StringWriter out = new StringWriter();
+        char[] buffer = new char[1000];
+        try (Reader reader = content.reader()) {
+            int read;
+            while ((read = reader.read(buffer, 0, buffer.length)) != -1) {
+                out.write(buffer, 0, read);
+            }
+        }
+
+        // then
+        assertThat(out.toString()).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("빈 본문의 reader는 바로 EOF")
+    void emptyReader() throws IOException {
+        // given
+        ChunkedContent content = new ChunkedContent();
+
+        // when & then
+        assertThat(content.reader().read(new char[8], 0, 8)).isEqualTo(-1);
+        assertThat(content.toString()).isEmpty();
+    }
+}
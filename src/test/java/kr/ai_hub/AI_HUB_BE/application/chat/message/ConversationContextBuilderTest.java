@@ -0,0 +1,207 @@
+package kr.ai_hub.AI_HUB_BE.application.chat.message;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.ai_hub.AI_HUB_BE.application.chat.message.ConversationContextBuilder.ContextMessage;
+import kr.ai_hub.AI_HUB_BE.domain.aimodel.AIModel;
+import kr.ai_hub.AI_HUB_BE.domain.chat.ChatRoom;
+import kr.ai_hub.AI_HUB_BE.domain.chat.ConversationMessage;
+import kr.ai_hub.AI_HUB_BE.domain.chat.MessageRepository;
+import kr.ai_hub.AI_HUB_BE.domain.chat.MessageRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class ConversationContextBuilderTest {
+
+    @Mock
+    private MessageRepository messageRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConversationContextBuilder builder;
+    private ChatRoom chatRoom;
+    private AIModel gpt;
+    private AIModel claude;
+    private AIModel bigModel;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ConversationContextProperties properties = new ConversationContextProperties(
+                true, 100, Map.of("big-model", 1000), 100, Duration.ofMinutes(30));
+        builder = new ConversationContextBuilder(messageRepository, properties, new TokenEstimator(), meterRegistry);
+
+        chatRoom = ChatRoom.builder().roomId(UUID.randomUUID()).title("room").build();
+        gpt = AIModel.builder().modelId(1).modelName("gpt-5-mini").build();
+        claude = AIModel.builder().modelId(2).modelName("claude-sonnet").build();
+        bigModel = AIModel.builder().modelId(3).modelName("big-model").build();
+    }
+
+    private void givenHistory(String firstQuestion, String firstAnswer) {
+        List<ConversationMessage> newestFirst = List.of(
+                new ConversationMessage(UUID.randomUUID(), MessageRole.ASSISTANT, firstAnswer, "resp-1", 1),
+                new ConversationMessage(UUID.randomUUID(), MessageRole.USER, firstQuestion, "resp-1", 1));
+        given(messageRepository.findConversationByChatRoom(any(ChatRoom.class), any(Pageable.class)))
+                .willReturn(new SliceImpl<>(newestFirst, PageRequest.of(0, ConversationContextBuilder.LOAD_PAGE_SIZE), false));
+        given(messageRepository.findResponseModelIds(chatRoom, "resp-1")).willReturn(List.of(1));
+    }
+
+    private static ChunkedContent content(String text) {
+        ChunkedContent content = new ChunkedContent();
+        content.append(text);
+        return content;
+    }
+
+    @Test
+    @DisplayName("이전 응답과 같은 모델이면 문맥 없이 previous_response_id로 이어감")
+    void buildIfNeeded_SameModel() {
+        // given
+        given(messageRepository.findResponseModelIds(chatRoom, "resp-1")).willReturn(List.of(1));
+
+        // when
+        Optional<List<ContextMessage>> context = builder.buildIfNeeded(chatRoom, gpt, "resp-1");
+
+        // then
+        assertThat(context).isEmpty();
+        then(messageRepository).should(never()).findConversationByChatRoom(any(), any());
+    }
+
+    @Test
+    @DisplayName("previous_response_id가 없으면 새 대화로 보고 조회하지 않음")
+    void buildIfNeeded_NoPreviousResponse() {
+        // when
+        Optional<List<ContextMessage>> context = builder.buildIfNeeded(chatRoom, claude, null);
+
+        // then
+        assertThat(context).isEmpty();
+        then(messageRepository).should(never()).findResponseModelIds(any(), anyString());
+    }
+
+    @Test
+    @DisplayName("다른 모델로 전환하면 이전 대화를 오래된 순으로 구성")
+    void buildIfNeeded_ModelSwitch() {
+        // given
+        givenHistory("q1", "a1");
+
+        // when
+        Optional<List<ContextMessage>> context = builder.buildIfNeeded(chatRoom, claude, "resp-1");
+
+        // then
+        assertThat(context).hasValueSatisfying(messages -> {
+            assertThat(messages).extracting(ContextMessage::role).containsExactly("user", "assistant");
+            assertThat(messages).extracting(ContextMessage::content).containsExactly("q1", "a1");
+        });
+        assertThat(meterRegistry.get("chat.context.window").tag("result", "load").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("모델별 토큰 예산 안에서 최신 메시지부터 채움")
+    void buildIfNeeded_TokenBudget() {
+        // given
+        givenHistory("x".repeat(400), "a1");
+
+        // when
+        Optional<List<ContextMessage>> small = builder.buildIfNeeded(chatRoom, claude, "resp-1");
+        Optional<List<ContextMessage>> large = builder.buildIfNeeded(chatRoom, bigModel, "resp-1");
+
+        // then
+        assertThat(small).hasValueSatisfying(messages ->
+                assertThat(messages).extracting(ContextMessage::content).containsExactly("a1"));
+        assertThat(large).hasValueSatisfying(messages ->
+                assertThat(messages).hasSize(2));
+    }
+
+    @Test
+    @DisplayName("완료된 턴은 캐시된 문맥 창에 덧붙여 다음 전환 시 DB를 다시 읽지 않음")
+    void appendTurn_ReusesWindow() {
+        // given
+        givenHistory("q1", "a1");
+        builder.buildIfNeeded(chatRoom, claude, "resp-1");
+        builder.appendTurn(chatRoom.getRoomId(), "resp-1", "q2", content("a2"), "resp-2", 2);
+
+        // when
+        Optional<List<ContextMessage>> context = builder.buildIfNeeded(chatRoom, gpt, "resp-2");
+
+        // then
+        assertThat(context).hasValueSatisfying(messages ->
+                assertThat(messages).extracting(ContextMessage::content).containsExactly("q1", "a1", "q2", "a2"));
+        then(messageRepository).should(times(1)).findConversationByChatRoom(any(), any());
+        then(messageRepository).should(never()).findResponseModelIds(chatRoom, "resp-2");
+        assertThat(meterRegistry.get("chat.context.window").tag("result", "hit").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시된 문맥 창이 없거나 이어지지 않는 턴이면 응답 본문을 복사하지 않음")
+    void appendTurn_SkipsContentCopyWhenNotAppended() {
+        // given
+        ChunkedContent notCopied = new ChunkedContent() {
+            @Override
+            public String toString() {
+                throw new AssertionError("덧붙이지 않는 턴의 응답 본문을 복사함");
+            }
+        };
+        givenHistory("q1", "a1");
+
+        // when
+        builder.appendTurn(chatRoom.getRoomId(), "resp-1", "q2", notCopied, "resp-2", 2);
+        builder.buildIfNeeded(chatRoom, claude, "resp-1");
+        builder.appendTurn(chatRoom.getRoomId(), "resp-other", "q9", notCopied, "resp-9", 2);
+
+        // then
+        then(messageRepository).should(times(1)).findConversationByChatRoom(any(), any());
+        assertThat(meterRegistry.get("chat.context.window").tag("result", "load").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("예상 비용 조회용 문맥은 같은 내용을 구성하지만 캐시와 메트릭에 반영하지 않음")
+    void previewIfNeeded_DoesNotCacheWindow() {
+        // given
+        givenHistory("q1", "a1");
+
+        // when
+        Optional<List<ContextMessage>> preview = builder.previewIfNeeded(chatRoom, claude, "resp-1");
+        Optional<List<ContextMessage>> context = builder.buildIfNeeded(chatRoom, claude, "resp-1");
+
+        // then
+        assertThat(preview).isEqualTo(context);
+        then(messageRepository).should(times(2)).findConversationByChatRoom(any(), any());
+        assertThat(meterRegistry.get("chat.context.window").tag("result", "load").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("chat.context.window").tag("result", "hit").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 진행된 대화면 문맥 창을 버리고 DB에서 다시 읽음")
+    void appendTurn_StaleWindowReloads() {
+        // given
+        givenHistory("q1", "a1");
+        builder.buildIfNeeded(chatRoom, claude, "resp-1");
+        builder.appendTurn(chatRoom.getRoomId(), "resp-other", "q9", content("a9"), "resp-9", 2);
+
+        // when
+        Optional<List<ContextMessage>> context = builder.buildIfNeeded(chatRoom, gpt, "resp-9");
+
+        // then
+        assertThat(context).isPresent();
+        then(messageRepository).should(times(2)).findConversationByChatRoom(any(), any());
+    }
+}
@@ -0,0 +1,46 @@
+package kr.ai_hub.AI_HUB_BE.application.chat.message;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExifOrientationReaderTest {
+
+    @Test
+    @DisplayName("APP1 Exif 세그먼트의 Orientation 값 파싱 (big endian)")
+    void read_BigEndianOrientation() {
+        // given
+        byte[] jpeg = new byte[] {
+                (byte) 0xFF, (byte) 0xD8,
+                (byte) 0xFF, (byte) 0xE1, 0x00, 0x22,                 // APP1, length 34
+                'E', 'x', 'i', 'f', 0x00, 0x00,
+                'M', 'M', 0x00, 0x2A, 0x00, 0x00, 0x00, 0x08,         // TIFF header, IFD0 offset 8
+                0x00, 0x01,                                           // entry count
+                0x01, 0x12, 0x00, 0x03, 0x00, 0x00, 0x00, 0x01, 0x00, 0x06, 0x00, 0x00,
+                0x00, 0x00, 0x00, 0x00,                               // next IFD
+                (byte) 0xFF, (byte) 0xDA
+        };
+
+        // when
+        int orientation = ExifOrientationReader.read(jpeg);
+
+        // then
+        assertThat(orientation).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("Exif 세그먼트가 없으면 정방향(1) 반환")
+    void read_NoExif() {
+        // given
+        byte[] jpeg = new byte[] {
+                (byte) 0xFF, (byte) 0xD8,
+                (byte) 0xFF, (byte) 0xE0, 0x00, 0x04, 0x00, 0x00,
+                (byte) 0xFF, (byte) 0xDA
+        };
+
+        // when & then
+        assertThat(ExifOrientationReader.read(jpeg)).isEqualTo(1);
+        assertThat(ExifOrientationReader.read(new byte[] { 1, 2, 3 })).isEqualTo(1);
+    }
+}
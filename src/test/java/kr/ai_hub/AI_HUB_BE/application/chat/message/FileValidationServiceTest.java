@@ -1,12 +1,20 @@
 package kr.ai_hub.AI_HUB_BE.application.chat.message;
 
 import kr.ai_hub.AI_HUB_BE.global.error.exception.ValidationException;
+import org.apache.tika.mime.MimeTypes;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -102,4 +110,135 @@ class FileValidationServiceTest {
                 .isInstanceOf(ValidationException.class)
                 .hasMessageContaining("파일 형식이 일치하지 않습니다");
     }
+
+    @Test
+    @DisplayName("대용량 파일 형식은 헤더만 읽어 감지 (전체 바이트 로드 없음)")
+    void validateFile_LargeFileDetectedFromHeader() {
+        // given
+        // 9MB PNG를 .jpg로 위조 - 헤더 이후를 읽거나 getBytes()를 호출하면 읽기 오류가 발생
+        MultipartFile file = new HeaderOnlyMultipartFile("large.jpg", MediaType.IMAGE_JPEG_VALUE,
+                pngBytes(9 * 1024 * 1024));
+
+        // when & then
+        assertThatThrownBy(() -> fileValidationService.validateFile(file))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("파일 형식이 일치하지 않습니다. 감지된 타입: image/png");
+    }
+
+    @Test
+    @DisplayName("형식 감지를 통과한 뒤에만 헤더 이후 본문을 읽음 (해시 계산)")
+    void validateFile_BodyReadOnlyAfterHeaderDetection() {
+        // given
+        MultipartFile file = new HeaderOnlyMultipartFile("large.png", MediaType.IMAGE_PNG_VALUE,
+                pngBytes(9 * 1024 * 1024));
+
+        // when & then
+        // 감지는 헤더만으로 성공하고, 이후 해시 계산에서 본문을 읽다가 실패
+        assertThatThrownBy(() -> fileValidationService.validateFile(file))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageStartingWith("파일 읽기 중 오류가 발생했습니다");
+    }
+
+    @Test
+    @DisplayName("스트리밍 업로드 헤더 검증 후 전체 내용 읽기")
+    void validateStream_Success() throws IOException {
+        // given
+        byte[] pngContent = pngBytes(4096);
+
+        // when
+        ValidatingUploadStream stream = fileValidationService.validateStream(
+                new ByteArrayInputStream(pngContent), "test.png", MediaType.IMAGE_PNG_VALUE, (long) pngContent.length);
+        byte[] read = stream.readAllBytes();
+
+        // then
+        assertThat(read).isEqualTo(pngContent);
+        assertThat(stream.getBytesRead()).isEqualTo(pngContent.length);
+    }
+
+    @Test
+    @DisplayName("스트리밍 업로드 선언된 크기 초과 시 본문을 읽기 전에 실패")
+    void validateStream_DeclaredLengthTooLarge() {
+        // given
+        ByteArrayInputStream body = new ByteArrayInputStream(pngBytes(16));
+
+        // when & then
+        assertThatThrownBy(() -> fileValidationService.validateStream(
+                body, "test.png", MediaType.IMAGE_PNG_VALUE, 11L * 1024 * 1024))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("파일 크기가 너무 큽니다. 최대 크기: 10MB");
+        assertThat(body.available()).isEqualTo(16);
+    }
+
+    @Test
+    @DisplayName("스트리밍 업로드 크기 미선언(chunked) 시 읽는 도중 크기 제한 초과로 실패")
+    void validateStream_LimitExceededWhileReading() {
+        // given
+        byte[] pngContent = pngBytes(11 * 1024 * 1024);
+        ValidatingUploadStream stream = fileValidationService.validateStream(
+                new ByteArrayInputStream(pngContent), "test.png", MediaType.IMAGE_PNG_VALUE, null);
+
+        // when & then
+        assertThatThrownBy(stream::readAllBytes)
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("파일 크기가 너무 큽니다. 최대 크기: 10MB");
+        assertThat(stream.isLimitExceeded()).isTrue();
+    }
+
+    private byte[] pngBytes(int size) {
+        byte[] content = new byte[size];
+        byte[] signature = new byte[] {
+                (byte) 0x89, (byte) 0x50, (byte) 0x4E, (byte) 0x47,
+                (byte) 0x0D, (byte) 0x0A, (byte) 0x1A, (byte) 0x0A
+        };
+        System.arraycopy(signature, 0, content, 0, signature.length);
+        return content;
+    }
+
+    /**
+     * 앞부분(MimeTypes 최소 감지 길이)까지만 읽을 수 있는 업로드 파일.
+     * 그 이후를 읽거나 getBytes()로 전체를 읽으면 IOException이 발생합니다.
+     */
+    private static final class HeaderOnlyMultipartFile extends MockMultipartFile {
+
+        private static final int READABLE_LENGTH = MimeTypes.getDefaultMimeTypes().getMinLength();
+
+        private HeaderOnlyMultipartFile(String filename, String contentType, byte[] content) {
+            super("file", filename, contentType, content);
+        }
+
+        @Override
+        public byte[] getBytes() throws IOException {
+            throw new IOException("getBytes()로 전체 파일을 읽었습니다");
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            InputStream content = super.getInputStream();
+            return new FilterInputStream(content) {
+                private int position;
+
+                @Override
+                public int read() throws IOException {
+                    checkReadable(1);
+                    int value = super.read();
+                    position++;
+                    return value;
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    checkReadable(len);
+                    int read = super.read(b, off, Math.min(len, READABLE_LENGTH - position));
+                    position += Math.max(read, 0);
+                    return read;
+                }
+
+                private void checkReadable(int len) throws IOException {
+                    if (len > 0 && position >= READABLE_LENGTH) {
+                        throw new IOException("헤더 이후를 읽었습니다: position=" + position);
+                    }
+                }
+            };
+        }
+    }
 }
@@ -0,0 +1,137 @@
+package kr.ai_hub.AI_HUB_BE.application.chat.message;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.ai_hub.AI_HUB_BE.application.chat.message.dto.ValidatedFile;
+import kr.ai_hub.AI_HUB_BE.domain.aimodel.AIModel;
+import kr.ai_hub.AI_HUB_BE.global.error.exception.ValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ImagePreprocessingServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AIModel aiModel = AIModel.builder().modelName("gpt-4o").build();
+
+    private ImagePreprocessingService createService(boolean enabled, long maxPixels) {
+        ImagePreprocessingProperties properties = new ImagePreprocessingProperties(
+                enabled, 2048, Map.of("gpt-4o", 512), maxPixels, 0.85f, 2);
+        return new ImagePreprocessingService(properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("긴 변이 모델 최대 크기를 넘는 JPEG는 축소 후 재인코딩")
+    void preprocess_DownscalesLargeJpeg() throws IOException {
+        // given
+        ImagePreprocessingService service = createService(true, 40_000_000);
+        MockMultipartFile file = imageFile("photo.jpg", MediaType.IMAGE_JPEG_VALUE, "jpg", 2000, 1000);
+
+        // when
+        Resource resource = service.preprocess(file, validated(file, "jpg"), aiModel);
+
+        // then
+        BufferedImage result = ImageIO.read(new ByteArrayInputStream(resource.getContentAsByteArray()));
+        assertThat(result.getWidth()).isEqualTo(512);
+        assertThat(result.getHeight()).isEqualTo(256);
+        assertThat(resource.getFilename()).isEqualTo("photo.jpg");
+        assertThat(resource.contentLength()).isLessThan(file.getSize());
+        assertThat(meterRegistry.counter("ai_upload.image.bytes_saved", "format", "jpg").count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("최대 크기 이하의 이미지는 원본 그대로 전달")
+    void preprocess_SmallImagePassesThrough() throws IOException {
+        // given
+        ImagePreprocessingService service = createService(true, 40_000_000);
+        MockMultipartFile file = imageFile("small.png", MediaType.IMAGE_PNG_VALUE, "png", 300, 200);
+
+        // when
+        Resource resource = service.preprocess(file, validated(file, "png"), aiModel);
+
+        // then
+        assertThat(resource.getContentAsByteArray()).isEqualTo(file.getBytes());
+    }
+
+    @Test
+    @DisplayName("전처리 비활성화 시 원본 그대로 전달")
+    void preprocess_DisabledPassesThrough() throws IOException {
+        // given
+        ImagePreprocessingService service = createService(false, 40_000_000);
+        MockMultipartFile file = imageFile("photo.jpg", MediaType.IMAGE_JPEG_VALUE, "jpg", 2000, 1000);
+
+        // when
+        Resource resource = service.preprocess(file, validated(file, "jpg"), aiModel);
+
+        // then
+        assertThat(resource.getContentAsByteArray()).isEqualTo(file.getBytes());
+    }
+
+    @Test
+    @DisplayName("허용 픽셀 수를 넘는 이미지는 디코딩 전에 거부")
+    void preprocess_RejectsTooManyPixels() throws IOException {
+        // given
+        ImagePreprocessingService service = createService(true, 1_000_000);
+        MockMultipartFile file = imageFile("huge.png", MediaType.IMAGE_PNG_VALUE, "png", 2000, 1000);
+
+        // when & then
+        assertThatThrownBy(() -> service.preprocess(file, validated(file, "png"), aiModel))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("이미지 해상도가 너무 큽니다");
+    }
+
+    @Test
+    @DisplayName("디코딩할 수 없는 이미지는 원본 그대로 전달")
+    void preprocess_CorruptImagePassesThrough() throws IOException {
+        // given
+        ImagePreprocessingService service = createService(true, 40_000_000);
+        byte[] corrupt = new byte[] { (byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0, 0, 1, 2, 3 };
+        MockMultipartFile file = new MockMultipartFile("file", "broken.jpg", MediaType.IMAGE_JPEG_VALUE, corrupt);
+
+        // when
+        Resource resource = service.preprocess(file, validated(file, "jpg"), aiModel);
+
+        // then
+        assertThat(resource.getContentAsByteArray()).isEqualTo(corrupt);
+    }
+
+    private MockMultipartFile imageFile(String filename, String contentType, String format,
+                                        int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        Random random = new Random(42);
+        for (int i = 0; i < 200; i++) {
+            graphics.setColor(new Color(random.nextInt(0xFFFFFF)));
+            graphics.fillRect(random.nextInt(width), random.nextInt(height), 50, 50);
+        }
+        graphics.dispose();
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, format, outputStream);
+        return new MockMultipartFile("file", filename, contentType, outputStream.toByteArray());
+    }
+
+    private ValidatedFile validated(MockMultipartFile file, String extension) {
+        return ValidatedFile.builder()
+                .originalFilename(file.getOriginalFilename())
+                .extension(extension)
+                .contentType(file.getContentType())
+                .size(file.getSize())
+                .contentHash("hash")
+                .build();
+    }
+}
@@ -0,0 +1,261 @@
+package kr.ai_hub.AI_HUB_BE.application.chat.message;
+
+import kr.ai_hub.AI_HUB_BE.application.chat.message.dto.SendMessageRequest;
+import kr.ai_hub.AI_HUB_BE.global.error.exception.ValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+class MessageSendIdempotencyRegistryTest {
+
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private final AtomicLong now = new AtomicLong();
+    private MessageSendIdempotencyRegistry registry;
+    private UUID roomId;
+    private SendMessageRequest request;
+
+    @BeforeEach
+    void setUp() {
+        registry = new MessageSendIdempotencyRegistry(TTL, now::get);
+        roomId = UUID.randomUUID();
+        request = SendMessageRequest.builder()
+                .message("Hello AI")
+                .modelId(1)
+                .build();
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 같은 키는 기존 등록을 반환")
+    void register_ReturnsExistingForSameKey() {
+        // given
+        MessageSendIdempotencyRegistry.Registration first = registry.register(1, "key-1", roomId, request);
+
+        // when
+        MessageSendIdempotencyRegistry.Registration retry = registry.register(1, "key-1", roomId, request);
+
+        // then
+        assertThat(first.created()).isTrue();
+        assertThat(retry.created()).isFalse();
+        assertThat(retry.broadcast()).isSameAs(first.broadcast());
+    }
+
+    @Test
+    @DisplayName("키는 사용자별로 구분")
+    void register_ScopedByUser() {
+        // given
+        registry.register(1, "key-1", roomId, request);
+
+        // when
+        MessageSendIdempotencyRegistry.Registration other = registry.register(2, "key-1", roomId, request);
+
+        // then
+        assertThat(other.created()).isTrue();
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 요청을 보내면 예외")
+    void register_RejectsDifferentRequest() {
+        // given
+        registry.register(1, "key-1", roomId, request);
+        SendMessageRequest otherRequest = SendMessageRequest.builder()
+                .message("Different")
+                .modelId(1)
+                .build();
+
+        // when & then
+        assertThatThrownBy(() -> registry.register(1, "key-1", roomId, otherRequest))
+                .isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 키는 새로 등록")
+    void register_AfterTtlCreatesNew() {
+        // given
+        registry.register(1, "key-1", roomId, request);
+        now.addAndGet(TTL.toNanos());
+
+        // when
+        MessageSendIdempotencyRegistry.Registration retry = registry.register(1, "key-1", roomId, request);
+
+        // then
+        assertThat(retry.created()).isTrue();
+    }
+
+    @Test
+    @DisplayName("생성 실패 시 키를 제거하여 재시도가 새로 실행")
+    void broadcastFailure_RemovesKey() {
+        // given
+        MessageSendIdempotencyRegistry.Registration first = registry.register(1, "key-1", roomId, request);
+
+        // when
+        first.broadcast().completeWithError(new IllegalStateException("AI 서버 오류"));
+
+        // then
+        assertThat(registry.register(1, "key-1", roomId, request).created()).isTrue();
+    }
+
+    @Test
+    @DisplayName("진행 중 연결한 재시도에 이전 이벤트를 재생하고 이후 이벤트도 전달")
+    void attach_ReplaysAndFollows() throws IOException {
+        // given
+        MessageSendBroadcast broadcast = registry.register(1, "key-1", roomId, request).broadcast();
+        broadcast.send(SseEmitter.event().name("started").data("Message sending started"));
+        SseEmitter retry = mock(SseEmitter.class);
+
+        // when
+        broadcast.attach(retry);
+        broadcast.send(SseEmitter.event().name("delta").data("안녕하세요"));
+        broadcast.complete();
+
+        // then
+        then(retry).should(times(2)).send(anySet());
+        then(retry).should().complete();
+    }
+
+    @Test
+    @DisplayName("완료 후 연결한 재시도에는 started, 합쳐진 delta 하나, completed만 재생하고 주석은 생략")
+    @SuppressWarnings("unchecked")
+    void attach_ReplaysCompactHistoryAfterFinish() throws IOException {
+        // given
+        MessageSendBroadcast broadcast = registry.register(1, "key-1", roomId, request).broadcast();
+        broadcast.send(SseEmitter.event().name("started").data("Message sending started"));
+        broadcast.send(SseEmitter.event().name("delta").data("안녕"));
+        broadcast.send(SseEmitter.event().comment("keepalive"));
+        broadcast.send(SseEmitter.event().name("delta").data("하세요\n반갑"));
+        broadcast.send(SseEmitter.event().name("delta").data("습니다"));
+        broadcast.send(SseEmitter.event().name("completed").data("done"));
+        broadcast.complete();
+        SseEmitter retry = mock(SseEmitter.class);
+        ArgumentCaptor<Set<SseEmitter.DataWithMediaType>> events = ArgumentCaptor.forClass(Set.class);
+
+        // when
+        broadcast.attach(retry);
+
+        // then
+        then(retry).should(times(3)).send(events.capture());
+        then(retry).should().complete();
+        List<String> replayed = events.getAllValues().stream()
+                .map(event -> event.stream()
+                        .map(part -> String.valueOf(part.getData()))
+                        .reduce("", String::concat))
+                .toList();
+        assertThat(replayed.get(0)).startsWith("event:started");
+        assertThat(replayed.get(1)).isEqualTo(SseEmitter.event().name("delta").data("안녕하세요\n반갑습니다").build().stream()
+                .map(part -> String.valueOf(part.getData()))
+                .reduce("", String::concat));
+        assertThat(replayed.get(2)).startsWith("event:completed");
+    }
+
+    @Test
+    @DisplayName("delta 본문은 저장용 버퍼 하나에 누적되고 재생도 그 버퍼를 사용")
+    void send_AccumulatesDeltaIntoSharedContent() throws IOException {
+        // given
+        MessageSendBroadcast broadcast = registry.register(1, "key-1", roomId, request).broadcast();
+
+        // when
+        broadcast.send(SseEmitter.event().name("started").data("Message sending started"));
+        broadcast.send(SseEmitter.event().name("delta").data("안녕"));
+        broadcast.send(SseEmitter.event().name("delta").data("하세요"));
+
+        // then
+        assertThat(broadcast.content().toString()).isEqualTo("안녕하세요");
+        assertThat(broadcast.content().length()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("느린 구독자에게 쓰는 동안에도 다른 재시도 연결과 상태 조회는 막히지 않음")
+    void send_SlowSubscriberDoesNotBlockAttach() throws Exception {
+        // given
+        MessageSendBroadcast broadcast = registry.register(1, "key-1", roomId, request).broadcast();
+        SseEmitter slow = mock(SseEmitter.class);
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        willAnswer(invocation -> {
+            writing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).given(slow).send(anySet());
+        broadcast.attach(slow);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<?> generation = executor.submit(() -> {
+            broadcast.send(SseEmitter.event().name("delta").data("안녕"));
+            return null;
+        });
+        assertThat(writing.await(1, TimeUnit.SECONDS)).isTrue();
+        SseEmitter retry = mock(SseEmitter.class);
+
+        // when
+        boolean finished = broadcast.isFinished();
+        broadcast.attach(retry);
+
+        // then
+        assertThat(finished).isFalse();
+        then(retry).should().send(anySet());
+        release.countDown();
+        generation.get(1, TimeUnit.SECONDS);
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("연결이 끊긴 구독자는 분리되고 생성은 계속 진행")
+    void send_DetachesBrokenSubscriber() throws IOException {
+        // given
+        MessageSendBroadcast broadcast = registry.register(1, "key-1", roomId, request).broadcast();
+        SseEmitter broken = mock(SseEmitter.class);
+        SseEmitter healthy = mock(SseEmitter.class);
+        broadcast.attach(broken);
+        broadcast.attach(healthy);
+        willThrow(new IOException("Broken pipe")).given(broken).send(anySet());
+
+        // when
+        broadcast.send(SseEmitter.event().name("delta").data("1"));
+        broadcast.send(SseEmitter.event().name("delta").data("2"));
+        broadcast.complete();
+
+        // then
+        then(broken).should(times(1)).send(anySet());
+        then(broken).should(never()).complete();
+        then(healthy).should(times(2)).send(anySet());
+        then(healthy).should().complete();
+    }
+
+    @Test
+    @DisplayName("만료되고 완료된 키만 정리")
+    void evictExpired_KeepsInFlight() {
+        // given
+        registry.register(1, "done", roomId, request).broadcast().complete();
+        registry.register(1, "in-flight", UUID.randomUUID(), request);
+        now.addAndGet(TTL.toNanos());
+
+        // when
+        registry.evictExpired();
+
+        // then
+        assertThat(registry.size()).isEqualTo(1);
+    }
+}
@@ -1,14 +1,19 @@
 package kr.ai_hub.AI_HUB_BE.application.chat.message;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.ai_hub.AI_HUB_BE.application.aimodel.AIModelRegistry;
+import kr.ai_hub.AI_HUB_BE.application.chat.message.ConversationContextBuilder.ContextMessage;
 import kr.ai_hub.AI_HUB_BE.application.chat.message.dto.MessageListItemResponse;
 import kr.ai_hub.AI_HUB_BE.application.chat.message.dto.MessageResponse;
+import kr.ai_hub.AI_HUB_BE.application.chat.message.dto.FileUploadResponse;
+import kr.ai_hub.AI_HUB_BE.application.chat.message.dto.MessageQuoteResponse;
 import kr.ai_hub.AI_HUB_BE.application.chat.message.dto.SendMessageRequest;
+import kr.ai_hub.AI_HUB_BE.application.chat.message.dto.ValidatedFile;
 import kr.ai_hub.AI_HUB_BE.domain.aimodel.AIModel;
-import kr.ai_hub.AI_HUB_BE.domain.aimodel.AIModelRepository;
 import kr.ai_hub.AI_HUB_BE.domain.chat.ChatRoom;
 import kr.ai_hub.AI_HUB_BE.domain.chat.ChatRoomRepository;
 import kr.ai_hub.AI_HUB_BE.domain.chat.Message;
+import kr.ai_hub.AI_HUB_BE.domain.chat.MessageListItem;
 import kr.ai_hub.AI_HUB_BE.domain.chat.MessageRepository;
 import kr.ai_hub.AI_HUB_BE.domain.chat.MessageRole;
 import kr.ai_hub.AI_HUB_BE.domain.user.User;
@@ -18,6 +23,7 @@ import kr.ai_hub.AI_HUB_BE.domain.user.UserWallet;
 import kr.ai_hub.AI_HUB_BE.domain.user.UserWalletRepository;
 import kr.ai_hub.AI_HUB_BE.global.auth.SecurityContextHelper;
 import kr.ai_hub.AI_HUB_BE.global.error.exception.ForbiddenException;
+import kr.ai_hub.AI_HUB_BE.global.error.exception.InsufficientBalanceException;
 import kr.ai_hub.AI_HUB_BE.global.error.exception.MessageNotFoundException;
 import kr.ai_hub.AI_HUB_BE.global.error.exception.RoomNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -26,12 +32,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -42,7 +51,12 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class MessageServiceTest {
@@ -57,7 +71,7 @@ class MessageServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private AIModelRepository aiModelRepository;
+    private AIModelRegistry aiModelRegistry;
 
     @Mock
     private UserWalletRepository userWalletRepository;
@@ -77,6 +91,21 @@ class MessageServiceTest {
     @Mock
     private FileValidationService fileValidationService;
 
+    @Mock
+    private AiFileCacheService aiFileCacheService;
+
+    @Mock
+    private ImagePreprocessingService imagePreprocessingService;
+
+    @Mock
+    private ConversationContextBuilder conversationContextBuilder;
+
+    @Mock
+    private ChatRoomSendSequencer chatRoomSendSequencer;
+
+    @Spy
+    private TokenEstimator tokenEstimator = new TokenEstimator();
+
     @InjectMocks
     private MessageService messageService;
 
@@ -130,11 +159,13 @@ class MessageServiceTest {
         // given
         UUID roomId = chatRoom.getRoomId();
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Message> messagePage = new PageImpl<>(List.of(message));
+        MessageListItem listItem = new MessageListItem(
+                message.getMessageId(), MessageRole.USER, "Hello", null, null, 1, LocalDateTime.now());
+        Page<MessageListItem> messagePage = new PageImpl<>(List.of(listItem));
 
         given(securityContextHelper.getCurrentUserId()).willReturn(1);
         given(chatRoomRepository.findById(roomId)).willReturn(Optional.of(chatRoom));
-        given(messageRepository.findByChatRoom(chatRoom, pageable)).willReturn(messagePage);
+        given(messageRepository.findListItemsByChatRoom(chatRoom, pageable)).willReturn(messagePage);
 
         // when
         Page<MessageListItemResponse> result = messageService.getMessages(roomId, pageable);
@@ -165,7 +196,7 @@ class MessageServiceTest {
         // given
         UUID messageId = message.getMessageId();
         given(securityContextHelper.getCurrentUserId()).willReturn(1);
-        given(messageRepository.findById(messageId)).willReturn(Optional.of(message));
+        given(messageRepository.findWithChatRoomByMessageId(messageId)).willReturn(Optional.of(message));
 
         // when
         MessageResponse response = messageService.getMessage(messageId);
@@ -180,7 +211,7 @@ class MessageServiceTest {
         // given
         UUID messageId = UUID.randomUUID();
         given(securityContextHelper.getCurrentUserId()).willReturn(1);
-        given(messageRepository.findById(messageId)).willReturn(Optional.empty());
+        given(messageRepository.findWithChatRoomByMessageId(messageId)).willReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> messageService.getMessage(messageId))
@@ -193,10 +224,163 @@ class MessageServiceTest {
         // given
         UUID messageId = message.getMessageId();
         given(securityContextHelper.getCurrentUserId()).willReturn(2); // Different user
-        given(messageRepository.findById(messageId)).willReturn(Optional.of(message));
+        given(messageRepository.findWithChatRoomByMessageId(messageId)).willReturn(Optional.of(message));
 
         // when & then
         assertThatThrownBy(() -> messageService.getMessage(messageId))
                 .isInstanceOf(ForbiddenException.class);
     }
+
+    @Test
+    @DisplayName("전송 권한 - 다른 사용자의 채팅방이면 잠금을 점유하지 않고 거절")
+    void acquireSendPermit_ForbiddenBeforeLock() {
+        // given
+        given(securityContextHelper.getCurrentUserId()).willReturn(2);
+        given(chatRoomRepository.findById(chatRoom.getRoomId())).willReturn(Optional.of(chatRoom));
+
+        // when & then
+        assertThatThrownBy(() -> messageService.acquireSendPermit(chatRoom.getRoomId()))
+                .isInstanceOf(ForbiddenException.class);
+        verify(chatRoomSendSequencer, never()).acquire(any());
+    }
+
+    @Test
+    @DisplayName("전송 권한 - 없는 채팅방이면 잠금을 점유하지 않고 404")
+    void acquireSendPermit_RoomNotFoundBeforeLock() {
+        // given
+        UUID roomId = UUID.randomUUID();
+        given(securityContextHelper.getCurrentUserId()).willReturn(1);
+        given(chatRoomRepository.findById(roomId)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> messageService.acquireSendPermit(roomId))
+                .isInstanceOf(RoomNotFoundException.class);
+        verify(chatRoomSendSequencer, never()).acquire(any());
+    }
+
+    private AIModel pricedModel() {
+        return AIModel.builder()
+                .modelId(2)
+                .modelName("gpt-5-mini")
+                .inputPricePer1m(new BigDecimal("1000"))
+                .outputPricePer1m(new BigDecimal("4000"))
+                .isActive(true)
+                .build();
+    }
+
+    private void givenSendResources(AIModel model, UserWallet wallet) {
+        given(securityContextHelper.getCurrentUserId()).willReturn(1);
+        given(userRepository.findById(1)).willReturn(Optional.of(user));
+        given(chatRoomRepository.findById(chatRoom.getRoomId())).willReturn(Optional.of(chatRoom));
+        given(aiModelRegistry.findById(model.getModelId())).willReturn(Optional.of(model));
+        given(userWalletRepository.findByUser(user)).willReturn(Optional.of(wallet));
+    }
+
+    @Test
+    @DisplayName("예상 비용 조회 - 로컬 추정 토큰으로 입력 코인 계산")
+    void quoteMessage_Success() {
+        // given
+        AIModel model = pricedModel();
+        givenSendResources(model, userWallet);
+        SendMessageRequest request = SendMessageRequest.builder()
+                .message("hello world")
+                .modelId(model.getModelId())
+                .build();
+
+        // when
+        MessageQuoteResponse quote = messageService.quoteMessage(chatRoom.getRoomId(), request);
+
+        // then
+        assertThat(quote.estimatedInputTokens()).isEqualTo(2);
+        assertThat(quote.estimatedInputCoin()).isEqualByComparingTo("0.002");
+        assertThat(quote.affordable()).isTrue();
+        verifyNoInteractions(aiServerWebClient);
+    }
+
+    @Test
+    @DisplayName("예상 비용 조회 - 모델 전환 문맥은 GENERIC이 아닌 모델 계열 기준으로 추정")
+    void quoteMessage_ContextEstimatedWithModelFamily() {
+        // given
+        AIModel model = pricedModel();
+        UserWallet wallet = UserWallet.builder()
+                .walletId(2)
+                .user(user)
+                .balance(new BigDecimal("0.1"))
+                .build();
+        givenSendResources(model, wallet);
+        String previousTurn = "가".repeat(100);
+        ContextMessage contextMessage = new ContextMessage("assistant", previousTurn,
+                tokenEstimator.estimateMessage(TokenEstimator.TokenizerFamily.GENERIC, previousTurn));
+        SendMessageRequest request = SendMessageRequest.builder()
+                .message("hello world")
+                .modelId(model.getModelId())
+                .previousResponseId("resp-1")
+                .build();
+        given(conversationContextBuilder.previewIfNeeded(chatRoom, model, "resp-1"))
+                .willReturn(Optional.of(List.of(contextMessage)));
+
+        // when
+        MessageQuoteResponse quote = messageService.quoteMessage(chatRoom.getRoomId(), request);
+
+        // then
+        // OPENAI: 2 + (4 + 100 * 0.8) = 86 토큰 (GENERIC 기준이면 2 + (4 + 100 * 1.3) = 136 토큰 → 0.136 코인)
+        assertThat(contextMessage.tokens()).isEqualTo(134);
+        assertThat(quote.estimatedInputTokens()).isEqualTo(86);
+        assertThat(quote.estimatedInputCoin()).isEqualByComparingTo("0.086");
+        assertThat(quote.affordable()).isTrue();
+        verify(conversationContextBuilder, never()).buildIfNeeded(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("메시지 전송 - 예상 입력 비용이 잔액을 넘으면 사용자 메시지 저장/AI 호출 없이 거절")
+    void sendMessage_RejectsWhenEstimatedInputExceedsBalance() {
+        // given
+        AIModel model = pricedModel();
+        UserWallet poorWallet = UserWallet.builder()
+                .walletId(2)
+                .user(user)
+                .balance(new BigDecimal("0.001"))
+                .build();
+        givenSendResources(model, poorWallet);
+        SendMessageRequest request = SendMessageRequest.builder()
+                .message("hello world")
+                .modelId(model.getModelId())
+                .build();
+        SseEmitter emitter = mock(SseEmitter.class);
+
+        // when
+        messageService.sendMessage(chatRoom.getRoomId(), request, emitter);
+
+        // then
+        verify(emitter).completeWithError(isA(InsufficientBalanceException.class));
+        verify(messageTransactionService, never()).saveUserMessage(any(), any(), any());
+        verifyNoInteractions(aiServerWebClient);
+    }
+
+    @Test
+    @DisplayName("같은 파일을 업로드한 적이 있으면 AI 서버 업로드 생략")
+    void uploadFile_CacheHit() {
+        // given
+        MockMultipartFile file = new MockMultipartFile("file", "test.png", "image/png", new byte[] {1, 2, 3});
+        ValidatedFile validatedFile = ValidatedFile.builder()
+                .originalFilename("test.png")
+                .extension("png")
+                .contentType("image/png")
+                .size(3)
+                .contentHash("hash")
+                .build();
+
+        given(fileValidationService.validateFile(file)).willReturn(validatedFile);
+        given(aiModelRegistry.findById(1)).willReturn(Optional.of(aiModel));
+        given(securityContextHelper.getCurrentUserId()).willReturn(1);
+        given(aiFileCacheService.findFileId(1, 1, "hash")).willReturn(Optional.of("file-123"));
+
+        // when
+        FileUploadResponse response = messageService.uploadFile(file, 1);
+
+        // then
+        assertThat(response.fileId()).isEqualTo("file-123");
+        verifyNoInteractions(aiServerWebClient);
+        verify(aiFileCacheService, never()).put(any(), any(), any(), any());
+    }
 }
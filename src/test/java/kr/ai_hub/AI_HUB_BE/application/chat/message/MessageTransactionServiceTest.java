@@ -6,6 +6,7 @@ import kr.ai_hub.AI_HUB_BE.domain.aimodel.AIModel;
 import kr.ai_hub.AI_HUB_BE.domain.chat.ChatRoom;
 import kr.ai_hub.AI_HUB_BE.domain.chat.ChatRoomRepository;
 import kr.ai_hub.AI_HUB_BE.domain.chat.Message;
+import kr.ai_hub.AI_HUB_BE.domain.chat.MessageContentWriter;
 import kr.ai_hub.AI_HUB_BE.domain.chat.MessageRepository;
 import kr.ai_hub.AI_HUB_BE.domain.chat.MessageRole;
 import kr.ai_hub.AI_HUB_BE.domain.payment.CoinTransaction;
@@ -13,6 +14,7 @@ import kr.ai_hub.AI_HUB_BE.domain.payment.CoinTransactionRepository;
 import kr.ai_hub.AI_HUB_BE.domain.user.User;
 import kr.ai_hub.AI_HUB_BE.domain.user.UserWallet;
 import kr.ai_hub.AI_HUB_BE.domain.user.UserWalletRepository;
+import kr.ai_hub.AI_HUB_BE.global.error.exception.IllegalSystemStateException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,14 +22,18 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.Reader;
 import java.math.BigDecimal;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -48,6 +54,9 @@ class MessageTransactionServiceTest {
     @Mock
     private ChatRoomRepository chatRoomRepository;
 
+    @Mock
+    private MessageContentWriter messageContentWriter;
+
     @Test
     @DisplayName("User 메시지 저장")
     void saveUserMessage() {
@@ -108,18 +117,57 @@ class MessageTransactionServiceTest {
 
         given(userWalletRepository.findByUserUserId(user.getUserId())).willReturn(Optional.of(wallet));
         given(chatRoomRepository.findById(chatRoom.getRoomId())).willReturn(Optional.of(chatRoom));
+        ChunkedContent content = new ChunkedContent();
+        content.append("Answer");
+        given(messageContentWriter.writeContent(any(), any(Reader.class), eq(6))).willReturn(1);
 
         // when
         messageTransactionService.processCompletedResponse(
-                chatRoom, aiModel, user, userMessage, "resp-1", "Answer", usage);
+                chatRoom, aiModel, user, userMessage, "resp-1", content, usage);
 
         // then
         assertThat(wallet.getBalance()).isEqualByComparingTo(BigDecimal.valueOf(999.8));
-        verify(messageRepository).save(argThat(msg -> msg.getRole() == MessageRole.ASSISTANT)); // Assistant message
+        verify(messageRepository).saveAndFlush(argThat(msg -> msg.getRole() == MessageRole.ASSISTANT)); // Assistant message
+        verify(messageContentWriter).writeContent(any(), any(Reader.class), eq(6)); // Assistant 본문 스트림 저장
         verify(messageRepository).save(userMessage); // Update user message
         verify(coinTransactionRepository).save(any(CoinTransaction.class));
     }
 
+    @Test
+    @DisplayName("응답 본문 저장 행 수가 1이 아니면 예외를 던져 과금까지 롤백")
+    void processCompletedResponse_ContentNotWritten() {
+        // given
+        User user = User.builder().userId(1).build();
+        ChatRoom chatRoom = ChatRoom.builder().roomId(UUID.randomUUID()).user(user).build();
+        AIModel aiModel = AIModel.builder()
+                .modelId(1)
+                .modelName("GPT-4")
+                .inputPricePer1m(BigDecimal.valueOf(100))
+                .outputPricePer1m(BigDecimal.valueOf(200))
+                .build();
+        Message userMessage = Message.builder()
+                .messageId(UUID.randomUUID())
+                .chatRoom(chatRoom)
+                .role(MessageRole.USER)
+                .build();
+        UserWallet wallet = UserWallet.builder()
+                .user(user)
+                .balance(BigDecimal.valueOf(1000))
+                .build();
+        AiUsage usage = new AiUsage(1000, 500, 1500);
+
+        given(userWalletRepository.findByUserUserId(user.getUserId())).willReturn(Optional.of(wallet));
+        given(messageContentWriter.writeContent(any(), any(Reader.class), eq(6))).willReturn(0);
+        ChunkedContent content = new ChunkedContent();
+        content.append("Answer");
+
+        // when & then
+        assertThatThrownBy(() -> messageTransactionService.processCompletedResponse(
+                chatRoom, aiModel, user, userMessage, "resp-1", content, usage))
+                .isInstanceOf(IllegalSystemStateException.class);
+        verify(coinTransactionRepository, never()).save(any(CoinTransaction.class));
+    }
+
     @Test
     @DisplayName("User 메시지 삭제")
     void deleteUserMessage() {
@@ -0,0 +1,94 @@
+package kr.ai_hub.AI_HUB_BE.application.chat.message;
+
+import kr.ai_hub.AI_HUB_BE.application.chat.message.TokenEstimator.TokenizerFamily;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenEstimatorTest {
+
+    private final TokenEstimator tokenEstimator = new TokenEstimator();
+
+    @Test
+    @DisplayName("모델명으로 토크나이저 계열 판별")
+    void familyOf() {
+        assertThat(TokenizerFamily.of("gpt-5-mini")).isEqualTo(TokenizerFamily.OPENAI);
+        assertThat(TokenizerFamily.of("GPT-4")).isEqualTo(TokenizerFamily.OPENAI);
+        assertThat(TokenizerFamily.of("o3-mini")).isEqualTo(TokenizerFamily.OPENAI);
+        assertThat(TokenizerFamily.of("claude-3-5-sonnet")).isEqualTo(TokenizerFamily.ANTHROPIC);
+        assertThat(TokenizerFamily.of("gemini-2.5-pro")).isEqualTo(TokenizerFamily.GOOGLE);
+        assertThat(TokenizerFamily.of("unknown")).isEqualTo(TokenizerFamily.GENERIC);
+        assertThat(TokenizerFamily.of(null)).isEqualTo(TokenizerFamily.GENERIC);
+    }
+
+    @Test
+    @DisplayName("영문은 단어 길이, 숫자는 3자리, 문장부호는 1자 단위로 추정")
+    void estimate_Ascii() {
+        // when
+        int words = tokenEstimator.estimate(TokenizerFamily.OPENAI, "hello world");
+        int longWord = tokenEstimator.estimate(TokenizerFamily.OPENAI, "internationalization");
+        int digits = tokenEstimator.estimate(TokenizerFamily.OPENAI, "1234567");
+        int punctuation = tokenEstimator.estimate(TokenizerFamily.OPENAI, "a, b.");
+
+        // then
+        assertThat(words).isEqualTo(2);
+        assertThat(longWord).isEqualTo(4);
+        assertThat(digits).isEqualTo(3);
+        assertThat(punctuation).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("같은 문장부호/공백이 이어지면 8자까지 1토큰으로 묶고, 단어 앞 공백 1개는 단어에 포함")
+    void estimate_SymbolRuns() {
+        // when
+        int rule = tokenEstimator.estimate(TokenizerFamily.OPENAI, "----------------");
+        int blankLine = tokenEstimator.estimate(TokenizerFamily.OPENAI, "\n\n");
+        int indented = tokenEstimator.estimate(TokenizerFamily.OPENAI, "        x");
+        int json = tokenEstimator.estimate(TokenizerFamily.OPENAI, "{\"a\": [1, 2]}");
+
+        // then
+        assertThat(rule).isEqualTo(2);
+        assertThat(blankLine).isEqualTo(1);
+        assertThat(indented).isEqualTo(2);
+        assertThat(json).isEqualTo(11);
+    }
+
+    @Test
+    @DisplayName("라틴 외 문자(키릴, 악센트 등)는 1자씩이 아니라 단어로 묶어 추정")
+    void estimate_NonLatinLetters() {
+        // when
+        int cyrillic = tokenEstimator.estimate(TokenizerFamily.OPENAI, "привет мир");
+        int accented = tokenEstimator.estimate(TokenizerFamily.OPENAI, "café");
+
+        // then
+        assertThat(cyrillic).isEqualTo(3);
+        assertThat(accented).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("한글은 계열별 음절당 비율을 적용하고 GENERIC이 가장 크게 추정")
+    void estimate_Hangul() {
+        // given
+        String text = "안녕하세요 반갑습니다";
+
+        // when
+        int openai = tokenEstimator.estimate(TokenizerFamily.OPENAI, text);
+        int anthropic = tokenEstimator.estimate(TokenizerFamily.ANTHROPIC, text);
+        int generic = tokenEstimator.estimate(TokenizerFamily.GENERIC, text);
+
+        // then
+        assertThat(openai).isEqualTo(8);
+        assertThat(anthropic).isEqualTo(12);
+        assertThat(generic).isGreaterThanOrEqualTo(anthropic);
+    }
+
+    @Test
+    @DisplayName("빈 문자열과 null은 0토큰, 메시지 추정은 역할 토큰 포함")
+    void estimate_Empty() {
+        assertThat(tokenEstimator.estimate("gpt-5-mini", "")).isZero();
+        assertThat(tokenEstimator.estimate("gpt-5-mini", null)).isZero();
+        assertThat(tokenEstimator.estimateMessage(TokenizerFamily.OPENAI, ""))
+                .isEqualTo(TokenEstimator.MESSAGE_OVERHEAD_TOKENS);
+    }
+}
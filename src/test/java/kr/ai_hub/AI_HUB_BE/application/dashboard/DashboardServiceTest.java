@@ -1,10 +1,10 @@
 package kr.ai_hub.AI_HUB_BE.application.dashboard;
 
+import kr.ai_hub.AI_HUB_BE.application.aimodel.AIModelRegistry;
 import kr.ai_hub.AI_HUB_BE.application.dashboard.dto.ModelPricingResponse;
 import kr.ai_hub.AI_HUB_BE.application.dashboard.dto.MonthlyUsageResponse;
 import kr.ai_hub.AI_HUB_BE.application.dashboard.dto.UserStatsResponse;
 import kr.ai_hub.AI_HUB_BE.domain.aimodel.AIModel;
-import kr.ai_hub.AI_HUB_BE.domain.aimodel.AIModelRepository;
 import kr.ai_hub.AI_HUB_BE.domain.chat.ChatRoomRepository;
 import kr.ai_hub.AI_HUB_BE.domain.chat.MessageRepository;
 import kr.ai_hub.AI_HUB_BE.domain.payment.CoinTransaction;
@@ -39,7 +39,7 @@ class DashboardServiceTest {
     private DashboardService dashboardService;
 
     @Mock
-    private AIModelRepository aiModelRepository;
+    private AIModelRegistry aiModelRegistry;
 
     @Mock
     private CoinTransactionRepository coinTransactionRepository;
@@ -84,7 +84,7 @@ class DashboardServiceTest {
             throw new RuntimeException(e);
         }
 
-        given(aiModelRepository.findByIsActiveTrueOrderByCreatedAtDesc())
+        given(aiModelRegistry.getActiveModels())
                 .willReturn(List.of(model1));
 
         // when
@@ -1,7 +1,7 @@
 package kr.ai_hub.AI_HUB_BE.application.payment;
 
 import kr.ai_hub.AI_HUB_BE.application.payment.dto.CoinTransactionResponse;
-import kr.ai_hub.AI_HUB_BE.domain.payment.CoinTransaction;
+import kr.ai_hub.AI_HUB_BE.domain.payment.CoinTransactionListItem;
 import kr.ai_hub.AI_HUB_BE.domain.payment.CoinTransactionRepository;
 import kr.ai_hub.AI_HUB_BE.domain.user.User;
 import kr.ai_hub.AI_HUB_BE.domain.user.UserRepository;
@@ -55,27 +55,13 @@ class CoinTransactionServiceTest {
         User user = User.builder().build();
         Pageable pageable = PageRequest.of(0, 10);
 
-        CoinTransaction transaction = CoinTransaction.builder()
-                .user(user)
-                .amount(BigDecimal.valueOf(100))
-                .balanceAfter(BigDecimal.valueOf(100))
-                .transactionType("CHARGE")
-                .description("Test")
-                .build();
-        // Set createdAt using reflection
-        try {
-            java.lang.reflect.Field createdAtField = CoinTransaction.class.getDeclaredField("createdAt");
-            createdAtField.setAccessible(true);
-            createdAtField.set(transaction, LocalDateTime.now());
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
-
-        Page<CoinTransaction> transactionPage = new PageImpl<>(List.of(transaction));
+        CoinTransactionListItem transaction = listItem("CHARGE", BigDecimal.valueOf(100), BigDecimal.valueOf(100), LocalDateTime.now());
+
+        Page<CoinTransactionListItem> transactionPage = new PageImpl<>(List.of(transaction));
 
         given(securityContextHelper.getCurrentUserId()).willReturn(userId);
         given(userRepository.findById(userId)).willReturn(Optional.of(user));
-        given(coinTransactionRepository.findByUser(user, pageable)).willReturn(transactionPage);
+        given(coinTransactionRepository.findListItemsByUser(user, pageable)).willReturn(transactionPage);
 
         // when
         Page<CoinTransactionResponse> result = coinTransactionService.getTransactions(
@@ -83,7 +69,7 @@ class CoinTransactionServiceTest {
 
         // then
         assertThat(result.getContent()).hasSize(1);
-        verify(coinTransactionRepository).findByUser(user, pageable);
+        verify(coinTransactionRepository).findListItemsByUser(user, pageable);
     }
 
     @Test
@@ -95,26 +81,13 @@ class CoinTransactionServiceTest {
         String transactionType = "CHARGE";
         Pageable pageable = PageRequest.of(0, 10);
 
-        CoinTransaction transaction = CoinTransaction.builder()
-                .user(user)
-                .amount(BigDecimal.valueOf(100))
-                .balanceAfter(BigDecimal.valueOf(100))
-                .transactionType("CHARGE")
-                .description("Test")
-                .build();
-        try {
-            java.lang.reflect.Field createdAtField = CoinTransaction.class.getDeclaredField("createdAt");
-            createdAtField.setAccessible(true);
-            createdAtField.set(transaction, LocalDateTime.now());
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
-
-        Page<CoinTransaction> transactionPage = new PageImpl<>(List.of(transaction));
+        CoinTransactionListItem transaction = listItem("CHARGE", BigDecimal.valueOf(100), BigDecimal.valueOf(100), LocalDateTime.now());
+
+        Page<CoinTransactionListItem> transactionPage = new PageImpl<>(List.of(transaction));
 
         given(securityContextHelper.getCurrentUserId()).willReturn(userId);
         given(userRepository.findById(userId)).willReturn(Optional.of(user));
-        given(coinTransactionRepository.findByUserAndTransactionType(user, transactionType, pageable))
+        given(coinTransactionRepository.findListItemsByUserAndTransactionType(user, transactionType, pageable))
                 .willReturn(transactionPage);
 
         // when
@@ -124,7 +97,7 @@ class CoinTransactionServiceTest {
         // then
         assertThat(result.getContent()).hasSize(1);
         assertThat(result.getContent().get(0).transactionType()).isEqualTo("CHARGE");
-        verify(coinTransactionRepository).findByUserAndTransactionType(user, transactionType, pageable);
+        verify(coinTransactionRepository).findListItemsByUserAndTransactionType(user, transactionType, pageable);
     }
 
     @Test
@@ -139,26 +112,13 @@ class CoinTransactionServiceTest {
         LocalDateTime endDateTime = endDate.atTime(LocalTime.MAX);
         Pageable pageable = PageRequest.of(0, 10);
 
-        CoinTransaction transaction = CoinTransaction.builder()
-                .user(user)
-                .amount(BigDecimal.valueOf(100))
-                .balanceAfter(BigDecimal.valueOf(100))
-                .transactionType("CHARGE")
-                .description("Test")
-                .build();
-        try {
-            java.lang.reflect.Field createdAtField = CoinTransaction.class.getDeclaredField("createdAt");
-            createdAtField.setAccessible(true);
-            createdAtField.set(transaction, LocalDateTime.of(2024, 6, 15, 12, 0));
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
-
-        Page<CoinTransaction> transactionPage = new PageImpl<>(List.of(transaction));
+        CoinTransactionListItem transaction = listItem("CHARGE", BigDecimal.valueOf(100), BigDecimal.valueOf(100), LocalDateTime.of(2024, 6, 15, 12, 0));
+
+        Page<CoinTransactionListItem> transactionPage = new PageImpl<>(List.of(transaction));
 
         given(securityContextHelper.getCurrentUserId()).willReturn(userId);
         given(userRepository.findById(userId)).willReturn(Optional.of(user));
-        given(coinTransactionRepository.findByUserAndCreatedAtBetween(
+        given(coinTransactionRepository.findListItemsByUserAndCreatedAtBetween(
                 eq(user), eq(startDateTime), eq(endDateTime), eq(pageable)))
                 .willReturn(transactionPage);
 
@@ -168,7 +128,7 @@ class CoinTransactionServiceTest {
 
         // then
         assertThat(result.getContent()).hasSize(1);
-        verify(coinTransactionRepository).findByUserAndCreatedAtBetween(
+        verify(coinTransactionRepository).findListItemsByUserAndCreatedAtBetween(
                 user, startDateTime, endDateTime, pageable);
     }
 
@@ -185,26 +145,13 @@ class CoinTransactionServiceTest {
         LocalDateTime endDateTime = endDate.atTime(LocalTime.MAX);
         Pageable pageable = PageRequest.of(0, 10);
 
-        CoinTransaction transaction = CoinTransaction.builder()
-                .user(user)
-                .amount(BigDecimal.valueOf(-50))
-                .balanceAfter(BigDecimal.valueOf(50))
-                .transactionType("USAGE")
-                .description("Test")
-                .build();
-        try {
-            java.lang.reflect.Field createdAtField = CoinTransaction.class.getDeclaredField("createdAt");
-            createdAtField.setAccessible(true);
-            createdAtField.set(transaction, LocalDateTime.of(2024, 6, 15, 12, 0));
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
-
-        Page<CoinTransaction> transactionPage = new PageImpl<>(List.of(transaction));
+        CoinTransactionListItem transaction = listItem("USAGE", BigDecimal.valueOf(-50), BigDecimal.valueOf(50), LocalDateTime.of(2024, 6, 15, 12, 0));
+
+        Page<CoinTransactionListItem> transactionPage = new PageImpl<>(List.of(transaction));
 
         given(securityContextHelper.getCurrentUserId()).willReturn(userId);
         given(userRepository.findById(userId)).willReturn(Optional.of(user));
-        given(coinTransactionRepository.findByUserAndTransactionTypeAndCreatedAtBetween(
+        given(coinTransactionRepository.findListItemsByUserAndTransactionTypeAndCreatedAtBetween(
                 eq(user), eq(transactionType), eq(startDateTime), eq(endDateTime), eq(pageable)))
                 .willReturn(transactionPage);
 
@@ -215,7 +162,7 @@ class CoinTransactionServiceTest {
         // then
         assertThat(result.getContent()).hasSize(1);
         assertThat(result.getContent().get(0).transactionType()).isEqualTo("USAGE");
-        verify(coinTransactionRepository).findByUserAndTransactionTypeAndCreatedAtBetween(
+        verify(coinTransactionRepository).findListItemsByUserAndTransactionTypeAndCreatedAtBetween(
                 user, transactionType, startDateTime, endDateTime, pageable);
     }
 
@@ -233,4 +180,8 @@ class CoinTransactionServiceTest {
         assertThatThrownBy(() -> coinTransactionService.getTransactions(null, null, null, pageable))
                 .isInstanceOf(UserNotFoundException.class);
     }
+
+    private CoinTransactionListItem listItem(String type, BigDecimal amount, BigDecimal balanceAfter, LocalDateTime createdAt) {
+        return new CoinTransactionListItem(1L, type, amount, balanceAfter, "Test", null, null, null, null, createdAt);
+    }
 }
@@ -2,6 +2,7 @@ package kr.ai_hub.AI_HUB_BE.application.payment;
 
 import kr.ai_hub.AI_HUB_BE.application.payment.dto.PaymentResponse;
 import kr.ai_hub.AI_HUB_BE.domain.payment.PaymentHistory;
+import kr.ai_hub.AI_HUB_BE.domain.payment.PaymentHistoryListItem;
 import kr.ai_hub.AI_HUB_BE.domain.payment.PaymentHistoryRepository;
 import kr.ai_hub.AI_HUB_BE.domain.user.User;
 import kr.ai_hub.AI_HUB_BE.domain.user.UserRepository;
@@ -54,21 +55,14 @@ class PaymentHistoryServiceTest {
         User user = User.builder().build();
         Pageable pageable = PageRequest.of(0, 10);
 
-        PaymentHistory payment = PaymentHistory.builder()
-                .paymentId(1L)
-                .user(user)
-                .amountKrw(BigDecimal.valueOf(10000))
-                .coinAmount(BigDecimal.valueOf(100))
-                .status("COMPLETED")
-                .paymentMethod("CARD")
-                .transactionId("tx_123")
-                .createdAt(java.time.LocalDateTime.now())
-                .build();
-        Page<PaymentHistory> paymentPage = new PageImpl<>(List.of(payment));
+        PaymentHistoryListItem payment = new PaymentHistoryListItem(
+                1L, "tx_123", "CARD", BigDecimal.valueOf(10000), null, BigDecimal.valueOf(100),
+                BigDecimal.ZERO, "COMPLETED", null, null, java.time.LocalDateTime.now(), null);
+        Page<PaymentHistoryListItem> paymentPage = new PageImpl<>(List.of(payment));
 
         given(securityContextHelper.getCurrentUserId()).willReturn(userId);
         given(userRepository.findById(userId)).willReturn(Optional.of(user));
-        given(paymentHistoryRepository.findByUser(user, pageable)).willReturn(paymentPage);
+        given(paymentHistoryRepository.findListItemsByUser(user, pageable)).willReturn(paymentPage);
 
         // when
         Page<PaymentResponse> result = paymentHistoryService.getPayments(null, pageable);
@@ -76,7 +70,7 @@ class PaymentHistoryServiceTest {
         // then
         assertThat(result.getContent()).hasSize(1);
         assertThat(result.getContent().get(0).paymentId()).isEqualTo(1L);
-        verify(paymentHistoryRepository).findByUser(user, pageable);
+        verify(paymentHistoryRepository).findListItemsByUser(user, pageable);
     }
 
     @Test
@@ -88,21 +82,14 @@ class PaymentHistoryServiceTest {
         String status = "COMPLETED";
         Pageable pageable = PageRequest.of(0, 10);
 
-        PaymentHistory payment = PaymentHistory.builder()
-                .paymentId(1L)
-                .user(user)
-                .amountKrw(BigDecimal.valueOf(10000))
-                .coinAmount(BigDecimal.valueOf(100))
-                .status("COMPLETED")
-                .paymentMethod("CARD")
-                .transactionId("tx_123")
-                .createdAt(java.time.LocalDateTime.now())
-                .build();
-        Page<PaymentHistory> paymentPage = new PageImpl<>(List.of(payment));
+        PaymentHistoryListItem payment = new PaymentHistoryListItem(
+                1L, "tx_123", "CARD", BigDecimal.valueOf(10000), null, BigDecimal.valueOf(100),
+                BigDecimal.ZERO, "COMPLETED", null, null, java.time.LocalDateTime.now(), null);
+        Page<PaymentHistoryListItem> paymentPage = new PageImpl<>(List.of(payment));
 
         given(securityContextHelper.getCurrentUserId()).willReturn(userId);
         given(userRepository.findById(userId)).willReturn(Optional.of(user));
-        given(paymentHistoryRepository.findByUserAndStatus(user, status, pageable)).willReturn(paymentPage);
+        given(paymentHistoryRepository.findListItemsByUserAndStatus(user, status, pageable)).willReturn(paymentPage);
 
         // when
         Page<PaymentResponse> result = paymentHistoryService.getPayments(status, pageable);
@@ -110,7 +97,7 @@ class PaymentHistoryServiceTest {
         // then
         assertThat(result.getContent()).hasSize(1);
         assertThat(result.getContent().get(0).status()).isEqualTo("COMPLETED");
-        verify(paymentHistoryRepository).findByUserAndStatus(user, status, pageable);
+        verify(paymentHistoryRepository).findListItemsByUserAndStatus(user, status, pageable);
     }
 
     @Test
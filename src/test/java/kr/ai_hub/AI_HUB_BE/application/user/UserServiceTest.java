@@ -6,6 +6,7 @@ import kr.ai_hub.AI_HUB_BE.domain.user.User;
 import kr.ai_hub.AI_HUB_BE.domain.user.UserRepository;
 import kr.ai_hub.AI_HUB_BE.domain.user.UserRole;
 import kr.ai_hub.AI_HUB_BE.global.auth.SecurityContextHelper;
+import kr.ai_hub.AI_HUB_BE.global.cache.SecondLevelCacheEvictor;
 import kr.ai_hub.AI_HUB_BE.global.error.exception.UserNotFoundException;
 import kr.ai_hub.AI_HUB_BE.global.error.exception.ValidationException;
 import org.junit.jupiter.api.BeforeEach;
@@ -22,6 +23,7 @@ import java.time.LocalDateTime;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
 
 @ExtendWith(MockitoExtension.class)
 class UserServiceTest {
@@ -35,6 +37,9 @@ class UserServiceTest {
     @Mock
     private SecurityContextHelper securityContextHelper;
 
+    @Mock
+    private SecondLevelCacheEvictor secondLevelCacheEvictor;
+
     private User user;
 
     @BeforeEach
@@ -139,5 +144,6 @@ class UserServiceTest {
 
         // then
         assertThat(user.getIsDeleted()).isTrue();
+        then(secondLevelCacheEvictor).should().evictAfterCommit(User.class, 1);
     }
 }
@@ -14,6 +14,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
@@ -21,7 +22,10 @@ import java.time.Instant;
 import java.util.List;
 
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -105,4 +109,33 @@ class AIModelControllerTest {
                 .andExpect(jsonPath("$.detail").isArray())
                 .andExpect(jsonPath("$.detail").isEmpty());
     }
+
+    @Test
+    @DisplayName("활성화된 AI 모델 목록 조회 - ETag와 Cache-Control 응답")
+    void getActiveModels_ETag() throws Exception {
+        // given
+        given(aiModelService.getActiveModelsVersion()).willReturn("v1");
+        given(aiModelService.getActiveModels()).willReturn(List.of());
+
+        // when & then
+        mockMvc.perform(get("/api/v1/models"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"models-v1\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=60, public"));
+    }
+
+    @Test
+    @DisplayName("활성화된 AI 모델 목록 조회 - ETag 일치 시 목록 조회 없이 304")
+    void getActiveModels_NotModified() throws Exception {
+        // given
+        given(aiModelService.getActiveModelsVersion()).willReturn("v1");
+
+        // when & then
+        mockMvc.perform(get("/api/v1/models")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"models-v1\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"models-v1\""));
+
+        verify(aiModelService, never()).getActiveModels();
+    }
 }
@@ -1,12 +1,21 @@
 package kr.ai_hub.AI_HUB_BE.controller.chat;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import kr.ai_hub.AI_HUB_BE.application.chat.message.ChatGenerationExecutor;
 import kr.ai_hub.AI_HUB_BE.application.chat.message.MessageService;
 import kr.ai_hub.AI_HUB_BE.application.chat.message.dto.FileUploadResponse;
 import kr.ai_hub.AI_HUB_BE.application.chat.message.dto.MessageListItemResponse;
+import kr.ai_hub.AI_HUB_BE.application.chat.message.dto.MessageQuoteResponse;
 import kr.ai_hub.AI_HUB_BE.application.chat.message.dto.MessageResponse;
 import kr.ai_hub.AI_HUB_BE.application.chat.message.dto.SendMessageRequest;
 import kr.ai_hub.AI_HUB_BE.global.auth.SecurityContextHelper;
+import kr.ai_hub.AI_HUB_BE.global.error.exception.IllegalSystemStateException;
+import kr.ai_hub.AI_HUB_BE.global.error.exception.MessageNotFoundException;
+import kr.ai_hub.AI_HUB_BE.global.error.exception.ServiceUnavailableException;
+import kr.ai_hub.AI_HUB_BE.global.sse.SseHeartbeatScheduler;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -21,21 +30,29 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -57,6 +74,12 @@ class ChatMessageControllerTest {
     @MockitoBean
     private MessageService messageService;
 
+    @MockitoBean
+    private ChatGenerationExecutor chatGenerationExecutor;
+
+    @MockitoBean
+    private SseHeartbeatScheduler sseHeartbeatScheduler;
+
     @MockitoBean
     private SecurityContextHelper securityContextHelper;
 
@@ -66,6 +89,11 @@ class ChatMessageControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @BeforeEach
+    void setUp() {
+        given(sseHeartbeatScheduler.createEmitter(any(Duration.class))).willReturn(new SseEmitter());
+    }
+
     @Test
     @DisplayName("메시지 전송 (SSE 스트리밍)")
     void sendMessage() throws Exception {
@@ -86,6 +114,74 @@ class ChatMessageControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    @DisplayName("메시지 전송 - 같은 채팅방 응답 생성 중이면 409")
+    void sendMessage_RoomBusy() throws Exception {
+        // given
+        UUID roomId = UUID.randomUUID();
+        SendMessageRequest request = SendMessageRequest.builder()
+                .message("Hello AI")
+                .modelId(1)
+                .build();
+
+        given(messageService.acquireSendPermit(roomId))
+                .willThrow(new IllegalSystemStateException("이전 메시지의 응답을 생성 중입니다. 완료 후 다시 시도해주세요"));
+
+        // when & then
+        mockMvc.perform(post("/api/v1/messages/send/{roomId}", roomId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isConflict());
+
+        verify(messageService, never()).sendMessage(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("메시지 전송 - Idempotency-Key 재시도는 새 생성 없이 기존 전송에 연결")
+    void sendMessage_IdempotentRetry() throws Exception {
+        // given
+        UUID roomId = UUID.randomUUID();
+        SendMessageRequest request = SendMessageRequest.builder()
+                .message("Hello AI")
+                .modelId(1)
+                .build();
+
+        given(messageService.registerIdempotentSend(eq(roomId), any(SendMessageRequest.class), eq("retry-key"),
+                any(SseEmitter.class))).willReturn(Optional.empty());
+
+        // when & then
+        mockMvc.perform(post("/api/v1/messages/send/{roomId}", roomId)
+                .header("Idempotency-Key", "retry-key")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        verify(messageService, never()).acquireSendPermit(any());
+        verify(messageService, never()).sendMessage(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("메시지 전송 - 서버 종료 중이면 503")
+    void sendMessage_ShuttingDown() throws Exception {
+        // given
+        UUID roomId = UUID.randomUUID();
+        SendMessageRequest request = SendMessageRequest.builder()
+                .message("Hello AI")
+                .modelId(1)
+                .build();
+
+        willThrow(new ServiceUnavailableException("서버가 종료 중입니다. 잠시 후 다시 시도해주세요"))
+                .given(chatGenerationExecutor).ensureAccepting();
+
+        // when & then
+        mockMvc.perform(post("/api/v1/messages/send/{roomId}", roomId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isServiceUnavailable());
+
+        verify(messageService, never()).acquireSendPermit(any());
+    }
+
     @Test
     @DisplayName("파일 업로드")
     void uploadFile() throws Exception {
@@ -111,6 +207,30 @@ class ChatMessageControllerTest {
                 .andExpect(jsonPath("$.detail.fileId").value("file-123"));
     }
 
+    @Test
+    @DisplayName("파일 스트리밍 업로드")
+    void uploadFileStream() throws Exception {
+        // given
+        byte[] content = "test image content".getBytes();
+        Integer modelId = 1;
+        FileUploadResponse response = FileUploadResponse.builder()
+                .fileId("file-456")
+                .build();
+
+        given(messageService.uploadFileStream(any(), eq("test.png"), eq(MediaType.IMAGE_PNG_VALUE),
+                eq((long) content.length), eq(modelId))).willReturn(response);
+
+        // when & then
+        mockMvc.perform(post("/api/v1/messages/files/stream")
+                .param("fileName", "test.png")
+                .param("modelId", String.valueOf(modelId))
+                .contentType(MediaType.IMAGE_PNG)
+                .content(content))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.detail.fileId").value("file-456"));
+    }
+
     @Test
     @DisplayName("메시지 목록 조회")
     void getMessages() throws Exception {
@@ -138,6 +258,69 @@ class ChatMessageControllerTest {
                 .andExpect(jsonPath("$.detail.content[0].messageId").value("msg-1"));
     }
 
+    @Test
+    @DisplayName("메시지 목록 조회 - Accept: application/cbor 이면 압축된 페이지 형태의 CBOR 응답")
+    void getMessages_Cbor() throws Exception {
+        // given
+        UUID roomId = UUID.randomUUID();
+        MessageListItemResponse messageRes = MessageListItemResponse.builder()
+                .messageId("msg-1")
+                .role("user")
+                .content("Hello")
+                .tokenCount(BigDecimal.TEN)
+                .coinCount(BigDecimal.ONE)
+                .modelId(1)
+                .createdAt(Instant.ofEpochMilli(1_700_000_000_000L))
+                .build();
+        given(messageService.getMessages(eq(roomId), any(Pageable.class)))
+                .willReturn(new PageImpl<>(List.of(messageRes), PageRequest.of(0, 10), 1));
+
+        // when
+        byte[] body = mockMvc.perform(get("/api/v1/messages/page/{roomId}", roomId)
+                        .accept("application/cbor")
+                        .param("page", "0")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/cbor"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // then
+        JsonNode detail = new ObjectMapper(new CBORFactory()).readTree(body).path("detail");
+        assertThat(detail.path("content").get(0).path("messageId").asText()).isEqualTo("msg-1");
+        assertThat(detail.path("content").get(0).path("createdAt").asLong()).isEqualTo(1_700_000_000_000L);
+        assertThat(detail.path("page").path("totalElements").asLong()).isEqualTo(1);
+        assertThat(detail.has("pageable")).isFalse();
+    }
+
+    @Test
+    @DisplayName("메시지 전송 예상 비용 조회")
+    void quoteMessage() throws Exception {
+        // given
+        UUID roomId = UUID.randomUUID();
+        SendMessageRequest request = SendMessageRequest.builder()
+                .message("Hello AI")
+                .modelId(1)
+                .build();
+        MessageQuoteResponse response = MessageQuoteResponse.builder()
+                .modelId(1)
+                .estimatedInputTokens(2)
+                .estimatedInputCoin(new BigDecimal("0.0000020000"))
+                .balance(BigDecimal.TEN)
+                .affordable(true)
+                .build();
+        given(messageService.quoteMessage(eq(roomId), any(SendMessageRequest.class))).willReturn(response);
+
+        // when & then
+        mockMvc.perform(post("/api/v1/messages/quote/{roomId}", roomId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.detail.estimatedInputTokens").value(2))
+                .andExpect(jsonPath("$.detail.affordable").value(true));
+
+        verify(messageService, never()).sendMessage(any(), any(), any());
+    }
+
     @Test
     @DisplayName("메시지 상세 조회")
     void getMessage() throws Exception {
@@ -159,4 +342,77 @@ class ChatMessageControllerTest {
                 .andExpect(jsonPath("$.detail.messageId").value(messageId.toString()))
                 .andExpect(jsonPath("$.detail.content").value("Hi there"));
     }
+
+    @Test
+    @DisplayName("메시지 상세 조회 - 과금 완료 메시지는 ETag와 장기 캐시 헤더 응답")
+    void getMessage_BilledMessageCacheable() throws Exception {
+        // given
+        UUID messageId = UUID.randomUUID();
+        MessageResponse response = MessageResponse.builder()
+                .messageId(messageId.toString())
+                .roomId(UUID.randomUUID().toString())
+                .role("assistant")
+                .content("Hi there")
+                .tokenCount(BigDecimal.TEN)
+                .coinCount(BigDecimal.ONE)
+                .build();
+
+        given(messageService.getMessage(messageId)).willReturn(response);
+
+        // when & then
+        mockMvc.perform(get("/api/v1/messages/{messageId}", messageId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"msg-" + messageId + "\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=2592000, private, immutable"));
+    }
+
+    @Test
+    @DisplayName("메시지 상세 조회 - 과금 전 메시지는 ETag 미발급")
+    void getMessage_UnbilledMessageNotCacheable() throws Exception {
+        // given
+        UUID messageId = UUID.randomUUID();
+        MessageResponse response = MessageResponse.builder()
+                .messageId(messageId.toString())
+                .roomId(UUID.randomUUID().toString())
+                .role("user")
+                .content("Hello")
+                .build();
+
+        given(messageService.getMessage(messageId)).willReturn(response);
+
+        // when & then
+        mockMvc.perform(get("/api/v1/messages/{messageId}", messageId))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
+
+    @Test
+    @DisplayName("메시지 상세 조회 - ETag 일치 시 조회 없이 304")
+    void getMessage_NotModified() throws Exception {
+        // given
+        UUID messageId = UUID.randomUUID();
+
+        // when & then
+        mockMvc.perform(get("/api/v1/messages/{messageId}", messageId)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"msg-" + messageId + "\""))
+                .andExpect(status().isNotModified());
+
+        verify(messageService, never()).getMessage(any());
+    }
+
+    @Test
+    @DisplayName("메시지 상세 조회 - If-None-Match: *는 304로 처리하지 않고 조회/권한 확인")
+    void getMessage_WildcardIfNoneMatch() throws Exception {
+        // given
+        UUID messageId = UUID.randomUUID();
+        given(messageService.getMessage(messageId))
+                .willThrow(new MessageNotFoundException("메시지를 찾을 수 없습니다: " + messageId));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/messages/{messageId}", messageId)
+                        .header(HttpHeaders.IF_NONE_MATCH, "*"))
+                .andExpect(status().isNotFound());
+
+        verify(messageService).getMessage(messageId);
+    }
 }
@@ -0,0 +1,390 @@
+package kr.ai_hub.AI_HUB_BE.controller.chat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import kr.ai_hub.AI_HUB_BE.application.auth.accesstoken.AccessTokenService;
+import kr.ai_hub.AI_HUB_BE.application.chat.message.ChatGenerationExecutor;
+import kr.ai_hub.AI_HUB_BE.application.chat.message.MessageService;
+import kr.ai_hub.AI_HUB_BE.global.auth.jwt.JwtAuthenticationFilter;
+import kr.ai_hub.AI_HUB_BE.global.error.ErrorCode;
+import kr.ai_hub.AI_HUB_BE.global.error.exception.IllegalSystemStateException;
+import kr.ai_hub.AI_HUB_BE.global.ratelimit.RateLimitProperties;
+import kr.ai_hub.AI_HUB_BE.global.ratelimit.TokenBucketRateLimiter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+class ChatWebSocketHandlerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private MessageService messageService;
+    private AccessTokenService accessTokenService;
+    private ChatGenerationExecutor chatGenerationExecutor;
+    private WebSocketSession session;
+    private Map<String, Object> sessionAttributes;
+    private ChatWebSocketHandler handler;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        messageService = mock(MessageService.class);
+        accessTokenService = mock(AccessTokenService.class);
+        chatGenerationExecutor = mock(ChatGenerationExecutor.class);
+        session = mock(WebSocketSession.class);
+        sessionAttributes = new HashMap<>();
+        sessionAttributes.put(JwtAuthenticationFilter.ACCESS_TOKEN_ID_ATTRIBUTE, 10);
+        sessionAttributes.put(JwtAuthenticationFilter.ACCESS_TOKEN_EXPIRES_AT_ATTRIBUTE, Instant.now().plus(Duration.ofHours(1)));
+        given(session.getId()).willReturn("session-1");
+        given(session.isOpen()).willReturn(true);
+        given(session.getPrincipal()).willReturn(new UsernamePasswordAuthenticationToken("1", null, List.of()));
+        given(session.getAttributes()).willReturn(sessionAttributes);
+        given(accessTokenService.isActive(10)).willReturn(true);
+        handler = createHandler(8);
+    }
+
+    private ChatWebSocketHandler createHandler(int maxStreams) {
+        RateLimitProperties rateLimitProperties = new RateLimitProperties(true, Duration.ofMinutes(10), List.of(
+                new RateLimitProperties.Route("chat-send", "/api/v1/messages/send/**", "POST", 20, Duration.ofMinutes(1))));
+        return new ChatWebSocketHandler(messageService, accessTokenService, chatGenerationExecutor, objectMapper,
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                new TokenBucketRateLimiter(Duration.ofMinutes(10)), rateLimitProperties, new SimpleMeterRegistry(),
+                maxStreams, Duration.ofSeconds(10), DataSize.ofKilobytes(512), DataSize.ofKilobytes(64));
+    }
+
+    private TextMessage sendFrame(String streamId, UUID roomId, String message) throws IOException {
+        return new TextMessage(objectMapper.writeValueAsString(Map.of(
+                "type", "send",
+                "streamId", streamId,
+                "roomId", roomId,
+                "request", Map.of("message", message, "modelId", 1))));
+    }
+
+    private List<JsonNode> sentFrames() throws IOException {
+        ArgumentCaptor<WebSocketMessage<?>> captor = ArgumentCaptor.forClass(WebSocketMessage.class);
+        then(session).should(atLeastOnce()).sendMessage(captor.capture());
+        List<JsonNode> frames = new ArrayList<>();
+        for (WebSocketMessage<?> message : captor.getAllValues()) {
+            frames.add(objectMapper.readTree((String) message.getPayload()));
+        }
+        return frames;
+    }
+
+    @Test
+    @DisplayName("send 프레임은 사용자 인증 정보로 생성을 시작하고 이벤트를 streamId 프레임으로 전달")
+    void send_StreamsEventsAsFrames() throws Exception {
+        // given
+        UUID roomId = UUID.randomUUID();
+        AtomicReference<String> generationUser = new AtomicReference<>();
+        willAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).given(chatGenerationExecutor).execute(any());
+        willAnswer(invocation -> {
+            generationUser.set(SecurityContextHolder.getContext().getAuthentication().getName());
+            SseEmitter emitter = invocation.getArgument(2);
+            emitter.send(SseEmitter.event().name("delta").data("안녕하세요"));
+            emitter.send(SseEmitter.event().name("completed").data(Map.of("outputTokens", 3)));
+            emitter.complete();
+            return null;
+        }).given(messageService).sendMessage(eq(roomId), any(), any());
+        handler.afterConnectionEstablished(session);
+
+        // when
+        handler.handleTextMessage(session, sendFrame("s1", roomId, "Hello"));
+
+        // then
+        then(messageService).should().acquireSendPermit(roomId);
+        assertThat(generationUser.get()).isEqualTo("1");
+        List<JsonNode> frames = sentFrames();
+        assertThat(frames).hasSize(3);
+        assertThat(frames.get(0).path("type").asText()).isEqualTo("event");
+        assertThat(frames.get(0).path("streamId").asText()).isEqualTo("s1");
+        assertThat(frames.get(0).path("event").asText()).isEqualTo("delta");
+        assertThat(frames.get(0).path("data").asText()).isEqualTo("안녕하세요");
+        assertThat(objectMapper.readTree(frames.get(1).path("data").asText()).path("outputTokens").asInt()).isEqualTo(3);
+        assertThat(frames.get(2).path("type").asText()).isEqualTo("end");
+    }
+
+    @Test
+    @DisplayName("cancel 프레임은 스트림을 종료하고 이후 전송을 실패시켜 생성을 중단")
+    void cancel_StopsStream() throws Exception {
+        // given
+        UUID roomId = UUID.randomUUID();
+        AtomicReference<Runnable> pending = new AtomicReference<>();
+        willAnswer(invocation -> {
+            pending.set(invocation.getArgument(0));
+            return null;
+        }).given(chatGenerationExecutor).execute(any());
+        AtomicReference<Throwable> sendFailure = new AtomicReference<>();
+        willAnswer(invocation -> {
+            SseEmitter emitter = invocation.getArgument(2);
+            try {
+                emitter.send(SseEmitter.event().name("delta").data("늦은 응답"));
+            } catch (IOException e) {
+                sendFailure.set(e);
+            }
+            return null;
+        }).given(messageService).sendMessage(eq(roomId), any(), any());
+        handler.afterConnectionEstablished(session);
+        handler.handleTextMessage(session, sendFrame("s1", roomId, "Hello"));
+
+        // when
+        handler.handleTextMessage(session, new TextMessage("{\"type\":\"cancel\",\"streamId\":\"s1\"}"));
+        pending.get().run();
+
+        // then
+        assertThat(sendFailure.get()).isInstanceOf(IOException.class);
+        List<JsonNode> frames = sentFrames();
+        assertThat(frames).hasSize(1);
+        assertThat(frames.get(0).path("type").asText()).isEqualTo("cancelled");
+    }
+
+    @Test
+    @DisplayName("연결당 동시 스트림 한도를 넘으면 TOO_MANY_REQUESTS 에러 프레임")
+    void send_RejectsOverStreamLimit() throws Exception {
+        // given
+        handler = createHandler(1);
+        handler.afterConnectionEstablished(session);
+        handler.handleTextMessage(session, sendFrame("s1", UUID.randomUUID(), "Hello"));
+
+        // when
+        handler.handleTextMessage(session, sendFrame("s2", UUID.randomUUID(), "Hello"));
+
+        // then
+        then(chatGenerationExecutor).should().execute(any());
+        JsonNode frame = sentFrames().get(0);
+        assertThat(frame.path("type").asText()).isEqualTo("error");
+        assertThat(frame.path("streamId").asText()).isEqualTo("s2");
+        assertThat(frame.path("code").asText()).isEqualTo("TOO_MANY_REQUESTS");
+    }
+
+    @Test
+    @DisplayName("chat-send 한도(분당 20회)를 넘는 send 프레임은 TOO_MANY_REQUESTS 에러 프레임")
+    void send_RateLimited() throws Exception {
+        // given
+        handler = createHandler(32);
+        handler.afterConnectionEstablished(session);
+        for (int i = 1; i <= 20; i++) {
+            handler.handleTextMessage(session, sendFrame("s" + i, UUID.randomUUID(), "Hello"));
+        }
+
+        // when
+        handler.handleTextMessage(session, sendFrame("s21", UUID.randomUUID(), "Hello"));
+
+        // then
+        then(chatGenerationExecutor).should(times(20)).execute(any());
+        List<JsonNode> frames = sentFrames();
+        assertThat(frames).hasSize(1);
+        assertThat(frames.get(0).path("type").asText()).isEqualTo("error");
+        assertThat(frames.get(0).path("streamId").asText()).isEqualTo("s21");
+        assertThat(frames.get(0).path("code").asText()).isEqualTo("TOO_MANY_REQUESTS");
+    }
+
+    @Test
+    @DisplayName("요청 검증 실패 시 권한을 점유하지 않고 VALIDATION_ERROR 에러 프레임")
+    void send_InvalidRequest() throws Exception {
+        // given
+        handler.afterConnectionEstablished(session);
+
+        // when
+        handler.handleTextMessage(session, sendFrame("s1", UUID.randomUUID(), " "));
+
+        // then
+        then(messageService).should(never()).acquireSendPermit(any());
+        JsonNode frame = sentFrames().get(0);
+        assertThat(frame.path("code").asText()).isEqualTo("VALIDATION_ERROR");
+    }
+
+    @Test
+    @DisplayName("같은 채팅방에서 생성 중이면 해당 스트림만 에러로 종료하고 streamId를 다시 사용할 수 있음")
+    void send_RoomBusy() throws Exception {
+        // given
+        UUID roomId = UUID.randomUUID();
+        willThrow(new IllegalSystemStateException("이미 응답을 생성 중인 채팅방입니다"))
+                .given(messageService).acquireSendPermit(roomId);
+        handler.afterConnectionEstablished(session);
+
+        // when
+        handler.handleTextMessage(session, sendFrame("s1", roomId, "Hello"));
+        handler.handleTextMessage(session, sendFrame("s1", roomId, "Hello"));
+
+        // then
+        List<JsonNode> frames = sentFrames();
+        assertThat(frames).hasSize(2);
+        assertThat(frames).allSatisfy(frame -> assertThat(frame.path("code").asText()).isEqualTo("SYSTEM_ILLEGAL_STATE"));
+        then(chatGenerationExecutor).should(never()).execute(any());
+    }
+
+    @Test
+    @DisplayName("생성 시작 중 예상하지 못한 예외는 일반 에러 프레임으로 종료하고 streamId를 다시 사용할 수 있음")
+    void send_UnexpectedFailure() throws Exception {
+        // given
+        UUID roomId = UUID.randomUUID();
+        willThrow(new IllegalArgumentException("connection refused: db-internal:5432"))
+                .given(messageService).acquireSendPermit(roomId);
+        handler.afterConnectionEstablished(session);
+
+        // when
+        handler.handleTextMessage(session, sendFrame("s1", roomId, "Hello"));
+        handler.handleTextMessage(session, sendFrame("s1", roomId, "Hello"));
+
+        // then
+        List<JsonNode> frames = sentFrames();
+        assertThat(frames).hasSize(2);
+        assertThat(frames).allSatisfy(frame -> {
+            assertThat(frame.path("type").asText()).isEqualTo("error");
+            assertThat(frame.path("code").asText()).isEqualTo("INTERNAL_SERVER_ERROR");
+            assertThat(frame.path("message").asText()).isEqualTo(ErrorCode.INTERNAL_SERVER_ERROR.getMessage());
+        });
+        then(chatGenerationExecutor).should(never()).execute(any());
+    }
+
+    @Test
+    @DisplayName("이벤트 데이터의 앞 공백과 줄바꿈은 프레임에 그대로 전달")
+    void send_PreservesDataVerbatim() throws Exception {
+        // given
+        UUID roomId = UUID.randomUUID();
+        willAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).given(chatGenerationExecutor).execute(any());
+        willAnswer(invocation -> {
+            SseEmitter emitter = invocation.getArgument(2);
+            emitter.send(SseEmitter.event().name("delta").data(" world"));
+            emitter.send(SseEmitter.event().name("delta").data("첫 줄\n data: 둘째 줄"));
+            emitter.send(SseEmitter.event().comment("keepalive"));
+            emitter.complete();
+            return null;
+        }).given(messageService).sendMessage(eq(roomId), any(), any());
+        handler.afterConnectionEstablished(session);
+
+        // when
+        handler.handleTextMessage(session, sendFrame("s1", roomId, "Hello"));
+
+        // then
+        List<JsonNode> frames = sentFrames();
+        assertThat(frames).hasSize(3);
+        assertThat(frames.get(0).path("data").asText()).isEqualTo(" world");
+        assertThat(frames.get(1).path("data").asText()).isEqualTo("첫 줄\n data: 둘째 줄");
+        assertThat(frames.get(2).path("type").asText()).isEqualTo("end");
+    }
+
+    @Test
+    @DisplayName("인증 정보가 없는 연결은 POLICY_VIOLATION으로 종료")
+    void connect_Unauthenticated() throws Exception {
+        // given
+        given(session.getPrincipal()).willReturn(null);
+
+        // when
+        handler.afterConnectionEstablished(session);
+
+        // then
+        then(session).should().close(CloseStatus.POLICY_VIOLATION);
+        assertThat(handler.connectionCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("핸드셰이크 토큰이 이미 만료되었으면 POLICY_VIOLATION으로 종료")
+    void connect_ExpiredToken() throws Exception {
+        // given
+        sessionAttributes.put(JwtAuthenticationFilter.ACCESS_TOKEN_EXPIRES_AT_ATTRIBUTE, Instant.now().minusSeconds(1));
+
+        // when
+        handler.afterConnectionEstablished(session);
+
+        // then
+        then(session).should().close(CloseStatus.POLICY_VIOLATION);
+        assertThat(handler.connectionCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("연결 중 토큰이 만료되면 POLICY_VIOLATION으로 종료")
+    void expiredConnection_Closed() throws Exception {
+        // given
+        Instant expiresAt = (Instant) sessionAttributes.get(JwtAuthenticationFilter.ACCESS_TOKEN_EXPIRES_AT_ATTRIBUTE);
+        handler.afterConnectionEstablished(session);
+        handler.closeExpiredConnections(expiresAt.minusSeconds(1));
+        then(session).should(never()).close(any(CloseStatus.class));
+
+        // when
+        handler.closeExpiredConnections(expiresAt);
+
+        // then
+        then(session).should().close(CloseStatus.POLICY_VIOLATION);
+    }
+
+    @Test
+    @DisplayName("토큰이 폐기된 뒤의 send 프레임은 생성을 시작하지 않고 POLICY_VIOLATION으로 종료")
+    void send_RevokedToken() throws Exception {
+        // given
+        handler.afterConnectionEstablished(session);
+        given(accessTokenService.isActive(10)).willReturn(false);
+
+        // when
+        handler.handleTextMessage(session, sendFrame("s1", UUID.randomUUID(), "Hello"));
+
+        // then
+        then(session).should().close(CloseStatus.POLICY_VIOLATION);
+        then(messageService).should(never()).acquireSendPermit(any());
+        then(chatGenerationExecutor).should(never()).execute(any());
+    }
+
+    @Test
+    @DisplayName("연결이 닫히면 진행 중인 스트림의 이후 전송이 실패")
+    void close_AbortsStreams() throws Exception {
+        // given
+        AtomicReference<SseEmitter> target = new AtomicReference<>();
+        willAnswer(invocation -> {
+            target.set(invocation.getArgument(2));
+            return null;
+        }).given(messageService).sendMessage(any(), any(), any());
+        willAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).given(chatGenerationExecutor).execute(any());
+        handler.afterConnectionEstablished(session);
+        handler.handleTextMessage(session, sendFrame("s1", UUID.randomUUID(), "Hello"));
+
+        // when
+        handler.afterConnectionClosed(session, CloseStatus.GOING_AWAY);
+
+        // then
+        assertThat(handler.connectionCount()).isZero();
+        assertThatThrownBy(() -> target.get().send(SseEmitter.event().name("delta").data("x")))
+                .isInstanceOf(IOException.class);
+    }
+}
@@ -16,6 +16,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
@@ -24,7 +25,10 @@ import java.util.List;
 
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -122,4 +126,19 @@ class DashboardControllerTest {
                 .andExpect(jsonPath("$.detail.totalMessages").value(100))
                 .andExpect(jsonPath("$.detail.totalChatRooms").value(10));
     }
+
+    @Test
+    @DisplayName("모델 가격 조회 - ETag 일치 시 조회 없이 304")
+    void getModelPricing_NotModified() throws Exception {
+        // given
+        given(dashboardService.getModelPricingVersion()).willReturn("v1");
+
+        // when & then
+        mockMvc.perform(get("/api/v1/dashboard/models/pricing")
+                .header(HttpHeaders.IF_NONE_MATCH, "W/\"pricing-v1\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"pricing-v1\""));
+
+        verify(dashboardService, never()).getModelPricing();
+    }
 }
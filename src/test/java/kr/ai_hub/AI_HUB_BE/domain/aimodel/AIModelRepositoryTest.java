@@ -10,6 +10,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -146,4 +147,34 @@ class AIModelRepositoryTest {
         assertThat(result.get(0).getModelName()).isEqualTo("gpt-4"); // Most recent
         assertThat(result.get(1).getModelName()).isEqualTo("gpt-3.5-turbo");
     }
+
+    @Test
+    @DisplayName("가장 최근 수정 시각 조회 (레지스트리 변경 감지용)")
+    void findLatestUpdatedAt() {
+        // given
+        AIModel model = AIModel.builder()
+                .modelName("gpt-4")
+                .displayName("GPT-4")
+                .inputPricePer1m(BigDecimal.valueOf(0.03))
+                .outputPricePer1m(BigDecimal.valueOf(0.06))
+                .isActive(true)
+                .build();
+        entityManager.persistAndFlush(model);
+
+        // when
+        Optional<LocalDateTime> result = aiModelRepository.findLatestUpdatedAt();
+
+        // then
+        assertThat(result).contains(model.getUpdatedAt());
+    }
+
+    @Test
+    @DisplayName("가장 최근 수정 시각 조회 - 모델 없음")
+    void findLatestUpdatedAt_Empty() {
+        // when
+        Optional<LocalDateTime> result = aiModelRepository.findLatestUpdatedAt();
+
+        // then
+        assertThat(result).isEmpty();
+    }
 }
@@ -4,6 +4,7 @@ import kr.ai_hub.AI_HUB_BE.domain.auth.AccessToken;
 import kr.ai_hub.AI_HUB_BE.domain.auth.AccessTokenRepository;
 import kr.ai_hub.AI_HUB_BE.domain.auth.RefreshToken;
 import kr.ai_hub.AI_HUB_BE.domain.auth.RefreshTokenRepository;
+import kr.ai_hub.AI_HUB_BE.domain.auth.TokenRevokeReason;
 import kr.ai_hub.AI_HUB_BE.domain.user.User;
 import kr.ai_hub.AI_HUB_BE.domain.user.UserRepository;
 import kr.ai_hub.AI_HUB_BE.domain.user.UserRole;
@@ -14,6 +15,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -151,8 +153,8 @@ class AccessTokenRepositoryTest {
     }
 
     @Test
-    @DisplayName("만료된 토큰 삭제")
-    void deleteByExpiresAtBefore() {
+    @DisplayName("만료 토큰과 보존 기간이 지난 폐기 토큰만 배치 삭제")
+    void purgeExpiredAndRevokedTokens() {
         // given
         AccessToken expiredToken = AccessToken.builder()
                 .user(user)
@@ -161,6 +163,26 @@ class AccessTokenRepositoryTest {
                 .expiresAt(LocalDateTime.now().minusHours(1))
                 .build();
 
+        AccessToken oldRevokedToken = AccessToken.builder()
+                .user(user)
+                .refreshToken(refreshToken)
+                .tokenHash("old-revoked")
+                .expiresAt(LocalDateTime.now().plusHours(1))
+                .isRevoked(true)
+                .revokedAt(LocalDateTime.now().minusDays(10))
+                .revokedReason(TokenRevokeReason.USER_LOGOUT)
+                .build();
+
+        AccessToken recentRevokedToken = AccessToken.builder()
+                .user(user)
+                .refreshToken(refreshToken)
+                .tokenHash("recent-revoked")
+                .expiresAt(LocalDateTime.now().plusHours(1))
+                .isRevoked(true)
+                .revokedAt(LocalDateTime.now())
+                .revokedReason(TokenRevokeReason.USER_LOGOUT)
+                .build();
+
         AccessToken validToken = AccessToken.builder()
                 .user(user)
                 .refreshToken(refreshToken)
@@ -168,14 +190,20 @@ class AccessTokenRepositoryTest {
                 .expiresAt(LocalDateTime.now().plusHours(1))
                 .build();
 
-        accessTokenRepository.saveAll(List.of(expiredToken, validToken));
+        accessTokenRepository.saveAll(List.of(expiredToken, oldRevokedToken, recentRevokedToken, validToken));
 
         // when
-        accessTokenRepository.deleteByExpiresAtBefore(LocalDateTime.now());
+        List<Integer> firstBatch = accessTokenRepository.findPurgeableTokenIds(
+                LocalDateTime.now(), LocalDateTime.now().minusDays(7), PageRequest.of(0, 1));
+        List<Integer> tokenIds = accessTokenRepository.findPurgeableTokenIds(
+                LocalDateTime.now(), LocalDateTime.now().minusDays(7), PageRequest.of(0, 100));
+        int deleted = accessTokenRepository.deleteAllByTokenIds(tokenIds);
 
         // then
-        List<AccessToken> tokens = accessTokenRepository.findAll();
-        assertThat(tokens).hasSize(1);
-        assertThat(tokens.get(0).getTokenHash()).isEqualTo("valid");
+        assertThat(firstBatch).hasSize(1);
+        assertThat(deleted).isEqualTo(2);
+        assertThat(accessTokenRepository.findAll())
+                .extracting(AccessToken::getTokenHash)
+                .containsExactlyInAnyOrder("recent-revoked", "valid");
     }
 }
@@ -1,5 +1,7 @@
 package kr.ai_hub.AI_HUB_BE.domain.auth.repository;
 
+import kr.ai_hub.AI_HUB_BE.domain.auth.AccessToken;
+import kr.ai_hub.AI_HUB_BE.domain.auth.AccessTokenRepository;
 import kr.ai_hub.AI_HUB_BE.domain.auth.RefreshToken;
 import kr.ai_hub.AI_HUB_BE.domain.auth.RefreshTokenRepository;
 import kr.ai_hub.AI_HUB_BE.domain.auth.TokenRevokeReason;
@@ -13,6 +15,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -27,6 +30,9 @@ class RefreshTokenRepositoryTest {
     @Autowired
     private RefreshTokenRepository refreshTokenRepository;
 
+    @Autowired
+    private AccessTokenRepository accessTokenRepository;
+
     @Autowired
     private UserRepository userRepository;
 
@@ -115,48 +121,79 @@ class RefreshTokenRepositoryTest {
     }
 
     @Test
-    @DisplayName("만료된 토큰 삭제")
-    void deleteByExpiresAtBefore() {
+    @DisplayName("사용자의 모든 토큰 삭제")
+    void deleteByUser() {
         // given
-        RefreshToken expiredToken = RefreshToken.builder()
+        RefreshToken token1 = RefreshToken.builder()
                 .user(user)
-                .tokenHash("expired")
+                .tokenHash("token1")
+                .expiresAt(LocalDateTime.now().plusDays(7))
+                .build();
+        refreshTokenRepository.save(token1);
+
+        // when
+        refreshTokenRepository.deleteByUser(user);
+
+        // then
+        List<RefreshToken> tokens = refreshTokenRepository.findByUser(user);
+        assertThat(tokens).isEmpty();
+    }
+
+    @Test
+    @DisplayName("액세스 토큰이 참조 중인 리프레시 토큰은 정리 대상에서 제외")
+    void findPurgeableTokenIds_ExcludesReferencedTokens() {
+        // given
+        RefreshToken referencedToken = RefreshToken.builder()
+                .user(user)
+                .tokenHash("referenced")
                 .expiresAt(LocalDateTime.now().minusDays(1))
                 .build();
 
-        RefreshToken validToken = RefreshToken.builder()
+        RefreshToken orphanToken = RefreshToken.builder()
                 .user(user)
-                .tokenHash("valid")
-                .expiresAt(LocalDateTime.now().plusDays(1))
+                .tokenHash("orphan")
+                .expiresAt(LocalDateTime.now().minusDays(1))
                 .build();
 
-        refreshTokenRepository.saveAll(List.of(expiredToken, validToken));
+        refreshTokenRepository.saveAll(List.of(referencedToken, orphanToken));
+        accessTokenRepository.save(AccessToken.builder()
+                .user(user)
+                .refreshToken(referencedToken)
+                .tokenHash("access")
+                .expiresAt(LocalDateTime.now().plusHours(1))
+                .build());
 
         // when
-        refreshTokenRepository.deleteByExpiresAtBefore(LocalDateTime.now());
+        List<Integer> tokenIds = refreshTokenRepository.findPurgeableTokenIds(
+                LocalDateTime.now(), LocalDateTime.now().minusDays(7), PageRequest.of(0, 100));
+        int deleted = refreshTokenRepository.deleteAllByTokenIds(tokenIds);
 
         // then
-        List<RefreshToken> remainingTokens = refreshTokenRepository.findAll();
-        assertThat(remainingTokens).hasSize(1);
-        assertThat(remainingTokens.get(0).getTokenHash()).isEqualTo("valid");
+        assertThat(tokenIds).containsExactly(orphanToken.getTokenId());
+        assertThat(deleted).isEqualTo(1);
+        assertThat(refreshTokenRepository.findAll())
+                .extracting(RefreshToken::getTokenHash)
+                .containsExactly("referenced");
     }
 
     @Test
-    @DisplayName("사용자의 모든 토큰 삭제")
-    void deleteByUser() {
+    @DisplayName("활성 토큰만 조건부 폐기 - 두 번째 폐기 시도는 0건")
+    void revokeIfActive() {
         // given
-        RefreshToken token1 = RefreshToken.builder()
+        RefreshToken token = RefreshToken.builder()
                 .user(user)
-                .tokenHash("token1")
+                .tokenHash("rotating")
                 .expiresAt(LocalDateTime.now().plusDays(7))
                 .build();
-        refreshTokenRepository.save(token1);
+        refreshTokenRepository.save(token);
 
         // when
-        refreshTokenRepository.deleteByUser(user);
+        int first = refreshTokenRepository.revokeIfActive(token.getTokenId(), TokenRevokeReason.ROTATED, LocalDateTime.now());
+        int second = refreshTokenRepository.revokeIfActive(token.getTokenId(), TokenRevokeReason.ROTATED, LocalDateTime.now());
 
         // then
-        List<RefreshToken> tokens = refreshTokenRepository.findByUser(user);
-        assertThat(tokens).isEmpty();
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        assertThat(refreshTokenRepository.findByUserAndIsRevokedFalse(user)).isEmpty();
     }
 }
@@ -0,0 +1,124 @@
+package kr.ai_hub.AI_HUB_BE.domain.chat;
+
+import kr.ai_hub.AI_HUB_BE.domain.aimodel.AIModel;
+import kr.ai_hub.AI_HUB_BE.domain.aimodel.AIModelRepository;
+import kr.ai_hub.AI_HUB_BE.domain.user.User;
+import kr.ai_hub.AI_HUB_BE.domain.user.UserRepository;
+import kr.ai_hub.AI_HUB_BE.domain.user.UserRole;
+import kr.ai_hub.AI_HUB_BE.global.config.TestConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(TestConfig.class)
+class AiFileCacheRepositoryTest {
+
+    @Autowired
+    private AiFileCacheRepository aiFileCacheRepository;
+
+    @Autowired
+    private AIModelRepository aiModelRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private AIModel aiModel;
+    private User user;
+    private User otherUser;
+
+    @BeforeEach
+    void setUp() {
+        aiModel = aiModelRepository.save(AIModel.builder()
+                .modelName("gpt-4o")
+                .displayName("GPT-4o")
+                .inputPricePer1m(BigDecimal.ONE)
+                .outputPricePer1m(BigDecimal.ONE)
+                .isActive(true)
+                .build());
+        user = userRepository.save(User.builder()
+                .username("cacheuser")
+                .email("cache@example.com")
+                .role(UserRole.ROLE_USER)
+                .build());
+        otherUser = userRepository.save(User.builder()
+                .username("othercacheuser")
+                .email("other-cache@example.com")
+                .role(UserRole.ROLE_USER)
+                .build());
+    }
+
+    @Test
+    @DisplayName("사용자 ID, 모델 ID, 콘텐츠 해시로 캐시 조회")
+    void findByUserIdAndModelIdAndContentHash() {
+        // given
+        aiFileCacheRepository.save(AiFileCache.builder()
+                .user(user)
+                .aiModel(aiModel)
+                .contentHash("hash")
+                .fileId("file-1")
+                .expiresAt(LocalDateTime.now().plusDays(1))
+                .build());
+
+        // when & then
+        assertThat(aiFileCacheRepository.findByUserIdAndModelIdAndContentHash(
+                user.getUserId(), aiModel.getModelId(), "hash"))
+                .get()
+                .extracting(AiFileCache::getFileId)
+                .isEqualTo("file-1");
+        assertThat(aiFileCacheRepository.findByUserIdAndModelIdAndContentHash(
+                user.getUserId(), aiModel.getModelId(), "other")).isEmpty();
+        assertThat(aiFileCacheRepository.findByUserIdAndModelIdAndContentHash(
+                otherUser.getUserId(), aiModel.getModelId(), "hash")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 내용의 파일을 올린 두 사용자는 캐시 항목을 공유하지 않음")
+    void separatesUsersWithSameContent() {
+        // given
+        aiFileCacheRepository.saveAll(List.of(
+                AiFileCache.builder().user(user).aiModel(aiModel).contentHash("hash").fileId("file-1")
+                        .expiresAt(LocalDateTime.now().plusDays(1)).build(),
+                AiFileCache.builder().user(otherUser).aiModel(aiModel).contentHash("hash").fileId("file-2")
+                        .expiresAt(LocalDateTime.now().plusDays(1)).build()));
+        aiFileCacheRepository.flush();
+
+        // when & then
+        assertThat(aiFileCacheRepository.findByUserIdAndModelIdAndContentHash(
+                user.getUserId(), aiModel.getModelId(), "hash"))
+                .get()
+                .extracting(AiFileCache::getFileId)
+                .isEqualTo("file-1");
+        assertThat(aiFileCacheRepository.findByUserIdAndModelIdAndContentHash(
+                otherUser.getUserId(), aiModel.getModelId(), "hash"))
+                .get()
+                .extracting(AiFileCache::getFileId)
+                .isEqualTo("file-2");
+    }
+
+    @Test
+    @DisplayName("만료된 캐시만 삭제")
+    void deleteExpired() {
+        // given
+        aiFileCacheRepository.saveAll(List.of(
+                AiFileCache.builder().user(user).aiModel(aiModel).contentHash("expired").fileId("file-1")
+                        .expiresAt(LocalDateTime.now().minusHours(1)).build(),
+                AiFileCache.builder().user(user).aiModel(aiModel).contentHash("valid").fileId("file-2")
+                        .expiresAt(LocalDateTime.now().plusHours(1)).build()));
+
+        // when
+        int deleted = aiFileCacheRepository.deleteExpired(LocalDateTime.now());
+
+        // then
+        assertThat(deleted).isEqualTo(1);
+    }
+}
@@ -28,6 +28,9 @@ class ChatRoomRepositoryTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private MessageRepository messageRepository;
+
     private User user;
 
     @BeforeEach
@@ -93,8 +96,8 @@ class ChatRoomRepositoryTest {
     }
 
     @Test
-    @DisplayName("사용자로 채팅방 페이징 조회")
-    void findByUserWithPagination() {
+    @DisplayName("채팅방 목록 프로젝션 페이징 조회")
+    void findListItemsByUserWithPagination() {
         // given
         for (int i = 0; i < 15; i++) {
             chatRoomRepository.save(ChatRoom.builder()
@@ -106,7 +109,7 @@ class ChatRoomRepositoryTest {
         PageRequest pageRequest = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
 
         // when
-        Page<ChatRoom> page = chatRoomRepository.findByUser(user, pageRequest);
+        Page<ChatRoomListItem> page = chatRoomRepository.findListItemsByUser(user, pageRequest);
 
         // then
         assertThat(page.getTotalElements()).isEqualTo(15);
@@ -128,4 +131,29 @@ class ChatRoomRepositoryTest {
         // then
         assertThat(count).isEqualTo(3);
     }
+
+    @Test
+    @DisplayName("채팅방 목록 프로젝션 조회 - 마지막 메시지 시각 포함")
+    void findListItemsByUser() {
+        // given
+        ChatRoom withMessages = chatRoomRepository.save(ChatRoom.builder().user(user).title("Room 1").build());
+        ChatRoom empty = chatRoomRepository.save(ChatRoom.builder().user(user).title("Room 2").build());
+        messageRepository.save(Message.builder()
+                .chatRoom(withMessages)
+                .role(MessageRole.ASSISTANT)
+                .content("Hi")
+                .build());
+
+        PageRequest pageRequest = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "title"));
+
+        // when
+        Page<ChatRoomListItem> page = chatRoomRepository.findListItemsByUser(user, pageRequest);
+
+        // then
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent().get(0).roomId()).isEqualTo(withMessages.getRoomId());
+        assertThat(page.getContent().get(0).lastMessageAt()).isNotNull();
+        assertThat(page.getContent().get(1).roomId()).isEqualTo(empty.getRoomId());
+        assertThat(page.getContent().get(1).lastMessageAt()).isNull();
+    }
 }
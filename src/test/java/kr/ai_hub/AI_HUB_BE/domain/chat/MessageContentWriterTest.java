@@ -0,0 +1,89 @@
+package kr.ai_hub.AI_HUB_BE.domain.chat;
+
+import jakarta.persistence.EntityManager;
+import kr.ai_hub.AI_HUB_BE.domain.user.User;
+import kr.ai_hub.AI_HUB_BE.domain.user.UserRepository;
+import kr.ai_hub.AI_HUB_BE.domain.user.UserRole;
+import kr.ai_hub.AI_HUB_BE.global.config.TestConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({TestConfig.class, MessageContentWriter.class})
+class MessageContentWriterTest {
+
+    @Autowired
+    private MessageContentWriter messageContentWriter;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private ChatRoom chatRoom;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(User.builder()
+                .username("testuser")
+                .email("test@example.com")
+                .role(UserRole.ROLE_USER)
+                .isActivated(true)
+                .build());
+        chatRoom = chatRoomRepository.save(ChatRoom.builder()
+                .user(user)
+                .title("Test Room")
+                .build());
+    }
+
+    @Test
+    @DisplayName("스트림으로 쓴 본문은 이후 엔티티 변경의 flush로 덮어써지지 않음")
+    void writeContent_SurvivesLaterFlush() {
+        // given
+        Message message = messageRepository.saveAndFlush(Message.builder()
+                .chatRoom(chatRoom)
+                .role(MessageRole.ASSISTANT)
+                .content("")
+                .build());
+        String answer = "스트림으로 저장한 응답";
+
+        // when
+        int updated = messageContentWriter.writeContent(message.getMessageId(), new StringReader(answer), answer.length());
+        message.updateTokenAndCoin(BigDecimal.TEN, BigDecimal.ONE);
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(updated).isEqualTo(1);
+        Message reloaded = messageRepository.findById(message.getMessageId()).orElseThrow();
+        assertThat(reloaded.getContent()).isEqualTo(answer);
+        assertThat(reloaded.getTokenCount()).isEqualByComparingTo(BigDecimal.TEN);
+    }
+
+    @Test
+    @DisplayName("없는 메시지에 쓰면 변경된 행 수 0을 반환")
+    void writeContent_MissingMessage() {
+        // when
+        int updated = messageContentWriter.writeContent(UUID.randomUUID(), new StringReader("x"), 1);
+
+        // then
+        assertThat(updated).isZero();
+    }
+}
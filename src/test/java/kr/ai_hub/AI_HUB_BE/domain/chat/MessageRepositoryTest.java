@@ -15,7 +15,6 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 
 import java.util.List;
-import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -53,8 +52,8 @@ class MessageRepositoryTest {
     }
 
     @Test
-    @DisplayName("채팅방으로 메시지 목록 조회")
-    void findByChatRoom() {
+    @DisplayName("채팅방 메시지 목록 프로젝션 조회")
+    void findListItemsByChatRoom_Contents() {
         // given
         Message message1 = Message.builder()
                 .chatRoom(chatRoom)
@@ -69,12 +68,44 @@ class MessageRepositoryTest {
         messageRepository.saveAll(List.of(message1, message2));
 
         // when
-        List<Message> result = messageRepository.findByChatRoom(chatRoom);
+        Page<MessageListItem> result = messageRepository.findListItemsByChatRoom(chatRoom, PageRequest.of(0, 10));
 
         // then
-        assertThat(result).hasSize(2);
-        assertThat(result).extracting("content")
+        assertThat(result.getContent()).hasSize(2);
+        assertThat(result.getContent()).extracting(MessageListItem::content)
                 .containsExactlyInAnyOrder("Hello", "Hi");
+        assertThat(result.getContent()).extracting(MessageListItem::messageId)
+                .containsExactlyInAnyOrder(message1.getMessageId(), message2.getMessageId());
+    }
+
+    @Test
+    @DisplayName("채팅방 메시지 목록 프로젝션 조회 - 생성일 내림차순 첫 항목이 가장 최근 메시지")
+    void findListItemsByChatRoom_LatestFirst() throws InterruptedException {
+        // given
+        messageRepository.save(Message.builder()
+                .chatRoom(chatRoom)
+                .role(MessageRole.USER)
+                .content("Old")
+                .build());
+
+        Thread.sleep(10);
+
+        messageRepository.save(Message.builder()
+                .chatRoom(chatRoom)
+                .role(MessageRole.ASSISTANT)
+                .content("New")
+                .build());
+
+        PageRequest pageRequest = PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        // when
+        Page<MessageListItem> result = messageRepository.findListItemsByChatRoom(chatRoom, pageRequest);
+
+        // then
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.getContent().get(0).content()).isEqualTo("New");
+        assertThat(result.getContent().get(0).role()).isEqualTo(MessageRole.ASSISTANT);
+        assertThat(result.getTotalElements()).isEqualTo(2);
     }
 
     @Test
@@ -126,36 +157,39 @@ class MessageRepositoryTest {
     }
 
     @Test
-    @DisplayName("채팅방의 가장 최근 메시지 조회")
-    void findTopByChatRoomOrderByCreatedAtDesc() throws InterruptedException {
+    @DisplayName("사용자의 모든 메시지 조회 (채팅방 조인)")
+    void findByChatRoomUser() {
         // given
-        Message message1 = Message.builder()
-                .chatRoom(chatRoom)
-                .role(MessageRole.USER)
-                .content("Old")
-                .build();
-        messageRepository.save(message1);
+        messageRepository.save(Message.builder().chatRoom(chatRoom).role(MessageRole.USER).content("Msg 1").build());
+        messageRepository
+                .save(Message.builder().chatRoom(chatRoom).role(MessageRole.ASSISTANT).content("Msg 2").build());
 
-        Thread.sleep(10);
+        // when
+        List<Message> result = messageRepository.findByChatRoomUser(user);
 
-        Message message2 = Message.builder()
-                .chatRoom(chatRoom)
-                .role(MessageRole.ASSISTANT)
-                .content("New")
-                .build();
-        messageRepository.save(message2);
+        // then
+        assertThat(result).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("사용자의 총 메시지 수 조회")
+    void countByUser() {
+        // given
+        messageRepository.save(Message.builder().chatRoom(chatRoom).role(MessageRole.USER).content("Msg 1").build());
+        messageRepository
+                .save(Message.builder().chatRoom(chatRoom).role(MessageRole.ASSISTANT).content("Msg 2").build());
+        messageRepository.save(Message.builder().chatRoom(chatRoom).role(MessageRole.USER).content("Msg 3").build());
 
         // when
-        Optional<Message> result = messageRepository.findTopByChatRoomOrderByCreatedAtDesc(chatRoom);
+        long count = messageRepository.countByUser(user);
 
         // then
-        assertThat(result).isPresent();
-        assertThat(result.get().getContent()).isEqualTo("New");
+        assertThat(count).isEqualTo(3);
     }
 
     @Test
-    @DisplayName("채팅방 메시지 페이징 조회")
-    void findByChatRoomWithPagination() {
+    @DisplayName("채팅방 메시지 목록 프로젝션 페이징 조회")
+    void findListItemsByChatRoom() {
         // given
         for (int i = 0; i < 15; i++) {
             messageRepository.save(Message.builder()
@@ -168,42 +202,36 @@ class MessageRepositoryTest {
         PageRequest pageRequest = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "createdAt"));
 
         // when
-        Page<Message> page = messageRepository.findByChatRoom(chatRoom, pageRequest);
+        Page<MessageListItem> page = messageRepository.findListItemsByChatRoom(chatRoom, pageRequest);
 
         // then
         assertThat(page.getTotalElements()).isEqualTo(15);
         assertThat(page.getContent()).hasSize(10);
         assertThat(page.hasNext()).isTrue();
+        assertThat(page.getContent().get(0).role()).isEqualTo(MessageRole.USER);
+        assertThat(page.getContent().get(0).modelId()).isNull();
     }
 
     @Test
-    @DisplayName("사용자의 모든 메시지 조회 (채팅방 조인)")
-    void findByChatRoomUser() {
+    @DisplayName("채팅방 메시지 목록 프로젝션 페이징 조회 - 마지막 페이지")
+    void findListItemsByChatRoom_LastPage() {
         // given
-        messageRepository.save(Message.builder().chatRoom(chatRoom).role(MessageRole.USER).content("Msg 1").build());
-        messageRepository
-                .save(Message.builder().chatRoom(chatRoom).role(MessageRole.ASSISTANT).content("Msg 2").build());
-
-        // when
-        List<Message> result = messageRepository.findByChatRoomUser(user);
-
-        // then
-        assertThat(result).hasSize(2);
-    }
+        for (int i = 0; i < 15; i++) {
+            messageRepository.save(Message.builder()
+                    .chatRoom(chatRoom)
+                    .role(MessageRole.USER)
+                    .content("Message " + i)
+                    .build());
+        }
 
-    @Test
-    @DisplayName("사용자의 총 메시지 수 조회")
-    void countByUser() {
-        // given
-        messageRepository.save(Message.builder().chatRoom(chatRoom).role(MessageRole.USER).content("Msg 1").build());
-        messageRepository
-                .save(Message.builder().chatRoom(chatRoom).role(MessageRole.ASSISTANT).content("Msg 2").build());
-        messageRepository.save(Message.builder().chatRoom(chatRoom).role(MessageRole.USER).content("Msg 3").build());
+        PageRequest pageRequest = PageRequest.of(1, 10, Sort.by(Sort.Direction.ASC, "createdAt"));
 
         // when
-        long count = messageRepository.countByUser(user);
+        Page<MessageListItem> page = messageRepository.findListItemsByChatRoom(chatRoom, pageRequest);
 
         // then
-        assertThat(count).isEqualTo(3);
+        assertThat(page.getTotalElements()).isEqualTo(15);
+        assertThat(page.getContent()).hasSize(5);
+        assertThat(page.hasNext()).isFalse();
     }
 }
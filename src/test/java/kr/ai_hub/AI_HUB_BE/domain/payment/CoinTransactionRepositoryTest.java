@@ -1,5 +1,7 @@
 package kr.ai_hub.AI_HUB_BE.domain.payment;
 
+import kr.ai_hub.AI_HUB_BE.domain.aimodel.AIModel;
+import kr.ai_hub.AI_HUB_BE.domain.aimodel.AIModelRepository;
 import kr.ai_hub.AI_HUB_BE.domain.chat.ChatRoom;
 import kr.ai_hub.AI_HUB_BE.domain.chat.ChatRoomRepository;
 import kr.ai_hub.AI_HUB_BE.domain.user.User;
@@ -15,6 +17,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -39,6 +42,9 @@ class CoinTransactionRepositoryTest {
         @Autowired
         private ChatRoomRepository chatRoomRepository;
 
+        @Autowired
+        private AIModelRepository aiModelRepository;
+
         @Test
         @DisplayName("사용자별 코인 거래 내역 조회")
         void findByUser() {
@@ -170,8 +176,8 @@ class CoinTransactionRepositoryTest {
         }
 
         @Test
-        @DisplayName("사용자별 페이징 조회")
-        void findByUserPageable() {
+        @DisplayName("사용자별 코인 거래 내역 프로젝션 페이징 조회")
+        void findListItemsByUserPageable() {
                 // given
                 User user = userRepository.save(User.builder()
                                 .email("test5@example.com")
@@ -191,10 +197,62 @@ class CoinTransactionRepositoryTest {
                 Pageable pageable = PageRequest.of(0, 5);
 
                 // when
-                Page<CoinTransaction> result = coinTransactionRepository.findByUser(user, pageable);
+                Page<CoinTransactionListItem> result = coinTransactionRepository.findListItemsByUser(user, pageable);
 
                 // then
                 assertThat(result.getContent()).hasSize(5);
                 assertThat(result.getTotalElements()).isEqualTo(10);
         }
+
+        @Test
+        @DisplayName("코인 거래 내역 프로젝션 조회 - 연관 엔티티가 없는 거래도 포함")
+        void findListItemsByUser() {
+                // given
+                User user = userRepository.save(User.builder()
+                                .email("test6@example.com")
+                                .username("Test User 6")
+                                .role(UserRole.ROLE_USER)
+                                .build());
+                ChatRoom chatRoom = chatRoomRepository.save(ChatRoom.builder()
+                                .user(user)
+                                .title("Test Room")
+                                .build());
+                AIModel aiModel = aiModelRepository.save(AIModel.builder()
+                                .modelName("gpt-4")
+                                .displayName("GPT-4")
+                                .inputPricePer1m(BigDecimal.ONE)
+                                .outputPricePer1m(BigDecimal.TEN)
+                                .isActive(true)
+                                .build());
+
+                coinTransactionRepository.save(CoinTransaction.builder()
+                                .user(user)
+                                .transactionType("CHARGE")
+                                .amount(BigDecimal.valueOf(100))
+                                .balanceAfter(BigDecimal.valueOf(100))
+                                .build());
+                coinTransactionRepository.save(CoinTransaction.builder()
+                                .user(user)
+                                .chatRoom(chatRoom)
+                                .aiModel(aiModel)
+                                .transactionType("USAGE")
+                                .amount(BigDecimal.valueOf(-10))
+                                .balanceAfter(BigDecimal.valueOf(90))
+                                .build());
+
+                Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "transactionId"));
+
+                // when
+                Page<CoinTransactionListItem> result = coinTransactionRepository.findListItemsByUser(user, pageable);
+
+                // then
+                assertThat(result.getContent()).hasSize(2);
+                CoinTransactionListItem charge = result.getContent().get(0);
+                assertThat(charge.modelName()).isNull();
+                assertThat(charge.roomId()).isNull();
+                CoinTransactionListItem usage = result.getContent().get(1);
+                assertThat(usage.modelName()).isEqualTo("gpt-4");
+                assertThat(usage.roomId()).isEqualTo(chatRoom.getRoomId());
+                assertThat(usage.messageId()).isNull();
+        }
 }
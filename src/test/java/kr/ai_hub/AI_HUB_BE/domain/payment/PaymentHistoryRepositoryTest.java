@@ -205,8 +205,8 @@ class PaymentHistoryRepositoryTest {
     }
 
     @Test
-    @DisplayName("사용자별 페이징 조회")
-    void findByUserPageable() {
+    @DisplayName("사용자별 결제 내역 프로젝션 페이징 조회")
+    void findListItemsByUserPageable() {
         // given
         User user = userRepository.save(User.builder()
                 .email("test6@example.com")
@@ -227,7 +227,7 @@ class PaymentHistoryRepositoryTest {
         Pageable pageable = PageRequest.of(0, 5);
 
         // when
-        Page<PaymentHistory> result = paymentHistoryRepository.findByUser(user, pageable);
+        Page<PaymentHistoryListItem> result = paymentHistoryRepository.findListItemsByUser(user, pageable);
 
         // then
         assertThat(result.getContent()).hasSize(5);
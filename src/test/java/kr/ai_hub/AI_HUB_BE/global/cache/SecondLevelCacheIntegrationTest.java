@@ -0,0 +1,130 @@
+package kr.ai_hub.AI_HUB_BE.global.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import kr.ai_hub.AI_HUB_BE.domain.aimodel.AIModel;
+import kr.ai_hub.AI_HUB_BE.domain.aimodel.AIModelRepository;
+import kr.ai_hub.AI_HUB_BE.domain.user.User;
+import kr.ai_hub.AI_HUB_BE.domain.user.UserRepository;
+import kr.ai_hub.AI_HUB_BE.domain.user.UserRole;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * User, AIModel 2차 캐시의 적중과 수정/탈퇴 시 무효화를 검증합니다.
+ */
+@SpringBootTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class SecondLevelCacheIntegrationTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AIModelRepository aiModelRepository;
+
+    @Autowired
+    private SecondLevelCacheEvictor secondLevelCacheEvictor;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private User user;
+    private AIModel model;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        // 소프트 삭제된 행은 일괄 삭제 대상에서 빠질 수 있으므로 테스트마다 고유한 값 사용
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        user = userRepository.save(User.builder()
+                .username("cache-user-" + suffix)
+                .email("cache-" + suffix + "@test.com")
+                .role(UserRole.ROLE_USER)
+                .build());
+        model = aiModelRepository.save(AIModel.builder()
+                .modelName("cache-model")
+                .displayName("cache-model")
+                .inputPricePer1m(BigDecimal.ONE)
+                .outputPricePer1m(BigDecimal.ONE)
+                .isActive(true)
+                .build());
+
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        aiModelRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("PK 조회 시 두 번째부터 2차 캐시에서 조회")
+    void findById_HitsCache() {
+        // when
+        userRepository.findById(user.getUserId());
+        userRepository.findById(user.getUserId());
+        aiModelRepository.findById(model.getModelId());
+        aiModelRepository.findById(model.getModelId());
+
+        // then
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(2);
+        assertThat(meterRegistry.find("cache.gets").tag("region", "user").tag("result", "hit").functionCounter())
+                .isNotNull();
+    }
+
+    @Test
+    @DisplayName("모델 수정 커밋 후 캐시에서 수정된 값 조회")
+    void update_RefreshesCache() {
+        // given
+        aiModelRepository.findById(model.getModelId());
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> aiModelRepository.findById(model.getModelId())
+                .orElseThrow()
+                .deactivate());
+
+        // then
+        AIModel cached = aiModelRepository.findById(model.getModelId()).orElseThrow();
+        assertThat(cached.getIsActive()).isFalse();
+    }
+
+    @Test
+    @DisplayName("탈퇴 커밋 후 캐시에서 제거되어 조회되지 않음")
+    void softDelete_EvictsCache() {
+        // given
+        userRepository.findById(user.getUserId());
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            userRepository.findById(user.getUserId()).orElseThrow().softDelete();
+            secondLevelCacheEvictor.evictAfterCommit(User.class, user.getUserId());
+        });
+
+        // then
+        assertThat(entityManagerFactory.getCache().contains(User.class, user.getUserId())).isFalse();
+        assertThat(userRepository.findById(user.getUserId())).isEmpty();
+    }
+}
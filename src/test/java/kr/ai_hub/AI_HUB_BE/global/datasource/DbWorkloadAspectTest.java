@@ -0,0 +1,101 @@
+package kr.ai_hub.AI_HUB_BE.global.datasource;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class DbWorkloadAspectTest {
+
+    @Mock
+    private DbWorkloadGovernor governor;
+
+    @InjectMocks
+    private DbWorkloadAspect aspect;
+
+    @Test
+    @DisplayName("@DbWorkload가 없는 트랜잭션 호출은 DEFAULT 부류로 제한")
+    void govern_UnannotatedTransactionalUsesDefault() throws Throwable {
+        // given
+        ProceedingJoinPoint joinPoint = joinPoint(new PlainService(), "read");
+        given(governor.execute(eq(WorkloadClass.DEFAULT), any())).willReturn("ok");
+
+        // when
+        Object result = aspect.govern(joinPoint);
+
+        // then
+        assertThat(result).isEqualTo("ok");
+        then(governor).should().execute(eq(WorkloadClass.DEFAULT), any());
+    }
+
+    @Test
+    @DisplayName("메서드의 @DbWorkload가 클래스 @Transactional보다 우선")
+    void govern_ExplicitWorkloadWins() throws Throwable {
+        // given
+        ProceedingJoinPoint joinPoint = joinPoint(new PlainService(), "report");
+        given(governor.execute(eq(WorkloadClass.ANALYTICS), any())).willReturn("ok");
+
+        // when
+        aspect.govern(joinPoint);
+
+        // then
+        then(governor).should().execute(eq(WorkloadClass.ANALYTICS), any());
+    }
+
+    @Test
+    @DisplayName("NOT_SUPPORTED 트랜잭션은 커넥션을 잡지 않으므로 제한하지 않음")
+    void govern_NotSupportedIsNotGoverned() throws Throwable {
+        // given
+        ProceedingJoinPoint joinPoint = joinPoint(new PlainService(), "stream");
+        given(joinPoint.proceed()).willReturn("streamed");
+
+        // when
+        Object result = aspect.govern(joinPoint);
+
+        // then
+        assertThat(result).isEqualTo("streamed");
+        then(governor).should(never()).execute(any(), any());
+    }
+
+    private static ProceedingJoinPoint joinPoint(Object target, String methodName) throws NoSuchMethodException {
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        MethodSignature signature = mock(MethodSignature.class);
+        given(joinPoint.getTarget()).willReturn(target);
+        given(joinPoint.getSignature()).willReturn(signature);
+        given(signature.getMethod()).willReturn(target.getClass().getDeclaredMethod(methodName));
+        return joinPoint;
+    }
+
+    @Transactional(readOnly = true)
+    static class PlainService {
+
+        String read() {
+            return "read";
+        }
+
+        @DbWorkload(WorkloadClass.ANALYTICS)
+        String report() {
+            return "report";
+        }
+
+        @Transactional(propagation = Propagation.NOT_SUPPORTED)
+        String stream() {
+            return "stream";
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package kr.ai_hub.AI_HUB_BE.global.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.ai_hub.AI_HUB_BE.global.error.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DbWorkloadGovernorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private DbWorkloadGovernor governor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        DbWorkloadProperties properties = new DbWorkloadProperties(true, Map.of(
+                WorkloadClass.ANALYTICS, new DbWorkloadProperties.Limit(1, Duration.ofMillis(50))));
+        governor = new DbWorkloadGovernor(properties, 10, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("상한에 도달한 부류는 대기 시간 초과 시 거부")
+    void execute_RejectsWhenLimitReached() throws Exception {
+        // given
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<Object> holder = executor.submit(() -> {
+            try {
+                return governor.execute(WorkloadClass.ANALYTICS, () -> {
+                    running.countDown();
+                    finish.await();
+                    return "done";
+                });
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+        });
+        running.await(1, TimeUnit.SECONDS);
+
+        // when & then
+        assertThatThrownBy(() -> governor.execute(WorkloadClass.ANALYTICS, () -> "second"))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(meterRegistry.get("db.workload.rejected").tag("workload", "analytics").counter().count())
+                .isEqualTo(1.0);
+
+        finish.countDown();
+        assertThat(holder.get(1, TimeUnit.SECONDS)).isEqualTo("done");
+        executor.shutdown();
+
+        // 허가 반환 후 다시 실행 가능
+        assertThat(governor.execute(WorkloadClass.ANALYTICS, () -> "third")).isEqualTo("third");
+    }
+
+    @Test
+    @DisplayName("비핵심 부류가 상한에 도달해도 핵심 부류는 대기 없이 실행")
+    void execute_CriticalClassNotBlockedByAnalytics() throws Throwable {
+        // given: 분석 부류 허가를 모두 점유
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.submit(() -> {
+            try {
+                return governor.execute(WorkloadClass.ANALYTICS, () -> {
+                    running.countDown();
+                    finish.await();
+                    return null;
+                });
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+        });
+        running.await(1, TimeUnit.SECONDS);
+
+        // when
+        Object result = governor.execute(WorkloadClass.CHAT_WRITE, () -> "billing");
+
+        // then
+        assertThat(result).isEqualTo("billing");
+        finish.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("허가를 받은 호출 안의 중첩 호출은 다시 획득하지 않음")
+    void execute_NestedCallDoesNotReacquire() throws Throwable {
+        // when
+        Object result = governor.execute(WorkloadClass.ANALYTICS,
+                () -> governor.execute(WorkloadClass.ANALYTICS, () -> "nested"));
+
+        // then
+        assertThat(result).isEqualTo("nested");
+        assertThat(meterRegistry.get("db.workload.active").tag("workload", "analytics").gauge().value())
+                .isZero();
+    }
+}
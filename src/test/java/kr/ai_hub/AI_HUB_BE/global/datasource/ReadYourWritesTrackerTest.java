@@ -0,0 +1,46 @@
+package kr.ai_hub.AI_HUB_BE.global.datasource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadYourWritesTrackerTest {
+
+    private final AtomicLong clock = new AtomicLong(0);
+    private final ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofSeconds(5), clock::get);
+
+    @Test
+    @DisplayName("쓰기 이후 윈도우 동안만 고정")
+    void isWithinWindow() {
+        // given
+        tracker.recordWrite(1);
+
+        // when & then
+        clock.addAndGet(Duration.ofSeconds(4).toNanos());
+        assertThat(tracker.isWithinWindow(1)).isTrue();
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertThat(tracker.isWithinWindow(1)).isFalse();
+        assertThat(tracker.isWithinWindow(2)).isFalse();
+    }
+
+    @Test
+    @DisplayName("만료된 기록 정리")
+    void evictExpired() {
+        // given
+        tracker.recordWrite(1);
+        clock.addAndGet(Duration.ofSeconds(3).toNanos());
+        tracker.recordWrite(2);
+        clock.addAndGet(Duration.ofSeconds(3).toNanos());
+
+        // when
+        tracker.evictExpired();
+
+        // then
+        assertThat(tracker.isWithinWindow(1)).isFalse();
+        assertThat(tracker.isWithinWindow(2)).isTrue();
+    }
+}
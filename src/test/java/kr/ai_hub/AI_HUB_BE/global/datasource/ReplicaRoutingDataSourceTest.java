@@ -0,0 +1,114 @@
+package kr.ai_hub.AI_HUB_BE.global.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final AtomicLong clock = new AtomicLong(0);
+    private ReadYourWritesTracker tracker;
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new ReadYourWritesTracker(Duration.ofSeconds(5), clock::get);
+        Map<String, HikariDataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", mock(HikariDataSource.class));
+        replicas.put("replica-2", mock(HikariDataSource.class));
+        routingDataSource = new ReplicaRoutingDataSource(
+                mock(HikariDataSource.class), replicas, tracker, new SimpleMeterRegistry());
+        routingDataSource.afterPropertiesSet();
+        routingDataSource.updateHealthyReplicas(List.of("replica-1", "replica-2"));
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("1", null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 정상 레플리카로 라운드로빈 라우팅")
+    void readOnly_RoutesToReplicasRoundRobin() {
+        // given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when & then
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("replica-1");
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("replica-2");
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("replica-1");
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션은 프라이머리로 라우팅")
+    void readWrite_RoutesToPrimary() {
+        // when & then
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("정상 레플리카가 없으면 프라이머리로 폴백")
+    void readOnly_FallsBackToPrimaryWhenNoHealthyReplica() {
+        // given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        routingDataSource.updateHealthyReplicas(List.of());
+
+        // when & then
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("쓰기 커밋 직후 같은 사용자의 읽기는 윈도우 동안 프라이머리로 고정")
+    void readOnly_StickyToPrimaryAfterOwnWrite() {
+        // given: 쓰기 트랜잭션 커밋
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        routingDataSource.determineCurrentLookupKey();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when & then
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+
+        clock.addAndGet(Duration.ofSeconds(5).toNanos());
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("replica-1");
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 쓰기는 읽기 라우팅에 영향 없음")
+    void readOnly_OtherUserWriteDoesNotStick() {
+        // given
+        tracker.recordWrite(2);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when & then
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("replica-1");
+    }
+}
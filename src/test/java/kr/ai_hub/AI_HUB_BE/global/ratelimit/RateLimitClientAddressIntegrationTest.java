@@ -0,0 +1,67 @@
+package kr.ai_hub.AI_HUB_BE.global.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로드 밸런서(루프백 = 신뢰 프록시) 뒤의 익명 요청이 X-Forwarded-For의 실제 클라이언트 IP로 제한되는지 검증합니다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(properties = {
+        "rate-limit.routes[0].name=token-refresh",
+        "rate-limit.routes[0].pattern=/api/v1/token/refresh",
+        "rate-limit.routes[0].method=POST",
+        "rate-limit.routes[0].capacity=1",
+        "rate-limit.routes[0].refill-period=PT1M"
+})
+class RateLimitClientAddressIntegrationTest {
+
+    private static final String REFRESH_PATH = "/api/v1/token/refresh";
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    @DisplayName("프록시를 거친 서로 다른 클라이언트는 버킷을 공유하지 않음")
+    void refresh_SeparatesForwardedClients() {
+        // given
+        refresh("203.0.113.10");
+
+        // when
+        ResponseEntity<String> sameClient = refresh("203.0.113.10");
+        ResponseEntity<String> otherClient = refresh("203.0.113.11");
+
+        // then
+        assertThat(sameClient.getStatusCode().value()).isEqualTo(429);
+        assertThat(otherClient.getStatusCode().value()).isNotEqualTo(429);
+    }
+
+    @Test
+    @DisplayName("클라이언트가 앞에 덧붙인 X-Forwarded-For 값으로는 제한을 우회할 수 없음")
+    void refresh_IgnoresClientSuppliedForwardedFor() {
+        // given
+        refresh("203.0.113.20");
+
+        // when
+        ResponseEntity<String> spoofed = refresh("198.51.100.1, 203.0.113.20");
+
+        // then
+        assertThat(spoofed.getStatusCode().value()).isEqualTo(429);
+    }
+
+    private ResponseEntity<String> refresh(String forwardedFor) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-Forwarded-For", forwardedFor);
+        return restTemplate.exchange(REFRESH_PATH, HttpMethod.POST, new HttpEntity<>(headers), String.class);
+    }
+}
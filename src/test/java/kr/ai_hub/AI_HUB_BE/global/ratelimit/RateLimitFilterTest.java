@@ -0,0 +1,100 @@
+package kr.ai_hub.AI_HUB_BE.global.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    private RateLimitFilter rateLimitFilter;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties(true, Duration.ofMinutes(10), List.of(
+                new RateLimitProperties.Route("chat-send", "/api/v1/messages/send/**", "POST", 1, Duration.ofMinutes(1))
+        ));
+        meterRegistry = new SimpleMeterRegistry();
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        rateLimitFilter = new RateLimitFilter(properties,
+                new TokenBucketRateLimiter(properties.idleTimeout()), objectMapper, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("제한 초과 시 429와 Retry-After 반환")
+    void doFilter_TooManyRequests() throws Exception {
+        // given
+        authenticate("1");
+
+        // when
+        MockHttpServletResponse first = send("/api/v1/messages/send/room-1");
+        MockHttpServletResponse second = send("/api/v1/messages/send/room-1");
+
+        // then
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(second.getStatus()).isEqualTo(429);
+        assertThat(second.getHeader("Retry-After")).isEqualTo("60");
+        assertThat(second.getContentAsString()).contains("TOO_MANY_REQUESTS");
+        assertThat(meterRegistry.counter("rate_limit.rejected", "route", "chat-send").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("사용자별로 버킷을 분리")
+    void doFilter_SeparatesUsers() throws Exception {
+        // given
+        authenticate("1");
+        send("/api/v1/messages/send/room-1");
+
+        // when
+        authenticate("2");
+        MockHttpServletResponse response = send("/api/v1/messages/send/room-1");
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("설정되지 않은 경로는 제한하지 않음")
+    void doFilter_UnmatchedRoute() throws Exception {
+        // when
+        send("/api/v1/chat-rooms");
+        MockHttpServletResponse response = send("/api/v1/chat-rooms");
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+    private MockHttpServletResponse send(String uri) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = new MockFilterChain();
+        rateLimitFilter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private void authenticate(String userId) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userId, null, AuthorityUtils.NO_AUTHORITIES));
+    }
+}
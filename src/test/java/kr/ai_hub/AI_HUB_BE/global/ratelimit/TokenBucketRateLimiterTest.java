@@ -0,0 +1,80 @@
+package kr.ai_hub.AI_HUB_BE.global.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(0);
+    private TokenBucketRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = new TokenBucketRateLimiter(Duration.ofMinutes(10), clock::get);
+    }
+
+    @Test
+    @DisplayName("버킷 크기만큼 허용한 뒤 다음 토큰까지 대기 시간 반환")
+    void tryAcquire_RejectsAfterCapacity() {
+        // given
+        Duration refillPeriod = Duration.ofSeconds(10);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            assertThat(rateLimiter.tryAcquire("user:1", 5, refillPeriod)).isZero();
+        }
+        long waitNanos = rateLimiter.tryAcquire("user:1", 5, refillPeriod);
+
+        // then
+        assertThat(waitNanos).isEqualTo(Duration.ofSeconds(2).toNanos());
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 충전된 만큼 다시 허용")
+    void tryAcquire_RefillsOverTime() {
+        // given
+        Duration refillPeriod = Duration.ofSeconds(10);
+        for (int i = 0; i < 5; i++) {
+            rateLimiter.tryAcquire("user:1", 5, refillPeriod);
+        }
+
+        // when
+        clock.addAndGet(Duration.ofSeconds(2).toNanos());
+
+        // then
+        assertThat(rateLimiter.tryAcquire("user:1", 5, refillPeriod)).isZero();
+        assertThat(rateLimiter.tryAcquire("user:1", 5, refillPeriod)).isPositive();
+    }
+
+    @Test
+    @DisplayName("키가 다르면 버킷을 공유하지 않음")
+    void tryAcquire_SeparatesKeys() {
+        // given
+        rateLimiter.tryAcquire("user:1", 1, Duration.ofSeconds(10));
+
+        // when & then
+        assertThat(rateLimiter.tryAcquire("user:1", 1, Duration.ofSeconds(10))).isPositive();
+        assertThat(rateLimiter.tryAcquire("user:2", 1, Duration.ofSeconds(10))).isZero();
+    }
+
+    @Test
+    @DisplayName("유휴 시간이 지난 버킷만 정리")
+    void evictIdleBuckets() {
+        // given
+        rateLimiter.tryAcquire("user:1", 5, Duration.ofSeconds(10));
+        clock.addAndGet(Duration.ofMinutes(11).toNanos());
+        rateLimiter.tryAcquire("user:2", 5, Duration.ofSeconds(10));
+
+        // when
+        rateLimiter.evictIdleBuckets();
+
+        // then
+        assertThat(rateLimiter.size()).isEqualTo(1);
+    }
+}
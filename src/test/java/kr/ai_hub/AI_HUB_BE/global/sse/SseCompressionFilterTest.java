@@ -0,0 +1,122 @@
+package kr.ai_hub.AI_HUB_BE.global.sse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SseCompressionFilterTest {
+
+    private static final String DELTA_EVENT = "event:delta\ndata:안녕하세요 안녕하세요 안녕하세요\n\n";
+
+    private SimpleMeterRegistry meterRegistry;
+    private SseCompressionFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new SseCompressionFilter(6, meterRegistry);
+    }
+
+    private static MockHttpServletRequest sendRequest(String acceptEncoding) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/messages/send/room-1");
+        request.setAsyncSupported(true);
+        if (acceptEncoding != null) {
+            request.addHeader("Accept-Encoding", acceptEncoding);
+        }
+        return request;
+    }
+
+    /**
+     * gzip 헤더(10바이트) 이후의 sync flush된 deflate 블록을 trailer 없이 풀어 봅니다.
+     */
+    private static String inflatePartialGzip(byte[] body) throws Exception {
+        Inflater inflater = new Inflater(true);
+        inflater.setInput(body, 10, body.length - 10);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1024];
+        int read;
+        while ((read = inflater.inflate(buffer)) > 0) {
+            out.write(buffer, 0, read);
+        }
+        inflater.end();
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("SSE 응답은 이벤트마다 sync flush되어 완료 전에도 풀 수 있고, ASYNC 디스패치에서 마무리")
+    void eventStream_SyncFlushAndFinishOnAsyncDispatch() throws Exception {
+        // given
+        MockHttpServletRequest request = sendRequest("gzip, deflate, br");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain streaming = (req, res) -> {
+            res.setContentType(MediaType.TEXT_EVENT_STREAM_VALUE);
+            res.getOutputStream().write(DELTA_EVENT.getBytes(StandardCharsets.UTF_8));
+            res.flushBuffer();
+            req.startAsync();
+        };
+
+        // when
+        filter.doFilter(request, response, streaming);
+        String beforeCompletion = inflatePartialGzip(response.getContentAsByteArray());
+
+        request.setDispatcherType(DispatcherType.ASYNC);
+        request.setAsyncStarted(false);
+        filter.doFilter(request, response, (req, res) -> {
+        });
+
+        // then
+        assertThat(response.getHeader("Content-Encoding")).isEqualTo("gzip");
+        assertThat(response.getHeaders("Vary")).contains("Accept-Encoding");
+        assertThat(beforeCompletion).isEqualTo(DELTA_EVENT);
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            assertThat(new String(gzip.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(DELTA_EVENT);
+        }
+        long original = DELTA_EVENT.getBytes(StandardCharsets.UTF_8).length;
+        assertThat(meterRegistry.get("sse.compression.bytes").tag("stage", "uncompressed").counter().count())
+                .isEqualTo(original);
+        assertThat(meterRegistry.get("sse.compression.bytes").tag("stage", "compressed").counter().count())
+                .isEqualTo(response.getContentAsByteArray().length);
+    }
+
+    @Test
+    @DisplayName("SSE가 아닌 응답은 압축하지 않음")
+    void json_NotCompressed() throws Exception {
+        // given
+        MockHttpServletRequest request = sendRequest("gzip");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request, response, (req, res) -> {
+            res.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            res.getOutputStream().write("{\"success\":false}".getBytes(StandardCharsets.UTF_8));
+        });
+
+        // then
+        assertThat(response.getHeader("Content-Encoding")).isNull();
+        assertThat(response.getContentAsString()).isEqualTo("{\"success\":false}");
+        assertThat(meterRegistry.get("sse.compression.saved").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Accept-Encoding 협상: gzip 우선, q=0 제외, 미지원이면 압축 안 함")
+    void negotiate() {
+        assertThat(SseCompressionFilter.negotiate("deflate, gzip")).isEqualTo(SseCompressionFilter.Encoding.GZIP);
+        assertThat(SseCompressionFilter.negotiate("gzip;q=0, deflate")).isEqualTo(SseCompressionFilter.Encoding.DEFLATE);
+        assertThat(SseCompressionFilter.negotiate("br")).isNull();
+        assertThat(SseCompressionFilter.negotiate(null)).isNull();
+    }
+}
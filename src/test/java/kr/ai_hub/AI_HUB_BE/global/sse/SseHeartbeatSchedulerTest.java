@@ -0,0 +1,80 @@
+package kr.ai_hub.AI_HUB_BE.global.sse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SseHeartbeatSchedulerTest {
+
+    private static final Duration IDLE_THRESHOLD = Duration.ofMillis(100);
+
+    private SimpleMeterRegistry meterRegistry;
+    private SseHeartbeatScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new SseHeartbeatScheduler(IDLE_THRESHOLD, Duration.ofMillis(10), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.destroy();
+    }
+
+    @Test
+    @DisplayName("유휴 시간이 임계값을 넘은 스트림에 heartbeat 전송")
+    void idleStream_ReceivesHeartbeat() throws Exception {
+        // given
+        scheduler.createEmitter(Duration.ofMinutes(1));
+
+        // when
+        Thread.sleep(IDLE_THRESHOLD.toMillis() * 4);
+
+        // then
+        assertThat(heartbeatCount()).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("계속 전송 중인 스트림에는 heartbeat를 보내지 않음")
+    void activeStream_NoHeartbeat() throws Exception {
+        // given
+        SseEmitter emitter = scheduler.createEmitter(Duration.ofMinutes(1));
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            emitter.send(SseEmitter.event().name("delta").data(i));
+            Thread.sleep(IDLE_THRESHOLD.toMillis() / 4);
+        }
+
+        // then
+        assertThat(heartbeatCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("완료된 스트림은 heartbeat 대상에서 제외")
+    void completedStream_StopsHeartbeat() throws Exception {
+        // given
+        SseEmitter emitter = scheduler.createEmitter(Duration.ofMinutes(1));
+        assertThat(meterRegistry.get("sse.heartbeat.streams").gauge().value()).isEqualTo(1);
+
+        // when
+        emitter.complete();
+        Thread.sleep(IDLE_THRESHOLD.toMillis() * 3);
+
+        // then
+        assertThat(heartbeatCount()).isZero();
+        assertThat(meterRegistry.get("sse.heartbeat.streams").gauge().value()).isZero();
+    }
+
+    private double heartbeatCount() {
+        return meterRegistry.counter("sse.heartbeat.sent").count();
+    }
+}